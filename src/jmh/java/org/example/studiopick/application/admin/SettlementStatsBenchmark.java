@@ -0,0 +1,176 @@
+package org.example.studiopick.application.admin;
+
+import org.example.studiopick.application.admin.dto.settlement.SettlementDTOs.AdminSettlementStatsResponse;
+import org.example.studiopick.application.admin.dto.settlement.SettlementDTOs.AdminStudioSettlementResponse;
+import org.example.studiopick.common.validator.PaginationValidator;
+import org.example.studiopick.domain.common.enums.SettlementStatus;
+import org.example.studiopick.domain.payment.Settlement;
+import org.example.studiopick.infrastructure.payment.JpaSettlementRepository;
+import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
+import org.example.studiopick.support.BenchmarkJpa;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정산 통계/페이징 회귀 벤치마크 (H2 PostgreSQL 호환 모드, 실제 엔티티 매핑, 정산 10만/100만 건)
+ * - statsLegacy / studioPageLegacy: 도입 전 경로 - 실제 리포지토리로 엔티티를 모두 읽어 애플리케이션에서 필터/합계/subList
+ * - statsSql / studioPageSql: AdminSettlementServiceImpl.getSettlementStats / getStudioSettlement 의 현재 경로
+ *   (summarizeByStatusBetween GROUP BY 집계, findByStudioIdAndSettlementStatus 페이징 + COUNT)
+ * - gc 프로파일러의 gc.alloc.rate.norm(연산당 할당 바이트)으로 힙 사용량 비교
+ *   현재 경로는 건수와 무관하게 일정하고, 도입 전 경로는 건수에 비례해 증가해야 한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SettlementStatsBenchmark {
+
+  private static final int STUDIOS = 1_000;
+  private static final int DAYS = 365;
+  private static final int PAGE_SIZE = 20;
+  private static final String[] STATUSES = {"PENDING", "PAID", "CANCELLED"};
+  private static final String STATS_START = "2025-01-31";
+  private static final String STATS_END = "2025-03-01";
+
+  @Param({"100000", "1000000"})
+  public int settlements;
+
+  private BenchmarkJpa jpa;
+  private JpaSettlementRepository settlementRepository;
+  private AdminSettlementServiceImpl settlementService;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    jpa = BenchmarkJpa.start("settlement_" + settlements);
+    settlementRepository = jpa.repository(JpaSettlementRepository.class);
+    // 페이지 크기 상한은 설정 캐시(Redis) 없이 기본값으로 검사, 워크샵 리포지토리는 사용하지 않음
+    PaginationValidator paginationValidator = new PaginationValidator(null) {
+      @Override
+      public void validatePaginationParameters(int page, int size) {
+        if (page < 1 || size < 1 || size > 100) {
+          throw new IllegalArgumentException("잘못된 페이지 파라미터입니다.");
+        }
+      }
+    };
+    settlementService = new AdminSettlementServiceImpl(
+        paginationValidator, settlementRepository, jpa.repository(JpaStudioRepository.class), null);
+    seed();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jpa.close();
+  }
+
+  @Benchmark
+  public void statsLegacy(Blackhole blackhole) {
+    LocalDateTime start = LocalDateTime.parse(STATS_START + "T00:00:00");
+    LocalDateTime end = LocalDateTime.parse(STATS_END + "T00:00:00").plusDays(1);
+
+    jpa.transactions().executeWithoutResult(tx -> {
+      Map<SettlementStatus, BigDecimal> amounts = new EnumMap<>(SettlementStatus.class);
+      Map<SettlementStatus, Long> counts = new EnumMap<>(SettlementStatus.class);
+      settlementRepository.findAll().stream()
+          .filter(s -> s.getCreatedAt().isAfter(start) && s.getCreatedAt().isBefore(end))
+          .forEach(s -> {
+            amounts.merge(s.getSettlementStatus(), s.getPayoutAmount(), BigDecimal::add);
+            counts.merge(s.getSettlementStatus(), 1L, Long::sum);
+          });
+      blackhole.consume(amounts);
+      blackhole.consume(counts);
+    });
+  }
+
+  @Benchmark
+  public AdminSettlementStatsResponse statsSql() {
+    return jpa.transactions().execute(tx -> settlementService.getSettlementStats(STATS_START, STATS_END));
+  }
+
+  @Benchmark
+  public List<Long> studioPageLegacy() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long studioId = 1 + random.nextInt(STUDIOS);
+    SettlementStatus status = SettlementStatus.valueOf(STATUSES[random.nextInt(STATUSES.length)]);
+
+    return jpa.transactions().execute(tx -> {
+      List<Settlement> filtered = settlementRepository.findByStudioId(studioId).stream()
+          .filter(s -> s.getSettlementStatus() == status)
+          .sorted(Comparator.comparing(Settlement::getCreatedAt).reversed())
+          .toList();
+      return filtered.subList(0, Math.min(PAGE_SIZE, filtered.size())).stream().map(Settlement::getId).toList();
+    });
+  }
+
+  @Benchmark
+  public AdminStudioSettlementResponse studioPageSql() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long studioId = 1 + random.nextInt(STUDIOS);
+    String status = STATUSES[random.nextInt(STATUSES.length)];
+
+    return jpa.transactions().execute(tx -> settlementService.getStudioSettlement(studioId, 1, PAGE_SIZE, status));
+  }
+
+  /**
+   * 스튜디오/정산 적재 (계측 없는 DataSource, 정산은 INSERT ... SELECT 한 번)
+   */
+  private void seed() throws SQLException {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    try (Connection connection = jpa.rawDataSource().getConnection()) {
+      connection.setAutoCommit(false);
+      try (PreparedStatement user = connection.prepareStatement("""
+          INSERT INTO "user" (id, email, role, status, email_verified, is_studio_owner, is_workshop_owner,
+                              login_fail_count, created_at)
+          VALUES (1, 'owner@bench.local', 'STUDIO_OWNER', 'ACTIVE', true, true, false, 0, ?)
+          """)) {
+        user.setTimestamp(1, now);
+        user.executeUpdate();
+      }
+
+      try (PreparedStatement studio = connection.prepareStatement("""
+          INSERT INTO "studio" (id, owner_user_id, name, status, hide_status, operation_type,
+                                hourly_base_rate, per_person_rate, weekend_price, created_at)
+          VALUES (?, 1, ?, 'ACTIVE', 'OPEN', 'SPACE_RENTAL', 10000, 0, 0, ?)
+          """)) {
+        for (long studioId = 1; studioId <= STUDIOS; studioId++) {
+          studio.setLong(1, studioId);
+          studio.setString(2, "studio-" + studioId);
+          studio.setTimestamp(3, now);
+          studio.addBatch();
+        }
+        studio.executeBatch();
+      }
+
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("""
+            INSERT INTO "settlement" (id, studio_id, total_amount, platform_fee, payout_amount, tax_amount,
+                                      settlement_status, created_at)
+            SELECT x,
+                   MOD(x, %d) + 1,
+                   CAST(MOD(x * 31, 100000) AS DECIMAL(10, 2)) + 1100,
+                   100,
+                   CAST(MOD(x * 31, 100000) AS DECIMAL(10, 2)) + 1000,
+                   0,
+                   CASE MOD(x, 3) WHEN 0 THEN 'PENDING' WHEN 1 THEN 'PAID' ELSE 'CANCELLED' END,
+                   DATEADD('MINUTE', MOD(x * 7919, %d), TIMESTAMP '2025-01-01 00:00:00')
+            FROM SYSTEM_RANGE(1, %d)""".formatted(STUDIOS, DAYS * 24 * 60, settlements));
+        // 대량 적재 직후 통계 갱신 (운영 DB 의 autovacuum ANALYZE 에 해당) - 없으면 H2 가 상태 인덱스를 골라 스튜디오 페이지가 전체 상태 구간을 훑음
+        statement.execute("ANALYZE");
+      }
+      connection.commit();
+    }
+  }
+}
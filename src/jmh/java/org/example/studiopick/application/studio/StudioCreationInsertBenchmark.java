@@ -0,0 +1,114 @@
+package org.example.studiopick.application.studio;
+
+import org.example.studiopick.application.studio.dto.SpaceRentalApplicationRequest;
+import org.example.studiopick.application.studio.dto.StudioApplicationResponse;
+import org.example.studiopick.infrastructure.User.JpaUserRepository;
+import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
+import org.example.studiopick.infrastructure.studio.JpaStudioImageRepository;
+import org.example.studiopick.infrastructure.studio.JpaStudioOperatingHoursRepository;
+import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
+import org.example.studiopick.support.BenchmarkJpa;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 스튜디오 생성(StudioServiceImpl.studioRental) INSERT 문장 수 벤치마크 (H2 인메모리, 실제 엔티티 매핑)
+ * - batchSize=50: 운영 설정 - 이미지 행은 시퀀스(pooled) 키라 flush 시 JDBC 배치 1회로 전송
+ * - batchSize=1: 배치 없이 행마다 INSERT (배치 도입 전 경로와 같은 문장 수)
+ * - 커밋 대신 flush 후 롤백해서 테이블 크기를 일정하게 유지 (양쪽 동일)
+ * - 실행 문장 수는 ObservedDataSource 로 세고 보조 카운터(statements, creations)로 보고
+ *   배치 실행은 1건으로 세며, PostgreSQL 에서는 reWriteBatchedInserts 로 배치 하나가 1회 왕복
+ *   이미지 5장 기준 batchSize=50 4건 (사용자 조회, 스튜디오, 수수료, 이미지 배치), batchSize=1 8건
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudioCreationInsertBenchmark {
+
+  private static final long OWNER_ID = 1L;
+
+  @Param({"5", "20"})
+  public int images;
+
+  @Param({"50", "1"})
+  public int batchSize;
+
+  private BenchmarkJpa jpa;
+  private StudioServiceImpl studioService;
+  private SpaceRentalApplicationRequest request;
+
+  /**
+   * 보조 카운터 - JMH 가 측정 반복 전체를 합산하므로 생성 1건당 문장 수는 statements / creations
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Statements {
+
+    public long statements;
+    public long creations;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      statements = 0;
+      creations = 0;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    jpa = BenchmarkJpa.start("studio_insert_" + images + "_" + batchSize, batchSize);
+    // studioRental 이 사용하지 않는 협력 객체는 null
+    studioService = new StudioServiceImpl(
+        jpa.repository(JpaStudioRepository.class),
+        jpa.repository(JpaStudioOperatingHoursRepository.class),
+        jpa.repository(JpaReservationRepository.class),
+        jpa.repository(JpaStudioImageRepository.class),
+        null, null,
+        jpa.repository(JpaUserRepository.class),
+        null, null, null, null);
+    request = new SpaceRentalApplicationRequest(
+        "studio", "description", "서울 마포구", "010-0000-0000", 30,
+        "https://cdn.example.com/studio-images/thumbnail.jpg",
+        IntStream.range(0, images)
+            .mapToObj(i -> "https://cdn.example.com/studio-images/" + i + ".jpg")
+            .toList());
+
+    try (Connection connection = jpa.rawDataSource().getConnection();
+         PreparedStatement user = connection.prepareStatement("""
+             INSERT INTO "user" (id, email, role, status, email_verified, is_studio_owner, is_workshop_owner,
+                                 login_fail_count, created_at)
+             VALUES (?, 'owner@bench.local', 'STUDIO_OWNER', 'ACTIVE', true, true, false, 0, ?)
+             """)) {
+      user.setLong(1, OWNER_ID);
+      user.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+      user.executeUpdate();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jpa.close();
+  }
+
+  @Benchmark
+  public Long studioRental(Statements counter) {
+    long before = jpa.statements();
+    StudioApplicationResponse response = jpa.transactions().execute(tx -> {
+      StudioApplicationResponse created = studioService.studioRental(request, OWNER_ID);
+      jpa.entityManager().flush();
+      tx.setRollbackOnly();
+      return created;
+    });
+    counter.statements += jpa.statements() - before;
+    counter.creations++;
+    return response.applicationId();
+  }
+}
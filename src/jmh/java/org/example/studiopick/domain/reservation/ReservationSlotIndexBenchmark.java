@@ -0,0 +1,188 @@
+package org.example.studiopick.domain.reservation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.studiopick.domain.common.enums.ReservationStatus;
+import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
+import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
+import org.example.studiopick.support.BenchmarkJpa;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 슬롯 인덱스 vs 실제 DB 조회 경로 비교 (기본 스튜디오 10,000개 × 예약 가능일 90일, H2 PostgreSQL 호환 모드)
+ * - overlap: 예약 생성 시 실제 판정 경로 ReservationDomainService.validateOverlapping
+ *   (스튜디오 행 잠금 + existsActiveOverlap, 트랜잭션 1회) - 겹침 판정은 노드별 슬롯 인덱스를 쓰지 않음
+ * - availableTimesDb: 인덱스 도입 전 경로 (CONFIRMED 예약 엔티티 조회 후 시간 목록 계산)
+ * - availableTimesIndex: ReservationServiceImpl.getAvailableTimes 의 현재 경로
+ * - 규모는 @Param - 기본값이 목표 규모(약 200만 예약 행, 적재에 수십 초)이고 빠른 확인은 -p studios=1000 -p advanceDays=30
+ * - 인메모리 DB 라 네트워크 왕복이 없으므로 운영 환경 대비 DB 경로 비용이 낮게 측정된다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationSlotIndexBenchmark {
+
+  private static final int OPEN_HOUR = 9;
+  private static final int CLOSE_HOUR = 18;
+
+  @Param({"10000"})
+  public int studios;
+
+  @Param({"90"})
+  public int advanceDays;
+
+  private final LocalDate today = LocalDate.now();
+  private BenchmarkJpa jpa;
+  private JpaReservationRepository reservationRepository;
+  private ReservationDomainService domainService;
+  private ReservationSlotIndex index;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    jpa = BenchmarkJpa.start("slots");
+    reservationRepository = jpa.repository(JpaReservationRepository.class);
+    // validateOverlapping 은 시스템 설정을 읽지 않음
+    domainService = new ReservationDomainService(null, reservationRepository, jpa.repository(JpaStudioRepository.class));
+    index = new ReservationSlotIndex(reservationRepository, (long) studios * advanceDays, 3_600, new SimpleMeterRegistry());
+    seed();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jpa.close();
+  }
+
+  @Benchmark
+  public boolean overlap() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long studioId = 1 + random.nextInt(studios);
+    LocalDate date = today.plusDays(random.nextInt(advanceDays));
+    LocalTime start = LocalTime.of(OPEN_HOUR + random.nextInt(CLOSE_HOUR - OPEN_HOUR - 1), 0);
+    LocalTime end = start.plusHours(2);
+
+    return jpa.transactions().execute(tx -> {
+      try {
+        domainService.validateOverlapping(studioId, date, start, end);
+        return false;
+      } catch (IllegalArgumentException e) {
+        return true;
+      }
+    });
+  }
+
+  @Benchmark
+  public void availableTimesDb(Blackhole blackhole) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long studioId = 1 + random.nextInt(studios);
+    LocalDate date = today.plusDays(random.nextInt(advanceDays));
+
+    List<String> booked = jpa.transactions().execute(tx ->
+        reservationRepository.findByStudioIdAndReservationDateAndStatus(studioId, date, ReservationStatus.CONFIRMED)
+            .stream()
+            .sorted(Comparator.comparing(Reservation::getStartTime))
+            .map(r -> r.getStartTime().toString())
+            .toList());
+    List<String> all = new ArrayList<>();
+    for (LocalTime cursor = LocalTime.of(OPEN_HOUR, 0); cursor.isBefore(LocalTime.of(CLOSE_HOUR, 0)); cursor = cursor.plusHours(1)) {
+      all.add(cursor.toString());
+    }
+    blackhole.consume(all.stream().filter(t -> !booked.contains(t)).toList());
+    blackhole.consume(booked);
+  }
+
+  @Benchmark
+  public void availableTimesIndex(Blackhole blackhole) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    DaySlots daySlots = index.get(1L + random.nextInt(studios), today.plusDays(random.nextInt(advanceDays)));
+
+    List<String> available = new ArrayList<>();
+    List<String> booked = new ArrayList<>();
+    for (LocalTime cursor = LocalTime.of(OPEN_HOUR, 0); cursor.isBefore(LocalTime.of(CLOSE_HOUR, 0)); ) {
+      LocalTime next = cursor.plusHours(1);
+      (daySlots.overlaps(ReservationStatus.CONFIRMED, cursor, next) ? booked : available).add(cursor.toString());
+      cursor = next;
+    }
+    blackhole.consume(available);
+    blackhole.consume(booked);
+  }
+
+  /**
+   * 스튜디오/예약 적재 (JDBC 배치, 계측 없는 DataSource 사용)
+   */
+  private void seed() throws SQLException {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    Random random = new Random(42);
+
+    try (Connection connection = jpa.rawDataSource().getConnection()) {
+      connection.setAutoCommit(false);
+      // 운영 DB 는 db/reservation-constraints.sql 로 생성 (hbm2ddl 로는 만들어지지 않음)
+      try (PreparedStatement index = connection.prepareStatement(
+          "CREATE INDEX idx_reservation_studio_date ON \"reservation\" (studio_id, reservation_date)")) {
+        index.executeUpdate();
+      }
+      try (PreparedStatement user = connection.prepareStatement("""
+          INSERT INTO "user" (id, email, role, status, email_verified, is_studio_owner, is_workshop_owner,
+                              login_fail_count, created_at)
+          VALUES (1, 'owner@bench.local', 'STUDIO_OWNER', 'ACTIVE', true, true, false, 0, ?)
+          """)) {
+        user.setTimestamp(1, now);
+        user.executeUpdate();
+      }
+
+      try (PreparedStatement studio = connection.prepareStatement("""
+          INSERT INTO "studio" (id, owner_user_id, name, status, hide_status, operation_type,
+                                hourly_base_rate, per_person_rate, weekend_price, created_at)
+          VALUES (?, 1, ?, 'ACTIVE', 'OPEN', 'SPACE_RENTAL', 10000, 0, 0, ?)
+          """)) {
+        for (long studioId = 1; studioId <= studios; studioId++) {
+          studio.setLong(1, studioId);
+          studio.setString(2, "studio-" + studioId);
+          studio.setTimestamp(3, now);
+          studio.addBatch();
+        }
+        studio.executeBatch();
+      }
+
+      try (PreparedStatement reservation = connection.prepareStatement("""
+          INSERT INTO "reservation" (studio_id, user_id, reservation_date, start_time, end_time,
+                                     status, total_amount, created_at)
+          VALUES (?, 1, ?, ?, ?, ?, 10000, ?)
+          """)) {
+        for (long studioId = 1; studioId <= studios; studioId++) {
+          for (int day = 0; day < advanceDays; day++) {
+            int hour = OPEN_HOUR + random.nextInt(3);
+            while (hour < CLOSE_HOUR && random.nextInt(4) != 0) {
+              int length = 1 + random.nextInt(3);
+              reservation.setLong(1, studioId);
+              reservation.setDate(2, Date.valueOf(today.plusDays(day)));
+              reservation.setTime(3, Time.valueOf(LocalTime.of(hour, 0)));
+              reservation.setTime(4, Time.valueOf(LocalTime.of(Math.min(hour + length, CLOSE_HOUR), 0)));
+              reservation.setString(5, random.nextInt(5) == 0 ? "PENDING" : "CONFIRMED");
+              reservation.setTimestamp(6, now);
+              reservation.addBatch();
+              hour += length + random.nextInt(2);
+            }
+          }
+          reservation.executeBatch();
+        }
+      }
+      connection.commit();
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package org.example.studiopick.infrastructure.studio;
+
+import org.example.studiopick.domain.studio.StudioGeoPoint;
+import org.example.studiopick.support.BenchmarkJpa;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지도/주변 검색 조회 지연 벤치마크 (목표: 전체 노출 스튜디오 대상 10ms 미만)
+ * - 인덱스는 실제 리포지토리(findVisibleGeoPoints)로 H2 에서 적재, 조회는 DB 를 거치지 않음
+ * - 스튜디오 절반은 수도권(서울시청 반경 약 30km), 나머지는 국내 전역에 분포
+ * - nearby: 수도권 임의 지점 반경 3km, 가까운 순 20건 (주변 스튜디오)
+ * - cityViewport: 수도권 0.1° x 0.1° 영역 100건 (지도 확대 화면, 셀 순회 경로)
+ * - nationwide: 국내 전체 영역 100건 (지도 축소 화면, 전체 순회 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudioGeoIndexBenchmark {
+
+  private static final double SEOUL_LAT = 37.5665;
+  private static final double SEOUL_LNG = 126.9780;
+  private static final double METRO_DEGREES = 0.3;
+
+  @Param({"10000", "100000"})
+  public int studios;
+
+  private BenchmarkJpa jpa;
+  private StudioGeoIndex index;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    jpa = BenchmarkJpa.start("geo_" + studios);
+    seed();
+    // 조회 경로만 측정 - 변경 전파(Redis)는 사용하지 않음
+    index = new StudioGeoIndex(jpa.repository(JpaStudioRepository.class), null, null);
+    index.rebuild();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    jpa.close();
+  }
+
+  @Benchmark
+  public List<StudioGeoIndex.Hit> nearby() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return index.within(metroLat(random), metroLng(random), 3_000, 20);
+  }
+
+  @Benchmark
+  public List<StudioGeoPoint> cityViewport() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    double south = metroLat(random);
+    double west = metroLng(random);
+    return index.inBounds(south, west, south + 0.1, west + 0.1, 100);
+  }
+
+  @Benchmark
+  public List<StudioGeoPoint> nationwide() {
+    return index.inBounds(33.0, 124.5, 38.7, 131.9, 100);
+  }
+
+  private static double metroLat(Random random) {
+    return SEOUL_LAT + (random.nextDouble() * 2 - 1) * METRO_DEGREES;
+  }
+
+  private static double metroLng(Random random) {
+    return SEOUL_LNG + (random.nextDouble() * 2 - 1) * METRO_DEGREES;
+  }
+
+  /**
+   * 소유자 1명 + 스튜디오 적재 (계측 없는 DataSource, 좌표는 고정 시드)
+   */
+  private void seed() throws SQLException {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    Random random = new Random(studios);
+
+    try (Connection connection = jpa.rawDataSource().getConnection()) {
+      connection.setAutoCommit(false);
+      try (PreparedStatement user = connection.prepareStatement("""
+          INSERT INTO "user" (id, email, role, status, email_verified, is_studio_owner, is_workshop_owner,
+                              login_fail_count, created_at)
+          VALUES (1, 'owner@bench.local', 'STUDIO_OWNER', 'ACTIVE', true, true, false, 0, ?)
+          """)) {
+        user.setTimestamp(1, now);
+        user.executeUpdate();
+      }
+
+      try (PreparedStatement studio = connection.prepareStatement("""
+          INSERT INTO "studio" (id, owner_user_id, name, status, hide_status, operation_type,
+                                hourly_base_rate, per_person_rate, weekend_price, latitude, longitude, created_at)
+          VALUES (?, 1, ?, 'ACTIVE', 'OPEN', 'SPACE_RENTAL', 10000, 0, 0, ?, ?, ?)
+          """)) {
+        for (long studioId = 1; studioId <= studios; studioId++) {
+          boolean metro = studioId % 2 == 0;
+          studio.setLong(1, studioId);
+          studio.setString(2, "studio-" + studioId);
+          studio.setDouble(3, metro ? metroLat(random) : 34.5 + random.nextDouble() * 3.5);
+          studio.setDouble(4, metro ? metroLng(random) : 126.3 + random.nextDouble() * 3.0);
+          studio.setTimestamp(5, now);
+          studio.addBatch();
+          if (studioId % 1_000 == 0) {
+            studio.executeBatch();
+          }
+        }
+        studio.executeBatch();
+      }
+      connection.commit();
+    }
+  }
+}
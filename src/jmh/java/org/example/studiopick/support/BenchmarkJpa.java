@@ -0,0 +1,155 @@
+package org.example.studiopick.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.ManagedType;
+import org.example.studiopick.infrastructure.metrics.DailyMetricChangeTracker;
+import org.example.studiopick.infrastructure.report.ReporterStatsChangeTracker;
+import org.example.studiopick.infrastructure.sql.ObservedDataSourcePostProcessor;
+import org.example.studiopick.infrastructure.sql.SqlStatsRecorder;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 벤치마크용 JPA 환경 (H2 인메모리, PostgreSQL 호환 모드)
+ * - 실제 엔티티 매핑 + application.yml 과 같은 Hibernate 배치 설정으로 EntityManagerFactory 생성, 스키마는 hbm2ddl
+ * - 리포지토리는 Spring Data 프록시 그대로 (JPQL/파생 쿼리가 운영과 같은 SQL 로 변환됨)
+ * - DataSource 는 ObservedDataSource 로 감싸 실행 문장 수를 SqlStatsRecorder 로 셈 (배치 실행은 1건)
+ * - 엔티티 리스너는 운영과 같이 스프링 빈 컨테이너로 생성 (생성/수정 시각 auditing 포함)
+ */
+public final class BenchmarkJpa implements AutoCloseable {
+
+  private final JdbcConnectionPool pool;
+  private final DataSource dataSource;
+  private final SqlStatsRecorder recorder;
+  private final EntityManagerFactory entityManagerFactory;
+  private final EntityManager sharedEntityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final JpaRepositoryFactory repositoryFactory;
+  private volatile AuditingHandler auditingHandler;
+
+  private BenchmarkJpa(String name, int batchSize) {
+    this.pool = JdbcConnectionPool.create(
+        "jdbc:h2:mem:" + name + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+    this.recorder = new SqlStatsRecorder(Long.MAX_VALUE, Integer.MAX_VALUE, 1, false, new SimpleMeterRegistry());
+    StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("sqlStatsRecorder", recorder));
+    this.dataSource = (DataSource) new ObservedDataSourcePostProcessor(
+        beans.getBeanProvider(SqlStatsRecorder.class), true).postProcessAfterInitialization(pool, "dataSource");
+
+    LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+    factory.setDataSource(dataSource);
+    factory.setPackagesToScan("org.example.studiopick.domain");
+    factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    factory.setJpaPropertyMap(Map.of(
+        AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(listenerBeans()),
+        "hibernate.hbm2ddl.auto", "create",
+        "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+        "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+        "hibernate.jdbc.batch_size", String.valueOf(batchSize),
+        "hibernate.order_inserts", "true",
+        "hibernate.order_updates", "true"
+    ));
+    factory.afterPropertiesSet();
+
+    this.entityManagerFactory = factory.getObject();
+    this.sharedEntityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+    this.transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+    this.repositoryFactory = new JpaRepositoryFactory(sharedEntityManager);
+  }
+
+  // 리스너 생성자 주입 대상 + AuditingEntityListener 에 auditing 핸들러 연결 (@EnableJpaAuditing 대체)
+  private DefaultListableBeanFactory listenerBeans() {
+    DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+    beans.registerSingleton("dailyMetricChangeTracker", new DailyMetricChangeTracker());
+    beans.registerSingleton("reporterStatsChangeTracker", new ReporterStatsChangeTracker());
+    beans.addBeanPostProcessor(new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof AuditingEntityListener listener) {
+          listener.setAuditingHandler(BenchmarkJpa.this::auditingHandler);
+        }
+        return bean;
+      }
+    });
+    return beans;
+  }
+
+  private AuditingHandler auditingHandler() {
+    if (auditingHandler == null) {
+      JpaMetamodelMappingContext mappingContext =
+          new JpaMetamodelMappingContext(Set.of(entityManagerFactory.getMetamodel()));
+      mappingContext.setInitialEntitySet(entityManagerFactory.getMetamodel().getManagedTypes().stream()
+          .map(ManagedType::getJavaType)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toSet()));
+      mappingContext.afterPropertiesSet();
+      auditingHandler = AuditingHandler.from(mappingContext);
+    }
+    return auditingHandler;
+  }
+
+  public static BenchmarkJpa start(String name) {
+    return new BenchmarkJpa(name, 50);
+  }
+
+  /**
+   * JDBC 배치 크기 지정 (1 이면 배치 없이 행마다 실행)
+   */
+  public static BenchmarkJpa start(String name, int batchSize) {
+    return new BenchmarkJpa(name, batchSize);
+  }
+
+  /**
+   * 계측 없는 원본 DataSource (대량 적재용)
+   */
+  public DataSource rawDataSource() {
+    return pool;
+  }
+
+  public EntityManager entityManager() {
+    return sharedEntityManager;
+  }
+
+  public TransactionTemplate transactions() {
+    return transactionTemplate;
+  }
+
+  public <R> R repository(Class<R> type) {
+    return repositoryFactory.getRepository(type);
+  }
+
+  /**
+   * 지금까지 실행된 문장 수 (배치 실행은 1건)
+   */
+  public long statements() {
+    return recorder.snapshot().totalStatements();
+  }
+
+  @Override
+  public void close() {
+    entityManagerFactory.close();
+    pool.dispose();
+  }
+}
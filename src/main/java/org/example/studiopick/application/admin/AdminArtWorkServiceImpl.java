@@ -3,6 +3,7 @@ package org.example.studiopick.application.admin;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.studiopick.application.admin.dto.artwork.AdminArtWorkDTOs.*;
+import org.example.studiopick.application.artwork.ArtworkHashtagService;
 import org.example.studiopick.common.validator.PaginationValidator;
 import org.example.studiopick.domain.artwork.Artwork;
 import org.example.studiopick.domain.artwork.ArtworkComment;
@@ -11,6 +12,7 @@ import org.example.studiopick.domain.common.enums.ArtworkStatus;
 import org.example.studiopick.domain.common.enums.ReportType;
 import org.example.studiopick.domain.report.Report;
 import org.example.studiopick.infrastructure.artwork.ArtworkCommentRepository;
+import org.example.studiopick.infrastructure.artwork.ArtworkLikeCounter;
 import org.example.studiopick.infrastructure.artwork.ArtworkLikeRepository;
 import org.example.studiopick.infrastructure.artwork.ArtworkRepository;
 import org.example.studiopick.infrastructure.report.ReportRepository;
@@ -33,6 +35,8 @@ public class AdminArtWorkServiceImpl implements AdminArtWorkService {
   private final ArtworkRepository artworkRepository;
   private final ArtworkCommentRepository commentRepository;
   private final ArtworkLikeRepository likeRepository;
+  private final ArtworkLikeCounter likeCounter;
+  private final ArtworkHashtagService hashtagService;
   private final ReportRepository reportRepository;
   private final PaginationValidator paginationValidator;
 
@@ -101,6 +105,7 @@ public class AdminArtWorkServiceImpl implements AdminArtWorkService {
     Artwork artwork = artworkRepository.findById(artworkId)
         .orElseThrow(() -> new IllegalArgumentException("작품을 찾을 수 없습니다."));
 
+    hashtagService.remove(artworkId);
     artworkRepository.delete(artwork);
   }
 
@@ -176,6 +181,7 @@ public class AdminArtWorkServiceImpl implements AdminArtWorkService {
         .build();
 
     artworkRepository.save(artwork);
+    hashtagService.index(artwork);
     return artwork.getId();
   }
 
@@ -192,13 +198,16 @@ public class AdminArtWorkServiceImpl implements AdminArtWorkService {
           .user(null)
           .build();
       likeRepository.save(like);
+      likeCounter.increment(artworkId, 1);
     }
   }
 
   @Override
   @Transactional
   public void unlikeArtWork(Long artworkId, Long userId) {
-    likeRepository.deleteByArtworkIdAndUserId(artworkId, userId);
+    if (likeRepository.deleteLike(artworkId, userId) > 0) {
+      likeCounter.increment(artworkId, -1);
+    }
   }
 
   @Override
@@ -28,4 +28,9 @@ public interface AdminDashboardService {
      * 주요 지표 요약
      */
     AdminKpiSummaryResponse getKpiSummary();
+
+    /**
+     * 일별 지표 집계 백필 (기간 재계산)
+     */
+    void backfillDailyMetrics(LocalDate startDate, LocalDate endDate);
 }
@@ -3,17 +3,22 @@ package org.example.studiopick.application.admin;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.studiopick.application.admin.dto.dashboard.*;
+import org.example.studiopick.application.metrics.DailyMetricRollupJob;
+import org.example.studiopick.domain.common.enums.DailyMetricType;
 import org.example.studiopick.domain.common.enums.ReportStatus;
 import org.example.studiopick.domain.common.enums.ReservationStatus;
 import org.example.studiopick.domain.common.enums.StudioStatus;
 import org.example.studiopick.domain.common.enums.UserStatus;
+import org.example.studiopick.domain.metrics.DailyMetricSeries;
 import org.example.studiopick.infrastructure.User.JpaUserRepository;
+import org.example.studiopick.infrastructure.metrics.JpaDailyMetricRepository;
 import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
 import org.example.studiopick.infrastructure.refund.RefundRepository;
 import org.example.studiopick.infrastructure.report.ReportRepository;
 import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
 import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -25,6 +30,7 @@ import java.util.List;
 
 /**
  * 관리자 대시보드 서비스 구현체
+ * - 일별/기간 통계는 일별 지표 집계(DailyMetric)를 기간당 1회 조회해 계산 (실시간 통계만 원본 직접 조회)
  */
 @Service
 @RequiredArgsConstructor
@@ -38,28 +44,31 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
     private final JpaPaymentRepository paymentRepository;
     private final ReportRepository reportRepository;
     private final RefundRepository refundRepository;
+    private final JpaDailyMetricRepository dailyMetricRepository;
+    private final DailyMetricRollupJob dailyMetricRollupJob;
 
     @Override
     public AdminDashboardResponse getDashboardData() {
         LocalDateTime now = LocalDateTime.now();
         LocalDate today = now.toLocalDate();
-        LocalDateTime todayStart = today.atStartOfDay();
-        LocalDateTime todayEnd = today.atTime(LocalTime.MAX);
+
+        // 전월 1일 ~ 오늘 일별 지표 (1회 조회)
+        DailyMetricSeries metrics = loadMetrics(today.minusMonths(1).withDayOfMonth(1), today);
 
         // 사용자 통계
-        AdminDashboardResponse.UserStats userStats = getUserStats(today);
+        AdminDashboardResponse.UserStats userStats = getUserStats(today, metrics);
         
         // 스튜디오 통계
         AdminDashboardResponse.StudioStats studioStats = getStudioStats(today);
         
         // 예약 통계
-        AdminDashboardResponse.ReservationStats reservationStats = getReservationStats(today);
+        AdminDashboardResponse.ReservationStats reservationStats = getReservationStats(today, metrics);
         
         // 매출 통계
-        AdminDashboardResponse.SalesStats salesStats = getSalesStats(todayStart, todayEnd);
+        AdminDashboardResponse.SalesStats salesStats = getSalesStats(today, metrics);
         
         // 신고 통계
-        AdminDashboardResponse.ReportStats reportStats = getReportStats(today);
+        AdminDashboardResponse.ReportStats reportStats = getReportStats(today, metrics);
 
         return new AdminDashboardResponse(
             userStats,
@@ -73,8 +82,16 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
 
     @Override
     public AdminDashboardStatsResponse getDashboardStats(LocalDate startDate, LocalDate endDate) {
-        List<AdminDashboardStatsResponse.DailyStats> dailyStats = getDailyStats(startDate, endDate);
-        AdminDashboardStatsResponse.PeriodComparison periodComparison = getPeriodComparison(startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+
+        // 이전 비교 기간 ~ 종료일 일별 지표 (기간 길이와 무관하게 1회 조회)
+        long days = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
+        DailyMetricSeries metrics = loadMetrics(startDate.minusDays(days + 1), endDate);
+
+        List<AdminDashboardStatsResponse.DailyStats> dailyStats = getDailyStats(startDate, endDate, metrics);
+        AdminDashboardStatsResponse.PeriodComparison periodComparison = getPeriodComparison(startDate, endDate, metrics);
 
         return new AdminDashboardStatsResponse(
             startDate.toString(),
@@ -136,22 +153,29 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
         );
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillDailyMetrics(LocalDate startDate, LocalDate endDate) {
+        log.info("일별 지표 백필 요청: {} ~ {}", startDate, endDate);
+        dailyMetricRollupJob.backfill(startDate, endDate);
+    }
+
     // Private helper methods
+
+    private DailyMetricSeries loadMetrics(LocalDate from, LocalDate to) {
+        return DailyMetricSeries.of(dailyMetricRepository.findByMetricDateBetween(from, to));
+    }
     
-    private AdminDashboardResponse.UserStats getUserStats(LocalDate today) {
-        LocalDateTime todayStart = today.atStartOfDay();
-        LocalDateTime todayEnd = today.atTime(LocalTime.MAX);
-        
+    private AdminDashboardResponse.UserStats getUserStats(LocalDate today, DailyMetricSeries metrics) {
         long totalUsers = userRepository.count();
         long activeUsers = userRepository.countByStatus(UserStatus.ACTIVE);
-        long newUsersToday = userRepository.countByCreatedAtBetween(todayStart, todayEnd);
+        long newUsersToday = metrics.count(DailyMetricType.USER_SIGNUP, today);
         long studioOwners = userRepository.countByRole(org.example.studiopick.domain.common.enums.UserRole.STUDIO_OWNER);
         
         // 성장률 계산 (전월 대비)
         LocalDate lastMonth = today.minusMonths(1);
-        LocalDateTime lastMonthStart = lastMonth.withDayOfMonth(1).atStartOfDay();
-        LocalDateTime lastMonthEnd = lastMonth.withDayOfMonth(lastMonth.lengthOfMonth()).atTime(LocalTime.MAX);
-        long lastMonthUsers = userRepository.countByCreatedAtBetween(lastMonthStart, lastMonthEnd);
+        long lastMonthUsers = metrics.sumCount(DailyMetricType.USER_SIGNUP,
+            lastMonth.withDayOfMonth(1), lastMonth.withDayOfMonth(lastMonth.lengthOfMonth()));
         double growthRate = lastMonthUsers > 0 ? ((double) newUsersToday / lastMonthUsers) * 100 : 0.0;
 
         return new AdminDashboardResponse.UserStats(
@@ -175,12 +199,9 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
         );
     }
 
-    private AdminDashboardResponse.ReservationStats getReservationStats(LocalDate today) {
-        LocalDateTime todayStart = today.atStartOfDay();
-        LocalDateTime todayEnd = today.atTime(LocalTime.MAX);
-        
+    private AdminDashboardResponse.ReservationStats getReservationStats(LocalDate today, DailyMetricSeries metrics) {
         long totalReservations = reservationRepository.count();
-        long todayReservations = reservationRepository.countByCreatedAtBetween(todayStart, todayEnd);
+        long todayReservations = metrics.count(DailyMetricType.RESERVATION_CREATED, today);
         long pendingReservations = reservationRepository.countByStatus(ReservationStatus.PENDING);
         long completedReservations = reservationRepository.countByStatus(ReservationStatus.COMPLETED);
         
@@ -191,15 +212,11 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
         );
     }
 
-    private AdminDashboardResponse.SalesStats getSalesStats(LocalDateTime todayStart, LocalDateTime todayEnd) {
-        LocalDateTime monthStart = todayStart.toLocalDate().withDayOfMonth(1).atStartOfDay();
-        
+    private AdminDashboardResponse.SalesStats getSalesStats(LocalDate today, DailyMetricSeries metrics) {
         BigDecimal totalSales = paymentRepository.getTotalSalesByStatus(
             org.example.studiopick.domain.common.enums.PaymentStatus.PAID);
-        BigDecimal todaySales = paymentRepository.getSalesByDateRangeAndStatus(
-            todayStart, todayEnd, org.example.studiopick.domain.common.enums.PaymentStatus.PAID);
-        BigDecimal monthSales = paymentRepository.getSalesByDateRangeAndStatus(
-            monthStart, todayEnd, org.example.studiopick.domain.common.enums.PaymentStatus.PAID);
+        BigDecimal todaySales = metrics.amount(DailyMetricType.PAYMENT_PAID, today);
+        BigDecimal monthSales = metrics.sumAmount(DailyMetricType.PAYMENT_PAID, today.withDayOfMonth(1), today);
         
         // 평균 주문 금액 계산
         long totalOrders = paymentRepository.countByStatus(org.example.studiopick.domain.common.enums.PaymentStatus.PAID);
@@ -207,13 +224,9 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
             totalSales.divide(BigDecimal.valueOf(totalOrders), 2, BigDecimal.ROUND_HALF_UP) : BigDecimal.ZERO;
 
         // 성장률 계산 (전월 대비)
-        LocalDate currentMonth = todayStart.toLocalDate();
-        LocalDate lastMonth = currentMonth.minusMonths(1);
-        LocalDateTime lastMonthStart = lastMonth.withDayOfMonth(1).atStartOfDay();
-        LocalDateTime lastMonthEnd = lastMonth.withDayOfMonth(lastMonth.lengthOfMonth()).atTime(LocalTime.MAX);
-
-        BigDecimal lastMonthSales = paymentRepository.getSalesByDateRangeAndStatus(
-            lastMonthStart, lastMonthEnd, org.example.studiopick.domain.common.enums.PaymentStatus.PAID);
+        LocalDate lastMonth = today.minusMonths(1);
+        BigDecimal lastMonthSales = metrics.sumAmount(DailyMetricType.PAYMENT_PAID,
+            lastMonth.withDayOfMonth(1), lastMonth.withDayOfMonth(lastMonth.lengthOfMonth()));
 
         double growthRate = 0.0;
         if (lastMonthSales != null && lastMonthSales.compareTo(BigDecimal.ZERO) > 0 && monthSales != null) {
@@ -232,13 +245,10 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
         );
     }
 
-    private AdminDashboardResponse.ReportStats getReportStats(LocalDate today) {
-        LocalDateTime todayStart = today.atStartOfDay();
-        LocalDateTime todayEnd = today.atTime(LocalTime.MAX);
-        
+    private AdminDashboardResponse.ReportStats getReportStats(LocalDate today, DailyMetricSeries metrics) {
         long totalReports = reportRepository.count();
         long pendingReports = reportRepository.countByStatus(ReportStatus.PENDING);
-        long processedToday = reportRepository.countByProcessedAtBetween(todayStart, todayEnd);
+        long processedToday = metrics.count(DailyMetricType.REPORT_PROCESSED, today);
         long autoHiddenContent = reportRepository.countByStatus(ReportStatus.AUTO_HIDDEN);
         
         long processedReports = reportRepository.countByStatusNot(ReportStatus.PENDING);
@@ -249,25 +259,19 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
         );
     }
 
-    private List<AdminDashboardStatsResponse.DailyStats> getDailyStats(LocalDate startDate, LocalDate endDate) {
+    private List<AdminDashboardStatsResponse.DailyStats> getDailyStats(LocalDate startDate, LocalDate endDate,
+                                                                       DailyMetricSeries metrics) {
         List<AdminDashboardStatsResponse.DailyStats> stats = new ArrayList<>();
         LocalDate current = startDate;
         
         while (!current.isAfter(endDate)) {
-            LocalDateTime dayStart = current.atStartOfDay();
-            LocalDateTime dayEnd = current.atTime(LocalTime.MAX);
-            
-            long newUsers = userRepository.countByCreatedAtBetween(dayStart, dayEnd);
-            long newReservations = reservationRepository.countByCreatedAtBetween(dayStart, dayEnd);
-            BigDecimal dailySales = paymentRepository.getSalesByDateRangeAndStatus(
-                dayStart, dayEnd, org.example.studiopick.domain.common.enums.PaymentStatus.PAID);
-            long newReports = reportRepository.countByCreatedAtBetween(dayStart, dayEnd);
-            long processedReports = reportRepository.countByProcessedAtBetween(dayStart, dayEnd);
-            
             stats.add(new AdminDashboardStatsResponse.DailyStats(
-                current, newUsers, newReservations, 
-                dailySales != null ? dailySales : BigDecimal.ZERO,
-                newReports, processedReports
+                current,
+                metrics.count(DailyMetricType.USER_SIGNUP, current),
+                metrics.count(DailyMetricType.RESERVATION_CREATED, current),
+                metrics.amount(DailyMetricType.PAYMENT_PAID, current),
+                metrics.count(DailyMetricType.REPORT_CREATED, current),
+                metrics.count(DailyMetricType.REPORT_PROCESSED, current)
             ));
             
             current = current.plusDays(1);
@@ -276,28 +280,22 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
         return stats;
     }
 
-    private AdminDashboardStatsResponse.PeriodComparison getPeriodComparison(LocalDate startDate, LocalDate endDate) {
+    private AdminDashboardStatsResponse.PeriodComparison getPeriodComparison(LocalDate startDate, LocalDate endDate,
+                                                                             DailyMetricSeries metrics) {
         // 이전 기간과의 비교 데이터 계산
         long days = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
         LocalDate prevStartDate = startDate.minusDays(days + 1);
         LocalDate prevEndDate = startDate.minusDays(1);
         
-        LocalDateTime currentStart = startDate.atStartOfDay();
-        LocalDateTime currentEnd = endDate.atTime(LocalTime.MAX);
-        LocalDateTime prevStart = prevStartDate.atStartOfDay();
-        LocalDateTime prevEnd = prevEndDate.atTime(LocalTime.MAX);
-        
         // 현재 기간 데이터
-        long currentUsers = userRepository.countByCreatedAtBetween(currentStart, currentEnd);
-        long currentReservations = reservationRepository.countByCreatedAtBetween(currentStart, currentEnd);
-        BigDecimal currentSales = paymentRepository.getSalesByDateRangeAndStatus(
-            currentStart, currentEnd, org.example.studiopick.domain.common.enums.PaymentStatus.PAID);
+        long currentUsers = metrics.sumCount(DailyMetricType.USER_SIGNUP, startDate, endDate);
+        long currentReservations = metrics.sumCount(DailyMetricType.RESERVATION_CREATED, startDate, endDate);
+        BigDecimal currentSales = metrics.sumAmount(DailyMetricType.PAYMENT_PAID, startDate, endDate);
         
         // 이전 기간 데이터
-        long prevUsers = userRepository.countByCreatedAtBetween(prevStart, prevEnd);
-        long prevReservations = reservationRepository.countByCreatedAtBetween(prevStart, prevEnd);
-        BigDecimal prevSales = paymentRepository.getSalesByDateRangeAndStatus(
-            prevStart, prevEnd, org.example.studiopick.domain.common.enums.PaymentStatus.PAID);
+        long prevUsers = metrics.sumCount(DailyMetricType.USER_SIGNUP, prevStartDate, prevEndDate);
+        long prevReservations = metrics.sumCount(DailyMetricType.RESERVATION_CREATED, prevStartDate, prevEndDate);
+        BigDecimal prevSales = metrics.sumAmount(DailyMetricType.PAYMENT_PAID, prevStartDate, prevEndDate);
         
         // 증감률 계산
         double userGrowth = prevUsers > 0 ? ((double) (currentUsers - prevUsers) / prevUsers) * 100 : 0.0;
@@ -367,21 +365,22 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
         LocalDate lastMonth = now.minusMonths(1);
         
         // 이번달과 전월 기간 설정
-        LocalDateTime thisMonthStart = now.withDayOfMonth(1).atStartOfDay();
-        LocalDateTime thisMonthEnd = now.atTime(LocalTime.MAX);
-        LocalDateTime lastMonthStart = lastMonth.withDayOfMonth(1).atStartOfDay();
-        LocalDateTime lastMonthEnd = lastMonth.withDayOfMonth(lastMonth.lengthOfMonth()).atTime(LocalTime.MAX);
+        LocalDate thisMonthStart = now.withDayOfMonth(1);
+        LocalDate lastMonthStart = lastMonth.withDayOfMonth(1);
+        LocalDate lastMonthEnd = lastMonth.withDayOfMonth(lastMonth.lengthOfMonth());
+        LocalDate threeMonthsAgo = now.minusMonths(3);
+
+        // 3개월 전 ~ 오늘 일별 지표 (1회 조회)
+        DailyMetricSeries metrics = loadMetrics(threeMonthsAgo, now);
         
         // 사용자 성장률 계산
-        long thisMonthUsers = userRepository.countByCreatedAtBetween(thisMonthStart, thisMonthEnd);
-        long lastMonthUsers = userRepository.countByCreatedAtBetween(lastMonthStart, lastMonthEnd);
+        long thisMonthUsers = metrics.sumCount(DailyMetricType.USER_SIGNUP, thisMonthStart, now);
+        long lastMonthUsers = metrics.sumCount(DailyMetricType.USER_SIGNUP, lastMonthStart, lastMonthEnd);
         double userGrowthRate = lastMonthUsers > 0 ? ((double) (thisMonthUsers - lastMonthUsers) / lastMonthUsers) * 100 : 0.0;
         
         // 매출 성장률 계산
-        BigDecimal thisMonthSales = paymentRepository.getSalesByDateRangeAndStatus(
-            thisMonthStart, thisMonthEnd, org.example.studiopick.domain.common.enums.PaymentStatus.PAID);
-        BigDecimal lastMonthSales = paymentRepository.getSalesByDateRangeAndStatus(
-            lastMonthStart, lastMonthEnd, org.example.studiopick.domain.common.enums.PaymentStatus.PAID);
+        BigDecimal thisMonthSales = metrics.sumAmount(DailyMetricType.PAYMENT_PAID, thisMonthStart, now);
+        BigDecimal lastMonthSales = metrics.sumAmount(DailyMetricType.PAYMENT_PAID, lastMonthStart, lastMonthEnd);
         
         double revenueGrowthRate = 0.0;
         if (lastMonthSales != null && lastMonthSales.compareTo(BigDecimal.ZERO) > 0 && thisMonthSales != null) {
@@ -392,8 +391,8 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
         }
         
         // 예약 성장률 계산
-        long thisMonthReservations = reservationRepository.countByCreatedAtBetween(thisMonthStart, thisMonthEnd);
-        long lastMonthReservations = reservationRepository.countByCreatedAtBetween(lastMonthStart, lastMonthEnd);
+        long thisMonthReservations = metrics.sumCount(DailyMetricType.RESERVATION_CREATED, thisMonthStart, now);
+        long lastMonthReservations = metrics.sumCount(DailyMetricType.RESERVATION_CREATED, lastMonthStart, lastMonthEnd);
         double reservationGrowthRate = lastMonthReservations > 0 ? 
             ((double) (thisMonthReservations - lastMonthReservations) / lastMonthReservations) * 100 : 0.0;
         
@@ -404,8 +403,7 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
             (double) approvedStudios / totalStudioApplications * 100 : 0.0;
         
         // 사용자 유지율 (예시: 지난 3개월 내 활동한 사용자 비율)
-        LocalDateTime threeMonthsAgo = now.minusMonths(3).atStartOfDay();
-        long activeUsersLast3Months = userRepository.countByCreatedAtBetween(threeMonthsAgo, thisMonthEnd);
+        long activeUsersLast3Months = metrics.sumCount(DailyMetricType.USER_SIGNUP, threeMonthsAgo, now);
         long totalActiveUsers = userRepository.countByStatus(UserStatus.ACTIVE);
         double retentionRate = totalActiveUsers > 0 ? 
             (double) activeUsersLast3Months / totalActiveUsers * 100 : 0.0;
@@ -65,7 +65,7 @@ public interface AdminReportService {
     /**
      * 악성 신고자 관리
      */
-    AdminMaliciousReporterListResponse getMaliciousReporters(int page, int size);
+    AdminMaliciousReporterListResponse getMaliciousReporters(String cursor, int page, int size);
     
     void blockReporter(Long userId, String reason);
 }
@@ -7,10 +7,12 @@ import org.example.studiopick.application.report.ReportService;
 import org.example.studiopick.domain.artwork.Artwork;
 import org.example.studiopick.domain.common.enums.*;
 import org.example.studiopick.domain.report.Report;
+import org.example.studiopick.domain.report.ReporterStats;
 import org.example.studiopick.domain.user.User;
 import org.example.studiopick.infrastructure.User.JpaUserRepository;
 import org.example.studiopick.infrastructure.artwork.ArtworkRepository;
 import org.example.studiopick.infrastructure.report.ReportRepository;
+import org.example.studiopick.infrastructure.report.ReporterStatsRepository;
 import org.example.studiopick.infrastructure.review.ReviewRepository;
 import org.example.studiopick.infrastructure.workshop.JpaWorkShopRepository;
 import org.springframework.data.domain.Page;
@@ -20,10 +22,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -39,6 +43,11 @@ public class AdminReportServiceImpl implements AdminReportService {
     private final JpaWorkShopRepository jpaWorkShopRepository;
     private final ReviewRepository reviewRepository;
     private final JpaUserRepository userRepository;
+    private final ReporterStatsRepository reporterStatsRepository;
+
+    // 악성 신고자 기준: 신고 10건 이상 + 승인율 30% 미만
+    private static final long MALICIOUS_MIN_REPORTS = 10;
+    private static final double MALICIOUS_MAX_APPROVAL_RATE = 30.0;
     
     @Override
     @Transactional(readOnly = true)
@@ -180,60 +189,64 @@ public class AdminReportServiceImpl implements AdminReportService {
 
     @Override
     @Transactional(readOnly = true)
-    public AdminMaliciousReporterListResponse getMaliciousReporters(int page, int size) {
-        // 신고자별 통계 조회 (실제로는 QueryDSL이나 네이티브 쿼리 사용 권장)
-        List<User> allReporters = reportRepository.findDistinctReporters();
-        
-        // 악성 신고자 필터링 및 정렬
-        List<AdminMaliciousReporterListResponse.MaliciousReporter> maliciousReporters = allReporters.stream()
-            .map(user -> {
-                long totalReports = reportRepository.countByUser(user);
-                long approvedReports = reportRepository.countByUserAndStatus(user, ReportStatus.REVIEWED);
-                long rejectedReports = reportRepository.countByUserAndStatus(user, ReportStatus.RESTORED);
-                double approvalRate = totalReports > 0 ? (approvedReports * 100.0) / totalReports : 0.0;
-                
-                LocalDateTime lastReportDate = reportRepository.findLastReportDateByUser(user);
-                
+    public AdminMaliciousReporterListResponse getMaliciousReporters(String cursor, int page, int size) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 100 이하여야 합니다.");
+        }
+
+        // 악성 신고자 필터/정렬/페이징은 reporter_stats 에서 SQL 로 처리 (승인율 낮은 순)
+        Pageable limit = PageRequest.of(0, size);
+        List<ReporterStats> rows;
+        if (cursor != null && !cursor.isBlank()) {
+            ReporterCursor after = ReporterCursor.decode(cursor);
+            rows = reporterStatsRepository.findMaliciousAfter(
+                MALICIOUS_MIN_REPORTS, MALICIOUS_MAX_APPROVAL_RATE, after.approvalRate(), after.userId(), limit);
+        } else {
+            rows = reporterStatsRepository.findMalicious(
+                MALICIOUS_MIN_REPORTS, MALICIOUS_MAX_APPROVAL_RATE, PageRequest.of(page, size));
+        }
+
+        List<AdminMaliciousReporterListResponse.MaliciousReporter> reporters = rows.stream()
+            .map(stats -> {
+                User user = stats.getUser();
                 return new AdminMaliciousReporterListResponse.MaliciousReporter(
                     user.getId(),
                     user.getName(),
                     user.getEmail(),
-                    totalReports,
-                    approvedReports,
-                    rejectedReports,
-                    approvalRate,
-                    lastReportDate,
-                    calculateRiskLevel(approvalRate, totalReports),
+                    stats.getTotalReports(),
+                    stats.getApprovedReports(),
+                    stats.getRejectedReports(),
+                    stats.getApprovalRate(),
+                    stats.getLastReportAt(),
+                    calculateRiskLevel(stats.getApprovalRate(), stats.getTotalReports()),
                     user.getStatus() == UserStatus.LOCKED
                 );
             })
-            .filter(this::isReporterMalicious) // 악성 신고자만 필터링
-            .sorted((a, b) -> Double.compare(a.approvalRate(), b.approvalRate())) // 승인율 낮은 순
             .toList();
-        
-        // 페이징 처리
-        int start = page * size;
-        int end = Math.min(start + size, maliciousReporters.size());
-        List<AdminMaliciousReporterListResponse.MaliciousReporter> pagedReporters = 
-            maliciousReporters.subList(start, end);
+
+        String nextCursor = rows.size() == size
+            ? new ReporterCursor(rows.get(rows.size() - 1).getApprovalRate(), rows.get(rows.size() - 1).getUserId()).encode()
+            : null;
+        long totalElements = reporterStatsRepository.countMalicious(MALICIOUS_MIN_REPORTS, MALICIOUS_MAX_APPROVAL_RATE);
         
         // 탐지 기준 (설정값으로 분리 가능)
         AdminMaliciousReporterListResponse.DetectionCriteria criteria = 
             new AdminMaliciousReporterListResponse.DetectionCriteria(
-                30.0,  // 최대 승인율 30%
-                10,    // 최소 신고 건수 10건
+                MALICIOUS_MAX_APPROVAL_RATE,  // 최대 승인율 30%
+                (int) MALICIOUS_MIN_REPORTS,  // 최소 신고 건수 10건
                 5,     // 연속 거부 5건
                 20.0   // 위험 레벨 기준 20%
             );
         
         return new AdminMaliciousReporterListResponse(
-            pagedReporters,
+            reporters,
             new AdminMaliciousReporterListResponse.AdminPaginationInfo(
                 page,
-                (long) maliciousReporters.size(),
-                (int) Math.ceil((double) maliciousReporters.size() / size)
+                totalElements,
+                (int) Math.ceil((double) totalElements / size)
             ),
-            criteria
+            criteria,
+            nextCursor
         );
     }
 
@@ -640,9 +653,24 @@ public class AdminReportServiceImpl implements AdminReportService {
     }
     
     /**
-     * 악성 신고자 여부 판단
+     * 악성 신고자 키셋 커서 (마지막 행의 승인율, 사용자 ID)
      */
-    private boolean isReporterMalicious(AdminMaliciousReporterListResponse.MaliciousReporter reporter) {
-        return reporter.approvalRate() < 30.0 && reporter.totalReports() >= 10;
+    private record ReporterCursor(double approvalRate, Long userId) {
+
+        String encode() {
+            String raw = Double.toString(approvalRate) + ":" + userId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ReporterCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf(':');
+                return new ReporterCursor(Double.parseDouble(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
     }
 }
\ No newline at end of file
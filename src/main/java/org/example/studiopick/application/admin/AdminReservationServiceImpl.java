@@ -8,6 +8,7 @@ import org.example.studiopick.common.validator.PaginationValidator;
 import org.example.studiopick.domain.common.enums.ReservationStatus;
 import org.example.studiopick.domain.reservation.Reservation;
 import org.example.studiopick.domain.reservation.ReservationDomainService;
+import org.example.studiopick.domain.reservation.ReservationSlotIndex;
 import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
 import org.example.studiopick.infrastructure.reservation.mybatis.ReservationSearchMapper;
 import org.example.studiopick.infrastructure.reservation.mybatis.dto.ReservationSearchCriteria;
@@ -36,6 +37,7 @@ public class AdminReservationServiceImpl implements AdminReservationService {
     private final ReservationSearchMapper reservationSearchMapper;
     
     private final ReservationDomainService reservationDomainService;
+    private final ReservationSlotIndex slotIndex;
     private final PaginationValidator paginationValidator;
     private final SystemSettingUtils settingUtils;
 
@@ -98,6 +100,7 @@ public class AdminReservationServiceImpl implements AdminReservationService {
             }
             
             jpaReservationRepository.save(reservation);
+            slotIndex.changed(reservation);
             
             log.info("예약 상태 변경 완료: reservationId={}, {} -> {}, reason={}",
                 reservationId, oldStatus, newStatus, command.reason());
@@ -5,8 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.studiopick.application.admin.dto.sales.*;
 import org.example.studiopick.common.validator.PaginationValidator;
 import org.example.studiopick.domain.common.enums.*;
+import org.example.studiopick.domain.metrics.DailyMetricSeries;
 import org.example.studiopick.domain.payment.Payment;
 import org.example.studiopick.infrastructure.User.JpaUserRepository;
+import org.example.studiopick.infrastructure.metrics.JpaDailyMetricRepository;
 import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
 import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
 import org.example.studiopick.infrastructure.workshop.JpaWorkShopRepository;
@@ -33,6 +35,7 @@ public class AdminSalesServiceImpl implements AdminSalesService {
   private final JpaUserRepository userRepository;
   private final JpaStudioRepository studioRepository;
   private final JpaWorkShopRepository workshopRepository;
+  private final JpaDailyMetricRepository dailyMetricRepository;
 
   /**
    * 전체 매출 통계 조회
@@ -42,23 +45,14 @@ public class AdminSalesServiceImpl implements AdminSalesService {
     // 전체 매출
     BigDecimal totalSales = paymentRepository.getTotalSalesByStatus(PaymentStatus.PAID);
 
-    // 오늘 매출
-    LocalDateTime todayStart = LocalDate.now().atStartOfDay();
-    LocalDateTime todayEnd = LocalDate.now().atTime(LocalTime.MAX);
-    BigDecimal todaySales = paymentRepository.getSalesByDateRangeAndStatus(
-        todayStart, todayEnd, PaymentStatus.PAID);
+    // 올해 1월 1일 ~ 오늘 일별 지표 (1회 조회)
+    LocalDate today = LocalDate.now();
+    DailyMetricSeries metrics = loadMetrics(today.withDayOfYear(1), today);
 
-    // 이번 달 매출
-    LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
-    LocalDateTime monthEnd = LocalDate.now().atTime(LocalTime.MAX);
-    BigDecimal thisMonthSales = paymentRepository.getSalesByDateRangeAndStatus(
-        monthStart, monthEnd, PaymentStatus.PAID);
-
-    // 이번 년도 매출
-    LocalDateTime yearStart = LocalDate.now().withDayOfYear(1).atStartOfDay();
-    LocalDateTime yearEnd = LocalDate.now().atTime(LocalTime.MAX);
-    BigDecimal thisYearSales = paymentRepository.getSalesByDateRangeAndStatus(
-        yearStart, yearEnd, PaymentStatus.PAID);
+    // 오늘 / 이번 달 / 이번 년도 매출
+    BigDecimal todaySales = metrics.amount(DailyMetricType.PAYMENT_PAID, today);
+    BigDecimal thisMonthSales = metrics.sumAmount(DailyMetricType.PAYMENT_PAID, today.withDayOfMonth(1), today);
+    BigDecimal thisYearSales = metrics.sumAmount(DailyMetricType.PAYMENT_PAID, today.withDayOfYear(1), today);
 
     // 환불 금액
     BigDecimal totalRefunds = paymentRepository.getTotalSalesByStatus(PaymentStatus.REFUNDED);
@@ -92,21 +86,30 @@ public class AdminSalesServiceImpl implements AdminSalesService {
   public AdminSalesTrendResponse getSalesTrend(String startDate, String endDate, String period) {
     LocalDate start = LocalDate.parse(startDate);
     LocalDate end = LocalDate.parse(endDate);
-    LocalDateTime startDateTime = start.atStartOfDay();
-    LocalDateTime endDateTime = end.atTime(LocalTime.MAX);
 
-    List<AdminSalesTrendData> trendData = new ArrayList<>();
-
-    switch (period.toLowerCase()) {
-      case "daily" -> trendData = getDailySalesTrend(start, end);
-      case "monthly" -> trendData = getMonthlySalesTrend(start, end);
-      case "yearly" -> trendData = getYearlySalesTrend(start, end);
+    // 월/연 단위는 시작/종료가 속한 달(연) 전체를 집계하므로 그 범위까지 한 번에 조회
+    String periodType = period.toLowerCase();
+    LocalDate loadStart = switch (periodType) {
+      case "daily" -> start;
+      case "monthly" -> start.withDayOfMonth(1);
+      case "yearly" -> start.withDayOfYear(1);
       default -> throw new IllegalArgumentException("지원하지 않는 기간 타입입니다: " + period);
-    }
+    };
+    LocalDate loadEnd = switch (periodType) {
+      case "monthly" -> end.withDayOfMonth(end.lengthOfMonth());
+      case "yearly" -> end.withDayOfYear(end.lengthOfYear());
+      default -> end;
+    };
+    DailyMetricSeries metrics = loadMetrics(loadStart, loadEnd);
+
+    List<AdminSalesTrendData> trendData = switch (periodType) {
+      case "daily" -> getDailySalesTrend(start, end, metrics);
+      case "monthly" -> getMonthlySalesTrend(start, end, metrics);
+      default -> getYearlySalesTrend(start, end, metrics);
+    };
 
     // 기간별 총 매출
-    BigDecimal totalSales = paymentRepository.getSalesByDateRangeAndStatus(
-        startDateTime, endDateTime, PaymentStatus.PAID);
+    BigDecimal totalSales = metrics.sumAmount(DailyMetricType.PAYMENT_PAID, start, end);
 
     return new AdminSalesTrendResponse(
         startDate,
@@ -181,19 +184,16 @@ public class AdminSalesServiceImpl implements AdminSalesService {
   public AdminRefundStatsResponse getRefundStats(String startDate, String endDate) {
     LocalDate start = startDate != null ? LocalDate.parse(startDate) : LocalDate.now().minusMonths(1);
     LocalDate end = endDate != null ? LocalDate.parse(endDate) : LocalDate.now();
-    LocalDateTime startDateTime = start.atStartOfDay();
-    LocalDateTime endDateTime = end.atTime(LocalTime.MAX);
 
-    // 환불 통계
-    BigDecimal totalRefunds = paymentRepository.getSalesByDateRangeAndStatus(
-        startDateTime, endDateTime, PaymentStatus.REFUNDED);
+    // 기간 일별 지표 (1회 조회)
+    DailyMetricSeries metrics = loadMetrics(start, end);
 
-    long refundCount = paymentRepository.countByDateRangeAndStatus(
-        startDateTime, endDateTime, PaymentStatus.REFUNDED);
+    // 환불 통계
+    BigDecimal totalRefunds = metrics.sumAmount(DailyMetricType.PAYMENT_REFUNDED, start, end);
+    long refundCount = metrics.sumCount(DailyMetricType.PAYMENT_REFUNDED, start, end);
 
     // 전체 매출 대비 환불률 계산
-    BigDecimal totalSales = paymentRepository.getSalesByDateRangeAndStatus(
-        startDateTime, endDateTime, PaymentStatus.PAID);
+    BigDecimal totalSales = metrics.sumAmount(DailyMetricType.PAYMENT_PAID, start, end);
 
     double refundRate = 0.0;
     if (totalSales != null && totalSales.compareTo(BigDecimal.ZERO) > 0) {
@@ -202,7 +202,7 @@ public class AdminSalesServiceImpl implements AdminSalesService {
     }
 
     // 일별 환불 트렌드
-    List<AdminRefundTrendData> refundTrend = getDailyRefundTrend(start, end);
+    List<AdminRefundTrendData> refundTrend = getDailyRefundTrend(start, end, metrics);
 
     return new AdminRefundStatsResponse(
         start.toString(),
@@ -252,20 +252,18 @@ public class AdminSalesServiceImpl implements AdminSalesService {
 
   // Private helper methods
 
-  private List<AdminSalesTrendData> getDailySalesTrend(LocalDate start, LocalDate end) {
+  private DailyMetricSeries loadMetrics(LocalDate from, LocalDate to) {
+    return DailyMetricSeries.of(dailyMetricRepository.findByMetricDateBetween(from, to));
+  }
+
+  private List<AdminSalesTrendData> getDailySalesTrend(LocalDate start, LocalDate end, DailyMetricSeries metrics) {
     List<AdminSalesTrendData> trendData = new ArrayList<>();
     LocalDate current = start;
 
     while (!current.isAfter(end)) {
-      LocalDateTime dayStart = current.atStartOfDay();
-      LocalDateTime dayEnd = current.atTime(LocalTime.MAX);
-
-      BigDecimal dailySales = paymentRepository.getSalesByDateRangeAndStatus(
-          dayStart, dayEnd, PaymentStatus.PAID);
-
       trendData.add(new AdminSalesTrendData(
           current.toString(),
-          dailySales != null ? dailySales : BigDecimal.ZERO
+          metrics.amount(DailyMetricType.PAYMENT_PAID, current)
       ));
 
       current = current.plusDays(1);
@@ -274,21 +272,16 @@ public class AdminSalesServiceImpl implements AdminSalesService {
     return trendData;
   }
 
-  private List<AdminSalesTrendData> getMonthlySalesTrend(LocalDate start, LocalDate end) {
+  private List<AdminSalesTrendData> getMonthlySalesTrend(LocalDate start, LocalDate end, DailyMetricSeries metrics) {
     List<AdminSalesTrendData> trendData = new ArrayList<>();
     LocalDate current = start.withDayOfMonth(1);
 
     while (!current.isAfter(end)) {
       LocalDate monthEnd = current.withDayOfMonth(current.lengthOfMonth());
-      LocalDateTime monthStart = current.atStartOfDay();
-      LocalDateTime monthEndTime = monthEnd.atTime(LocalTime.MAX);
-
-      BigDecimal monthlySales = paymentRepository.getSalesByDateRangeAndStatus(
-          monthStart, monthEndTime, PaymentStatus.PAID);
 
       trendData.add(new AdminSalesTrendData(
           current.format(DateTimeFormatter.ofPattern("yyyy-MM")),
-          monthlySales != null ? monthlySales : BigDecimal.ZERO
+          metrics.sumAmount(DailyMetricType.PAYMENT_PAID, current, monthEnd)
       ));
 
       current = current.plusMonths(1);
@@ -297,21 +290,16 @@ public class AdminSalesServiceImpl implements AdminSalesService {
     return trendData;
   }
 
-  private List<AdminSalesTrendData> getYearlySalesTrend(LocalDate start, LocalDate end) {
+  private List<AdminSalesTrendData> getYearlySalesTrend(LocalDate start, LocalDate end, DailyMetricSeries metrics) {
     List<AdminSalesTrendData> trendData = new ArrayList<>();
     LocalDate current = start.withDayOfYear(1);
 
     while (!current.isAfter(end)) {
       LocalDate yearEnd = current.withDayOfYear(current.lengthOfYear());
-      LocalDateTime yearStart = current.atStartOfDay();
-      LocalDateTime yearEndTime = yearEnd.atTime(LocalTime.MAX);
-
-      BigDecimal yearlySales = paymentRepository.getSalesByDateRangeAndStatus(
-          yearStart, yearEndTime, PaymentStatus.PAID);
 
       trendData.add(new AdminSalesTrendData(
           String.valueOf(current.getYear()),
-          yearlySales != null ? yearlySales : BigDecimal.ZERO
+          metrics.sumAmount(DailyMetricType.PAYMENT_PAID, current, yearEnd)
       ));
 
       current = current.plusYears(1);
@@ -320,24 +308,15 @@ public class AdminSalesServiceImpl implements AdminSalesService {
     return trendData;
   }
 
-  private List<AdminRefundTrendData> getDailyRefundTrend(LocalDate start, LocalDate end) {
+  private List<AdminRefundTrendData> getDailyRefundTrend(LocalDate start, LocalDate end, DailyMetricSeries metrics) {
     List<AdminRefundTrendData> trendData = new ArrayList<>();
     LocalDate current = start;
 
     while (!current.isAfter(end)) {
-      LocalDateTime dayStart = current.atStartOfDay();
-      LocalDateTime dayEnd = current.atTime(LocalTime.MAX);
-
-      BigDecimal dailyRefunds = paymentRepository.getSalesByDateRangeAndStatus(
-          dayStart, dayEnd, PaymentStatus.REFUNDED);
-
-      long refundCount = paymentRepository.countByDateRangeAndStatus(
-          dayStart, dayEnd, PaymentStatus.REFUNDED);
-
       trendData.add(new AdminRefundTrendData(
           current.toString(),
-          dailyRefunds != null ? dailyRefunds : BigDecimal.ZERO,
-          refundCount
+          metrics.amount(DailyMetricType.PAYMENT_REFUNDED, current),
+          metrics.count(DailyMetricType.PAYMENT_REFUNDED, current)
       ));
 
       current = current.plusDays(1);
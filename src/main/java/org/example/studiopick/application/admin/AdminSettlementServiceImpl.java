@@ -16,15 +16,17 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -159,30 +161,30 @@ public class AdminSettlementServiceImpl implements AdminSettlementService {
             startDateTime = LocalDate.parse(startDate, DateTimeFormatter.ISO_LOCAL_DATE).atStartOfDay();
         }
         if (endDate != null && !endDate.isBlank()) {
-            endDateTime = LocalDate.parse(endDate, DateTimeFormatter.ISO_LOCAL_DATE).atTime(LocalTime.MAX);
+            endDateTime = LocalDate.parse(endDate, DateTimeFormatter.ISO_LOCAL_DATE).plusDays(1).atStartOfDay();
         }
         
-        // 전체 데이터 조회
-        List<Settlement> allSettlements = settlementRepository.findAll();
-        
-        // 기간별 필터링
-        List<Settlement> filteredSettlements = allSettlements;
-        if (startDateTime != null && endDateTime != null) {
-            final LocalDateTime start = startDateTime;
-            final LocalDateTime end = endDateTime;
-            filteredSettlements = allSettlements.stream()
-                .filter(s -> s.getCreatedAt().isAfter(start) && s.getCreatedAt().isBefore(end))
-                .toList();
+        // 상태별 건수/금액을 DB에서 집계 (기간이 모두 주어진 경우에만 생성일 조건 적용)
+        List<Object[]> rows = startDateTime != null && endDateTime != null
+            ? settlementRepository.summarizeByStatusBetween(startDateTime, endDateTime)
+            : settlementRepository.summarizeByStatus();
+        
+        Map<SettlementStatus, Long> counts = new EnumMap<>(SettlementStatus.class);
+        Map<SettlementStatus, BigDecimal> amounts = new EnumMap<>(SettlementStatus.class);
+        for (Object[] row : rows) {
+            SettlementStatus settlementStatus = (SettlementStatus) row[0];
+            counts.put(settlementStatus, ((Number) row[1]).longValue());
+            amounts.put(settlementStatus, (BigDecimal) row[2]);
         }
         
         // 통계 계산
-        BigDecimal totalPendingAmount = calculateAmountByStatus(filteredSettlements, SettlementStatus.PENDING);
-        BigDecimal totalPaidAmount = calculateAmountByStatus(filteredSettlements, SettlementStatus.PAID);
-        BigDecimal totalHoldAmount = calculateAmountByStatus(filteredSettlements, SettlementStatus.CANCELLED);
+        BigDecimal totalPendingAmount = amounts.getOrDefault(SettlementStatus.PENDING, BigDecimal.ZERO);
+        BigDecimal totalPaidAmount = amounts.getOrDefault(SettlementStatus.PAID, BigDecimal.ZERO);
+        BigDecimal totalHoldAmount = amounts.getOrDefault(SettlementStatus.CANCELLED, BigDecimal.ZERO);
         
-        long pendingCount = countByStatus(filteredSettlements, SettlementStatus.PENDING);
-        long paidCount = countByStatus(filteredSettlements, SettlementStatus.PAID);
-        long holdCount = countByStatus(filteredSettlements, SettlementStatus.CANCELLED);
+        long pendingCount = counts.getOrDefault(SettlementStatus.PENDING, 0L);
+        long paidCount = counts.getOrDefault(SettlementStatus.PAID, 0L);
+        long holdCount = counts.getOrDefault(SettlementStatus.CANCELLED, 0L);
         
         return new AdminSettlementStatsResponse(
             startDate != null ? startDate : "",
@@ -203,22 +205,14 @@ public class AdminSettlementServiceImpl implements AdminSettlementService {
         Studio studio = studioRepository.findById(studioId)
             .orElseThrow(() -> new IllegalArgumentException("스튜디오를 찾을 수 없습니다."));
         
-        List<Settlement> studioSettlements = settlementRepository.findByStudioId(studioId);
-        
-        // 상태별 필터링
-        if (status != null && !status.isBlank()) {
-            SettlementStatus settlementStatus = SettlementStatus.valueOf(status.toUpperCase());
-            studioSettlements = studioSettlements.stream()
-                .filter(s -> s.getSettlementStatus() == settlementStatus)
-                .toList();
-        }
-        
-        // 페이징 처리
-        int start = page * size;
-        int end = Math.min(start + size, studioSettlements.size());
-        List<Settlement> pagedSettlements = studioSettlements.subList(start, end);
+        // 상태 조건과 페이징을 DB에서 처리 (최신순)
+        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<Settlement> studioSettlements = status != null && !status.isBlank()
+            ? settlementRepository.findByStudioIdAndSettlementStatus(
+                studioId, SettlementStatus.valueOf(status.toUpperCase()), pageable)
+            : settlementRepository.findByStudioId(studioId, pageable);
         
-        List<AdminStudioSettlementDto> settlementDtos = pagedSettlements.stream()
+        List<AdminStudioSettlementDto> settlementDtos = studioSettlements.getContent().stream()
             .map(s -> new AdminStudioSettlementDto(
                 s.getId(),
                 s.getTotalAmount(),
@@ -236,8 +230,8 @@ public class AdminSettlementServiceImpl implements AdminSettlementService {
             settlementDtos,
             new AdminSettlementPaginationResponse(
                 page,
-                (long) studioSettlements.size(),
-                (int) Math.ceil((double) studioSettlements.size() / size)
+                studioSettlements.getTotalElements(),
+                studioSettlements.getTotalPages()
             )
         );
     }
@@ -249,22 +243,14 @@ public class AdminSettlementServiceImpl implements AdminSettlementService {
         WorkShop workshop = workshopRepository.findById(workshopId)
             .orElseThrow(() -> new IllegalArgumentException("워크샵을 찾을 수 없습니다."));
         
-        List<Settlement> workshopSettlements = settlementRepository.findByWorkshopId(workshopId);
-        
-        // 상태별 필터링
-        if (status != null && !status.isBlank()) {
-            SettlementStatus settlementStatus = SettlementStatus.valueOf(status.toUpperCase());
-            workshopSettlements = workshopSettlements.stream()
-                .filter(s -> s.getSettlementStatus() == settlementStatus)
-                .toList();
-        }
-        
-        // 페이징 처리
-        int start = page * size;
-        int end = Math.min(start + size, workshopSettlements.size());
-        List<Settlement> pagedSettlements = workshopSettlements.subList(start, end);
+        // 상태 조건과 페이징을 DB에서 처리 (최신순)
+        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<Settlement> workshopSettlements = status != null && !status.isBlank()
+            ? settlementRepository.findByWorkshopIdAndSettlementStatus(
+                workshopId, SettlementStatus.valueOf(status.toUpperCase()), pageable)
+            : settlementRepository.findByWorkshopId(workshopId, pageable);
         
-        List<AdminWorkshopSettlementDto> settlementDtos = pagedSettlements.stream()
+        List<AdminWorkshopSettlementDto> settlementDtos = workshopSettlements.getContent().stream()
             .map(s -> new AdminWorkshopSettlementDto(
                 s.getId(),
                 s.getTotalAmount(),
@@ -282,8 +268,8 @@ public class AdminSettlementServiceImpl implements AdminSettlementService {
             settlementDtos,
             new AdminSettlementPaginationResponse(
                 page,
-                (long) workshopSettlements.size(),
-                (int) Math.ceil((double) workshopSettlements.size() / size)
+                workshopSettlements.getTotalElements(),
+                workshopSettlements.getTotalPages()
             )
         );
     }
@@ -348,25 +334,4 @@ public class AdminSettlementServiceImpl implements AdminSettlementService {
             LocalDateTime.now()
         );
     }
-    
-    // ============ Private Helper Methods ============
-    
-    /**
-     * 상태별 금액 계산
-     */
-    private BigDecimal calculateAmountByStatus(List<Settlement> settlements, SettlementStatus status) {
-        return settlements.stream()
-            .filter(s -> s.getSettlementStatus() == status)
-            .map(Settlement::getPayoutAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-    
-    /**
-     * 상태별 건수 계산
-     */
-    private long countByStatus(List<Settlement> settlements, SettlementStatus status) {
-        return settlements.stream()
-            .filter(s -> s.getSettlementStatus() == status)
-            .count();
-    }
 }
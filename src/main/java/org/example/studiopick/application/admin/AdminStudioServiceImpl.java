@@ -3,6 +3,7 @@ package org.example.studiopick.application.admin;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.studiopick.application.admin.dto.studio.*;
+import org.example.studiopick.application.studio.StudioDetailCache;
 import org.example.studiopick.common.util.SystemSettingUtils;
 import org.example.studiopick.common.validator.PaginationValidator;
 import org.example.studiopick.domain.common.enums.StudioStatus;
@@ -12,6 +13,7 @@ import org.example.studiopick.domain.studio.Studio;
 import org.example.studiopick.domain.user.User;
 import org.example.studiopick.infrastructure.User.JpaUserRepository;
 import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
+import org.example.studiopick.infrastructure.studio.StudioGeoIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -31,6 +33,8 @@ public class AdminStudioServiceImpl implements AdminStudioService {
   private final PasswordEncoder passwordEncoder;
   private final PaginationValidator paginationValidator;
   private final SystemSettingUtils settingUtils;
+  private final StudioGeoIndex geoIndex;
+  private final StudioDetailCache detailCache;
 
   /**
    * 스튜디오 계정 목록 조회 (페이징, 필터링)
@@ -196,6 +200,8 @@ public class AdminStudioServiceImpl implements AdminStudioService {
 
       jpaStudioRepository.save(studio);
       jpaUserRepository.save(owner);
+      geoIndex.changed(studioId);
+      detailCache.invalidate(studioId);
 
       log.info("스튜디오 계정 수정 완료: studioId={}", studioId);
 
@@ -233,6 +239,8 @@ public class AdminStudioServiceImpl implements AdminStudioService {
 
       jpaStudioRepository.save(studio);
       jpaUserRepository.save(owner);
+      geoIndex.changed(studioId);
+      detailCache.invalidate(studioId);
 
       log.info("스튜디오 상태 변경 완료: studioId={}, type={}, {} -> {}, reason={}",
           studioId, studio.getOperationType(), oldStatus, newStatus, command.reason());
@@ -270,6 +278,8 @@ public class AdminStudioServiceImpl implements AdminStudioService {
 
       jpaStudioRepository.save(studio);
       jpaUserRepository.save(owner);
+      geoIndex.changed(studioId);
+      detailCache.invalidate(studioId);
 
       log.info("스튜디오 계정 삭제 완료: studioId={}, reason={}", studioId, reason);
 
@@ -147,6 +147,9 @@ public class AdminSystemSettingServiceImpl implements AdminSystemSettingService
 
     SystemSetting savedSetting = settingRepository.save(setting);
 
+    // 캐시 무효화 (기본값으로 캐시되어 있던 노드 포함)
+    settingUtils.evictSettingCache(command.settingKey());
+
     log.info("새 시스템 설정 생성 완료: {} = {}", command.settingKey(), command.settingValue());
 
     return toSystemSettingResponse(savedSetting);
@@ -9,7 +9,8 @@ import java.util.List;
 public record AdminMaliciousReporterListResponse(
         List<MaliciousReporter> reporters,
         AdminPaginationInfo pagination,
-        DetectionCriteria criteria
+        DetectionCriteria criteria,
+        String nextCursor // 다음 페이지 키셋 커서 (마지막 페이지면 null)
 ) {
     
     public record MaliciousReporter(
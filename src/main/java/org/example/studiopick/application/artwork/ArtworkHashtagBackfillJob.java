@@ -0,0 +1,61 @@
+package org.example.studiopick.application.artwork;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.domain.setting.SystemSetting;
+import org.example.studiopick.infrastructure.setting.JpaSystemSettingRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 해시태그 인덱스 초기 구성
+ * - 완료 표시(시스템 설정 artwork.hashtag.backfill.completed)가 없으면 기동 시 기존 작품의 hashtags 원문을 배치 단위로 색인
+ * - 끝까지 색인한 뒤에만 완료 표시를 남김 → 중간에 실패하면 다음 기동 때 처음부터 다시 (작품별로 지우고 다시 쓰므로 중복 없음)
+ * - 태그가 하나도 없는 환경에서도 한 번만 훑는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArtworkHashtagBackfillJob {
+
+    static final String COMPLETED_KEY = "artwork.hashtag.backfill.completed";
+
+    private final ArtworkHashtagService hashtagService;
+    private final JpaSystemSettingRepository settingRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfNeeded() {
+        try {
+            if (settingRepository.findBySettingKey(COMPLETED_KEY).isPresent()) {
+                return;
+            }
+            long batches = 0;
+            for (Long lastId = 0L; lastId != null; lastId = hashtagService.backfill(lastId)) {
+                batches++;
+            }
+            markCompleted();
+            log.info("작품 해시태그 인덱스 초기 구성 완료: {}배치", batches - 1);
+        } catch (Exception e) {
+            log.error("작품 해시태그 인덱스 초기 구성 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void markCompleted() {
+        try {
+            settingRepository.save(SystemSetting.builder()
+                    .settingKey(COMPLETED_KEY)
+                    .settingValue("true")
+                    .description("작품 해시태그 인덱스 초기 구성 완료 여부 (삭제하면 다음 기동 시 다시 구성)")
+                    .category("SYSTEM")
+                    .dataType("BOOLEAN")
+                    .isEditable(false)
+                    .defaultValue("false")
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 여러 노드가 동시에 기동한 경우 - 다른 노드가 이미 표시함
+            log.debug("작품 해시태그 인덱스 완료 표시가 이미 있습니다.");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.studiopick.application.artwork;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.common.dto.artwork.HashtagCountDto;
+import org.example.studiopick.domain.artwork.Artwork;
+import org.example.studiopick.domain.artwork.ArtworkHashtag;
+import org.example.studiopick.domain.artwork.Hashtags;
+import org.example.studiopick.infrastructure.artwork.ArtworkHashtagRepository;
+import org.example.studiopick.infrastructure.artwork.ArtworkRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 작품 해시태그 인덱스
+ * - 작품 등록/수정 트랜잭션 안에서 Artwork.hashtags 원문을 정규화해 artwork_hashtag 에 반영
+ * - 피드 태그 검색(ArtworkMapper feedFrom)과 인기 태그 집계가 이 테이블을 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArtworkHashtagService {
+
+    public static final int MAX_TRENDING_DAYS = 30;
+    public static final int MAX_TRENDING_LIMIT = 50;
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final ArtworkHashtagRepository hashtagRepository;
+    private final ArtworkRepository artworkRepository;
+
+    /**
+     * 작품 태그 전체 교체 (등록 시, 수정으로 해시태그가 바뀐 경우)
+     */
+    @Transactional
+    public void index(Artwork artwork) {
+        hashtagRepository.deleteByArtworkId(artwork.getId());
+        hashtagRepository.saveAll(toRows(artwork));
+    }
+
+    /**
+     * 작품 삭제 전 태그 제거
+     */
+    @Transactional
+    public void remove(Long artworkId) {
+        hashtagRepository.deleteByArtworkId(artworkId);
+    }
+
+    /**
+     * 최근 days 일 동안 등록된 공개 작품 기준 인기 태그
+     */
+    @Transactional(readOnly = true)
+    public List<HashtagCountDto> trending(int days, int limit) {
+        if (days < 1 || days > MAX_TRENDING_DAYS) {
+            throw new IllegalArgumentException("집계 기간은 1~" + MAX_TRENDING_DAYS + "일 사이여야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_TRENDING_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1~" + MAX_TRENDING_LIMIT + " 사이여야 합니다.");
+        }
+        return hashtagRepository.countTrending(LocalDateTime.now().minusDays(days), PageRequest.of(0, limit))
+                .stream()
+                .map(row -> new HashtagCountDto((String) row[0], ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    /**
+     * 기존 작품 태그 백필 - lastId 이후 작품 한 배치를 색인하고 마지막 작품 ID 반환 (더 없으면 null)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long backfill(Long lastId) {
+        List<Artwork> artworks = artworkRepository.findByIdGreaterThanOrderByIdAsc(
+                lastId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+        if (artworks.isEmpty()) {
+            return null;
+        }
+        List<ArtworkHashtag> rows = new ArrayList<>();
+        for (Artwork artwork : artworks) {
+            hashtagRepository.deleteByArtworkId(artwork.getId());
+            rows.addAll(toRows(artwork));
+        }
+        hashtagRepository.saveAll(rows);
+        return artworks.get(artworks.size() - 1).getId();
+    }
+
+    private List<ArtworkHashtag> toRows(Artwork artwork) {
+        LocalDateTime createdAt = artwork.getCreatedAt() != null ? artwork.getCreatedAt() : LocalDateTime.now();
+        return Hashtags.parse(artwork.getHashtags()).stream()
+                .map(tag -> new ArtworkHashtag(artwork, tag, createdAt))
+                .toList();
+    }
+}
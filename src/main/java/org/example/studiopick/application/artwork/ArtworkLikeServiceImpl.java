@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.example.studiopick.domain.artwork.Artwork;
 import org.example.studiopick.domain.artwork.ArtworkLike;
 import org.example.studiopick.domain.user.User;
+import org.example.studiopick.infrastructure.artwork.ArtworkLikeCounter;
 import org.example.studiopick.infrastructure.artwork.ArtworkLikeRepository;
 import org.example.studiopick.infrastructure.artwork.ArtworkRepository;
 import org.springframework.stereotype.Service;
@@ -15,23 +16,32 @@ public class ArtworkLikeServiceImpl implements ArtworkLikeService {
 
     private final ArtworkRepository artworkRepository;
     private final ArtworkLikeRepository artworkLikeRepository;
+    private final ArtworkLikeCounter likeCounter;
 
+    /**
+     * 좋아요 토글 - like_count 는 직접 갱신하지 않고 커밋 후 ArtworkLikeCounter 에 증감만 남긴다
+     */
     @Override
     @Transactional
     public void toggleLike(Long artworkId, User user) {
-        Artwork artwork = artworkRepository.findById(artworkId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 작품이 존재하지 않습니다."));
+        if (!artworkRepository.existsById(artworkId)) {
+            throw new IllegalArgumentException("해당 작품이 존재하지 않습니다.");
+        }
 
-        boolean alreadyLiked = artworkLikeRepository.existsByArtworkAndUser(artwork, user);
+        boolean alreadyLiked = artworkLikeRepository.existsByArtworkIdAndUserId(artworkId, user.getId());
 
         if (alreadyLiked) {
-            artworkLikeRepository.deleteByArtworkAndUser(artwork, user);
+            if (artworkLikeRepository.deleteLike(artworkId, user.getId()) > 0) {
+                likeCounter.increment(artworkId, -1);
+            }
         } else {
+            Artwork artwork = artworkRepository.getReferenceById(artworkId);
             ArtworkLike like = ArtworkLike.builder()
                     .artwork(artwork)
                     .user(user)
                     .build();
             artworkLikeRepository.save(like);
+            likeCounter.increment(artworkId, 1);
         }
     }
 }
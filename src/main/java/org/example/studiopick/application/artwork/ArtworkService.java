@@ -12,9 +12,9 @@ import java.util.List;
 public interface ArtworkService {
 
     /**
-     * 작품 피드 조회
+     * 작품 피드 조회 (cursor 가 있으면 키셋 페이지, match: any | all)
      */
-    List<ArtworkFeedDto> getArtworks(String sort, int offset, int limit, String hashtags);
+    ArtworkFeedPageDto getArtworks(String sort, String cursor, int page, int limit, String hashtags, String match);
 
     /**
      * 작품 상세 조회
@@ -22,9 +22,9 @@ public interface ArtworkService {
     ArtworkDetailResponseDto getArtworkDetail(Long artworkId, User user);
 
     /**
-     * S3 업로드 기능
+     * S3 업로드 기능 (여러 장 동시 업로드, 실패 시 전체 롤백)
      */
-    String uploadToS3(MultipartFile file);
+    List<String> uploadToS3(List<MultipartFile> files);
 
     /**
      * 작품 저장
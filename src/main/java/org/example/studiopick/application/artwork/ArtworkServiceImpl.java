@@ -2,22 +2,33 @@ package org.example.studiopick.application.artwork;
 
 import lombok.RequiredArgsConstructor;
 import org.example.studiopick.common.dto.artwork.*;
+import org.example.studiopick.common.util.ImageVariantUrls;
 import org.example.studiopick.domain.artwork.Artwork;
 import org.example.studiopick.domain.artwork.ArtworkComment;
+import org.example.studiopick.domain.artwork.Hashtags;
 import org.example.studiopick.domain.common.enums.ArtworkStatus;
 import org.example.studiopick.domain.studio.Studio;
 import org.example.studiopick.infrastructure.User.JpaUserRepository;
 import org.example.studiopick.infrastructure.artwork.ArtworkCommentRepository;
+import org.example.studiopick.infrastructure.artwork.ArtworkLikeCounter;
+import org.example.studiopick.infrastructure.artwork.PopularArtworkRanking;
 import org.example.studiopick.infrastructure.artwork.ArtworkLikeRepository;
 import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
 import org.example.studiopick.domain.user.User;
 import org.example.studiopick.infrastructure.artwork.ArtworkRepository;
 import org.example.studiopick.infrastructure.artwork.mybatis.ArtworkMapper;
+import org.example.studiopick.infrastructure.s3.ImageVariantRegistry;
 import org.example.studiopick.infrastructure.s3.S3Uploader;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -33,15 +44,109 @@ public class ArtworkServiceImpl implements ArtworkService {
     private final ArtworkRepository artworkRepository;
     private final ArtworkCommentRepository artworkCommentRepository;
     private final ArtworkLikeRepository artworkLikeRepository;
+    private final ArtworkLikeCounter likeCounter;
 
     // ✅ studio 저장소 → JpaStudioRepository로 변경 완료
     private final JpaStudioRepository studioRepository;
 
     private final JpaUserRepository userRepository;
 
+    // ✅ 인기 랭킹 스냅샷
+    private final PopularArtworkRanking popularRanking;
+
+    // ✅ 해시태그 인덱스
+    private final ArtworkHashtagService hashtagService;
+
+    // ✅ 목록용 축소 이미지 URL
+    private final ImageVariantRegistry imageVariantRegistry;
+
+    private static final int MAX_FEED_LIMIT = 50;
+
+    /**
+     * 작품 피드 조회
+     * - cursor 가 있으면 키셋으로 다음 페이지, 없으면 page 기준 (page 1 이후는 이전 방식 호환용 OFFSET)
+     * - 인기순(해시태그 없음): 인기 랭킹 스냅샷 → 소진되면 랭킹에 없는 작품을 좋아요순으로 이어서 조회
+     * - 인기순(해시태그 있음): 좋아요순 키셋, 최신순: 작품 ID 키셋
+     * - 해시태그는 정규화 후 artwork_hashtag 로 필터 (match=all 이면 모든 태그, 그 외는 하나 이상)
+     */
     @Override
-    public List<ArtworkFeedDto> getArtworks(String sort, int offset, int limit, String hashtags) {
-        return artworkMapper.findAllSorted(sort, offset, limit, hashtags);
+    public ArtworkFeedPageDto getArtworks(String sort, String cursor, int page, int limit, String hashtags, String match) {
+        if (limit < 1 || limit > MAX_FEED_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1~" + MAX_FEED_LIMIT + " 사이여야 합니다.");
+        }
+        FeedCursor after = cursor != null && !cursor.isBlank() ? FeedCursor.decode(cursor) : null;
+        int offset = after == null ? (Math.max(page, 1) - 1) * limit : 0;
+        List<String> tags = Hashtags.parse(hashtags);
+        boolean matchAll = "all".equalsIgnoreCase(match);
+        boolean filtered = !tags.isEmpty();
+
+        if (!"popular".equals(sort)) {
+            List<ArtworkFeedDto> artworks = after == null && offset > 0
+                    ? artworkMapper.findAllSorted("latest", offset, limit, tags, matchAll)
+                    : artworkMapper.findLatestAfter(after != null ? after.id() : null, limit, tags, matchAll);
+            return toPage(artworks, limit, last -> FeedCursor.latest(last.getId()));
+        }
+
+        if (filtered) {
+            List<ArtworkFeedDto> artworks = after == null && offset > 0
+                    ? artworkMapper.findAllSorted("popular", offset, limit, tags, matchAll)
+                    : artworkMapper.findPopularAfter(after != null ? after.key() : null,
+                            after != null ? after.id() : null, null, 0, limit, tags, matchAll);
+            return toPage(artworks, limit, last -> FeedCursor.likes(0L, last.getLikeCount(), last.getId()));
+        }
+        return rankedPage(after, offset, limit);
+    }
+
+    private ArtworkFeedPageDto rankedPage(FeedCursor after, int offset, int limit) {
+        PopularArtworkRanking.Snapshot snapshot = popularRanking.snapshot(after != null ? after.version() : null);
+        List<ArtworkFeedDto> artworks = new ArrayList<>(limit);
+
+        // 1) 랭킹 스냅샷 구간 (DB 조회 없음)
+        boolean inRanking = after == null ? offset < snapshot.size() : after.type() == FeedCursor.RANKED;
+        if (inRanking) {
+            int position = after == null ? offset : (int) after.key();
+            artworks.addAll(snapshot.slice(position, limit));
+            position += artworks.size();
+            if (artworks.size() == limit) {
+                String next = position < snapshot.size()
+                        ? FeedCursor.ranked(snapshot.version(), position).encode()
+                        : FeedCursor.likes(snapshot.version(), Long.MAX_VALUE, Long.MAX_VALUE).encode();
+                return feedPage(artworks, next);
+            }
+        }
+
+        // 2) 랭킹에 없는 작품을 좋아요순으로 이어서 조회
+        int remaining = limit - artworks.size();
+        List<ArtworkFeedDto> tail;
+        if (after == null && !inRanking) {
+            tail = artworkMapper.findPopularAfter(null, null, snapshot.ids(), offset - snapshot.size(), remaining, null, false);
+        } else if (after != null && after.type() == FeedCursor.LIKES) {
+            tail = artworkMapper.findPopularAfter(after.key(), after.id(), snapshot.ids(), 0, remaining, null, false);
+        } else {
+            tail = artworkMapper.findPopularAfter(null, null, snapshot.ids(), 0, remaining, null, false);
+        }
+        artworks.addAll(tail);
+
+        if (tail.size() < remaining) {
+            return feedPage(artworks, null);
+        }
+        ArtworkFeedDto last = artworks.get(artworks.size() - 1);
+        return feedPage(artworks, FeedCursor.likes(snapshot.version(), last.getLikeCount(), last.getId()).encode());
+    }
+
+    private ArtworkFeedPageDto toPage(List<ArtworkFeedDto> artworks, int limit,
+                                      Function<ArtworkFeedDto, FeedCursor> nextCursor) {
+        if (artworks.size() < limit) {
+            return feedPage(artworks, null);
+        }
+        return feedPage(artworks, nextCursor.apply(artworks.get(artworks.size() - 1)).encode());
+    }
+
+    private ArtworkFeedPageDto feedPage(List<ArtworkFeedDto> artworks, String nextCursor) {
+        ImageVariantUrls variants = imageVariantRegistry.lookup(
+                artworks.stream().map(ArtworkFeedDto::getImageUrl).toList());
+        return new ArtworkFeedPageDto(
+                artworks.stream().map(artwork -> artwork.withVariants(variants)).toList(), nextCursor);
     }
 
     @Override
@@ -59,7 +164,8 @@ public class ArtworkServiceImpl implements ArtworkService {
                         .build())
                 .toList();
 
-        int likeCount = artworkLikeRepository.countByArtwork(artwork);
+        // 좋아요 수는 like_count + 아직 반영되지 않은 증감분 (COUNT 쿼리 X)
+        int likeCount = (int) Math.max(0, artwork.getLikeCount() + likeCounter.pendingDelta(artworkId));
         boolean isLiked = artworkLikeRepository.existsByArtworkAndUser(artwork, user);
 
         return ArtworkDetailResponseDto.builder()
@@ -80,11 +186,12 @@ public class ArtworkServiceImpl implements ArtworkService {
     }
 
     @Override
-    public String uploadToS3(MultipartFile file) {
-        return s3Uploader.upload(file, "artworks");
+    public List<String> uploadToS3(List<MultipartFile> files) {
+        return s3Uploader.uploadFiles(files, "artworks");
     }
 
     @Override
+    @Transactional
     public Long saveArtwork(ArtworkUploadRequestDto dto, Long userId) {
         Studio studio = studioRepository.findById(dto.getStudioId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 스튜디오가 존재하지 않습니다."));
@@ -106,13 +213,16 @@ public class ArtworkServiceImpl implements ArtworkService {
                 .build();
 
         artworkRepository.save(artwork);
+        hashtagService.index(artwork);
         return artwork.getId();
     }
 
     @Override
+    @Transactional
     public void updateArtwork(Long artworkId, Long userId, ArtworkUploadRequestDto dto) {
         Artwork artwork = artworkRepository.findByIdAndUserId(artworkId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("작품을 수정할 권한이 없습니다."));
+        String previousHashtags = artwork.getHashtags();
 
         artwork.update(
                 dto.getTitle(),
@@ -125,13 +235,61 @@ public class ArtworkServiceImpl implements ArtworkService {
         );
 
         artworkRepository.save(artwork);
+        if (!Objects.equals(previousHashtags, artwork.getHashtags())) {
+            hashtagService.index(artwork);
+        }
     }
 
     @Override
+    @Transactional
     public void deleteArtwork(Long artworkId, Long userId) {
         Artwork artwork = artworkRepository.findByIdAndUserId(artworkId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("작품을 삭제할 권한이 없습니다."));
 
+        hashtagService.remove(artworkId);
         artworkRepository.delete(artwork);
     }
+
+    /**
+     * 피드 커서
+     * - RANKED: (랭킹 스냅샷 버전, 스냅샷 내 위치)
+     * - LIKES: (랭킹 스냅샷 버전, 마지막 좋아요 수, 마지막 작품 ID)
+     * - LATEST: 마지막 작품 ID
+     */
+    private record FeedCursor(char type, long version, long key, long id) {
+
+        static final char RANKED = 'r';
+        static final char LIKES = 'l';
+        static final char LATEST = 'i';
+
+        static FeedCursor ranked(long version, int position) {
+            return new FeedCursor(RANKED, version, position, 0L);
+        }
+
+        static FeedCursor likes(long version, long likeCount, long id) {
+            return new FeedCursor(LIKES, version, likeCount, id);
+        }
+
+        static FeedCursor latest(long id) {
+            return new FeedCursor(LATEST, 0L, 0L, id);
+        }
+
+        String encode() {
+            String raw = type + ":" + version + ":" + key + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static FeedCursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+                char type = parts[0].charAt(0);
+                if (parts.length != 4 || (type != RANKED && type != LIKES && type != LATEST)) {
+                    throw new IllegalArgumentException();
+                }
+                return new FeedCursor(type, Long.parseLong(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+    }
 }
@@ -9,10 +9,9 @@ import org.example.studiopick.application.user.service.UserService;
 import org.example.studiopick.common.exception.DuplicateResourceException;
 import org.example.studiopick.common.exception.auth.TokenException;
 import org.example.studiopick.common.enums.ErrorCode;
-import org.example.studiopick.common.util.JwtUtil;
-import org.example.studiopick.domain.common.enums.UserRole;
 import org.example.studiopick.domain.user.User;
 import org.example.studiopick.security.JwtProvider;
+import org.example.studiopick.security.VerifiedToken;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -32,7 +31,6 @@ public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtProvider jwtProvider;
     private final TokenService tokenService;
-    private final JwtUtil jwtUtil;
     private final SocialAuthService socialAuthService;
     
     /**
@@ -113,13 +111,12 @@ public class AuthServiceImpl implements AuthService {
     public String refreshAccessToken(String refreshToken) {
         log.info("토큰 재발급 요청");
         
-        // Refresh Token 유효성 검사
-        if (!jwtProvider.validateToken(refreshToken)) {
-            throw new TokenException(ErrorCode.INVALID_TOKEN, "유효하지 않은 Refresh Token입니다");
-        }
+        // Refresh Token 유효성 검사 (서명 검증 + 클레임 추출 한 번)
+        VerifiedToken verified = jwtProvider.tryVerify(refreshToken)
+            .orElseThrow(() -> new TokenException(ErrorCode.INVALID_TOKEN, "유효하지 않은 Refresh Token입니다"));
         
         // Refresh Token인지 확인
-        if (!jwtProvider.isRefreshToken(refreshToken)) {
+        if (!verified.isRefreshToken()) {
             throw new TokenException(ErrorCode.INVALID_TOKEN, "Refresh Token이 아닙니다");
         }
         
@@ -129,12 +126,11 @@ public class AuthServiceImpl implements AuthService {
         }
         
         // 토큰에서 사용자 정보 추출
-        String email = jwtProvider.getEmailFromToken(refreshToken);
-        Long userId = jwtProvider.getUserIdFromToken(refreshToken);
-        UserRole role = jwtProvider.getRoleFromToken(refreshToken);
+        String email = verified.email();
+        Long userId = verified.userId();
         
         // 새로운 Access Token 생성
-        String newAccessToken = jwtProvider.createAccessToken(email, userId, role);
+        String newAccessToken = jwtProvider.createAccessToken(email, userId, verified.role());
         
         log.info("토큰 재발급 성공: email={}, userId={}", email, userId);
         
@@ -150,15 +146,15 @@ public class AuthServiceImpl implements AuthService {
         log.info("로그아웃 요청");
         
         // Access Token 블랙리스트 처리
-        if (accessToken != null && jwtProvider.validateToken(accessToken)) {
-            long accessTokenExpiration = jwtUtil.getExpiration(accessToken);
-            tokenService.blacklistToken(accessToken, accessTokenExpiration);
+        if (accessToken != null) {
+            jwtProvider.tryVerify(accessToken).ifPresent(verified ->
+                tokenService.blacklistToken(accessToken, verified.remainingMillis()));
         }
         
         // Refresh Token 블랙리스트 처리
-        if (refreshToken != null && jwtProvider.validateToken(refreshToken)) {
-            long refreshTokenExpiration = jwtUtil.getExpiration(refreshToken);
-            tokenService.blacklistToken(refreshToken, refreshTokenExpiration);
+        if (refreshToken != null) {
+            jwtProvider.tryVerify(refreshToken).ifPresent(verified ->
+                tokenService.blacklistToken(refreshToken, verified.remainingMillis()));
         }
         
         log.info("로그아웃 완료");
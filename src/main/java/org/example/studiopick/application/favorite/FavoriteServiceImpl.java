@@ -1,10 +1,12 @@
 package org.example.studiopick.application.favorite;
 
 import lombok.RequiredArgsConstructor;
+import org.example.studiopick.application.review.service.ReviewRatingAggregator;
 import org.example.studiopick.common.favorite.FavoriteCreateDto;
 import org.example.studiopick.common.favorite.FavoriteResponseDto;
 import org.example.studiopick.domain.common.enums.FavoriteType;
 import org.example.studiopick.domain.favorite.Favorite;
+import org.example.studiopick.domain.review.RatingSummary;
 import org.example.studiopick.infrastructure.favorite.JpaFavoriteRepository;
 import org.example.studiopick.domain.studio.Studio;
 import org.example.studiopick.domain.user.User;
@@ -13,7 +15,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +27,7 @@ public class FavoriteServiceImpl implements FavoriteService {
 
     private final JpaFavoriteRepository jpaFavoriteRepository;
     private final JpaStudioRepository studioRepository;
+    private final ReviewRatingAggregator ratingAggregator;
 
     @Override
     public FavoriteResponseDto addFavorite(User user, FavoriteCreateDto dto) {
@@ -38,7 +45,7 @@ public class FavoriteServiceImpl implements FavoriteService {
                 .build();
 
         Favorite saved = jpaFavoriteRepository.save(favorite);
-        return convertToDto(saved);
+        return convertToDto(saved, loadStudios(List.of(saved)), loadRatings(List.of(saved)));
     }
 
     @Override
@@ -54,19 +61,49 @@ public class FavoriteServiceImpl implements FavoriteService {
     public Page<FavoriteResponseDto> getFavorites(User user, String type, Pageable pageable) {
         FavoriteType favoriteType = FavoriteType.from(type);
 
-        return jpaFavoriteRepository.findByUserAndTargetType(user, favoriteType, pageable)
-                .map(this::convertToDto); // 여기서 studioRepository 접근 포함
+        Page<Favorite> favorites = jpaFavoriteRepository.findByUserAndTargetType(user, favoriteType, pageable);
+
+        // 페이지 내 스튜디오 정보와 평점 집계를 한 번씩 일괄 조회
+        Map<Long, Studio> studios = loadStudios(favorites.getContent());
+        Map<Long, RatingSummary> ratings = loadRatings(favorites.getContent());
+        return favorites.map(favorite -> convertToDto(favorite, studios, ratings));
+    }
+
+    private Map<Long, Studio> loadStudios(List<Favorite> favorites) {
+        return studioRepository.findAllById(studioIds(favorites)).stream()
+                .collect(Collectors.toMap(Studio::getId, Function.identity()));
+    }
+
+    private Map<Long, RatingSummary> loadRatings(List<Favorite> favorites) {
+        return ratingAggregator.studioSummaries(studioIds(favorites));
+    }
+
+    private List<Long> studioIds(List<Favorite> favorites) {
+        return favorites.stream()
+                .filter(favorite -> favorite.getTargetType() == FavoriteType.STUDIO)
+                .map(Favorite::getTargetId)
+                .distinct()
+                .toList();
     }
 
-    private FavoriteResponseDto convertToDto(Favorite favorite) {
+    private FavoriteResponseDto convertToDto(Favorite favorite, Map<Long, Studio> studios,
+                                             Map<Long, RatingSummary> ratings) {
         String targetName = null;
         String targetLocation = null;
+        Double averageRating = null;
+        Long reviewCount = null;
 
         if (favorite.getTargetType() == FavoriteType.STUDIO) {
-            Studio studio = studioRepository.findById(favorite.getTargetId())
-                    .orElseThrow(() -> new RuntimeException("스튜디오 없음"));
+            Studio studio = studios.get(favorite.getTargetId());
+            if (studio == null) {
+                throw new RuntimeException("스튜디오 없음");
+            }
             targetName = studio.getName();
             targetLocation = studio.getLocation(); // address로 바꿔도 됨
+
+            RatingSummary rating = ratings.getOrDefault(studio.getId(), RatingSummary.EMPTY);
+            averageRating = rating.getRatingAverage();
+            reviewCount = rating.getReviewCount();
         }
 
         return FavoriteResponseDto.builder()
@@ -75,6 +112,8 @@ public class FavoriteServiceImpl implements FavoriteService {
                 .targetId(favorite.getTargetId())
                 .targetName(targetName)
                 .targetLocation(targetLocation)
+                .averageRating(averageRating)
+                .reviewCount(reviewCount)
                 .createdAt(favorite.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,90 @@
+package org.example.studiopick.application.metrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.domain.common.enums.DailyMetricType;
+import org.example.studiopick.domain.common.enums.PaymentStatus;
+import org.example.studiopick.infrastructure.User.JpaUserRepository;
+import org.example.studiopick.infrastructure.metrics.JpaDailyMetricRepository;
+import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
+import org.example.studiopick.infrastructure.report.ReportRepository;
+import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일별 지표 재계산
+ * - 지정 기간을 원본 테이블에서 지표별 GROUP BY 1회씩 집계한 뒤 날짜 × 지표 전체를 upsert
+ * - 값이 0이 된 날도 덮어쓰므로 같은 기간을 여러 번 재계산해도 결과가 같다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyMetricAggregator {
+
+  private record Value(long count, BigDecimal amount) {
+    static final Value ZERO = new Value(0L, BigDecimal.ZERO);
+  }
+
+  private final JpaDailyMetricRepository dailyMetricRepository;
+  private final JpaUserRepository userRepository;
+  private final JpaReservationRepository reservationRepository;
+  private final JpaPaymentRepository paymentRepository;
+  private final ReportRepository reportRepository;
+
+  /**
+   * [from, to] 기간 재계산 (호출 측 트랜잭션과 분리)
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void recompute(LocalDate from, LocalDate to) {
+    LocalDateTime start = from.atStartOfDay();
+    LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+    Map<LocalDate, Map<DailyMetricType, Value>> values = new HashMap<>();
+    collect(values, DailyMetricType.USER_SIGNUP, userRepository.countDailySignups(start, end));
+    collect(values, DailyMetricType.RESERVATION_CREATED, reservationRepository.countDailyCreated(start, end));
+    collect(values, DailyMetricType.PAYMENT_PAID, paymentRepository.sumDailyByStatus(start, end, PaymentStatus.PAID));
+    collect(values, DailyMetricType.PAYMENT_REFUNDED, paymentRepository.sumDailyByStatus(start, end, PaymentStatus.REFUNDED));
+    collect(values, DailyMetricType.REPORT_CREATED, reportRepository.countDailyCreated(start, end));
+    collect(values, DailyMetricType.REPORT_PROCESSED, reportRepository.countDailyProcessed(start, end));
+
+    for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+      Map<DailyMetricType, Value> day = values.getOrDefault(date, Map.of());
+      for (DailyMetricType type : DailyMetricType.values()) {
+        Value value = day.getOrDefault(type, Value.ZERO);
+        dailyMetricRepository.upsert(date, type.name(), value.count(), value.amount());
+      }
+    }
+    log.debug("일별 지표 재계산 완료: {} ~ {}", from, to);
+  }
+
+  private static void collect(Map<LocalDate, Map<DailyMetricType, Value>> values,
+                              DailyMetricType type, List<Object[]> rows) {
+    for (Object[] row : rows) {
+      long count = ((Number) row[1]).longValue();
+      BigDecimal amount = row.length > 2 && row[2] != null ? (BigDecimal) row[2] : BigDecimal.ZERO;
+      values.computeIfAbsent(toLocalDate(row[0]), date -> new EnumMap<>(DailyMetricType.class))
+          .put(type, new Value(count, amount));
+    }
+  }
+
+  private static LocalDate toLocalDate(Object value) {
+    if (value instanceof LocalDate date) {
+      return date;
+    }
+    if (value instanceof Date date) {
+      return date.toLocalDate();
+    }
+    return ((LocalDateTime) value).toLocalDate();
+  }
+}
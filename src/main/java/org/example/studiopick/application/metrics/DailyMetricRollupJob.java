@@ -0,0 +1,104 @@
+package org.example.studiopick.application.metrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.infrastructure.metrics.DailyMetricChangeTracker;
+import org.example.studiopick.infrastructure.metrics.JpaDailyMetricRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 지표 롤업 작업
+ * - 1분마다 변경 표시된 날짜만 재계산 (연속된 날짜는 한 구간으로 묶음)
+ * - 매일 새벽 최근 기간 전체 재계산 (노드 재시작 등으로 유실된 표시 보정)
+ * - 집계 테이블이 비어 있으면 기동 시 과거 기간 백필
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyMetricRollupJob {
+
+  private static final int BACKFILL_CHUNK_DAYS = 31;
+  private static final int RECENT_DAYS = 7;
+
+  private final DailyMetricAggregator aggregator;
+  private final DailyMetricChangeTracker changeTracker;
+  private final JpaDailyMetricRepository dailyMetricRepository;
+
+  @Value("${metrics.daily.initial-backfill-days:365}")
+  private int initialBackfillDays;
+
+  @Scheduled(initialDelay = 60_000, fixedDelay = 60_000)
+  public void rollupChanges() {
+    List<LocalDate> dates = changeTracker.drain();
+    if (dates.isEmpty()) {
+      return;
+    }
+
+    LocalDate runStart = dates.get(0);
+    LocalDate runEnd = runStart;
+    for (LocalDate date : dates.subList(1, dates.size())) {
+      if (date.equals(runEnd.plusDays(1))) {
+        runEnd = date;
+        continue;
+      }
+      recompute(runStart, runEnd);
+      runStart = date;
+      runEnd = date;
+    }
+    recompute(runStart, runEnd);
+  }
+
+  @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+  public void rollupRecent() {
+    LocalDate today = LocalDate.now();
+    try {
+      backfill(today.minusDays(RECENT_DAYS), today);
+    } catch (Exception e) {
+      log.error("최근 일별 지표 재계산 실패: error={}", e.getMessage());
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillIfEmpty() {
+    try {
+      if (dailyMetricRepository.count() > 0) {
+        return;
+      }
+      LocalDate today = LocalDate.now();
+      log.info("일별 지표 테이블이 비어 있어 최근 {}일 백필을 시작합니다.", initialBackfillDays);
+      backfill(today.minusDays(initialBackfillDays), today);
+    } catch (Exception e) {
+      log.error("일별 지표 초기 백필 실패: error={}", e.getMessage());
+    }
+  }
+
+  /**
+   * [from, to] 기간 재계산 (31일 단위로 나눠 실행)
+   */
+  public void backfill(LocalDate from, LocalDate to) {
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+    }
+    for (LocalDate chunkStart = from; !chunkStart.isAfter(to); chunkStart = chunkStart.plusDays(BACKFILL_CHUNK_DAYS)) {
+      LocalDate chunkEnd = chunkStart.plusDays(BACKFILL_CHUNK_DAYS - 1);
+      aggregator.recompute(chunkStart, chunkEnd.isAfter(to) ? to : chunkEnd);
+    }
+    log.info("일별 지표 백필 완료: {} ~ {}", from, to);
+  }
+
+  private void recompute(LocalDate from, LocalDate to) {
+    try {
+      aggregator.recompute(from, to);
+    } catch (Exception e) {
+      log.error("일별 지표 재계산 실패 - 다음 주기에 다시 시도합니다: {} ~ {}, error={}", from, to, e.getMessage());
+      changeTracker.retry(from, to);
+    }
+  }
+}
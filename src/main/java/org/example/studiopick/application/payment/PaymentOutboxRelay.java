@@ -0,0 +1,99 @@
+package org.example.studiopick.application.payment;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.common.util.TransactionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 결제 아웃박스 중계
+ * - 결제 승인 트랜잭션이 커밋되면 바로 깨어나 처리하고, 놓친 이벤트/재시도 대상은 2초마다 폴링
+ * - 한 노드 안에서는 한 번에 하나의 중계만 실행 (노드 간 중복은 행 잠금으로 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxRelay {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final PaymentOutboxRelayService relayService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "payment-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean wakeUpQueued = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * 현재 트랜잭션 커밋 후 즉시 중계 (요청 스레드는 기다리지 않음)
+     */
+    public void wakeUp() {
+        TransactionUtils.afterCommit(() -> {
+            if (!wakeUpQueued.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    wakeUpQueued.set(false);
+                    relay();
+                });
+            } catch (RejectedExecutionException e) {
+                wakeUpQueued.set(false);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = 2_000)
+    public void poll() {
+        relay();
+    }
+
+    private void relay() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Long> ids;
+            int handled;
+            do {
+                ids = relayService.findDueIds(BATCH_SIZE);
+                handled = 0;
+                for (Long id : ids) {
+                    if (relayOne(id)) {
+                        handled++;
+                    }
+                }
+                // 전부 다른 노드가 잡고 있던 배치면 같은 ID 를 다시 읽지 않도록 다음 폴링으로 넘김
+            } while (ids.size() == BATCH_SIZE && handled > 0);
+        } catch (Exception e) {
+            log.error("결제 아웃박스 중계 실패: error={}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean relayOne(Long id) {
+        try {
+            return relayService.process(id);
+        } catch (Exception e) {
+            relayService.markFailed(id, e.getMessage());
+            return true;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
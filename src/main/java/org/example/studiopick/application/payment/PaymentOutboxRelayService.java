@@ -0,0 +1,92 @@
+package org.example.studiopick.application.payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.application.reservation.ReservationService;
+import org.example.studiopick.domain.common.enums.ReservationStatus;
+import org.example.studiopick.domain.payment.Payment;
+import org.example.studiopick.domain.payment.PaymentOutboxEvent;
+import org.example.studiopick.domain.reservation.Reservation;
+import org.example.studiopick.infrastructure.payment.JpaPaymentOutboxRepository;
+import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
+import org.example.studiopick.infrastructure.payment.JpaSettlementRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 아웃박스 이벤트 처리 (이벤트 1건 = 트랜잭션 1개)
+ * - 행을 FOR UPDATE SKIP LOCKED 로 잠그고 처리하므로 여러 노드가 동시에 중계해도 같은 이벤트를 중복 처리하지 않음
+ * - 후속 처리는 멱등: 이미 확정된 예약, 이미 생성된 정산은 건너뜀
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentOutboxRelayService {
+
+    static final int MAX_ATTEMPTS = 10;
+
+    private final JpaPaymentOutboxRepository outboxRepository;
+    private final JpaPaymentRepository paymentRepository;
+    private final JpaSettlementRepository settlementRepository;
+    private final ReservationService reservationService;
+    private final SettlementService settlementService;
+
+    @Transactional(readOnly = true)
+    public List<Long> findDueIds(int limit) {
+        return outboxRepository.findDueIds(LocalDateTime.now(), limit);
+    }
+
+    /**
+     * 이벤트 처리 - 다른 노드가 처리 중이거나 이미 끝난 이벤트면 false
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean process(Long eventId) {
+        PaymentOutboxEvent event = outboxRepository.lockPending(eventId).orElse(null);
+        if (event == null) {
+            return false;
+        }
+        switch (event.getEventType()) {
+            case PAYMENT_CONFIRMED -> handlePaymentConfirmed(event.getPaymentId());
+        }
+        event.markDone();
+        return true;
+    }
+
+    /**
+     * 처리 실패 기록 (process 트랜잭션은 롤백되므로 별도 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(Long eventId, String error) {
+        outboxRepository.lockPending(eventId).ifPresent(event -> {
+            event.recordFailure(error, MAX_ATTEMPTS);
+            if (event.isFailed()) {
+                log.error("결제 후속 처리 최종 실패 - 수동 확인 필요: eventId={}, type={}, paymentId={}, error={}",
+                    event.getId(), event.getEventType(), event.getPaymentId(), error);
+            } else {
+                log.warn("결제 후속 처리 실패 - 재시도 예정: eventId={}, attempts={}, nextAttemptAt={}, error={}",
+                    event.getId(), event.getAttempts(), event.getNextAttemptAt(), error);
+            }
+        });
+    }
+
+    private void handlePaymentConfirmed(Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId)
+            .orElseThrow(() -> new IllegalStateException("결제 정보를 찾을 수 없습니다: paymentId=" + paymentId));
+        Reservation reservation = payment.getReservation();
+
+        if (reservation.getStatus() == ReservationStatus.PENDING) {
+            reservationService.confirmReservationPayment(reservation.getId());
+        } else if (reservation.getStatus() != ReservationStatus.CONFIRMED) {
+            throw new IllegalStateException("결제를 확정할 수 없는 예약 상태입니다: " + reservation.getStatus());
+        }
+
+        if (settlementRepository.findByPaymentId(paymentId).isEmpty()) {
+            settlementService.createSettlement(payment);
+        }
+        log.info("결제 후속 처리 완료: paymentId={}, reservationId={}", paymentId, reservation.getId());
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.studiopick.application.payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.application.payment.dto.TossPaymentResponse;
+import org.example.studiopick.domain.common.enums.PaymentStatus;
+import org.example.studiopick.domain.payment.Payment;
+import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
+import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 결제 대사 작업 (10분마다)
+ * - 일정 시간 넘게 대기 중인 결제를 결제사 상태와 비교해 완료/만료/취소 반영 (웹훅 유실 보정)
+ * - 결제사 호출은 초당 calls-per-second 회, 실행당 max-calls-per-run 회로 제한 (남은 건은 다음 실행)
+ *   실행 중 스케줄러 스레드 하나를 오래 점유하므로 spring.task.scheduling.pool.size 를 2 이상으로 유지
+ * - 진행 중인 결제가 없는 대기 예약은 결제사 호출 없이 취소해 슬롯 해제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentReconciliationJob {
+
+    private static final int BATCH_SIZE = 100;
+    private static final List<PaymentStatus> PENDING_PAYMENT_STATUSES =
+        List.of(PaymentStatus.READY, PaymentStatus.IN_PROGRESS, PaymentStatus.WAITING_FOR_DEPOSIT);
+    private static final List<PaymentStatus> LIVE_PAYMENT_STATUSES =
+        List.of(PaymentStatus.READY, PaymentStatus.IN_PROGRESS, PaymentStatus.WAITING_FOR_DEPOSIT,
+            PaymentStatus.DONE, PaymentStatus.PAID);
+
+    private final JpaPaymentRepository paymentRepository;
+    private final JpaReservationRepository reservationRepository;
+    private final TossPaymentsService tossPaymentsService;
+    private final PaymentStateSyncService stateSyncService;
+
+    @Value("${payments.reconcile.stale-minutes:30}")
+    private long staleMinutes;
+
+    @Value("${payments.reconcile.calls-per-second:5}")
+    private int callsPerSecond;
+
+    @Value("${payments.reconcile.max-calls-per-run:300}")
+    private int maxCallsPerRun;
+
+    @Scheduled(initialDelay = 120_000, fixedDelay = 600_000)
+    public void reconcile() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusMinutes(staleMinutes);
+            int payments = reconcilePendingPayments(cutoff);
+            int reservations = cancelAbandonedReservations(cutoff);
+            log.info("결제 대사 완료: 결제 확인 {}건, 방치 예약 취소 {}건", payments, reservations);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("결제 대사 실패: error={}", e.getMessage());
+        }
+    }
+
+    private int reconcilePendingPayments(LocalDateTime cutoff) throws InterruptedException {
+        long intervalMillis = 1000L / Math.max(1, callsPerSecond);
+        long lastId = 0L;
+        int calls = 0;
+        while (calls < maxCallsPerRun) {
+            List<Payment> page = paymentRepository.findStale(
+                PENDING_PAYMENT_STATUSES, cutoff, lastId, PageRequest.of(0, BATCH_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (Payment payment : page) {
+                if (calls >= maxCallsPerRun) {
+                    break;
+                }
+                lastId = payment.getId();
+                if (calls > 0) {
+                    Thread.sleep(intervalMillis);
+                }
+                calls++;
+                reconcileOne(payment.getOrderId());
+            }
+        }
+        return calls;
+    }
+
+    private void reconcileOne(String orderId) {
+        try {
+            Optional<TossPaymentResponse> gateway = tossPaymentsService.findPaymentByOrderId(orderId);
+            if (gateway.isPresent()) {
+                stateSyncService.apply(orderId, gateway.get());
+            } else {
+                stateSyncService.expireUnstarted(orderId);
+            }
+        } catch (Exception e) {
+            log.warn("결제 대사 실패 - 다음 실행에서 재시도: orderId={}, error={}", orderId, e.getMessage());
+        }
+    }
+
+    private int cancelAbandonedReservations(LocalDateTime cutoff) {
+        long lastId = 0L;
+        int cancelled = 0;
+        while (true) {
+            List<Long> ids = reservationRepository.findAbandonedPendingIds(
+                cutoff, lastId, LIVE_PAYMENT_STATUSES, PageRequest.of(0, BATCH_SIZE));
+            if (ids.isEmpty()) {
+                return cancelled;
+            }
+            for (Long id : ids) {
+                lastId = id;
+                try {
+                    stateSyncService.cancelAbandonedReservation(id);
+                    cancelled++;
+                } catch (Exception e) {
+                    log.warn("방치 예약 취소 실패: reservationId={}, error={}", id, e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -5,13 +5,15 @@ package org.example.studiopick.application.payment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.studiopick.application.payment.dto.*;
-import org.example.studiopick.application.reservation.ReservationService;
 import org.example.studiopick.domain.common.enums.PaymentMethod;
+import org.example.studiopick.domain.common.enums.PaymentOutboxEventType;
 import org.example.studiopick.domain.common.enums.PaymentStatus;
+import org.example.studiopick.domain.common.enums.ReservationStatus;
 import org.example.studiopick.domain.payment.Payment;
+import org.example.studiopick.domain.payment.PaymentOutboxEvent;
 import org.example.studiopick.domain.reservation.Reservation;
+import org.example.studiopick.infrastructure.payment.JpaPaymentOutboxRepository;
 import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
-import org.example.studiopick.infrastructure.payment.JpaSettlementRepository;
 import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -37,8 +39,8 @@ public class PaymentServiceImpl implements PaymentService {
     private final JpaPaymentRepository paymentRepository;
     private final JpaReservationRepository reservationRepository;
     private final JpaUserRepository userRepository;
-    private final ReservationService reservationService;
-    private  final SettlementService settlementService;
+    private final JpaPaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentOutboxRelay paymentOutboxRelay;
 
     @Value("${toss.payments.test-client-key}")
     private String clientKey;
@@ -99,7 +101,9 @@ public class PaymentServiceImpl implements PaymentService {
 
 
     /**
-     * ✅ 수정된 결제 승인 메서드
+     * 결제 승인
+     * - 요청 스레드에서는 토스 승인 호출 1회 + 결제 상태/아웃박스 이벤트 저장 커밋 1회만 수행
+     * - 예약 확정, 정산 생성은 커밋 후 PaymentOutboxRelay 가 비동기로 처리 (실패 시 재시도)
      */
     @Override
     @Transactional
@@ -116,15 +120,15 @@ public class PaymentServiceImpl implements PaymentService {
             throw new IllegalArgumentException("OrderId는 필수입니다.");
         }
 
-        // ✅ 2. 우리 DB에서 결제 정보 먼저 조회
-        Payment payment = paymentRepository.findByOrderId(command.orderId())
+        // ✅ 2. 우리 DB에서 결제 정보 먼저 조회 (웹훅/대사 작업과 동시에 상태를 바꾸지 않도록 행 잠금)
+        Payment payment = paymentRepository.findByOrderIdForUpdate(command.orderId())
             .orElseThrow(() -> {
                 log.error("결제 정보를 찾을 수 없습니다: orderId={}", command.orderId());
                 return new IllegalArgumentException("결제 정보를 찾을 수 없습니다: " + command.orderId());
             });
 
         // ✅ 3. 결제 상태 확인
-        if (payment.getStatus() == PaymentStatus.DONE) {
+        if (payment.getStatus() == PaymentStatus.DONE || payment.isPaid()) {
             log.warn("이미 완료된 결제입니다: orderId={}", command.orderId());
             return new PaymentConfirmResponse(
                 payment.getPaymentKey(),
@@ -137,6 +141,17 @@ public class PaymentServiceImpl implements PaymentService {
             );
         }
 
+        // ✅ 3-1. 대기 중인 결제만 승인 - 만료/중단/취소된 결제는 예약이 이미 취소되어 슬롯이 풀렸으므로 결제사 호출 전에 거절
+        if (payment.getStatus() != PaymentStatus.READY && payment.getStatus() != PaymentStatus.IN_PROGRESS) {
+            log.warn("승인할 수 없는 결제 상태입니다: orderId={}, status={}", command.orderId(), payment.getStatus());
+            throw new IllegalStateException("승인할 수 없는 결제 상태입니다: " + payment.getStatus());
+        }
+        if (payment.getReservation().getStatus() != ReservationStatus.PENDING) {
+            log.warn("결제를 승인할 수 없는 예약 상태입니다: orderId={}, reservationStatus={}",
+                command.orderId(), payment.getReservation().getStatus());
+            throw new IllegalStateException("결제를 승인할 수 없는 예약 상태입니다: " + payment.getReservation().getStatus());
+        }
+
         // ✅ 4. 금액 검증
         BigDecimal requestAmount = command.amount();
         BigDecimal dbAmount = payment.getAmount();
@@ -188,15 +203,17 @@ public class PaymentServiceImpl implements PaymentService {
                     tossResponse.failure().code(), tossResponse.failure().message());
             }
 
-            paymentRepository.saveAndFlush(payment);
-            log.info("결제 정보 업데이트 완료: paymentKey={}", command.paymentKey());
+            paymentRepository.save(payment);
 
-            // ✅ 9. 예약 상태 업데이트 (CONFIRMED로)
-            reservationService.confirmReservationPayment(payment.getReservation().getId());
-            log.info("예약 상태 업데이트 완료: reservationId={}", payment.getReservation().getId());
+            // ✅ 9. 후속 처리(예약 확정, 정산 생성)는 같은 트랜잭션에 아웃박스 이벤트로 기록
+            if (!paymentOutboxRepository.existsByEventTypeAndPaymentId(
+                    PaymentOutboxEventType.PAYMENT_CONFIRMED, payment.getId())) {
+                paymentOutboxRepository.save(PaymentOutboxEvent.paymentConfirmed(payment.getId()));
+            }
+            paymentOutboxRelay.wakeUp();
+            log.info("결제 정보 업데이트 완료: paymentKey={}", command.paymentKey());
 
             LocalDateTime paidAt = tossResponse.approvedAt().toLocalDateTime();
-            settlementService.createSettlement(payment);
             return new PaymentConfirmResponse(
                 command.paymentKey(),
                 command.orderId(),
@@ -0,0 +1,175 @@
+package org.example.studiopick.application.payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.application.payment.dto.TossPaymentResponse;
+import org.example.studiopick.domain.common.enums.PaymentMethod;
+import org.example.studiopick.domain.common.enums.PaymentOutboxEventType;
+import org.example.studiopick.domain.common.enums.PaymentStatus;
+import org.example.studiopick.domain.common.enums.ReservationStatus;
+import org.example.studiopick.domain.common.enums.SettlementStatus;
+import org.example.studiopick.domain.payment.Payment;
+import org.example.studiopick.domain.payment.PaymentOutboxEvent;
+import org.example.studiopick.domain.reservation.Reservation;
+import org.example.studiopick.domain.reservation.ReservationSlotIndex;
+import org.example.studiopick.infrastructure.payment.JpaPaymentOutboxRepository;
+import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
+import org.example.studiopick.infrastructure.payment.JpaSettlementRepository;
+import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * 결제사 결제 상태 → 로컬 Payment/Reservation 반영 (웹훅 처리, 대사 작업 공용)
+ * - 결제 행을 잠그고 현재 상태에서 허용되는 전이만 적용하므로 같은 상태를 여러 번 반영해도 결과가 같음
+ * - 결제 완료 반영 시 예약 확정/정산 생성은 결제 승인과 같은 아웃박스 이벤트로 위임
+ * - 만료/중단/취소 반영 시 대기 중인 예약을 취소해 슬롯을 바로 풀어 줌
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentStateSyncService {
+
+    private static final Set<PaymentStatus> UNPAID =
+        Set.of(PaymentStatus.READY, PaymentStatus.IN_PROGRESS, PaymentStatus.WAITING_FOR_DEPOSIT);
+
+    private final JpaPaymentRepository paymentRepository;
+    private final JpaReservationRepository reservationRepository;
+    private final JpaSettlementRepository settlementRepository;
+    private final JpaPaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentOutboxRelay paymentOutboxRelay;
+    private final ReservationSlotIndex slotIndex;
+
+    /**
+     * 결제사 조회 결과 반영
+     */
+    @Transactional
+    public void apply(String orderId, TossPaymentResponse gateway) {
+        if (!orderId.equals(gateway.orderId())) {
+            throw new IllegalStateException("결제사 응답의 주문 ID가 일치하지 않습니다: " + orderId + " / " + gateway.orderId());
+        }
+        Payment payment = paymentRepository.findByOrderIdForUpdate(orderId).orElse(null);
+        if (payment == null) {
+            log.warn("알 수 없는 주문의 결제 상태 - 무시: orderId={}, status={}", orderId, gateway.status());
+            return;
+        }
+
+        String status = gateway.status() != null ? gateway.status() : "";
+        switch (status) {
+            case "DONE" -> applyDone(payment, gateway);
+            case "CANCELED" -> applyCanceled(payment);
+            case "PARTIAL_CANCELED" -> {
+                if (payment.isCancellable()) {
+                    payment.partialCancel(null);
+                    log.info("결제 부분 취소 반영: orderId={}", orderId);
+                }
+            }
+            case "WAITING_FOR_DEPOSIT" -> {
+                if (payment.getStatus() == PaymentStatus.READY || payment.getStatus() == PaymentStatus.IN_PROGRESS) {
+                    payment.changeStatus(PaymentStatus.WAITING_FOR_DEPOSIT);
+                }
+            }
+            case "ABORTED" -> expire(payment, PaymentStatus.ABORTED, "결제 중단");
+            case "EXPIRED" -> expire(payment, PaymentStatus.EXPIRED, "결제 시간 만료");
+            default -> log.debug("반영할 상태 변경 없음: orderId={}, status={}", orderId, status);
+        }
+    }
+
+    /**
+     * 결제사에 결제 기록이 없는 주문 만료 (결제창을 열지 않고 이탈한 경우)
+     */
+    @Transactional
+    public void expireUnstarted(String orderId) {
+        paymentRepository.findByOrderIdForUpdate(orderId)
+            .ifPresent(payment -> expire(payment, PaymentStatus.EXPIRED, "결제 미진행으로 만료"));
+    }
+
+    /**
+     * 결제 없이 방치된 대기 예약 취소
+     */
+    @Transactional
+    public void cancelAbandonedReservation(Long reservationId) {
+        reservationRepository.findById(reservationId)
+            .filter(reservation -> reservation.getStatus() == ReservationStatus.PENDING)
+            .ifPresent(reservation -> release(reservation, "결제 미완료로 자동 취소"));
+    }
+
+    private void applyDone(Payment payment, TossPaymentResponse gateway) {
+        if (payment.getStatus() == PaymentStatus.DONE || payment.isPaid()) {
+            return;
+        }
+        if (!UNPAID.contains(payment.getStatus())) {
+            log.error("결제사는 결제 완료, 로컬 결제는 {} - 수동 확인 필요: orderId={}",
+                payment.getStatus(), payment.getOrderId());
+            return;
+        }
+        if (gateway.totalAmount() == null
+            || payment.getAmount().compareTo(BigDecimal.valueOf(gateway.totalAmount())) != 0) {
+            payment.updateFailureInfo("AMOUNT_MISMATCH",
+                String.format("결제사 금액 %s, 주문 금액 %s", gateway.totalAmount(), payment.getAmount()));
+            log.error("결제 금액 불일치 - 수동 확인 필요: orderId={}, gateway={}, local={}",
+                payment.getOrderId(), gateway.totalAmount(), payment.getAmount());
+            return;
+        }
+
+        payment.updatePaymentKey(gateway.paymentKey());
+        if (gateway.method() != null) {
+            try {
+                payment.updateMethod(PaymentMethod.valueOf(gateway.method().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                log.warn("알 수 없는 결제 방법: {}", gateway.method());
+            }
+        }
+        if (gateway.transactionKey() != null) {
+            payment.updateTransactionKey(gateway.transactionKey());
+        }
+        payment.markAsPaid();
+
+        if (!paymentOutboxRepository.existsByEventTypeAndPaymentId(
+                PaymentOutboxEventType.PAYMENT_CONFIRMED, payment.getId())) {
+            paymentOutboxRepository.save(PaymentOutboxEvent.paymentConfirmed(payment.getId()));
+        }
+        paymentOutboxRelay.wakeUp();
+        log.info("결제 완료 반영: orderId={}, paymentKey={}", payment.getOrderId(), gateway.paymentKey());
+    }
+
+    private void applyCanceled(Payment payment) {
+        if (!payment.isCancellable()) {
+            return;
+        }
+        payment.cancel();
+        settlementRepository.findByPaymentId(payment.getId())
+            .ifPresent(settlement -> settlement.changeStatus(SettlementStatus.CANCELLED));
+
+        Reservation reservation = payment.getReservation();
+        if (reservation.getStatus() == ReservationStatus.PENDING
+            || reservation.getStatus() == ReservationStatus.CONFIRMED) {
+            release(reservation, "결제사에서 결제 취소");
+        }
+        log.info("결제 취소 반영: orderId={}", payment.getOrderId());
+    }
+
+    private void expire(Payment payment, PaymentStatus status, String reason) {
+        if (!UNPAID.contains(payment.getStatus())) {
+            return;
+        }
+        payment.changeStatus(status);
+        payment.updateFailureInfo(status.name(), reason);
+
+        Reservation reservation = payment.getReservation();
+        if (reservation.getStatus() == ReservationStatus.PENDING) {
+            release(reservation, reason);
+        }
+        log.info("미완료 결제 정리: orderId={}, status={}", payment.getOrderId(), status);
+    }
+
+    private void release(Reservation reservation, String reason) {
+        reservation.updateCancelInfo(reason);
+        reservation.changeStatus(ReservationStatus.CANCELLED);
+        slotIndex.changed(reservation);
+        log.info("예약 취소 및 슬롯 해제: reservationId={}, reason={}", reservation.getId(), reason);
+    }
+}
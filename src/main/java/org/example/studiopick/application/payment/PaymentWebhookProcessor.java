@@ -0,0 +1,65 @@
+package org.example.studiopick.application.payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.application.payment.dto.TossPaymentResponse;
+import org.example.studiopick.domain.payment.PaymentWebhookEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 적재된 결제 웹훅 처리 (3초마다)
+ * - 결제사 API 로 주문 상태를 다시 조회해 PaymentStateSyncService 로 반영
+ * - 반영은 멱등이므로 여러 노드가 같은 웹훅을 동시에 처리해도 결과가 같음
+ * - 결제사 호출은 초당 calls-per-second 회로 제한 (승인 경로와 같은 서킷 브레이커/호출 한도를 공유)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentWebhookProcessor {
+
+    private static final int BATCH_SIZE = 50;
+
+    private final PaymentWebhookService webhookService;
+    private final TossPaymentsService tossPaymentsService;
+    private final PaymentStateSyncService stateSyncService;
+
+    @Value("${payments.webhook.calls-per-second:5}")
+    private int callsPerSecond;
+
+    @Scheduled(initialDelay = 10_000, fixedDelay = 3_000)
+    public void processDue() {
+        long intervalMillis = 1000L / Math.max(1, callsPerSecond);
+        try {
+            List<PaymentWebhookEvent> events = webhookService.findDue(BATCH_SIZE);
+            for (int i = 0; i < events.size(); i++) {
+                if (i > 0) {
+                    Thread.sleep(intervalMillis);
+                }
+                process(events.get(i));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("결제 웹훅 처리 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void process(PaymentWebhookEvent event) {
+        try {
+            Optional<TossPaymentResponse> gateway = tossPaymentsService.findPaymentByOrderId(event.getOrderId());
+            if (gateway.isPresent()) {
+                stateSyncService.apply(event.getOrderId(), gateway.get());
+            } else {
+                log.warn("결제사에 없는 주문의 웹훅 - 무시: eventId={}, orderId={}", event.getId(), event.getOrderId());
+            }
+            webhookService.markProcessed(event.getId());
+        } catch (Exception e) {
+            webhookService.markFailed(event.getId(), e.getMessage());
+        }
+    }
+}
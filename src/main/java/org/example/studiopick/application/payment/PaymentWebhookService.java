@@ -0,0 +1,117 @@
+package org.example.studiopick.application.payment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.domain.common.enums.PaymentWebhookStatus;
+import org.example.studiopick.domain.payment.PaymentWebhookEvent;
+import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
+import org.example.studiopick.infrastructure.payment.JpaPaymentWebhookEventRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 결제사 웹훅 수신/처리 상태 관리
+ * - 수신: 본문 해시로 중복을 걸러 적재만 하고 바로 반환 (결제사는 응답이 늦으면 재전송)
+ * - 인증 없는 엔드포인트이므로 우리 DB 에 없는 주문은 적재하지 않고, 주문당 처리 대기 웹훅은 하나만 적재
+ *   (처리할 때마다 결제사 API 를 호출하므로 임의 요청으로 호출 한도를 소진하지 않도록)
+ * - 검증: 웹훅 본문은 서명이 없으므로 상태를 그대로 믿지 않고, 처리 시 결제사 API 재조회 결과만 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentWebhookService {
+
+    static final int MAX_ATTEMPTS = 5;
+
+    private final JpaPaymentWebhookEventRepository webhookEventRepository;
+    private final JpaPaymentRepository paymentRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 웹훅 적재 (이미 받은 웹훅이면 무시)
+     */
+    public void receive(String payload) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("웹훅 본문을 해석할 수 없습니다.");
+        }
+        String eventType = text(root, "eventType");
+        String orderId = text(root.has("data") ? root.get("data") : root, "orderId");
+        if (orderId == null) {
+            log.warn("주문 ID가 없는 웹훅 - 무시: eventType={}", eventType);
+            return;
+        }
+
+        if (!paymentRepository.existsByOrderId(orderId)) {
+            log.warn("알 수 없는 주문의 웹훅 - 무시: orderId={}, eventType={}", orderId, eventType);
+            return;
+        }
+
+        String dedupKey = sha256(payload);
+        if (webhookEventRepository.existsByDedupKey(dedupKey)) {
+            log.debug("중복 웹훅 수신: orderId={}, eventType={}", orderId, eventType);
+            return;
+        }
+        if (webhookEventRepository.existsByOrderIdAndStatus(orderId, PaymentWebhookStatus.RECEIVED)) {
+            log.debug("처리 대기 중인 웹훅이 있는 주문 - 합침: orderId={}, eventType={}", orderId, eventType);
+            return;
+        }
+        try {
+            webhookEventRepository.save(new PaymentWebhookEvent(dedupKey, eventType, orderId, payload));
+            log.info("결제 웹훅 수신: orderId={}, eventType={}", orderId, eventType);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("중복 웹훅 동시 수신: orderId={}, eventType={}", orderId, eventType);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<PaymentWebhookEvent> findDue(int limit) {
+        return webhookEventRepository.findDue(LocalDateTime.now(), limit);
+    }
+
+    @Transactional
+    public void markProcessed(Long eventId) {
+        webhookEventRepository.findById(eventId).ifPresent(PaymentWebhookEvent::markProcessed);
+    }
+
+    @Transactional
+    public void markFailed(Long eventId, String error) {
+        webhookEventRepository.findById(eventId).ifPresent(event -> {
+            event.recordFailure(error, MAX_ATTEMPTS);
+            if (event.isFailed()) {
+                log.error("결제 웹훅 처리 최종 실패 - 대사 작업에서 보정: eventId={}, orderId={}, error={}",
+                    event.getId(), event.getOrderId(), error);
+            } else {
+                log.warn("결제 웹훅 처리 실패 - 재시도 예정: eventId={}, attempts={}, error={}",
+                    event.getId(), event.getAttempts(), error);
+            }
+        });
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node != null ? node.get(field) : null;
+        return value != null && value.isTextual() && !value.asText().isBlank() ? value.asText() : null;
+    }
+
+    private static String sha256(String payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
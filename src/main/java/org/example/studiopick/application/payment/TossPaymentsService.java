@@ -4,6 +4,8 @@ import org.example.studiopick.application.payment.dto.TossPaymentCancelRequest;
 import org.example.studiopick.application.payment.dto.TossPaymentCancelResponse;
 import org.example.studiopick.application.payment.dto.TossPaymentResponse;
 
+import java.util.Optional;
+
 /**
  * 토스페이먼츠 API 연동 서비스 인터페이스
  */
@@ -19,6 +21,11 @@ public interface TossPaymentsService {
      */
     TossPaymentResponse getPayment(String paymentKey);
 
+    /**
+     * 주문 ID로 결제 조회 (결제창에서 결제를 시작하지 않은 주문이면 empty)
+     */
+    Optional<TossPaymentResponse> findPaymentByOrderId(String orderId);
+
     /**
      * 전액 결제 취소
      */
@@ -26,6 +33,8 @@ public interface TossPaymentsService {
 
     /**
      * 부분 결제 취소 (환불 금액 지정 가능)
+     * - idempotencyKey: 같은 환불 건의 재시도가 중복 취소되지 않도록 환불 건마다 고유한 값
      */
-    TossPaymentCancelResponse cancelPaymentPartial(String paymentKey, TossPaymentCancelRequest request);
+    TossPaymentCancelResponse cancelPaymentPartial(String paymentKey, TossPaymentCancelRequest request,
+                                                   String idempotencyKey);
 }
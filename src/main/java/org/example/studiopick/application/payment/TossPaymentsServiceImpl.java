@@ -6,29 +6,25 @@ import org.example.studiopick.application.payment.dto.TossPaymentCancelRequest;
 import org.example.studiopick.application.payment.dto.TossPaymentCancelResponse;
 import org.example.studiopick.application.payment.dto.TossPaymentConfirmRequest;
 import org.example.studiopick.application.payment.dto.TossPaymentResponse;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.example.studiopick.infrastructure.payment.PaymentGatewayException;
+import org.example.studiopick.infrastructure.payment.TossPaymentsClient;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.util.Optional;
 
+/**
+ * 토스페이먼츠 API 연동
+ * - HTTP 호출(커넥션 풀, 타임아웃, 재시도, 서킷 브레이커)은 TossPaymentsClient 가 담당
+ * - 승인/취소는 Idempotency-Key 를 붙여 재시도해도 중복 처리되지 않음
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TossPaymentsServiceImpl implements TossPaymentsService {
-    private final WebClient.Builder webClientBuilder;
-
-    @Value("${toss.payments.test-secret-key}")
-    private String secretKey;
-
-    @Value("${toss.payments.base-url:https://api.tosspayments.com}")
-    private String baseUrl;
+    private final TossPaymentsClient tossPaymentsClient;
 
     /**
-     * ✅ 수정된 토스페이먼츠 결제 승인 처리
+     * 토스페이먼츠 결제 승인 처리
      */
     @Override
     public TossPaymentResponse confirmPayment(String paymentKey, String orderId, Long amount) {
@@ -46,58 +42,28 @@ public class TossPaymentsServiceImpl implements TossPaymentsService {
             throw new IllegalArgumentException("결제 금액은 0보다 커야 합니다.");
         }
 
-        WebClient webClient = createWebClient();
-
         TossPaymentConfirmRequest request = TossPaymentConfirmRequest.builder()
-            .paymentKey(paymentKey)  // ✅ paymentKey 추가!
+            .paymentKey(paymentKey)
             .orderId(orderId)
             .amount(amount)
             .build();
 
         try {
-            // ✅ 올바른 토스 API 엔드포인트 사용
-            String requestUrl = "/v1/payments/confirm";
-            log.info("토스페이먼츠 API 호출: {} - PaymentKey: {}", requestUrl, paymentKey);
-            log.info("요청 데이터: {}", request);
-
-            TossPaymentResponse response = webClient.post()
-                .uri("/v1/payments/confirm")  // ✅ 올바른 엔드포인트
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(
-                    httpStatus -> httpStatus.is4xxClientError(),
-                    clientResponse -> {
-                        log.error("4xx 클라이언트 오류 발생: {}", clientResponse.statusCode());
-                        return clientResponse.bodyToMono(String.class)
-                            .map(body -> {
-                                log.error("응답 본문: {}", body);
-                                return new RuntimeException("결제 승인 실패: " + clientResponse.statusCode() + " - " + body);
-                            });
-                    }
-                )
-                .onStatus(
-                    httpStatus -> httpStatus.is5xxServerError(),
-                    clientResponse -> {
-                        log.error("5xx 서버 오류 발생: {}", clientResponse.statusCode());
-                        return clientResponse.bodyToMono(String.class)
-                            .map(body -> new RuntimeException("토스페이먼츠 서버 오류: " + body));
-                    }
-                )
-                .bodyToMono(TossPaymentResponse.class)
-                .block();
+            TossPaymentResponse response = tossPaymentsClient.post("confirm", TossPaymentResponse.class,
+                request, "confirm-" + orderId, "/v1/payments/confirm");
 
             log.info("토스페이먼츠 결제 승인 성공: paymentKey={}", paymentKey);
             return response;
 
-        } catch (Exception e) {
-            log.error("결제 승인 예외 발생 - paymentKey={}, orderId={}, error={}",
-                paymentKey, orderId, e.getMessage());
+        } catch (PaymentGatewayException e) {
+            log.error("결제 승인 예외 발생 - paymentKey={}, orderId={}, status={}, error={}",
+                paymentKey, orderId, e.getStatus(), e.getMessage());
 
-            if (e.getMessage().contains("400")) {
+            if (e.getStatus() == 400) {
                 throw new RuntimeException(
                     String.format("잘못된 결제 요청입니다. PaymentKey: %s, OrderId: %s, Amount: %s",
                         paymentKey, orderId, amount), e);
-            } else if (e.getMessage().contains("404")) {
+            } else if (e.getStatus() == 404) {
                 throw new RuntimeException(
                     String.format("결제 정보를 찾을 수 없습니다. PaymentKey: %s", paymentKey), e);
             } else {
@@ -106,45 +72,36 @@ public class TossPaymentsServiceImpl implements TossPaymentsService {
         }
     }
 
-    /**
-     * ✅ 토스페이먼츠 API 호출용 WebClient 생성 (개선)
-     */
-    private WebClient createWebClient() {
-        String credentials = secretKey + ":";
-        String encodedCredentials = Base64.getEncoder()
-            .encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
-
-        return webClientBuilder
-            .baseUrl(baseUrl)
-            .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + encodedCredentials)
-            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-            .build();
-    }
-
-    // ✅ 기존 메서드들은 그대로 유지
     @Override
     public TossPaymentResponse getPayment(String paymentKey) {
-        WebClient webClient = createWebClient();
-
         try {
             log.info("PaymentKey로 결제 조회: {}", paymentKey);
 
-            return webClient.get()
-                .uri("/v1/payments/{paymentKey}", paymentKey)
-                .retrieve()
-                .onStatus(
-                    httpStatus -> httpStatus.is4xxClientError(),
-                    clientResponse -> {
-                        log.error("결제 조회 실패 - 4xx 오류: {}", clientResponse.statusCode());
-                        return clientResponse.bodyToMono(String.class)
-                            .map(body -> new RuntimeException("결제 정보를 찾을 수 없습니다: " + body));
-                    }
-                )
-                .bodyToMono(TossPaymentResponse.class)
-                .block();
-
-        } catch (Exception e) {
-            log.error("토스페이먼츠 결제 조회 실패: paymentKey={}, error={}", paymentKey, e.getMessage());
+            return tossPaymentsClient.get("get", TossPaymentResponse.class,
+                "/v1/payments/{paymentKey}", paymentKey);
+
+        } catch (PaymentGatewayException e) {
+            log.error("토스페이먼츠 결제 조회 실패: paymentKey={}, status={}, error={}",
+                paymentKey, e.getStatus(), e.getMessage());
+            if (e.isClientError()) {
+                throw new RuntimeException("결제 정보를 찾을 수 없습니다: " + e.getBody(), e);
+            }
+            throw new RuntimeException("결제 정보 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<TossPaymentResponse> findPaymentByOrderId(String orderId) {
+        try {
+            return Optional.ofNullable(tossPaymentsClient.get("get_by_order", TossPaymentResponse.class,
+                "/v1/payments/orders/{orderId}", orderId));
+
+        } catch (PaymentGatewayException e) {
+            if (e.getStatus() == 404) {
+                return Optional.empty();
+            }
+            log.error("토스페이먼츠 주문 조회 실패: orderId={}, status={}, error={}",
+                orderId, e.getStatus(), e.getMessage());
             throw new RuntimeException("결제 정보 조회 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
@@ -154,8 +111,6 @@ public class TossPaymentsServiceImpl implements TossPaymentsService {
      */
     @Override
     public TossPaymentCancelResponse cancelPayment(String paymentKey, String cancelReason) {
-        WebClient webClient = createWebClient();
-
         TossPaymentCancelRequest request = TossPaymentCancelRequest.builder()
             .cancelReason(cancelReason)
             .build();
@@ -163,23 +118,12 @@ public class TossPaymentsServiceImpl implements TossPaymentsService {
         try {
             log.info("결제 취소 요청: paymentKey={}, reason={}", paymentKey, cancelReason);
 
-            return webClient.post()
-                .uri("/v1/payments/{paymentKey}/cancel", paymentKey)
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(
-                    httpStatus -> httpStatus.is4xxClientError(),
-                    clientResponse -> {
-                        log.error("결제 취소 실패 - 4xx 오류: {}", clientResponse.statusCode());
-                        return clientResponse.bodyToMono(String.class)
-                            .map(body -> new RuntimeException("결제 취소 실패: " + body));
-                    }
-                )
-                .bodyToMono(TossPaymentCancelResponse.class)
-                .block();
-
-        } catch (Exception e) {
-            log.error("토스페이먼츠 결제 취소 실패: paymentKey={}, error={}", paymentKey, e.getMessage());
+            return tossPaymentsClient.post("cancel", TossPaymentCancelResponse.class,
+                request, "cancel-" + paymentKey, "/v1/payments/{paymentKey}/cancel", paymentKey);
+
+        } catch (PaymentGatewayException e) {
+            log.error("토스페이먼츠 결제 취소 실패: paymentKey={}, status={}, error={}",
+                paymentKey, e.getStatus(), e.getMessage());
             throw new RuntimeException("결제 취소 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
@@ -188,47 +132,25 @@ public class TossPaymentsServiceImpl implements TossPaymentsService {
      * 부분 결제 취소 (환불 금액 지정 가능)
      */
     @Override
-    public TossPaymentCancelResponse cancelPaymentPartial(String paymentKey, TossPaymentCancelRequest request) {
-        WebClient webClient = createWebClient();
-
+    public TossPaymentCancelResponse cancelPaymentPartial(String paymentKey, TossPaymentCancelRequest request,
+                                                          String idempotencyKey) {
         try {
-            log.info("부분 결제 취소 요청: paymentKey={}, amount={}, reason={}", 
+            log.info("부분 결제 취소 요청: paymentKey={}, amount={}, reason={}",
                 paymentKey, request.cancelAmount(), request.cancelReason());
 
-            return webClient.post()
-                .uri("/v1/payments/{paymentKey}/cancel", paymentKey)
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(
-                    httpStatus -> httpStatus.is4xxClientError(),
-                    clientResponse -> {
-                        log.error("부분 결제 취소 실패 - 4xx 오류: {}", clientResponse.statusCode());
-                        return clientResponse.bodyToMono(String.class)
-                            .map(body -> {
-                                log.error("응답 본문: {}", body);
-                                return new RuntimeException("부분 결제 취소 실패: " + body);
-                            });
-                    }
-                )
-                .onStatus(
-                    httpStatus -> httpStatus.is5xxServerError(),
-                    clientResponse -> {
-                        log.error("부분 결제 취소 실패 - 5xx 오류: {}", clientResponse.statusCode());
-                        return clientResponse.bodyToMono(String.class)
-                            .map(body -> new RuntimeException("토스페이먼츠 서버 오류: " + body));
-                    }
-                )
-                .bodyToMono(TossPaymentCancelResponse.class)
-                .block();
-
-        } catch (Exception e) {
-            log.error("토스페이먼츠 부분 결제 취소 실패: paymentKey={}, error={}", paymentKey, e.getMessage(), e);
-            
-            // ✅ JSON 파싱 에러 특별 처리
-            if (e.getMessage().contains("JSON decoding error") || e.getMessage().contains("Cannot deserialize")) {
+            return tossPaymentsClient.post("cancel_partial", TossPaymentCancelResponse.class,
+                request, idempotencyKey, "/v1/payments/{paymentKey}/cancel", paymentKey);
+
+        } catch (PaymentGatewayException e) {
+            log.error("토스페이먼츠 부분 결제 취소 실패: paymentKey={}, status={}, error={}",
+                paymentKey, e.getStatus(), e.getMessage(), e);
+
+            if (e.getCause() != null && e.getCause().getMessage() != null
+                && (e.getCause().getMessage().contains("JSON decoding error")
+                    || e.getCause().getMessage().contains("Cannot deserialize"))) {
                 throw new RuntimeException("토스페이먼츠 응답 파싱 중 오류가 발생했습니다. 서버 개발팀에 문의하세요.", e);
             }
-            
+
             throw new RuntimeException("부분 결제 취소 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
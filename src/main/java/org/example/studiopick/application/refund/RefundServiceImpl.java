@@ -15,6 +15,7 @@ import org.example.studiopick.domain.refund.Refund;
 import org.example.studiopick.infrastructure.payment.JpaSettlementRepository;
 import org.example.studiopick.infrastructure.refund.RefundRepository;
 import org.example.studiopick.domain.reservation.Reservation;
+import org.example.studiopick.domain.reservation.ReservationSlotIndex;
 import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
 import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
 import org.springframework.stereotype.Service;
@@ -40,6 +41,7 @@ public class RefundServiceImpl implements RefundService {
     private final TossPaymentsService tossPaymentsService;
     private final JpaReservationRepository reservationRepository;
     private final JpaSettlementRepository settlementRepository;
+    private final ReservationSlotIndex slotIndex;
 
     /**
      * ✅ 예약 취소에 따른 환불 처리 (별도 트랜잭션) - 환불 내역 DB 저장
@@ -94,7 +96,7 @@ public class RefundServiceImpl implements RefundService {
             );
 
             TossPaymentCancelResponse tossResponse = tossPaymentsService.cancelPaymentPartial(
-                payment.getPaymentKey(), cancelRequest);
+                payment.getPaymentKey(), cancelRequest, "refund-" + savedRefund.getId());
 
             // 7. ✅ 토스 응답에서 거래 키 추출 및 환불 완료 처리
             String transactionKey = extractTransactionKey(tossResponse);
@@ -119,6 +121,7 @@ public class RefundServiceImpl implements RefundService {
             // ✅ 9. 예약 상태 업데이트 (추가된 부분)
             reservation.refund();
             reservationRepository.save(reservation);
+            slotIndex.changed(reservation);
 
             log.info("환불 및 예약 상태 처리 최종 완료: reservationId={}, refundId={}, status={}",
                 reservation.getId(), savedRefund.getId(), reservation.getStatus());
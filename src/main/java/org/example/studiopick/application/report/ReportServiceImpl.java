@@ -2,15 +2,17 @@ package org.example.studiopick.application.report;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.application.review.service.ReviewRatingAggregator;
 import org.example.studiopick.domain.common.enums.*;
 import org.example.studiopick.domain.report.Report;
+import org.example.studiopick.domain.review.RatingDelta;
 import org.example.studiopick.application.report.dto.ReportRequestDto;
 import org.example.studiopick.application.report.dto.ReportResponseDto;
 import org.example.studiopick.domain.user.User;
 import org.example.studiopick.infrastructure.User.JpaUserRepository;
 import org.example.studiopick.infrastructure.artwork.ArtworkRepository;
 import org.example.studiopick.infrastructure.report.ReportRepository;
-import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
+import org.example.studiopick.infrastructure.review.ReviewRepository;
 import org.example.studiopick.infrastructure.workshop.JpaWorkShopRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -25,7 +27,8 @@ public class ReportServiceImpl implements ReportService {
     private final JpaUserRepository userRepository;
     private final ArtworkRepository artworkRepository;
     private final JpaWorkShopRepository jpaWorkShopRepository;
-    private final JpaStudioRepository jpaStudioRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewRatingAggregator ratingAggregator;
 
     @Value("${app.report.auto-hide-threshold:3}")
     private int autoHideThreshold;
@@ -120,7 +123,7 @@ public class ReportServiceImpl implements ReportService {
             return switch (reportType) {
                 case ARTWORK -> hideArtwork(reportedId);
                 case CLASS -> hideWorkShop(reportedId);
-                case REVIEW -> hideStudio(reportedId);
+                case REVIEW -> hideReview(reportedId);
                 default -> {
                     log.warn("Unknown report type: {}", reportType);
                     yield false;
@@ -152,12 +155,14 @@ public class ReportServiceImpl implements ReportService {
                 }).orElse(false);
     }
 
-    private boolean hideStudio(Long studioId) {
-        return jpaStudioRepository.findById(studioId)
-                .map(studio  -> {
-                    studio.StudioChangeStatus(HideStatus.REPORTED);
-                    jpaStudioRepository.save(studio);
-                    log.info("Studio {} auto-hidden due to reports", studioId);
+    private boolean hideReview(Long reviewId) {
+        return reviewRepository.findById(reviewId)
+                .map(review -> {
+                    if (review.isPubliclyVisible()) {
+                        ratingAggregator.apply(review, RatingDelta.removed(review.getRating()));
+                    }
+                    review.report();
+                    log.info("Review {} auto-hidden due to reports", reviewId);
                     return true;
                 }).orElse(false);
     }
@@ -169,7 +174,7 @@ public class ReportServiceImpl implements ReportService {
             switch (reportType) {
                 case ARTWORK -> restoreArtwork(reportedId);
                 case CLASS -> restoreWorkShop(reportedId);
-                case REVIEW -> restoreStudio(reportedId);
+                case REVIEW -> restoreReview(reportedId);
                 default -> log.warn("Unknown report type: {}", reportType);
             }
         } catch (Exception e) {
@@ -203,16 +208,17 @@ public class ReportServiceImpl implements ReportService {
                 }).orElse(false);
     }
 
-    private boolean restoreStudio(Long studioId) {
-        return jpaStudioRepository.findById(studioId)
-                .map(studio -> {
-                    if (studio.getHideStatus() == HideStatus.REPORTED) {
-                        studio.StudioChangeStatus(HideStatus.OPEN);
-                        jpaStudioRepository.save(studio);
-                        log.info("Studio {} restored", studioId);
+    private boolean restoreReview(Long reviewId) {
+        return reviewRepository.findById(reviewId)
+                .map(review -> {
+                    if (review.isReported()) {
+                        review.restore();
+                        ratingAggregator.apply(review, RatingDelta.added(review.getRating()));
+                        log.info("Review {} restored", reviewId);
                         return true;
                     }
                     return false;
                 }).orElse(false);
     }
+
 }
@@ -0,0 +1,63 @@
+package org.example.studiopick.application.report;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.infrastructure.report.ReporterStatsChangeTracker;
+import org.example.studiopick.infrastructure.report.ReporterStatsRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 신고자 통계 갱신 작업
+ * - 30초마다 변경 표시된 신고자만 재계산 (최대 1,000명씩)
+ * - 매일 새벽 전체 재구성 (노드 재시작 등으로 유실된 표시 보정), 테이블이 비어 있으면 기동 시 구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReporterStatsRefreshJob {
+
+  private static final int BATCH_SIZE = 1_000;
+
+  private final ReporterStatsRefresher refresher;
+  private final ReporterStatsChangeTracker changeTracker;
+  private final ReporterStatsRepository reporterStatsRepository;
+
+  @Scheduled(initialDelay = 30_000, fixedDelay = 30_000)
+  public void refreshChanged() {
+    List<Long> userIds = changeTracker.drain();
+    for (int from = 0; from < userIds.size(); from += BATCH_SIZE) {
+      List<Long> batch = userIds.subList(from, Math.min(from + BATCH_SIZE, userIds.size()));
+      try {
+        refresher.refresh(batch);
+      } catch (Exception e) {
+        log.error("신고자 통계 재계산 실패 - 다음 주기에 다시 시도합니다: {}명, error={}", batch.size(), e.getMessage());
+        changeTracker.retry(batch);
+      }
+    }
+  }
+
+  @Scheduled(cron = "0 40 3 * * *", zone = "Asia/Seoul")
+  public void rebuildAll() {
+    try {
+      refresher.rebuildAll();
+    } catch (Exception e) {
+      log.error("신고자 통계 전체 재구성 실패: error={}", e.getMessage());
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildIfEmpty() {
+    try {
+      if (reporterStatsRepository.count() == 0) {
+        refresher.rebuildAll();
+      }
+    } catch (Exception e) {
+      log.error("신고자 통계 초기 구성 실패: error={}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package org.example.studiopick.application.report;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.infrastructure.report.ReporterStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * 신고자 통계 재계산 (삭제 후 신고 원본 GROUP BY 결과로 다시 채움)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReporterStatsRefresher {
+
+  private final ReporterStatsRepository reporterStatsRepository;
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void refresh(Collection<Long> userIds) {
+    reporterStatsRepository.deleteByUserIds(userIds);
+    int refreshed = reporterStatsRepository.insertFromReports(userIds);
+    log.debug("신고자 통계 재계산: 대상 {}명, 반영 {}명", userIds.size(), refreshed);
+  }
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void rebuildAll() {
+    reporterStatsRepository.deleteAllStats();
+    int rebuilt = reporterStatsRepository.insertAllFromReports();
+    log.info("신고자 통계 전체 재구성 완료: {}명", rebuilt);
+  }
+}
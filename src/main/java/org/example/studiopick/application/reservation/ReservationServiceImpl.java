@@ -9,7 +9,9 @@ import org.example.studiopick.common.validator.PaginationValidator;
 import org.example.studiopick.common.validator.UserValidator;
 import org.example.studiopick.domain.common.enums.ReservationStatus;
 import org.example.studiopick.domain.reservation.Reservation;
+import org.example.studiopick.domain.reservation.DaySlots;
 import org.example.studiopick.domain.reservation.ReservationDomainService;
+import org.example.studiopick.domain.reservation.ReservationSlotIndex;
 import org.example.studiopick.domain.studio.Studio;
 import org.example.studiopick.domain.user.User;
 import org.example.studiopick.domain.workshop.WorkShop;
@@ -29,9 +31,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -48,6 +48,7 @@ public class ReservationServiceImpl implements ReservationService {
     private final PaginationValidator paginationValidator;
     private final SystemSettingUtils settingUtils;
     private final RefundService refundService;
+    private final ReservationSlotIndex slotIndex;
 
     @Override
     @Transactional(readOnly = true)
@@ -97,8 +98,7 @@ public class ReservationServiceImpl implements ReservationService {
         User user = jpaUserRepository.findById(command.userId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 User id를 찾을 수 없습니다."));
         reservationDomainService.validateOverlapping(
-                command.studioId(), command.reservationDate(), ReservationStatus.CONFIRMED,
-                command.startTime(), command.endTime());
+                studioId, command.reservationDate(), command.startTime(), command.endTime());
         Long totalAmount = calculateTotalAmount(studio, command.startTime(), command.endTime(), command.peopleCount());
         validateMinimumAmount(totalAmount);
 
@@ -115,6 +115,7 @@ public class ReservationServiceImpl implements ReservationService {
 
         try {
             Reservation saved = jpaReservationRepository.save(reservation);
+            slotIndex.reserved(saved);
             log.info("예약 생성 완료: reservationId={}, userId={}, studioId={}",
                     saved.getId(), command.userId(), studioId);
             return new ReservationResponse(saved.getId(), saved.getTotalAmount(), saved.getStatus());
@@ -159,12 +160,8 @@ public class ReservationServiceImpl implements ReservationService {
 
     @Override
     public AvailableTimesResponse getAvailableTimes(Long studioId, LocalDate date) {
-        List<Reservation> reservations = jpaReservationRepository.findByStudioIdAndReservationDateAndStatus(
-                studioId, date, ReservationStatus.CONFIRMED);
-        List<String> bookedTimes = reservations.stream()
-                .sorted(Comparator.comparing(Reservation::getStartTime))
-                .map(r -> r.getStartTime().toString())
-                .toList();
+        DaySlots daySlots = slotIndex.get(studioId, date);
+        List<Reservation> reservations = null;
 
         int startHour = settingUtils.getIntegerSetting("studio.operating.start.hour", 9);
         int endHour = settingUtils.getIntegerSetting("studio.operating.end.hour", 18);
@@ -172,20 +169,34 @@ public class ReservationServiceImpl implements ReservationService {
         LocalTime start = LocalTime.of(startHour, 0);
         LocalTime end = LocalTime.of(endHour, 0);
 
-        List<String> allTimes = new ArrayList<>();
+        List<String> availableTimes = new ArrayList<>();
+        List<String> bookedTimes = new ArrayList<>();
         LocalTime cursor = start;
         while (cursor.isBefore(end)) {
-            allTimes.add(cursor.toString());
-            cursor = cursor.plusHours(1);
+            LocalTime next = cursor.plusHours(1);
+            boolean booked;
+            if (daySlots.canAnswer(ReservationStatus.CONFIRMED, cursor, next)) {
+                booked = daySlots.overlaps(ReservationStatus.CONFIRMED, cursor, next);
+            } else {
+                // 30분 경계에 맞지 않는 예약이 있는 날만 기존 방식으로 조회
+                if (reservations == null) {
+                    reservations = jpaReservationRepository.findByStudioIdAndReservationDateAndStatus(
+                            studioId, date, ReservationStatus.CONFIRMED);
+                }
+                booked = overlapsAny(reservations, cursor, next);
+            }
+            (booked ? bookedTimes : availableTimes).add(cursor.toString());
+            cursor = next;
         }
 
-        List<String> availableTimes = allTimes.stream()
-                .filter(t -> !bookedTimes.contains(t))
-                .collect(Collectors.toList());
-
         return new AvailableTimesResponse(availableTimes, bookedTimes);
     }
 
+    private boolean overlapsAny(List<Reservation> reservations, LocalTime start, LocalTime end) {
+        return reservations.stream()
+                .anyMatch(r -> r.getStartTime().isBefore(end) && r.getEndTime().isAfter(start));
+    }
+
     @Override
     public UserReservationListResponse getUserReservations(Long userId, int page, int size,
                                                            String status, LocalDate startDate,
@@ -212,6 +223,7 @@ public class ReservationServiceImpl implements ReservationService {
         }
         reservation.confirm();
         jpaReservationRepository.save(reservation);
+        slotIndex.changed(reservation);
         log.info("예약 결제 확정 완료: reservationId={}", reservationId);
     }
 
@@ -252,6 +264,7 @@ public class ReservationServiceImpl implements ReservationService {
         } else {
             reservation.cancelWithoutValidation(request.reason());
             Reservation saved = jpaReservationRepository.save(reservation);
+            slotIndex.changed(saved);
             log.info("예약 취소 완료: reservationId={}, status={}", saved.getId(), saved.getStatus());
             return new ReservationCancelResponse(saved.getId(), saved.getStatus(), LocalDateTime.now());
         }
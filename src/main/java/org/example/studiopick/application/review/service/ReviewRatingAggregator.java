@@ -0,0 +1,106 @@
+package org.example.studiopick.application.review.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.domain.review.RatingDelta;
+import org.example.studiopick.domain.review.RatingSummary;
+import org.example.studiopick.domain.review.Review;
+import org.example.studiopick.domain.review.StudioRatingStats;
+import org.example.studiopick.domain.review.WorkShopRatingStats;
+import org.example.studiopick.infrastructure.review.StudioRatingStatsRepository;
+import org.example.studiopick.infrastructure.review.WorkShopRatingStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 스튜디오/공방 리뷰 평점 집계
+ * - 리뷰 변경 트랜잭션 안에서 증감분을 UPSERT 로 원자 반영 (조회 시 리뷰 테이블 집계 X)
+ * - 전체 재계산은 ReviewRatingStatsJob 이 주기적으로 호출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewRatingAggregator {
+
+  private final StudioRatingStatsRepository studioRatingStatsRepository;
+  private final WorkShopRatingStatsRepository workShopRatingStatsRepository;
+
+  /**
+   * 리뷰 대상(스튜디오 또는 공방) 집계에 증감분 반영
+   */
+  @Transactional
+  public void apply(Review review, RatingDelta delta) {
+    if (delta.isEmpty()) {
+      return;
+    }
+    if (review.getStudio() != null) {
+      studioRatingStatsRepository.applyDelta(review.getStudio().getId(), delta.sum(), delta.count(),
+          delta.rating1(), delta.rating2(), delta.rating3(), delta.rating4(), delta.rating5());
+    }
+    if (review.getWorkShop() != null) {
+      workShopRatingStatsRepository.applyDelta(review.getWorkShop().getId(), delta.sum(), delta.count(),
+          delta.rating1(), delta.rating2(), delta.rating3(), delta.rating4(), delta.rating5());
+    }
+  }
+
+  /**
+   * 스튜디오 여러 개의 평점 집계 일괄 조회 (집계가 없는 스튜디오는 제외)
+   */
+  @Transactional(readOnly = true)
+  public Map<Long, RatingSummary> studioSummaries(Collection<Long> studioIds) {
+    Map<Long, RatingSummary> summaries = new HashMap<>();
+    if (studioIds.isEmpty()) {
+      return summaries;
+    }
+    for (StudioRatingStats stats : studioRatingStatsRepository.findAllById(studioIds)) {
+      summaries.put(stats.getStudioId(), stats.getSummary());
+    }
+    return summaries;
+  }
+
+  /**
+   * 공방 여러 개의 평점 집계 일괄 조회 (집계가 없는 공방은 제외)
+   */
+  @Transactional(readOnly = true)
+  public Map<Long, RatingSummary> workshopSummaries(Collection<Long> workshopIds) {
+    Map<Long, RatingSummary> summaries = new HashMap<>();
+    if (workshopIds.isEmpty()) {
+      return summaries;
+    }
+    for (WorkShopRatingStats stats : workShopRatingStatsRepository.findAllById(workshopIds)) {
+      summaries.put(stats.getWorkshopId(), stats.getSummary());
+    }
+    return summaries;
+  }
+
+  @Transactional(readOnly = true)
+  public RatingSummary studioSummary(Long studioId) {
+    return studioRatingStatsRepository.findById(studioId)
+        .map(StudioRatingStats::getSummary)
+        .orElse(RatingSummary.EMPTY);
+  }
+
+  @Transactional(readOnly = true)
+  public RatingSummary workshopSummary(Long workshopId) {
+    return workShopRatingStatsRepository.findById(workshopId)
+        .map(WorkShopRatingStats::getSummary)
+        .orElse(RatingSummary.EMPTY);
+  }
+
+  /**
+   * 공개 리뷰 원본에서 전체 평점 집계 재계산
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void rebuildAll() {
+    studioRatingStatsRepository.deleteAllStats();
+    int studios = studioRatingStatsRepository.insertAllFromReviews();
+    workShopRatingStatsRepository.deleteAllStats();
+    int workshops = workShopRatingStatsRepository.insertAllFromReviews();
+    log.info("리뷰 평점 집계 전체 재구성 완료: 스튜디오 {}개, 공방 {}개", studios, workshops);
+  }
+}
@@ -0,0 +1,45 @@
+package org.example.studiopick.application.review.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.infrastructure.review.StudioRatingStatsRepository;
+import org.example.studiopick.infrastructure.review.WorkShopRatingStatsRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰 평점 집계 보정 작업
+ * - 매일 새벽 리뷰 원본으로 전체 재계산 (직접 DB 수정 등으로 어긋난 증감분 보정)
+ * - 집계 테이블이 비어 있으면 기동 시 구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewRatingStatsJob {
+
+  private final ReviewRatingAggregator ratingAggregator;
+  private final StudioRatingStatsRepository studioRatingStatsRepository;
+  private final WorkShopRatingStatsRepository workShopRatingStatsRepository;
+
+  @Scheduled(cron = "0 50 3 * * *", zone = "Asia/Seoul")
+  public void rebuildAll() {
+    try {
+      ratingAggregator.rebuildAll();
+    } catch (Exception e) {
+      log.error("리뷰 평점 집계 전체 재구성 실패: error={}", e.getMessage());
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildIfEmpty() {
+    try {
+      if (studioRatingStatsRepository.count() == 0 && workShopRatingStatsRepository.count() == 0) {
+        ratingAggregator.rebuildAll();
+      }
+    } catch (Exception e) {
+      log.error("리뷰 평점 집계 초기 구성 실패: error={}", e.getMessage());
+    }
+  }
+}
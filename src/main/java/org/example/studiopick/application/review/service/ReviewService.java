@@ -13,8 +13,8 @@ public interface ReviewService {
   ReviewDetailResponse getReviewDetail(Long reviewId);
   List<String> uploadReviewImages(List<MultipartFile> files);
   void deleteReviewImages(List<String> fileUrls);
-  List<ReviewSummaryDto> getReviewsByStudio(Long studioId, int page, int size);
-  List<ReviewSummaryDto> getReviewsByWorkshop(Long workshopId, int page, int size);
+  List<ReviewSummaryDto> getReviewsByStudio(Long studioId, Long cursor, int page, int size);
+  List<ReviewSummaryDto> getReviewsByWorkshop(Long workshopId, Long cursor, int page, int size);
 
   Double getAverageRatingByWorkshopId(Long workshopId);
 
@@ -2,10 +2,12 @@ package org.example.studiopick.application.review.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.studiopick.application.review.dto.*;
 import org.example.studiopick.application.studio.FileUploader;
 import org.example.studiopick.domain.studio.Studio;
 import org.example.studiopick.domain.workshop.WorkShop;
+import org.example.studiopick.domain.review.RatingDelta;
 import org.example.studiopick.domain.review.Review;
 import org.example.studiopick.domain.review.ReviewImage;
 import org.example.studiopick.domain.common.enums.ReviewStatus;
@@ -15,37 +17,39 @@ import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
 import org.example.studiopick.infrastructure.workshop.JpaWorkShopRepository;
 import org.example.studiopick.infrastructure.review.ReviewImageRepository;
 import org.example.studiopick.infrastructure.review.ReviewRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService {
 
+  private static final int MAX_PAGE_SIZE = 50;
+
   private final ReviewRepository reviewRepository;
   private final ReviewImageRepository imageRepository;
   private final JpaUserRepository userRepository;
   private final JpaWorkShopRepository jpaWorkShopRepository;
   private final JpaStudioRepository studioRepository;
   private final FileUploader fileUploader;
+  private final ReviewRatingAggregator ratingAggregator;
 
   // ✅ 리뷰 생성
   @Override
   @Transactional
   public ReviewResponse createReview(Long userId, ReviewCreateRequest request) {
-    // 디버깅용 로그
-    System.out.println("=== 리뷰 생성 요청 ===");
-    System.out.println("userId: " + userId);
-    System.out.println("type: " + request.type());
-    System.out.println("targetId: " + request.targetId());
-    System.out.println("rating: " + request.rating());
-    System.out.println("comment: " + request.comment());
-    System.out.println("imageUrls: " + request.imageUrls());
-    System.out.println("=====================");
+    log.debug("리뷰 생성 요청: userId={}, type={}, targetId={}, rating={}",
+        userId, request.type(), request.targetId(), request.rating());
 
     User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("사용자 없음"));
@@ -79,30 +83,18 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     reviewRepository.save(review);
+    ratingAggregator.apply(review, RatingDelta.added(review.getRating()));
 
     // 이미지 URL 처리 (List<String> 직접 사용)
-    System.out.println("=== 이미지 처리 시작 ===");
-    System.out.println("원본 imageUrls: " + request.imageUrls());
-    
     if (request.imageUrls() != null && !request.imageUrls().isEmpty()) {
-      System.out.println("이미지 URL 개수: " + request.imageUrls().size());
-      
-      for (String imageUrl : request.imageUrls()) {
-        System.out.println("처리 중인 URL: " + imageUrl);
-        
-        if (imageUrl != null && !imageUrl.trim().isEmpty()) {
-          ReviewImage reviewImage = ReviewImage.builder()
+      imageRepository.saveAll(request.imageUrls().stream()
+          .filter(imageUrl -> imageUrl != null && !imageUrl.trim().isEmpty())
+          .map(imageUrl -> ReviewImage.builder()
               .review(review)
               .imageUrl(imageUrl.trim())
-              .build();
-          ReviewImage savedImage = imageRepository.save(reviewImage);
-          System.out.println("저장된 이미지 ID: " + savedImage.getId());
-        }
-      }
-    } else {
-      System.out.println("imageUrls가 null이거나 비어있음");
+              .build())
+          .toList());
     }
-    System.out.println("=== 이미지 처리 완료 ===");
 
     return new ReviewResponse(review.getId(), "리뷰 작성이 완료되었습니다.");
   }
@@ -118,50 +110,39 @@ public class ReviewServiceImpl implements ReviewService {
       throw new RuntimeException("리뷰 작성자만 수정할 수 있습니다.");
     }
 
-    // 리뷰 기본 정보 업데이트
+    // 리뷰 기본 정보 업데이트 (공개 리뷰면 평점 집계도 함께 갱신)
+    Short previousRating = review.getRating();
     review.update(request.rating(), request.comment());
+    if (review.isPubliclyVisible()) {
+      ratingAggregator.apply(review, RatingDelta.changed(previousRating, review.getRating()));
+    }
 
-    // 기존 이미지들 삭제 (항상 실행)
-    System.out.println("=== 리뷰 수정 시작 ===");
-    System.out.println("기존 이미지 개수: " + review.getImages().size());
-    
-    // 강제로 모든 기존 이미지 삭제
+    // 기존 이미지 행 삭제 - 새 목록에 다시 포함되지 않은 파일만 커밋 후 S3 에서 삭제
     List<ReviewImage> existingImages = new ArrayList<>(review.getImages());
+    Set<String> keptUrls = request.imageUrl() == null ? Set.of()
+        : Arrays.stream(request.imageUrl().split(",")).map(String::trim).collect(Collectors.toSet());
     for (ReviewImage image : existingImages) {
-      System.out.println("삭제 중인 이미지: " + image.getImageUrl());
-      try {
+      if (!keptUrls.contains(image.getImageUrl())) {
         fileUploader.delete(image.getImageUrl());
-      } catch (Exception e) {
-        System.out.println("S3 삭제 실패: " + e.getMessage());
       }
       imageRepository.delete(image);
     }
-    
+
     // review 엔티티에서 이미지 리스트 초기화
     review.getImages().clear();
-    System.out.println("기존 이미지 삭제 완료");
 
     // 새 이미지 URL 처리
-    System.out.println("새 이미지 URL: " + request.imageUrl());
     if (request.imageUrl() != null && !request.imageUrl().trim().isEmpty()) {
       // 새 이미지 URL들을 콤마로 분리하여 저장
-      String[] imageUrlArray = request.imageUrl().split(",");
-      System.out.println("새 이미지 개수: " + imageUrlArray.length);
-      
-      for (String imageUrl : imageUrlArray) {
-        if (imageUrl != null && !imageUrl.trim().isEmpty()) {
-          System.out.println("저장 중인 새 이미지: " + imageUrl.trim());
-          ReviewImage reviewImage = ReviewImage.builder()
+      imageRepository.saveAll(Arrays.stream(request.imageUrl().split(","))
+          .filter(imageUrl -> !imageUrl.trim().isEmpty())
+          .map(imageUrl -> ReviewImage.builder()
               .review(review)
               .imageUrl(imageUrl.trim())
-              .build();
-          imageRepository.save(reviewImage);
-        }
-      }
-    } else {
-      System.out.println("새 이미지가 없습니다.");
+              .build())
+          .toList());
     }
-    System.out.println("=== 리뷰 수정 완료 ===");
+    log.debug("리뷰 수정 완료: reviewId={}, removedImages={}", reviewId, existingImages.size());
   }
 
   // ✅ 리뷰 삭제
@@ -175,16 +156,18 @@ public class ReviewServiceImpl implements ReviewService {
       throw new RuntimeException("리뷰 작성자만 삭제할 수 있습니다.");
     }
 
+    if (review.isPubliclyVisible()) {
+      ratingAggregator.apply(review, RatingDelta.removed(review.getRating()));
+    }
     for (ReviewImage image : review.getImages()) {
       fileUploader.delete(image.getImageUrl());
     }
     reviewRepository.delete(review);
   }
-  // 평균 평점 조회 (워크샵 기준)
+  // 평균 평점 조회 (워크샵 기준, 평점 집계 테이블 사용)
   @Override
   public Double getAverageRatingByWorkshopId(Long workshopId) {
-    Double avg = reviewRepository.getAverageRatingByWorkshopId(workshopId);
-    return avg != null ? avg : 0.0;
+    return ratingAggregator.workshopSummary(workshopId).getRatingAverage();
   }
 
   // ✅ 리뷰 상세 조회
@@ -216,81 +199,68 @@ public class ReviewServiceImpl implements ReviewService {
     );
   }
 
-  // ✅ 스튜디오 리뷰 목록
+  // ✅ 스튜디오 리뷰 목록 (cursor 가 있으면 키셋, 없으면 page 기준)
   @Override
-  public List<ReviewSummaryDto> getReviewsByStudio(Long studioId, int page, int size) {
-    System.out.println("=== getReviewsByStudio 시작 ===");
-    System.out.println("studioId: " + studioId);
-    System.out.println("page: " + page);
-    System.out.println("size: " + size);
-    
-    List<Review> allReviews = reviewRepository.findByStudioIdOrWorkshopId(studioId);
-    System.out.println("전체 리뷰 개수: " + allReviews.size());
-    
-    List<Review> visibleReviews = allReviews.stream()
-            .filter(Review::isPubliclyVisible)
-            .collect(Collectors.toList());
-    System.out.println("공개 리뷰 개수: " + visibleReviews.size());
-    
-    List<ReviewSummaryDto> result = visibleReviews.stream()
-            .skip((long) (page - 1) * size)
-            .limit(size)
-            .map(r -> {
-                List<String> imageUrls = r.getImages().stream()
-                        .map(ReviewImage::getImageUrl)
-                        .collect(Collectors.toList());
-                
-                return new ReviewSummaryDto(
-                        r.getId(),
-                        r.getUser().getId(),
-                        r.getUser().getNickname(),
-                        r.getRating(),
-                        r.getComment(),
-                        r.getStatus(),
-                        r.getCreatedAt(),
-                        imageUrls
-                );
-            })
-            .collect(Collectors.toList());
-    
-    System.out.println("반환할 리뷰 개수: " + result.size());
-    System.out.println("=== getReviewsByStudio 완료 ===");
-    
-    return result;
+  public List<ReviewSummaryDto> getReviewsByStudio(Long studioId, Long cursor, int page, int size) {
+    validatePageSize(size);
+    List<Review> reviews = cursor != null
+        ? reviewRepository.findVisibleByStudioIdBefore(studioId, cursor, PageRequest.of(0, size))
+        : reviewRepository.findVisibleByStudioId(studioId, PageRequest.of(Math.max(page, 1) - 1, size));
+    log.debug("스튜디오 리뷰 조회: studioId={}, cursor={}, page={}, size={}, count={}",
+        studioId, cursor, page, size, reviews.size());
+    return toSummaries(reviews);
   }
 
-  // ✅ 공방 리뷰 목록
+  // ✅ 공방 리뷰 목록 (cursor 가 있으면 키셋, 없으면 page 기준)
   @Override
-  public List<ReviewSummaryDto> getReviewsByWorkshop(Long workshopId, int page, int size) {
-    return reviewRepository.findByStudioIdOrWorkshopId(workshopId).stream()
-            .filter(Review::isPubliclyVisible)
-            .skip((long) (page - 1) * size)
-            .limit(size)
-            .map(r -> {
-                List<String> imageUrls = r.getImages().stream()
-                        .map(ReviewImage::getImageUrl)
-                        .collect(Collectors.toList());
-                
-                return new ReviewSummaryDto(
-                        r.getId(),
-                        r.getUser().getId(),
-                        r.getUser().getNickname(),
-                        r.getRating(),
-                        r.getComment(),
-                        r.getStatus(),
-                        r.getCreatedAt(),
-                        imageUrls
-                );
-            })
-            .collect(Collectors.toList());
+  public List<ReviewSummaryDto> getReviewsByWorkshop(Long workshopId, Long cursor, int page, int size) {
+    validatePageSize(size);
+    List<Review> reviews = cursor != null
+        ? reviewRepository.findVisibleByWorkshopIdBefore(workshopId, cursor, PageRequest.of(0, size))
+        : reviewRepository.findVisibleByWorkshopId(workshopId, PageRequest.of(Math.max(page, 1) - 1, size));
+    log.debug("공방 리뷰 조회: workshopId={}, cursor={}, page={}, size={}, count={}",
+        workshopId, cursor, page, size, reviews.size());
+    return toSummaries(reviews);
+  }
+
+  /**
+   * 한 페이지 리뷰를 DTO로 변환 - 작성자는 목록 쿼리에서 함께 조회, 이미지는 IN 쿼리 1회로 일괄 조회
+   */
+  private List<ReviewSummaryDto> toSummaries(List<Review> reviews) {
+    if (reviews.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> reviewIds = reviews.stream().map(Review::getId).toList();
+    Map<Long, List<String>> imageUrls = new HashMap<>();
+    for (Object[] row : imageRepository.findImageUrlsByReviewIds(reviewIds)) {
+      imageUrls.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+    }
+
+    return reviews.stream()
+        .map(r -> new ReviewSummaryDto(
+            r.getId(),
+            r.getUser().getId(),
+            r.getUser().getNickname(),
+            r.getRating(),
+            r.getComment(),
+            r.getStatus(),
+            r.getCreatedAt(),
+            imageUrls.getOrDefault(r.getId(), List.of())
+        ))
+        .toList();
+  }
+
+  private void validatePageSize(int size) {
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+    }
   }
 
   // ✅ 리뷰 이미지 업로드
   @Override
   public List<String> uploadReviewImages(List<MultipartFile> files) {
-    return files.stream()
-            .map(file -> fileUploader.upload(file, "reviews"))
-            .collect(Collectors.toList());
+    return fileUploader.upload(files, "reviews");
   }
 
   // ✅ 리뷰 이미지 삭제
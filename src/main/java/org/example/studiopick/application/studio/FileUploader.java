@@ -2,8 +2,11 @@ package org.example.studiopick.application.studio;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 public interface FileUploader {
   String upload(MultipartFile file);
   String upload(MultipartFile file, String dir); //
-  void delete(String fileUrl);// 디렉토리 지정 가능
+  List<String> upload(List<MultipartFile> files, String dir); // 동시 업로드, 실패 시 전체 롤백
+  void delete(String fileUrl); // 커밋 후 S3DeletionQueue 로 삭제, 콘텐츠 해시 URL 은 건너뛰고 S3OrphanReconciler 가 참조 없을 때 정리
 }
@@ -1,16 +1,20 @@
 package org.example.studiopick.application.studio;
 
 import lombok.RequiredArgsConstructor;
+import org.example.studiopick.infrastructure.s3.S3DeletionQueue;
 import org.example.studiopick.infrastructure.s3.S3Uploader;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class FileUploaderImpl implements FileUploader {
 
   // 나중에 S3 사용할 때
     private final S3Uploader s3Uploader;
+    private final S3DeletionQueue s3DeletionQueue;
 
     @Override
     public String upload(MultipartFile file) {
@@ -22,8 +26,13 @@ public class FileUploaderImpl implements FileUploader {
       return s3Uploader.upload(file, dir); // 실제 업로드 처리
     }
 
+    @Override
+    public List<String> upload(List<MultipartFile> files, String dir) {
+      return s3Uploader.uploadFiles(files, dir);
+    }
+
     @Override
     public void delete(String fileUrl) {
-      s3Uploader.delete(fileUrl);
+      s3DeletionQueue.enqueue(fileUrl); // 커밋 후 일괄 삭제 (해시 키는 공유될 수 있어 S3OrphanReconciler 가 정리)
     }
 }
@@ -0,0 +1,19 @@
+package org.example.studiopick.application.studio;
+
+import org.example.studiopick.application.studio.dto.StudioAvailabilityDto;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 여러 스튜디오 × 여러 날짜 예약 가능 구간 일괄 조회
+ */
+public interface StudioAvailabilityService {
+
+  /**
+   * 활성 스튜디오별, 날짜별 비어 있는 시간 구간
+   * - DB 조회는 호출 시점에 모두 끝나고, 반환된 Stream 은 메모리 계산만 수행
+   */
+  Stream<StudioAvailabilityDto> findAvailability(Set<Long> studioIds, LocalDate from, LocalDate to);
+}
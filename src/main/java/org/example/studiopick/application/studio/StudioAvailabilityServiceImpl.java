@@ -0,0 +1,105 @@
+package org.example.studiopick.application.studio;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.application.studio.dto.StudioAvailabilityDto;
+import org.example.studiopick.application.studio.dto.TimeWindowDto;
+import org.example.studiopick.common.util.SystemSettingUtils;
+import org.example.studiopick.domain.common.enums.Weekday;
+import org.example.studiopick.domain.reservation.DaySlots;
+import org.example.studiopick.domain.reservation.ReservationSlotIndex;
+import org.example.studiopick.domain.reservation.TimeWindow;
+import org.example.studiopick.domain.studio.StudioOperatingHours;
+import org.example.studiopick.infrastructure.studio.JpaStudioOperatingHoursRepository;
+import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StudioAvailabilityServiceImpl implements StudioAvailabilityService {
+
+  private static final int MAX_STUDIOS_PER_REQUEST = 1000;
+
+  private final JpaStudioRepository studioRepository;
+  private final JpaStudioOperatingHoursRepository hoursRepository;
+  private final ReservationSlotIndex slotIndex;
+  private final SystemSettingUtils settingUtils;
+
+  @Override
+  @Transactional(readOnly = true)
+  public Stream<StudioAvailabilityDto> findAvailability(Set<Long> studioIds, LocalDate from, LocalDate to) {
+    validateRequest(studioIds, from, to);
+
+    List<Long> activeIds = studioRepository.findActiveIdsIn(studioIds);
+    if (activeIds.isEmpty()) {
+      return Stream.empty();
+    }
+
+    // 1. 운영시간 일괄 조회 (스튜디오 → 요일 → 운영 구간)
+    Map<Long, Map<Weekday, TimeWindow>> operatingHours = new HashMap<>();
+    for (StudioOperatingHours hours : hoursRepository.findByStudioIdIn(activeIds)) {
+      if (hours.isValidTime()) {
+        operatingHours.computeIfAbsent(hours.getStudio().getId(), id -> new HashMap<>())
+            .putIfAbsent(hours.getWeekday(), new TimeWindow(hours.getOpenTime(), hours.getCloseTime()));
+      }
+    }
+
+    // 2. 예약 점유 현황 일괄 조회 (캐시 미스분만 DB 1회)
+    Map<Long, Map<LocalDate, DaySlots>> slots = slotIndex.getAll(activeIds, from, to);
+
+    TimeWindow defaultHours = new TimeWindow(
+        LocalTime.of(settingUtils.getIntegerSetting("studio.operating.start.hour", 9), 0),
+        LocalTime.of(settingUtils.getIntegerSetting("studio.operating.end.hour", 18), 0));
+
+    log.debug("예약 가능 구간 일괄 조회: studios={}, from={}, to={}", activeIds.size(), from, to);
+
+    return activeIds.stream()
+        .sorted()
+        .flatMap(studioId -> slots.get(studioId).entrySet().stream()
+            .map(day -> toAvailability(studioId, day.getKey(), day.getValue(),
+                operatingHours.get(studioId), defaultHours)));
+  }
+
+  private StudioAvailabilityDto toAvailability(Long studioId, LocalDate date, DaySlots daySlots,
+                                               Map<Weekday, TimeWindow> weeklyHours, TimeWindow defaultHours) {
+    // 운영시간이 등록되지 않은 스튜디오는 시스템 기본 운영시간, 등록되었지만 해당 요일이 없으면 휴무
+    TimeWindow hours = weeklyHours == null
+        ? defaultHours
+        : weeklyHours.get(Weekday.fromDayOfWeek(date.getDayOfWeek()));
+
+    List<TimeWindowDto> freeWindows = hours == null
+        ? List.of()
+        : daySlots.freeWindows(hours.startTime(), hours.endTime()).stream()
+            .map(TimeWindowDto::from)
+            .toList();
+
+    return new StudioAvailabilityDto(studioId, date, freeWindows);
+  }
+
+  private void validateRequest(Set<Long> studioIds, LocalDate from, LocalDate to) {
+    if (studioIds == null || studioIds.isEmpty()) {
+      throw new IllegalArgumentException("스튜디오 ID를 하나 이상 입력해주세요.");
+    }
+    if (studioIds.size() > MAX_STUDIOS_PER_REQUEST) {
+      throw new IllegalArgumentException("한 번에 최대 " + MAX_STUDIOS_PER_REQUEST + "개 스튜디오까지 조회할 수 있습니다.");
+    }
+    if (from == null || to == null || to.isBefore(from)) {
+      throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+    }
+    int maxAdvanceDays = settingUtils.getIntegerSetting("reservation.advance.days", 90);
+    if (ChronoUnit.DAYS.between(from, to) > maxAdvanceDays) {
+      throw new IllegalArgumentException("조회 기간은 최대 " + maxAdvanceDays + "일입니다.");
+    }
+  }
+}
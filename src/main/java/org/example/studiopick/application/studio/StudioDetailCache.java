@@ -0,0 +1,192 @@
+package org.example.studiopick.application.studio;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.application.studio.dto.StudioDetailSnapshot;
+import org.example.studiopick.common.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 스튜디오 상세/갤러리/가격 스냅샷 2단계 캐시
+ * - L1: 노드 로컬 Caffeine (짧은 TTL, 같은 스튜디오 동시 미스는 한 스레드만 로드)
+ * - L2: Redis, 키에 스튜디오별 버전을 포함 (studio:detail:{id}:{version})
+ * - 변경 시 커밋 후 버전 증가 → L1 무효화 → pub/sub 으로 다른 노드 L1 무효화 - 이전 버전 L2 항목은 더 이상 조회되지 않고 TTL 로 만료
+ * - L2 미스 시 Redis 락을 잡은 노드만 DB 에서 조립하고, 나머지는 잠시 L2 를 기다렸다가 그래도 없으면 직접 조립
+ * - Redis 장애 시 DB 조회로 대체
+ */
+@Slf4j
+@Component
+public class StudioDetailCache implements MessageListener {
+
+  public static final String INVALIDATION_CHANNEL = "studio-detail:invalidate";
+
+  private static final String VERSION_KEY_PREFIX = "studio:detail:ver:";
+  private static final String DATA_KEY_PREFIX = "studio:detail:";
+  private static final String LOCK_KEY_PREFIX = "studio:detail:lock:";
+  private static final Duration DATA_TTL = Duration.ofMinutes(30);
+  private static final Duration LOCK_TTL = Duration.ofSeconds(3);
+  private static final int LOCK_WAIT_POLLS = 10;
+  private static final long LOCK_WAIT_INTERVAL_MILLIS = 50;
+
+  private final Cache<Long, StudioDetailSnapshot> local;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+
+  public StudioDetailCache(@Value("${studio.detail-cache.max-size:5000}") long maxSize,
+                           @Value("${studio.detail-cache.local-ttl-seconds:60}") long localTtlSeconds,
+                           RedisTemplate<String, String> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+    this.local = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+        .recordStats()
+        .build();
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.objectMapper = objectMapper;
+    CaffeineCacheMetrics.monitor(meterRegistry, local, "studio.detail");
+  }
+
+  @PostConstruct
+  void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+  }
+
+  /**
+   * 스냅샷 조회 (L1 → L2 → loader), loader 예외는 그대로 전파되고 저장하지 않음
+   */
+  public StudioDetailSnapshot get(Long studioId, Function<Long, StudioDetailSnapshot> loader) {
+    return local.get(studioId, id -> loadShared(id, loader));
+  }
+
+  /**
+   * 스튜디오 변경 알림 - 커밋 후 버전 증가 및 전체 노드 L1 무효화
+   */
+  public void invalidate(Long studioId) {
+    TransactionUtils.afterCommit(() -> {
+      try {
+        // 버전을 먼저 올린 뒤 L1 을 비움 - 반대 순서면 그 사이의 조회가 이전 버전 L2 를 다시 L1 에 채움
+        redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + studioId);
+        local.invalidate(studioId);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(studioId));
+      } catch (Exception e) {
+        local.invalidate(studioId);
+        log.warn("스튜디오 상세 캐시 무효화 전파 실패: studioId={}, error={}", studioId, e.getMessage());
+      }
+    });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      local.invalidate(Long.valueOf(body));
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 스튜디오 상세 캐시 무효화 메시지: {}", body);
+    }
+  }
+
+  private StudioDetailSnapshot loadShared(Long studioId, Function<Long, StudioDetailSnapshot> loader) {
+    String version;
+    try {
+      version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + studioId);
+    } catch (Exception e) {
+      log.warn("스튜디오 상세 L2 조회 실패, DB 조회로 대체: studioId={}, error={}", studioId, e.getMessage());
+      return loader.apply(studioId);
+    }
+
+    String versioned = studioId + ":" + (version != null ? version : "0");
+    String dataKey = DATA_KEY_PREFIX + versioned;
+    StudioDetailSnapshot cached = readL2(dataKey);
+    if (cached != null) {
+      return cached;
+    }
+
+    String lockKey = LOCK_KEY_PREFIX + versioned;
+    boolean locked = tryLock(lockKey);
+    if (!locked) {
+      cached = awaitL2(dataKey);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    try {
+      StudioDetailSnapshot loaded = loader.apply(studioId);
+      writeL2(dataKey, loaded);
+      return loaded;
+    } finally {
+      if (locked) {
+        unlock(lockKey);
+      }
+    }
+  }
+
+  private StudioDetailSnapshot awaitL2(String dataKey) {
+    for (int poll = 0; poll < LOCK_WAIT_POLLS; poll++) {
+      try {
+        Thread.sleep(LOCK_WAIT_INTERVAL_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+      StudioDetailSnapshot cached = readL2(dataKey);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    return null;
+  }
+
+  private StudioDetailSnapshot readL2(String dataKey) {
+    try {
+      String json = redisTemplate.opsForValue().get(dataKey);
+      return json != null ? objectMapper.readValue(json, StudioDetailSnapshot.class) : null;
+    } catch (Exception e) {
+      log.warn("스튜디오 상세 L2 조회 실패: key={}, error={}", dataKey, e.getMessage());
+      return null;
+    }
+  }
+
+  private void writeL2(String dataKey, StudioDetailSnapshot snapshot) {
+    try {
+      redisTemplate.opsForValue().set(dataKey, objectMapper.writeValueAsString(snapshot), DATA_TTL);
+    } catch (Exception e) {
+      log.warn("스튜디오 상세 L2 저장 실패: key={}, error={}", dataKey, e.getMessage());
+    }
+  }
+
+  private boolean tryLock(String lockKey) {
+    try {
+      return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "1", LOCK_TTL));
+    } catch (Exception e) {
+      return true;
+    }
+  }
+
+  private void unlock(String lockKey) {
+    try {
+      redisTemplate.delete(lockKey);
+    } catch (Exception e) {
+      log.debug("스튜디오 상세 캐시 락 해제 실패 - TTL 로 만료: key={}", lockKey);
+    }
+  }
+}
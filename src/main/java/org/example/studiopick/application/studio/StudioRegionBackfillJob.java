@@ -0,0 +1,35 @@
+package org.example.studiopick.application.studio;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스튜디오 region 컬럼 초기 구성
+ * - region 이 비어 있고 주소가 있는 스튜디오를 기동 시 배치 단위로 채움 (이후 저장 시에는 엔티티가 자동 갱신)
+ * - 시/도를 알 수 없는 주소는 계속 비어 있으므로 매 기동 시 다시 확인만 하고 넘어감
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudioRegionBackfillJob {
+
+  private final StudioSearchService studioSearchService;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    try {
+      long batches = 0;
+      for (Long lastId = 0L; lastId != null; lastId = studioSearchService.backfillRegions(lastId)) {
+        batches++;
+      }
+      if (batches > 1) {
+        log.info("스튜디오 지역 컬럼 초기 구성 완료: {}배치", batches - 1);
+      }
+    } catch (Exception e) {
+      log.error("스튜디오 지역 컬럼 초기 구성 실패: error={}", e.getMessage());
+    }
+  }
+}
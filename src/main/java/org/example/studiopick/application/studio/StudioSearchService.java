@@ -0,0 +1,42 @@
+package org.example.studiopick.application.studio;
+
+import org.example.studiopick.application.studio.dto.StudioGeoResponse;
+import org.example.studiopick.application.studio.dto.StudioListResponse;
+import org.example.studiopick.application.studio.dto.StudioMapResponse;
+import org.example.studiopick.application.studio.dto.StudioSearchCondition;
+import org.example.studiopick.application.studio.dto.StudioSearchResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 스튜디오 검색 (목록/검색 화면 공용)
+ */
+public interface StudioSearchService {
+
+  /**
+   * 목록 화면용 (평점/리뷰 수 포함, page 는 1부터)
+   */
+  StudioListResponse list(StudioSearchCondition condition, int page, int limit);
+
+  /**
+   * 검색 화면용
+   */
+  Page<StudioSearchResponse> search(StudioSearchCondition condition, Pageable pageable);
+
+  /**
+   * 주변 스튜디오 (반경 radiusMeters 이내, 가까운 순)
+   */
+  List<StudioGeoResponse> nearby(double latitude, double longitude, int radiusMeters, int limit);
+
+  /**
+   * 지도 화면 영역 내 스튜디오
+   */
+  StudioMapResponse inBounds(double south, double west, double north, double east, int limit);
+
+  /**
+   * region 컬럼이 비어 있는 기존 스튜디오 채우기 - 처리한 마지막 ID, 더 없으면 null
+   */
+  Long backfillRegions(Long lastId);
+}
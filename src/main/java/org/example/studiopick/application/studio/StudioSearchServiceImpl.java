@@ -0,0 +1,156 @@
+package org.example.studiopick.application.studio;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.application.studio.dto.PaginationDto;
+import org.example.studiopick.application.studio.dto.StudioListDto;
+import org.example.studiopick.application.studio.dto.StudioGeoResponse;
+import org.example.studiopick.application.studio.dto.StudioListResponse;
+import org.example.studiopick.application.studio.dto.StudioMapResponse;
+import org.example.studiopick.application.studio.dto.StudioSearchCondition;
+import org.example.studiopick.application.studio.dto.StudioSearchResponse;
+import org.example.studiopick.common.dto.studio.StudioSearchRow;
+import org.example.studiopick.common.util.ImageVariantUrls;
+import org.example.studiopick.domain.studio.StudioGeoPoint;
+import org.example.studiopick.infrastructure.s3.ImageVariantRegistry;
+import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
+import org.example.studiopick.infrastructure.studio.StudioGeoIndex;
+import org.example.studiopick.infrastructure.studio.mybatis.StudioSearchMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 스튜디오 검색
+ * - 지역은 정규화된 region 컬럼 일치, 가격은 시간당 기본 요금 범위, 키워드는 이름/소개/시설 trigram 인덱스 (db/studio-search.sql)
+ * - 평점은 studio_rating_stats 를 같은 쿼리에서 LEFT JOIN (스튜디오별 추가 쿼리 없음)
+ * - 결과가 한 페이지 안에 모두 들어오면 COUNT 쿼리 생략
+ * - 주변/지도 검색은 DB 대신 StudioGeoIndex (노출 대상만 보관) 에서 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudioSearchServiceImpl implements StudioSearchService {
+
+  private static final int BACKFILL_BATCH_SIZE = 500;
+  private static final int MAX_RADIUS_METERS = 50_000;
+  private static final int MAX_GEO_LIMIT = 500;
+
+  private final StudioSearchMapper studioSearchMapper;
+  private final JpaStudioRepository studioRepository;
+  private final StudioGeoIndex geoIndex;
+  private final ImageVariantRegistry imageVariantRegistry;
+
+  @Override
+  @Transactional(readOnly = true)
+  public StudioListResponse list(StudioSearchCondition condition, int page, int limit) {
+    if (page < 1) {
+      throw new IllegalArgumentException("페이지 번호는 1 이상이어야 합니다.");
+    }
+    if (limit < 1 || limit > 100) {
+      throw new IllegalArgumentException("페이지 크기는 1 이상 100 이하여야 합니다.");
+    }
+
+    long offset = (long) (page - 1) * limit;
+    List<StudioSearchRow> rows = studioSearchMapper.search(condition, offset, limit);
+    long total = total(condition, offset, limit, rows.size());
+
+    List<StudioListDto> content = rows.stream()
+        .map(row -> new StudioListDto(
+            row.id(),
+            row.name(),
+            row.location(),
+            row.hourlyBaseRate(),
+            row.averageRating(),
+            row.reviewCount().intValue(),
+            row.thumbnailImage()
+        ))
+        .toList();
+
+    PaginationDto pagination = new PaginationDto(page, limit, total, (int) ((total + limit - 1) / limit));
+    return new StudioListResponse(content, pagination);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<StudioSearchResponse> search(StudioSearchCondition condition, Pageable pageable) {
+    List<StudioSearchRow> rows = studioSearchMapper.search(condition, pageable.getOffset(), pageable.getPageSize());
+    long total = total(condition, pageable.getOffset(), pageable.getPageSize(), rows.size());
+    ImageVariantUrls variants = imageVariantRegistry.lookup(rows.stream().map(StudioSearchRow::thumbnailImage).toList());
+    return new PageImpl<>(rows.stream().map(row -> StudioSearchResponse.from(row, variants)).toList(), pageable, total);
+  }
+
+  @Override
+  public List<StudioGeoResponse> nearby(double latitude, double longitude, int radiusMeters, int limit) {
+    validateCoordinate(latitude, longitude);
+    if (radiusMeters < 1 || radiusMeters > MAX_RADIUS_METERS) {
+      throw new IllegalArgumentException("검색 반경은 1m 이상 " + MAX_RADIUS_METERS + "m 이하여야 합니다.");
+    }
+    validateGeoLimit(limit);
+
+    List<StudioGeoIndex.Hit> hits = geoIndex.within(latitude, longitude, radiusMeters, limit);
+    ImageVariantUrls variants = imageVariantRegistry.lookup(
+        hits.stream().map(hit -> hit.studio().thumbnailImage()).toList());
+    return hits.stream()
+        .map(hit -> StudioGeoResponse.from(hit.studio(), Math.round(hit.distanceMeters()), variants))
+        .toList();
+  }
+
+  @Override
+  public StudioMapResponse inBounds(double south, double west, double north, double east, int limit) {
+    validateCoordinate(south, west);
+    validateCoordinate(north, east);
+    if (south > north || west > east) {
+      throw new IllegalArgumentException("지도 영역이 올바르지 않습니다.");
+    }
+    validateGeoLimit(limit);
+
+    // limit + 1 건을 조회해서 잘렸는지 판단
+    List<StudioGeoPoint> points = geoIndex.inBounds(south, west, north, east, limit + 1);
+    boolean truncated = points.size() > limit;
+    List<StudioGeoPoint> page = points.stream().limit(limit).toList();
+    ImageVariantUrls variants = imageVariantRegistry.lookup(page.stream().map(StudioGeoPoint::thumbnailImage).toList());
+    List<StudioGeoResponse> studios = page.stream()
+        .map(point -> StudioGeoResponse.from(point, null, variants))
+        .toList();
+    return new StudioMapResponse(studios, truncated);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public Long backfillRegions(Long lastId) {
+    List<Long> ids = studioSearchMapper.findIdsWithoutRegion(lastId, BACKFILL_BATCH_SIZE);
+    if (ids.isEmpty()) {
+      return null;
+    }
+    studioRepository.findAllById(ids).forEach(studio -> studio.refreshRegion());
+    return ids.get(ids.size() - 1);
+  }
+
+  private long total(StudioSearchCondition condition, long offset, int limit, int fetched) {
+    if (fetched > 0 && fetched < limit) {
+      return offset + fetched;
+    }
+    if (fetched == 0 && offset == 0) {
+      return 0;
+    }
+    return studioSearchMapper.count(condition);
+  }
+
+  private void validateCoordinate(double latitude, double longitude) {
+    if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+      throw new IllegalArgumentException("올바르지 않은 좌표입니다.");
+    }
+  }
+
+  private void validateGeoLimit(int limit) {
+    if (limit < 1 || limit > MAX_GEO_LIMIT) {
+      throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_GEO_LIMIT + " 이하여야 합니다.");
+    }
+  }
+}
@@ -3,8 +3,6 @@ package org.example.studiopick.application.studio;
 import org.example.studiopick.application.studio.dto.*;
 import org.example.studiopick.application.studio.dto.SpaceRentalApplicationRequest;
 import org.example.studiopick.domain.user.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -14,8 +12,6 @@ public interface StudioService {
   List<GalleryDto> gallery(Long studioId);
   PricingDto pricing(Long studioId);
   List<StudioAvailableDto> availableNow();
-  StudioListResponse searchStudios(String location, String sort, int page, int limit);
-  Page<StudioSearchResponse> activeStudios(String region, String keyword, String sort, Pageable pageable);
 
   // 분리된 상태 조회 메서드들
   StudioDetailDto createStudio(StudioCreateRequest request, Long userId);
@@ -3,10 +3,13 @@ package org.example.studiopick.application.studio;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.application.review.service.ReviewRatingAggregator;
 import org.example.studiopick.application.studio.dto.*;
 import org.example.studiopick.domain.common.enums.ReservationStatus;
 import org.example.studiopick.domain.common.enums.StudioStatus;
-import org.example.studiopick.domain.reservation.Reservation;
+import org.example.studiopick.domain.reservation.DaySlots;
+import org.example.studiopick.domain.reservation.ReservationSlotIndex;
+import org.example.studiopick.domain.review.RatingSummary;
 import org.example.studiopick.domain.studio.Studio;
 import org.example.studiopick.domain.studio.StudioCommission;
 import org.example.studiopick.domain.studio.StudioImage;
@@ -14,15 +17,11 @@ import org.example.studiopick.domain.studio.StudioOperatingHours;
 import org.example.studiopick.domain.user.User;
 import org.example.studiopick.infrastructure.User.JpaUserRepository;
 import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
-import org.example.studiopick.infrastructure.review.ReviewRepository;
 import org.example.studiopick.infrastructure.s3.S3Uploader;
 import org.example.studiopick.infrastructure.studio.JpaStudioImageRepository;
 import org.example.studiopick.infrastructure.studio.JpaStudioOperatingHoursRepository;
 import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.example.studiopick.infrastructure.studio.StudioGeoIndex;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -30,8 +29,12 @@ import org.springframework.web.multipart.MultipartFile;
 import java.math.BigDecimal;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,115 +46,81 @@ public class StudioServiceImpl implements StudioService {
   private final JpaReservationRepository reservationRepository;
 //  private final ArtworkRepository artworkRepository;
   private final JpaStudioImageRepository imageRepository;
-  private final ReviewRepository reviewRepository;
+  private final ReviewRatingAggregator ratingAggregator;
   private final FileUploader fileUploader;
   private final JpaUserRepository userRepository;
   private final S3Uploader s3Uploader;
+  private final ReservationSlotIndex slotIndex;
+  private final StudioGeoIndex geoIndex;
+  private final StudioDetailCache detailCache;
 
   /**
-   * 스튜디오(공간) 검색
+   * 스튜디오 상세 정보 조회 (평점은 캐시하지 않고 매번 집계 테이블에서 조회)
    */
   @Override
-  @Transactional(readOnly = true)
-  public StudioListResponse searchStudios(String location, String price, int page, int limit) {
-    Pageable pageable = PageRequest.of(page - 1, limit);
-    Page<Studio> studios = studioRepository.findActiveStudios(pageable);
-
-    List<StudioListDto> content = studios.getContent().stream()
-        .map(studio -> new StudioListDto(
-            studio.getId(),
-            studio.getName(),
-            studio.getLocation(),
-            studio.getHourlyBaseRate(),
-            calculateAverageRating(studio.getId()),
-            calculateReviewCount(studio.getId()),
-            studio.getThumbnailImage()
-        ))
-        .toList();
-
-    PaginationDto pagination = new PaginationDto(
-        page,
-        limit,
-        studios.getTotalElements(),
-        studios.getTotalPages()
-    );
+  public StudioDetailDto findById(Long studioId) {
+    StudioDetailSnapshot snapshot = detailCache.get(studioId, this::loadSnapshot);
+    if (snapshot == null) {
+      throw new EntityNotFoundException("해당 스튜디오가 없습니다.");
+    }
+    return snapshot.detail().withRating(ratingAggregator.studioSummary(studioId));
+  }
 
-    return new StudioListResponse(content, pagination);
+  private StudioDetailDto getStudioDetail(Long studioId) {
+    Studio studio = studioRepository.findById(studioId)
+        .orElseThrow(() -> new EntityNotFoundException("해당 스튜디오가 없습니다."));
+    return assemble(studio).detail().withRating(ratingAggregator.studioSummary(studioId));
   }
 
   /**
-   * 키워드로 스튜디오 검색
+   * 스튜디오 갤러리 조회
    */
   @Override
-  @Transactional(readOnly = true)
-  public Page<StudioSearchResponse> activeStudios(String region, String keyword, String sort, Pageable pageable) {
-    // 1. 정렬 조건에 따라 정렬된 Pageable 생성
-    PageRequest sortedPageable = switch (sort) {
-      case "priceLow" -> PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("hourlyBaseRate").ascending());
-      case "priceHigh" -> PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("hourlyBaseRate").descending());
-      case "popular" -> PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "id")); // 정렬용 컬럼 무의미화
-      default ->  PageRequest.of(
-          pageable.getPageNumber(),
-          pageable.getPageSize(),
-          pageable.getSort()
-      );
-    };
-
-    Page<Studio> studios = studioRepository.searchStudios(region, keyword, sortedPageable);
-    return studios.map(studio -> {
-      Double avg = reviewRepository.getAverageRatingByStudioId(studio.getId());
-      double averageRating = avg != null ? avg : 0.0;
-
-      return StudioSearchResponse.from(studio, averageRating);
-    });
+  public List<GalleryDto> gallery(Long studioId) {
+    StudioDetailSnapshot snapshot = detailCache.get(studioId, this::loadSnapshot);
+    if (snapshot == null) {
+      throw new IllegalArgumentException("스튜디오를 찾을 수 없습니다.");
+    }
+    return snapshot.gallery();
   }
+
   /**
-   * 스튜디오 상세 정보 조회
+   * 스튜디오 가격 정보 조회
    */
   @Override
-  public StudioDetailDto findById(Long studioId) {
-    Studio studio = studioRepository.findById(studioId)
-        .orElseThrow(() -> new EntityNotFoundException("해당 스튜디오가 없습니다."));
-
-    List<String> imageUrls = studio.getImages().stream()
-        .map(StudioImage::getImageUrl)
-        .collect(Collectors.toList());
-
-    return new StudioDetailDto(
-        studio.getId(),
-        studio.getName(),
-        studio.getDescription(),
-        studio.getPhone(),
-        studio.getLocation(),
-        studio.getHourlyBaseRate(),
-        studio.getWeekendPrice(),
-        studio.getPerPersonRate(),
-        studio.getMaxPeople(),
-        studio.getSize(),
-        studio.getFacilities(),
-        studio.getRules(),
-        studio.getThumbnailImage(),
-        imageUrls,
-        studio.getOperatingHours().stream()
-            .map(OperatingHoursDto::fromEntity)
-            .toList()
-    );
+  public PricingDto pricing(Long studioId) {
+    StudioDetailSnapshot snapshot = detailCache.get(studioId, this::loadSnapshot);
+    if (snapshot == null) {
+      throw new IllegalArgumentException("스튜디오를 찾을 수 없습니다.");
+    }
+    return snapshot.pricing();
   }
 
-  private StudioDetailDto getStudioDetail(Long studioId) {
-    Studio studio = studioRepository.findById(studioId)
-        .orElseThrow(() -> new EntityNotFoundException("해당 스튜디오가 없습니다."));
+  private StudioDetailSnapshot loadSnapshot(Long studioId) {
+    return studioRepository.findById(studioId)
+        .map(this::assemble)
+        .orElse(null);
+  }
 
+  private StudioDetailSnapshot assemble(Studio studio) {
     List<String> imageUrls = studio.getImages().stream()
         .map(StudioImage::getImageUrl)
         .toList();
+    List<GalleryDto> gallery = studio.getImages().stream()
+        .map(image -> new GalleryDto(
+            image.getId(),
+            image.getImageUrl()
+        ))
+        .toList();
 
-    return new StudioDetailDto(
+    StudioDetailDto detail = new StudioDetailDto(
         studio.getId(),
         studio.getName(),
         studio.getDescription(),
         studio.getPhone(),
         studio.getLocation(),
+        studio.getLatitude(),
+        studio.getLongitude(),
         studio.getHourlyBaseRate(),
         studio.getWeekendPrice(),
         studio.getPerPersonRate(),
@@ -163,39 +132,17 @@ public class StudioServiceImpl implements StudioService {
         imageUrls,
         studio.getOperatingHours().stream()
             .map(OperatingHoursDto::fromEntity)
-            .toList()
+            .toList(),
+        null,
+        null,
+        null
     );
-  }
-
-  /**
-   * 스튜디오 갤러리 조회
-   */
-  @Override
-  public List<GalleryDto> gallery(Long studioId) {
-    Studio studio = studioRepository.findById(studioId)
-        .orElseThrow(() -> new IllegalArgumentException("스튜디오를 찾을 수 없습니다."));
-
-    return studio.getImages().stream()
-        .map(image -> new GalleryDto(
-            image.getId(),
-            image.getImageUrl()
-        ))
-        .collect(Collectors.toList());
-  }
-
-  /**
-   * 스튜디오 가격 정보 조회
-   */
-  @Override
-  public PricingDto pricing(Long studioId) {
-    Studio studio = studioRepository.findById(studioId)
-        .orElseThrow(() -> new IllegalArgumentException("스튜디오를 찾을 수 없습니다."));
-
-    return new PricingDto(
+    PricingDto pricing = new PricingDto(
         studio.getHourlyBaseRate(),
         studio.getWeekendPrice(),
         studio.getPerPersonRate()
     );
+    return new StudioDetailSnapshot(detail, gallery, pricing);
   }
 
   /**
@@ -208,9 +155,17 @@ public class StudioServiceImpl implements StudioService {
     ZonedDateTime limit = now.plusMinutes(30);
     DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
     List<Studio> activeStudios = studioRepository.findAllByStatus(StudioStatus.ACTIVE);
+    if (activeStudios.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> studioIds = activeStudios.stream().map(Studio::getId).toList();
+    LocalTime from = now.toLocalTime();
+    LocalTime to = limit.toLocalDate().isAfter(today) ? LocalTime.MAX : limit.toLocalTime();
+    Set<Long> occupied = occupiedStudioIds(studioIds, today, from, to);
 
     return activeStudios.stream()
-        .filter(studio -> isStudioAvailable(studio, today, now, limit))
+        .filter(studio -> !occupied.contains(studio.getId()))
         .map(s -> new StudioAvailableDto(
             s.getId(),
             s.getName(),
@@ -220,6 +175,39 @@ public class StudioServiceImpl implements StudioService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * [from, to) 에 활성(PENDING/CONFIRMED) 예약이 있는 스튜디오
+   * - 조회 구간을 슬롯 경계로 넓혀 비트마스크로 판정 (모든 예약이 경계에 맞는 날은 넓혀도 결과가 같음)
+   * - 경계에 맞지 않는 예약이 있는 스튜디오만 실제 예약 시각을 한 번에 조회
+   */
+  Set<Long> occupiedStudioIds(List<Long> studioIds, LocalDate date, LocalTime from, LocalTime to) {
+    Map<Long, Map<LocalDate, DaySlots>> slots = slotIndex.getAll(studioIds, date, date);
+    LocalTime slotFrom = DaySlots.floorToSlot(from);
+    LocalTime slotTo = DaySlots.ceilToSlot(to);
+
+    Set<Long> occupied = new HashSet<>();
+    List<Long> inexact = new ArrayList<>();
+    for (Long studioId : studioIds) {
+      DaySlots daySlots = slots.get(studioId).get(date);
+      if (slotTo != null && daySlots.canAnswer(ReservationStatus.CONFIRMED, slotFrom, slotTo)) {
+        if (daySlots.overlaps(ReservationStatus.PENDING, slotFrom, slotTo)
+            || daySlots.overlaps(ReservationStatus.CONFIRMED, slotFrom, slotTo)) {
+          occupied.add(studioId);
+        }
+      } else {
+        inexact.add(studioId);
+      }
+    }
+    if (!inexact.isEmpty()) {
+      for (Object[] row : reservationRepository.findActiveTimeSlotsIn(inexact, date, date)) {
+        if (((LocalTime) row[2]).isBefore(to) && ((LocalTime) row[3]).isAfter(from)) {
+          occupied.add((Long) row[0]);
+        }
+      }
+    }
+    return occupied;
+  }
+
   /**
    * 공간 운영신청 신청
    */
@@ -258,13 +246,12 @@ public class StudioServiceImpl implements StudioService {
     // 스튜디오 이미지 저장
     List<String> imageUrls = request.images();
     if (imageUrls != null) {
-      for (String url : imageUrls) {
-        StudioImage studioImage = StudioImage.builder()
-            .studio(studio)
-            .imageUrl(url)
-            .build();
-        imageRepository.save(studioImage);
-      }
+      imageRepository.saveAll(imageUrls.stream()
+          .map(url -> StudioImage.builder()
+              .studio(studio)
+              .imageUrl(url)
+              .build())
+          .toList());
     }
 
     return new StudioApplicationResponse(
@@ -318,6 +305,7 @@ public class StudioServiceImpl implements StudioService {
         .rules(request.rules())
         .thumbnailImage(request.thumbnailImage())
         .build();
+    studio.updateCoordinates(request.latitude(), request.longitude());
 
     // 운영시간 추가
     request.operatingHours().forEach(hourDto -> {
@@ -333,6 +321,7 @@ public class StudioServiceImpl implements StudioService {
     }
 
     studioRepository.save(studio);
+    geoIndex.changed(studio.getId());
     return getStudioDetail(studio.getId());
   }
 
@@ -364,6 +353,9 @@ public class StudioServiceImpl implements StudioService {
     }else {
       studio.updateLocation("임시 위치");
     }
+    if (request.latitude() != null || request.longitude() != null) {
+      studio.updateCoordinates(request.latitude(), request.longitude());
+    }
 
     // 운영 시간 교체 로직
     studio.getOperatingHours().clear();
@@ -379,6 +371,8 @@ public class StudioServiceImpl implements StudioService {
       }
     }
 
+    geoIndex.changed(studio.getId());
+    detailCache.invalidate(studio.getId());
     return getStudioDetail(studio.getId());
   }
 
@@ -392,21 +386,12 @@ public class StudioServiceImpl implements StudioService {
         .orElseThrow(() -> new IllegalArgumentException("스튜디오를 찾을 수 없습니다."));
 
     studio.changeStatus(StudioStatus.INACTIVE);
+    geoIndex.changed(studioId);
+    detailCache.invalidate(studioId);
   }
 
   // === Private Helper Methods ===
 
-  private boolean isStudioAvailable(Studio studio, LocalDate today, ZonedDateTime now, ZonedDateTime limit) {
-    List<Reservation> reservations = reservationRepository.findByStudioIdAndReservationDateAndStatus(
-        studio.getId(), today, ReservationStatus.CONFIRMED);
-
-    return reservations.stream().noneMatch(r -> {
-      LocalDateTime start = LocalDateTime.of(r.getReservationDate(), r.getStartTime());
-      LocalDateTime end = LocalDateTime.of(r.getReservationDate(), r.getEndTime());
-      return now.toLocalDateTime().isBefore(end) && limit.toLocalDateTime().isAfter(start);
-    });
-  }
-
   private void processFileUploads(Studio studio, MultipartFile businessLicense, 
                                  List<MultipartFile> documents, List<MultipartFile> images) {
     // 사업자등록증 업로드
@@ -442,28 +427,14 @@ public class StudioServiceImpl implements StudioService {
     };
   }
 
-  private double calculateAverageRating(Long studioId) {
-    // TODO: 리뷰 시스템과 연동하여 실제 평점 계산
-    return 0.0;
-  }
-
-  private int calculateReviewCount(Long studioId) {
-    // TODO: 리뷰 시스템과 연동하여 실제 리뷰 개수 계산
-    return 0;
-  }
-
   @Override
   public List<String> uploadStudioImages(MultipartFile[] images) {
     if (images.length > 5) {
       throw new IllegalArgumentException("최대 5장의 이미지만 업로드 가능합니다.");
     }
 
-    return Arrays.stream(images)
-        .map(image -> {
-          validateImageFile(image);
-          return s3Uploader.upload(image, "studio-images");
-        })
-        .toList();
+    Arrays.stream(images).forEach(this::validateImageFile);
+    return s3Uploader.uploadFiles(Arrays.asList(images), "studio-images");
   }
 
   private void validateImageFile(MultipartFile file) {
@@ -484,17 +455,22 @@ public class StudioServiceImpl implements StudioService {
   @Override
   public List<StudioDto> getMyStudios(Long userId) {
     List<Studio> studios = studioRepository.findByOwnerId(userId);
+    Map<Long, RatingSummary> ratings = ratingAggregator.studioSummaries(
+        studios.stream().map(Studio::getId).toList());
     return studios.stream()
-        .map(studio -> new StudioDto(
-            studio.getId(),
-            studio.getName(),
-            studio.getLocation(),
-            studio.getHourlyBaseRate(),
-            calculateAverageRating(studio.getId()),
-            calculateReviewCount(studio.getId()),
-            studio.getThumbnailImage(),
-            studio.getStatus()
-        ))
+        .map(studio -> {
+          RatingSummary rating = ratings.getOrDefault(studio.getId(), RatingSummary.EMPTY);
+          return new StudioDto(
+              studio.getId(),
+              studio.getName(),
+              studio.getLocation(),
+              studio.getHourlyBaseRate(),
+              rating.getRatingAverage(),
+              (int) rating.getReviewCount(),
+              studio.getThumbnailImage(),
+              studio.getStatus()
+          );
+        })
         .collect(Collectors.toList());
   }
 
@@ -515,6 +491,8 @@ public class StudioServiceImpl implements StudioService {
     }
 
     studioRepository.save(studio);
+    geoIndex.changed(studioId);
+    detailCache.invalidate(studioId);
   }
 
 }
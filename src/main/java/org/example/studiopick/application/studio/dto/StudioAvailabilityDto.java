@@ -0,0 +1,10 @@
+package org.example.studiopick.application.studio.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record StudioAvailabilityDto(
+    Long studioId,
+    LocalDate date,
+    List<TimeWindowDto> freeWindows
+) {}
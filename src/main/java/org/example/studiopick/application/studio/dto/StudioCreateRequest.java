@@ -11,6 +11,8 @@ public record StudioCreateRequest(
     @NotBlank String description,
     @NotBlank String phone,
     @NotNull Long hourlyBaseRate,
+    Double latitude,
+    Double longitude,
     BigDecimal weekendPrice,
     Integer maxPeople,
     Long perPersonRate,
@@ -1,5 +1,7 @@
 package org.example.studiopick.application.studio.dto;
 
+import org.example.studiopick.domain.review.RatingSummary;
+
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -9,6 +11,8 @@ public record StudioDetailDto(
     String description,
     String phone,
     String location,
+    Double latitude,
+    Double longitude,
     Long hourlyBaseRate,
     BigDecimal weekendPrice,
     Long perPersonRate,
@@ -18,5 +22,17 @@ public record StudioDetailDto(
     String rules,
     String thumbnailImage,
     List<String> imageUrls,
-    List<OperatingHoursDto> operatingHours
-) {}
+    List<OperatingHoursDto> operatingHours,
+    Double averageRating,
+    Long reviewCount,
+    List<Long> ratingHistogram
+) {
+  public StudioDetailDto withRating(RatingSummary rating) {
+    return new StudioDetailDto(
+        id, name, description, phone, location, latitude, longitude,
+        hourlyBaseRate, weekendPrice, perPersonRate, maxPeople, size,
+        facilities, rules, thumbnailImage, imageUrls, operatingHours,
+        rating.getRatingAverage(), rating.getReviewCount(), rating.histogram()
+    );
+  }
+}
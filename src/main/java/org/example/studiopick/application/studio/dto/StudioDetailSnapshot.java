@@ -0,0 +1,12 @@
+package org.example.studiopick.application.studio.dto;
+
+import java.util.List;
+
+/**
+ * 스튜디오 상세/갤러리/가격 화면용으로 미리 조립한 스냅샷 (StudioDetailCache 저장 단위)
+ */
+public record StudioDetailSnapshot(
+    StudioDetailDto detail,
+    List<GalleryDto> gallery,
+    PricingDto pricing
+) {}
@@ -0,0 +1,34 @@
+package org.example.studiopick.application.studio.dto;
+
+import org.example.studiopick.common.util.ImageVariant;
+import org.example.studiopick.common.util.ImageVariantUrls;
+import org.example.studiopick.domain.studio.StudioGeoPoint;
+
+/**
+ * 지도/주변 검색 결과 (distanceMeters 는 주변 검색일 때만)
+ */
+public record StudioGeoResponse(
+    Long id,
+    String name,
+    String location,
+    Long hourlyBaseRate,
+    double latitude,
+    double longitude,
+    String thumbnailImage,
+    String thumbnailImageSmall,
+    Long distanceMeters
+) {
+  public static StudioGeoResponse from(StudioGeoPoint point, Long distanceMeters, ImageVariantUrls variants) {
+    return new StudioGeoResponse(
+        point.id(),
+        point.name(),
+        point.location(),
+        point.hourlyBaseRate(),
+        point.latitude(),
+        point.longitude(),
+        point.thumbnailImage(),
+        variants.of(ImageVariant.SMALL, point.thumbnailImage()),
+        distanceMeters
+    );
+  }
+}
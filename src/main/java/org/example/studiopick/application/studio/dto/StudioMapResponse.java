@@ -0,0 +1,11 @@
+package org.example.studiopick.application.studio.dto;
+
+import java.util.List;
+
+/**
+ * 지도 영역 검색 결과 (truncated 면 영역 안에 limit 보다 많은 스튜디오가 있음 - 확대 필요)
+ */
+public record StudioMapResponse(
+    List<StudioGeoResponse> studios,
+    boolean truncated
+) {}
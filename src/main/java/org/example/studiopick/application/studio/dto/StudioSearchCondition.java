@@ -0,0 +1,71 @@
+package org.example.studiopick.application.studio.dto;
+
+import lombok.Getter;
+import org.example.studiopick.domain.studio.Regions;
+
+import java.util.Set;
+
+/**
+ * 스튜디오 검색 조건 (정규화된 값)
+ * - region: 시/도 약칭 (서울특별시, 서울시 → 서울)
+ * - keyword: 이름/소개/시설 부분 일치, keywordPattern 은 LIKE 특수문자를 이스케이프한 ILIKE 패턴
+ * - sort: relevance(키워드 관련도), rating, priceLow, priceHigh, latest - 키워드가 있고 정렬을 지정하지 않으면 relevance
+ */
+@Getter
+public class StudioSearchCondition {
+
+  private static final int MAX_KEYWORD_LENGTH = 50;
+  private static final Set<String> SORTS = Set.of("relevance", "rating", "priceLow", "priceHigh", "latest");
+
+  private final String region;
+  private final String keyword;
+  private final String keywordPattern;
+  private final Long minPrice;
+  private final Long maxPrice;
+  private final String sort;
+
+  private StudioSearchCondition(String region, String keyword, Long minPrice, Long maxPrice, String sort) {
+    this.region = region;
+    this.keyword = keyword;
+    this.keywordPattern = keyword != null ? "%" + escapeLike(keyword) + "%" : null;
+    this.minPrice = minPrice;
+    this.maxPrice = maxPrice;
+    this.sort = sort;
+  }
+
+  public static StudioSearchCondition of(String region, String keyword, Long minPrice, Long maxPrice, String sort) {
+    String normalizedRegion = null;
+    if (region != null && !region.isBlank()) {
+      normalizedRegion = Regions.of(region);
+      if (normalizedRegion == null) {
+        throw new IllegalArgumentException("지원하지 않는 지역입니다: " + region);
+      }
+    }
+
+    String normalizedKeyword = keyword != null && !keyword.isBlank() ? keyword.strip() : null;
+    if (normalizedKeyword != null && normalizedKeyword.length() > MAX_KEYWORD_LENGTH) {
+      throw new IllegalArgumentException("검색어는 " + MAX_KEYWORD_LENGTH + "자 이하로 입력해 주세요.");
+    }
+
+    if ((minPrice != null && minPrice < 0) || (maxPrice != null && maxPrice < 0)) {
+      throw new IllegalArgumentException("가격은 0 이상이어야 합니다.");
+    }
+    if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+      throw new IllegalArgumentException("최소 가격이 최대 가격보다 클 수 없습니다.");
+    }
+
+    String normalizedSort = sort != null && SORTS.contains(sort) ? sort : null;
+    if ("relevance".equals(normalizedSort) && normalizedKeyword == null) {
+      normalizedSort = null;
+    }
+    if (normalizedSort == null) {
+      normalizedSort = normalizedKeyword != null ? "relevance" : "latest";
+    }
+
+    return new StudioSearchCondition(normalizedRegion, normalizedKeyword, minPrice, maxPrice, normalizedSort);
+  }
+
+  private static String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
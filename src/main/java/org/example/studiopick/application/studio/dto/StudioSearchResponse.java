@@ -1,8 +1,8 @@
 package org.example.studiopick.application.studio.dto;
 
-import org.example.studiopick.domain.studio.Studio;
-
-import java.util.List;
+import org.example.studiopick.common.dto.studio.StudioSearchRow;
+import org.example.studiopick.common.util.ImageVariant;
+import org.example.studiopick.common.util.ImageVariantUrls;
 
 public record StudioSearchResponse(
     Long id,
@@ -10,16 +10,20 @@ public record StudioSearchResponse(
     String location,
     Long hourlyBaseRate,
     double averageRating,
-    String thumbnailImage
+    String thumbnailImage,
+    String thumbnailImageSmall,
+    String thumbnailImageMedium
 ) {
-  public static StudioSearchResponse from(Studio studio, double averageRating) {
+  public static StudioSearchResponse from(StudioSearchRow row, ImageVariantUrls variants) {
     return new StudioSearchResponse(
-        studio.getId(),
-        studio.getName(),
-        studio.getLocation(),
-        studio.getHourlyBaseRate(),
-        averageRating,
-        studio.getThumbnailImage()
+        row.id(),
+        row.name(),
+        row.location(),
+        row.hourlyBaseRate(),
+        row.averageRating(),
+        row.thumbnailImage(),
+        variants.of(ImageVariant.SMALL, row.thumbnailImage()),
+        variants.of(ImageVariant.MEDIUM, row.thumbnailImage())
     );
   }
 }
@@ -0,0 +1,17 @@
+package org.example.studiopick.application.studio.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import org.example.studiopick.domain.reservation.TimeWindow;
+
+import java.time.LocalTime;
+
+public record TimeWindowDto(
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    LocalTime startTime,
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    LocalTime endTime
+) {
+    public static TimeWindowDto from(TimeWindow window) {
+        return new TimeWindowDto(window.startTime(), window.endTime());
+    }
+}
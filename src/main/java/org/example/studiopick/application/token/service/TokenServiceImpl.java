@@ -1,25 +1,19 @@
 package org.example.studiopick.application.token.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.example.studiopick.infrastructure.token.TokenBlacklist;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-
 @Service
 @RequiredArgsConstructor
 public class TokenServiceImpl implements TokenService {
-  private final RedisTemplate<String, String> redisTemplate;
+  private final TokenBlacklist tokenBlacklist;
 
   public void blacklistToken(String accessToken, long expirationInMillis) {
-    redisTemplate.opsForValue().set(
-        accessToken,
-        "logout",
-        Duration.ofMillis(expirationInMillis)
-    );
+    tokenBlacklist.add(accessToken, expirationInMillis);
   }
 
   public boolean isBlacklisted(String accessToken) {
-    return redisTemplate.hasKey(accessToken);
+    return tokenBlacklist.contains(accessToken);
   }
 }
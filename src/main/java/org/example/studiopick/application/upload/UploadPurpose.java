@@ -0,0 +1,29 @@
+package org.example.studiopick.application.upload;
+
+/**
+ * 직접 업로드 용도별 저장 디렉터리/최대 용량 (기존 MultipartFile 업로드 경로와 같은 디렉터리 사용)
+ */
+public enum UploadPurpose {
+
+  STUDIO("studio-images", 10 * 1024 * 1024),
+  WORKSHOP("classes", 10 * 1024 * 1024),
+  REVIEW("reviews", 10 * 1024 * 1024),
+  ARTWORK("artworks", 10 * 1024 * 1024),
+  PROFILE("profile", 10 * 1024 * 1024);
+
+  private final String dirName;
+  private final long maxSize;
+
+  UploadPurpose(String dirName, long maxSize) {
+    this.dirName = dirName;
+    this.maxSize = maxSize;
+  }
+
+  public String dirName() {
+    return dirName;
+  }
+
+  public long maxSize() {
+    return maxSize;
+  }
+}
@@ -0,0 +1,20 @@
+package org.example.studiopick.application.upload;
+
+import org.example.studiopick.application.upload.dto.PresignUploadRequest;
+import org.example.studiopick.application.upload.dto.PresignUploadResponse;
+
+/**
+ * 이미지 직접 업로드 (presigned PUT) 서비스
+ */
+public interface UploadService {
+
+  /**
+   * presigned PUT URL 발급 (크기/형식 검증 후)
+   */
+  PresignUploadResponse presign(PresignUploadRequest request);
+
+  /**
+   * 업로드 완료 확인 후 이미지 URL 반환 - 반환된 URL 을 기존 등록/수정 요청의 이미지 URL 로 사용
+   */
+  String finalizeUpload(UploadPurpose purpose, String key);
+}
@@ -0,0 +1,36 @@
+package org.example.studiopick.application.upload;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.application.upload.dto.PresignUploadRequest;
+import org.example.studiopick.application.upload.dto.PresignUploadResponse;
+import org.example.studiopick.infrastructure.s3.S3Uploader;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadServiceImpl implements UploadService {
+
+  private final S3Uploader s3Uploader;
+
+  @Override
+  public PresignUploadResponse presign(PresignUploadRequest request) {
+    UploadPurpose purpose = request.purpose();
+    if (!S3Uploader.isDirectUploadType(request.contentType())) {
+      throw new IllegalArgumentException("JPEG, PNG, WebP, GIF 이미지만 업로드할 수 있습니다.");
+    }
+    if (request.contentLength() > purpose.maxSize()) {
+      throw new IllegalArgumentException("파일 용량은 " + purpose.maxSize() / (1024 * 1024) + "MB 이하만 가능합니다.");
+    }
+    return PresignUploadResponse.from(s3Uploader.presignUpload(
+        purpose.dirName(), request.fileName(), request.contentType(), request.contentLength(), request.sha256()));
+  }
+
+  @Override
+  public String finalizeUpload(UploadPurpose purpose, String key) {
+    String url = s3Uploader.finalizeUpload(purpose.dirName(), key, purpose.maxSize());
+    log.debug("직접 업로드 확인 완료: purpose={}, key={}", purpose, key);
+    return url;
+  }
+}
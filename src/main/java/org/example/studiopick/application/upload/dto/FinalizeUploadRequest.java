@@ -0,0 +1,11 @@
+package org.example.studiopick.application.upload.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.example.studiopick.application.upload.UploadPurpose;
+
+public record FinalizeUploadRequest(
+    @NotNull UploadPurpose purpose,
+    @NotBlank String key
+) {
+}
@@ -0,0 +1,15 @@
+package org.example.studiopick.application.upload.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.example.studiopick.application.upload.UploadPurpose;
+
+public record PresignUploadRequest(
+    @NotNull UploadPurpose purpose,
+    String fileName,
+    @NotBlank String contentType,
+    @Positive long contentLength,
+    @NotBlank String sha256 // 파일 내용 SHA-256 (hex)
+) {
+}
@@ -0,0 +1,18 @@
+package org.example.studiopick.application.upload.dto;
+
+import org.example.studiopick.infrastructure.s3.PresignedUpload;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record PresignUploadResponse(
+    String key,
+    String uploadUrl,         // PUT 대상 (alreadyUploaded 면 null)
+    Map<String, String> headers,
+    Instant expiresAt,
+    boolean alreadyUploaded   // 같은 내용이 이미 있으면 업로드 없이 finalize
+) {
+  public static PresignUploadResponse from(PresignedUpload upload) {
+    return new PresignUploadResponse(upload.key(), upload.url(), upload.headers(), upload.expiresAt(), upload.exists());
+  }
+}
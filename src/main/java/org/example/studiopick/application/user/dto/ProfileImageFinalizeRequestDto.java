@@ -0,0 +1,8 @@
+package org.example.studiopick.application.user.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ProfileImageFinalizeRequestDto {
+    private String key; // presign 응답으로 받은 업로드 키
+}
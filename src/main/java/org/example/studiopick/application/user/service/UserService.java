@@ -57,6 +57,11 @@ public interface UserService {
      */
     String uploadProfileImage(Long userId, MultipartFile image);
 
+    /**
+     * 직접 업로드한 프로필 이미지 확인 후 적용
+     */
+    String attachProfileImage(Long userId, String key);
+
 
     void sendPasswordResetEmail(String email);
 
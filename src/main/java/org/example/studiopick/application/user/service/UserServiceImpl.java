@@ -5,6 +5,8 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.studiopick.application.auth.dto.UserSignupRequestDto;
+import org.example.studiopick.application.upload.UploadPurpose;
+import org.example.studiopick.application.upload.UploadService;
 import org.example.studiopick.application.user.dto.UserProfileResponseDto;
 import org.example.studiopick.application.user.dto.UserProfileUpdateRequestDto;
 import org.example.studiopick.application.user.dto.UserProfileUpdateResponseDto;
@@ -39,6 +41,7 @@ public class UserServiceImpl implements UserService {
     private final JpaUserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final S3Uploader s3Uploader;
+    private final UploadService uploadService;
     private final JavaMailSender mailSender;
 
 
@@ -197,6 +200,21 @@ public class UserServiceImpl implements UserService {
         return imageUrl;
     }
 
+    /**
+     * 직접 업로드한 프로필 이미지 적용
+     */
+    @Override
+    @Transactional
+    public String attachProfileImage(Long userId, String key) {
+        User user = getById(userId);
+
+        String imageUrl = uploadService.finalizeUpload(UploadPurpose.PROFILE, key);
+        user.updateProfileImage(imageUrl);
+
+        log.info("프로필 이미지 직접 업로드 적용: userId={}, imageUrl={}", userId, imageUrl);
+        return imageUrl;
+    }
+
     /**
      * 비밀번호 유효성 검사
      */
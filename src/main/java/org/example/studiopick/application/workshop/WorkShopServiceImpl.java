@@ -2,7 +2,7 @@ package org.example.studiopick.application.workshop;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.studiopick.application.review.service.ReviewService;
+import org.example.studiopick.application.review.service.ReviewRatingAggregator;
 import org.example.studiopick.application.workshop.dto.ClassManageItemResponseDto;
 import org.example.studiopick.application.workshop.dto.WorkShopApplicationDetailResponse;
 import org.example.studiopick.application.workshop.dto.WorkShopApplicationRequest;
@@ -11,15 +11,20 @@ import org.example.studiopick.application.workshop.dto.WorkShopCreateCommand;
 import org.example.studiopick.application.workshop.dto.WorkShopDetailDto;
 import org.example.studiopick.application.workshop.dto.WorkShopListResponse;
 import org.example.studiopick.application.workshop.dto.WorkShopUpdateRequestDto;
+import org.example.studiopick.common.util.ImageVariant;
+import org.example.studiopick.common.util.ImageVariantUrls;
 import org.example.studiopick.common.util.SystemSettingUtils;
 import org.example.studiopick.domain.common.enums.PaymentStatus;
 import org.example.studiopick.domain.common.enums.WorkShopStatus;
+import org.example.studiopick.domain.review.RatingSummary;
 import org.example.studiopick.domain.user.User;
 import org.example.studiopick.domain.workshop.WorkShop;
 import org.example.studiopick.domain.workshop.WorkShopImage;
 import org.example.studiopick.infrastructure.User.JpaUserRepository;
 import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
 import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
+import org.example.studiopick.infrastructure.s3.ImageVariantRegistry;
+import org.example.studiopick.infrastructure.s3.S3DeletionQueue;
 import org.example.studiopick.infrastructure.s3.S3Uploader;
 import org.example.studiopick.infrastructure.workshop.JpaWorkShopImageRepository;
 import org.example.studiopick.infrastructure.workshop.JpaWorkShopRepository;
@@ -31,8 +36,10 @@ import org.springframework.web.multipart.MultipartFile;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -45,7 +52,9 @@ public class WorkShopServiceImpl implements WorkShopService {
   private final SystemSettingUtils settingUtils;
   private final JpaWorkShopImageRepository workShopImageRepository;
   private final S3Uploader s3Uploader;
-  private final ReviewService reviewService;
+  private final S3DeletionQueue s3DeletionQueue;
+  private final ImageVariantRegistry imageVariantRegistry;
+  private final ReviewRatingAggregator ratingAggregator;
   private final JpaReservationRepository jpaReservationRepository;
   private final JpaPaymentRepository paymentRepository;
 
@@ -65,9 +74,15 @@ public class WorkShopServiceImpl implements WorkShopService {
       }
     }
 
+    // 평점은 집계 테이블에서 한 번에 조회 (공방별 AVG 쿼리 X)
+    Map<Long, RatingSummary> ratings = ratingAggregator.workshopSummaries(
+            workshops.stream().map(WorkShop::getId).toList());
+    ImageVariantUrls variants = imageVariantRegistry.lookup(
+            workshops.stream().map(WorkShop::getThumbnailUrl).toList());
+
     var result = workshops.stream()
             .map(c -> {
-              Double rating = reviewService.getAverageRatingByWorkshopId(c.getId());
+              RatingSummary rating = ratings.getOrDefault(c.getId(), RatingSummary.EMPTY);
               return new org.example.studiopick.application.workshop.dto.WorkShopListDto(
                       c.getId(),
                       c.getTitle(),
@@ -75,11 +90,12 @@ public class WorkShopServiceImpl implements WorkShopService {
                       c.getPrice(),
                       c.getInstructor(),
                       c.getThumbnailUrl(),
+                      variants.of(ImageVariant.SMALL, c.getThumbnailUrl()),
                       c.getImageUrls(),
                       c.getDate(),
                       c.getStartTime(),
                       c.getEndTime(),
-                      rating != null ? rating : 0.0
+                      rating.getRatingAverage()
               );
             })
             .toList();
@@ -89,7 +105,7 @@ public class WorkShopServiceImpl implements WorkShopService {
 
   @Override
   public void deleteClassImages(List<String> imageUrls) {
-    s3Uploader.deleteFiles(imageUrls);
+    s3DeletionQueue.enqueue(imageUrls);
   }
 
   @Override
@@ -127,14 +143,12 @@ public class WorkShopServiceImpl implements WorkShopService {
     jpaWorkShopRepository.save(ws);
 
     if (request.imageUrls() != null) {
-      request.imageUrls().forEach(url ->
-              workShopImageRepository.save(
-                      WorkShopImage.builder()
-                              .workShop(ws)
-                              .imageUrl(url)
-                              .build()
-              )
-      );
+      workShopImageRepository.saveAll(request.imageUrls().stream()
+          .map(url -> WorkShopImage.builder()
+              .workShop(ws)
+              .imageUrl(url)
+              .build())
+          .toList());
     }
 
     return new WorkShopApplicationResponse(ws.getId(), ws.getStatus().name().toLowerCase());
@@ -221,20 +235,29 @@ public class WorkShopServiceImpl implements WorkShopService {
     LocalTime start = LocalTime.of(cmd.startTime().hour(), cmd.startTime().minute(), 0);
     LocalTime end   = LocalTime.of(cmd.endTime().hour(),   cmd.endTime().minute(),   0);
 
+    // 신청 때 올린 이미지 중 새 목록에 없는 것은 커밋 후 삭제
+    Set<String> replaced = new HashSet<>(ws.getImageUrls());
+    if (ws.getThumbnailUrl() != null) {
+      replaced.add(ws.getThumbnailUrl());
+    }
+    if (cmd.imageUrls() != null) {
+      cmd.imageUrls().forEach(replaced::remove);
+    }
+    replaced.remove(cmd.thumbnailUrl());
+
     ws.updateBasicInfo(cmd.title(), cmd.description(), cmd.price());
     ws.updateSchedule(date, start, end);
     ws.updateThumbnail(cmd.thumbnailUrl());
 
     workShopImageRepository.deleteByWorkShop(ws);
+    s3DeletionQueue.enqueue(replaced);
     if (cmd.imageUrls() != null) {
-      cmd.imageUrls().forEach(url ->
-              workShopImageRepository.save(
-                      WorkShopImage.builder()
-                              .workShop(ws)
-                              .imageUrl(url)
-                              .build()
-              )
-      );
+      workShopImageRepository.saveAll(cmd.imageUrls().stream()
+          .map(url -> WorkShopImage.builder()
+              .workShop(ws)
+              .imageUrl(url)
+              .build())
+          .toList());
     }
     return ws.getId();
   }
@@ -12,6 +12,7 @@ public record WorkShopListDto(
         BigDecimal price,
         String instructor,
         String thumbnailUrl,
+        String thumbnailSmallUrl,
         List<String> imageUrls,
         LocalDate date,
         LocalTime startTime,
@@ -1,13 +1,12 @@
 package org.example.studiopick.common.dto.artwork;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.example.studiopick.common.util.ImageVariant;
+import org.example.studiopick.common.util.ImageVariantUrls;
 
 import java.time.LocalDateTime;
 
 @Getter
-@AllArgsConstructor
-
 public class ArtworkFeedDto {
     private Long id;
     private String title;
@@ -19,4 +18,37 @@ public class ArtworkFeedDto {
     private int likeCount; // 좋아요 수
     private boolean isPublic; // 공개여부
     private LocalDateTime createdAt;
+
+    // 목록용 축소 이미지 (파생본 생성이 확인되지 않은 이미지는 원본 URL)
+    private String imageSmallUrl;
+    private String imageMediumUrl;
+
+    // MyBatis 생성자 매핑용 (컬럼 순서)
+    public ArtworkFeedDto(Long id, String title, String description, String imageUrl, String hashtags,
+                          String artistNickname, String studioName, int likeCount, boolean isPublic,
+                          LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.imageUrl = imageUrl;
+        this.hashtags = hashtags;
+        this.artistNickname = artistNickname;
+        this.studioName = studioName;
+        this.likeCount = likeCount;
+        this.isPublic = isPublic;
+        this.createdAt = createdAt;
+        this.imageSmallUrl = imageUrl;
+        this.imageMediumUrl = imageUrl;
+    }
+
+    /**
+     * 파생본 URL 을 채운 복사본 (랭킹 스냅샷 등 공유 객체는 수정하지 않음)
+     */
+    public ArtworkFeedDto withVariants(ImageVariantUrls variants) {
+        ArtworkFeedDto copy = new ArtworkFeedDto(id, title, description, imageUrl, hashtags,
+                artistNickname, studioName, likeCount, isPublic, createdAt);
+        copy.imageSmallUrl = variants.of(ImageVariant.SMALL, imageUrl);
+        copy.imageMediumUrl = variants.of(ImageVariant.MEDIUM, imageUrl);
+        return copy;
+    }
 }
@@ -0,0 +1,13 @@
+package org.example.studiopick.common.dto.artwork;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ArtworkFeedPageDto {
+    private List<ArtworkFeedDto> artworks;
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+}
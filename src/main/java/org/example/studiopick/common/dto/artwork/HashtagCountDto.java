@@ -0,0 +1,11 @@
+package org.example.studiopick.common.dto.artwork;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HashtagCountDto {
+    private String tag;
+    private long count; // 기간 내 해당 태그가 달린 작품 수
+}
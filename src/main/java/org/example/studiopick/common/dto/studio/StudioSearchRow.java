@@ -0,0 +1,14 @@
+package org.example.studiopick.common.dto.studio;
+
+/**
+ * 스튜디오 검색 결과 1행 (StudioSearchMapper)
+ */
+public record StudioSearchRow(
+    Long id,
+    String name,
+    String location,
+    Long hourlyBaseRate,
+    String thumbnailImage,
+    Double averageRating,
+    Long reviewCount
+) {}
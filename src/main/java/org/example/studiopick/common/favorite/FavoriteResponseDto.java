@@ -17,6 +17,8 @@ public class FavoriteResponseDto {
     private Long targetId;
     private String targetName;
     private String targetLocation;
+    private Double averageRating;
+    private Long reviewCount;
     private LocalDateTime createdAt;
 
     // DTO에서는 로직 최소화 → 데이터만 담는 역할
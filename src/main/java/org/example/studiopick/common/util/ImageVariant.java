@@ -0,0 +1,73 @@
+package org.example.studiopick.common.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지 파생본 (긴 변 기준 축소 JPEG)
+ * - 원본 키가 콘텐츠 해시 형식(dir/{sha256}.{ext})이면 파생본은 dir/{sha256}_{suffix}.jpg
+ * - 해시 형식이 아닌 기존 이미지는 파생본이 없으므로 원본 URL 그대로 반환
+ * - 파생본은 업로드 후 비동기로 만들어지고 실패할 수도 있으므로 응답 URL 은 ImageVariantUrls 로 해석 (생성 확인된 것만 파생본)
+ */
+public enum ImageVariant {
+
+  SMALL("s", 320),
+  MEDIUM("m", 960);
+
+  private static final Pattern CONTENT_ADDRESSED =
+      Pattern.compile("^(.*/)?([0-9a-f]{64})(\\.[a-z0-9]{1,5})?$");
+  private static final Pattern VARIANT = Pattern.compile("^(.*/)?[0-9a-f]{64}_[a-z]+\\.jpg$");
+  private static final Pattern CONTENT_HASH = Pattern.compile("(?:^|/)([0-9a-f]{64})(?:_[a-z]+)?(?:\\.[a-z0-9]{1,5})?$");
+
+  private final String suffix;
+  private final int maxSize;
+
+  ImageVariant(String suffix, int maxSize) {
+    this.suffix = suffix;
+    this.maxSize = maxSize;
+  }
+
+  public int maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * 원본 키/URL → 파생본 키/URL (해시 형식이 아니면 원본 그대로)
+   */
+  public String of(String original) {
+    if (original == null) {
+      return null;
+    }
+    Matcher matcher = CONTENT_ADDRESSED.matcher(original);
+    if (!matcher.matches()) {
+      return original;
+    }
+    String prefix = matcher.group(1) != null ? matcher.group(1) : "";
+    return prefix + matcher.group(2) + "_" + suffix + ".jpg";
+  }
+
+  /**
+   * 콘텐츠 해시 키인지 (같은 객체를 여러 엔티티가 공유할 수 있음)
+   */
+  public static boolean isContentAddressed(String keyOrUrl) {
+    return keyOrUrl != null && CONTENT_ADDRESSED.matcher(keyOrUrl).matches();
+  }
+
+  /**
+   * 파생본 키인지 (dir/{sha256}_{suffix}.jpg)
+   */
+  public static boolean isVariant(String keyOrUrl) {
+    return keyOrUrl != null && VARIANT.matcher(keyOrUrl).matches();
+  }
+
+  /**
+   * 원본/파생본 키의 콘텐츠 해시 (해시 키가 아니면 null)
+   */
+  public static String contentHash(String keyOrUrl) {
+    if (keyOrUrl == null) {
+      return null;
+    }
+    Matcher matcher = CONTENT_HASH.matcher(keyOrUrl);
+    return matcher.find() ? matcher.group(1) : null;
+  }
+}
@@ -0,0 +1,16 @@
+package org.example.studiopick.common.util;
+
+import java.util.Set;
+
+/**
+ * 파생본 URL 해석 결과 - 파생본 생성이 확인된 이미지만 파생본 URL, 나머지는 원본 URL
+ */
+public record ImageVariantUrls(Set<String> generatedHashes) {
+
+  public static final ImageVariantUrls NONE = new ImageVariantUrls(Set.of());
+
+  public String of(ImageVariant variant, String original) {
+    String hash = ImageVariant.isContentAddressed(original) ? ImageVariant.contentHash(original) : null;
+    return hash != null && generatedHashes.contains(hash) ? variant.of(original) : original;
+  }
+}
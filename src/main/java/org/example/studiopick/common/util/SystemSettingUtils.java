@@ -2,74 +2,65 @@ package org.example.studiopick.common.util;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.studiopick.domain.setting.SystemSetting;
-import org.example.studiopick.infrastructure.setting.JpaSystemSettingRepository;
-import org.springframework.cache.annotation.Cacheable;
+import org.example.studiopick.infrastructure.setting.SystemSettingCache;
+import org.example.studiopick.infrastructure.setting.SystemSettingCache.SettingValue;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.util.Optional;
 
+/**
+ * 시스템 설정 조회 유틸
+ * - 값은 SystemSettingCache(L1 로컬 스냅샷 + L2 Redis)에서 읽고, 타입별로 미리 파싱된 값을 사용
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SystemSettingUtils {
 
-  private final JpaSystemSettingRepository settingRepository;
+  private final SystemSettingCache settingCache;
 
-  @Cacheable(value = "systemSettings", key = "#settingKey")
   public String getStringSetting(String settingKey, String defaultValue) {
-    return settingRepository.findBySettingKey(settingKey)
-        .map(SystemSetting::getValueOrDefault)
-        .orElse(defaultValue);
+    SettingValue value = settingCache.get(settingKey);
+    return value.isPresent() ? value.raw() : defaultValue;
   }
 
-  @Cacheable(value = "systemSettings", key = "#settingKey")
   public Integer getIntegerSetting(String settingKey, Integer defaultValue) {
-    try {
-      return settingRepository.findBySettingKey(settingKey)
-          .map(SystemSetting::getValueOrDefault)
-          .map(Integer::parseInt)
-          .orElse(defaultValue);
-    } catch (NumberFormatException e) {
-      log.warn("Failed to parse integer setting: {} = {}", settingKey,
-          settingRepository.findBySettingKey(settingKey)
-              .map(SystemSetting::getValueOrDefault).orElse("null"));
+    SettingValue value = settingCache.get(settingKey);
+    if (!value.isPresent()) {
       return defaultValue;
     }
+    if (value.integerValue() == null) {
+      log.warn("Failed to parse integer setting: {} = {}", settingKey, value.raw());
+      return defaultValue;
+    }
+    return value.integerValue();
   }
 
-  @Cacheable(value = "systemSettings", key = "#settingKey")
   public BigDecimal getDecimalSetting(String settingKey, BigDecimal defaultValue) {
-    try {
-      return settingRepository.findBySettingKey(settingKey)
-          .map(SystemSetting::getValueOrDefault)
-          .map(BigDecimal::new)
-          .orElse(defaultValue);
-    } catch (NumberFormatException e) {
-      log.warn("Failed to parse decimal setting: {} = {}", settingKey,
-          settingRepository.findBySettingKey(settingKey)
-              .map(SystemSetting::getValueOrDefault).orElse("null"));
+    SettingValue value = settingCache.get(settingKey);
+    if (!value.isPresent()) {
+      return defaultValue;
+    }
+    if (value.decimalValue() == null) {
+      log.warn("Failed to parse decimal setting: {} = {}", settingKey, value.raw());
       return defaultValue;
     }
+    return value.decimalValue();
   }
 
-  @Cacheable(value = "systemSettings", key = "#settingKey")
   public Boolean getBooleanSetting(String settingKey, Boolean defaultValue) {
-    return settingRepository.findBySettingKey(settingKey)
-        .map(SystemSetting::getValueOrDefault)
-        .map(value -> "true".equalsIgnoreCase(value) || "1".equals(value))
-        .orElse(defaultValue);
+    SettingValue value = settingCache.get(settingKey);
+    return value.isPresent() ? value.booleanValue() : defaultValue;
   }
 
-  // 캐시 무효화를 위한 메서드
-  @org.springframework.cache.annotation.CacheEvict(value = "systemSettings", key = "#settingKey")
+  // 캐시 무효화를 위한 메서드 (커밋 후 모든 노드에 전파)
   public void evictSettingCache(String settingKey) {
+    settingCache.invalidate(settingKey);
     log.debug("Setting cache evicted for key: {}", settingKey);
   }
 
-  @org.springframework.cache.annotation.CacheEvict(value = "systemSettings", allEntries = true)
   public void evictAllSettingCache() {
+    settingCache.invalidateAll();
     log.debug("All setting cache evicted");
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package org.example.studiopick.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 유틸
+ */
+public final class TransactionUtils {
+
+  private TransactionUtils() {
+  }
+
+  /**
+   * 현재 트랜잭션이 커밋된 뒤 실행 (트랜잭션 밖이면 즉시 실행)
+   */
+  public static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
@@ -50,6 +50,8 @@ public class SecurityConfig {
                                 "/oauth2/**", // OAuth2 리디렉션 경로 허용
                                 "/api/studios",    // 스튜디오 검색 공개
                                 "/api/studios/search",    // 스튜디오 검색 공개
+                                "/api/studios/nearby",
+                                "/api/studios/map",
                                 "/api/studios/{studioiId}",
                                 "/api/studios/rental",
                                 "/api/payments/request",
@@ -73,11 +75,15 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/classes/**").authenticated()
 
                         // 예약/결제 관련은 필요시 추가
-                        .requestMatchers("/api/payments/request", "/api/payments/confirm").permitAll()
+                        .requestMatchers("/api/payments/request", "/api/payments/confirm", "/api/payments/webhook").permitAll()
 
                         // 관리자 전용
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
+                        // 운영 지표 (헬스체크만 공개)
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
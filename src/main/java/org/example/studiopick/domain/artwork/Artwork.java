@@ -9,7 +9,10 @@ import org.example.studiopick.domain.user.User;
 
 // Artwork 엔티티 - 작품 피드용
 @Entity
-@Table(name = "\"Artwork\"")
+@Table(name = "\"Artwork\"", indexes = {
+        @Index(name = "idx_artwork_like_count_id", columnList = "like_count, id"),
+        @Index(name = "idx_artwork_created_at", columnList = "created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Artwork extends BaseEntity {
@@ -45,7 +48,8 @@ public class Artwork extends BaseEntity {
     @Column(name = "is_public", nullable = false)
     private Boolean isPublic = true;
 
-    @Column(name = "like_count", nullable = false)
+    // ArtworkLikeCounter 가 배치 UPDATE 로만 갱신 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "like_count", nullable = false, updatable = false)
     private Integer likeCount = 0;
 
     @Column(name = "comment_count", nullable = false)
@@ -0,0 +1,45 @@
+package org.example.studiopick.domain.artwork;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작품 해시태그 (작품 × 태그 1행)
+ * - Artwork.hashtags 원문을 Hashtags.parse 로 정규화해 저장, 태그 검색/인기 태그 집계는 이 테이블 인덱스 사용
+ * - created_at 은 작품 등록 시각 (최근 업로드 기준 인기 태그 집계용)
+ */
+@Entity
+@Table(name = "artwork_hashtag",
+        uniqueConstraints = @UniqueConstraint(name = "uk_artwork_hashtag", columnNames = {"artwork_id", "tag"}),
+        indexes = {
+                @Index(name = "idx_artwork_hashtag_tag_artwork", columnList = "tag, artwork_id"),
+                @Index(name = "idx_artwork_hashtag_created_at", columnList = "created_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArtworkHashtag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "artwork_id", nullable = false)
+    private Artwork artwork;
+
+    @Column(name = "tag", nullable = false, length = Hashtags.MAX_LENGTH)
+    private String tag;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public ArtworkHashtag(Artwork artwork, String tag, LocalDateTime createdAt) {
+        this.artwork = artwork;
+        this.tag = tag;
+        this.createdAt = createdAt;
+    }
+}
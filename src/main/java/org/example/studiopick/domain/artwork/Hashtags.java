@@ -0,0 +1,46 @@
+package org.example.studiopick.domain.artwork;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 해시태그 문자열 정규화
+ * - "#고양이 #Cat, 풍경" → [고양이, cat, 풍경]
+ * - 공백/쉼표/# 로 구분, 소문자화, 문자·숫자·_ 외 문자는 제거, 중복 제거
+ */
+public final class Hashtags {
+
+    public static final int MAX_LENGTH = 30;
+    public static final int MAX_TAGS = 20;
+
+    private Hashtags() {
+    }
+
+    public static List<String> parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return List.of();
+        }
+        Set<String> tags = new LinkedHashSet<>();
+        for (String token : raw.split("[\\s,#]+")) {
+            String tag = normalize(token);
+            if (!tag.isEmpty()) {
+                tags.add(tag);
+            }
+            if (tags.size() == MAX_TAGS) {
+                break;
+            }
+        }
+        return new ArrayList<>(tags);
+    }
+
+    private static String normalize(String token) {
+        StringBuilder tag = new StringBuilder();
+        token.toLowerCase(Locale.ROOT).codePoints()
+                .filter(c -> Character.isLetterOrDigit(c) || c == '_')
+                .forEach(tag::appendCodePoint);
+        return tag.length() > MAX_LENGTH ? tag.substring(0, MAX_LENGTH) : tag.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.studiopick.domain.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 일별 집계 지표 종류 (daily_metrics 의 dimension)
+ */
+@Getter
+public enum DailyMetricType {
+    USER_SIGNUP("신규 가입"),
+    RESERVATION_CREATED("예약 생성"),
+    PAYMENT_PAID("결제 완료"),
+    PAYMENT_REFUNDED("결제 환불"),
+    REPORT_CREATED("신고 접수"),
+    REPORT_PROCESSED("신고 처리");
+
+    private final String description;
+
+    DailyMetricType(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.studiopick.domain.common.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum PaymentOutboxEventType {
+    PAYMENT_CONFIRMED("payment_confirmed");
+
+    private final String value;
+
+    PaymentOutboxEventType(String value) {
+        this.value = value;
+    }
+
+}
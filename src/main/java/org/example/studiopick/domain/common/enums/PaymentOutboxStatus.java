@@ -0,0 +1,17 @@
+package org.example.studiopick.domain.common.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum PaymentOutboxStatus {
+    PENDING("pending"),
+    DONE("done"),
+    FAILED("failed");
+
+    private final String value;
+
+    PaymentOutboxStatus(String value) {
+        this.value = value;
+    }
+
+}
@@ -0,0 +1,17 @@
+package org.example.studiopick.domain.common.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum PaymentWebhookStatus {
+    RECEIVED("received"),
+    PROCESSED("processed"),
+    FAILED("failed");
+
+    private final String value;
+
+    PaymentWebhookStatus(String value) {
+        this.value = value;
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.example.studiopick.domain.metrics;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.studiopick.domain.common.BaseEntity;
+import org.example.studiopick.domain.common.enums.DailyMetricType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일별 지표 집계 (날짜 × 지표 종류당 1행)
+ * - 원본 테이블에서 DailyMetricAggregator 가 재계산해 upsert 하며, 직접 수정하지 않는다
+ */
+@Entity
+@Table(name = "\"DailyMetric\"",
+    uniqueConstraints = @UniqueConstraint(name = "uk_daily_metric_date_metric", columnNames = {"metric_date", "metric"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyMetric extends BaseEntity {
+
+    @Column(name = "metric_date", nullable = false)
+    private LocalDate metricDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 40)
+    private DailyMetricType metric;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount = BigDecimal.ZERO;
+}
@@ -0,0 +1,68 @@
+package org.example.studiopick.domain.metrics;
+
+import org.example.studiopick.domain.common.enums.DailyMetricType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 기간 내 일별 지표 묶음 - 한 번 조회한 DailyMetric 행으로 일자/구간 합계를 계산
+ * - 집계 행이 없는 날은 0으로 본다
+ */
+public final class DailyMetricSeries {
+
+  private final Map<DailyMetricType, NavigableMap<LocalDate, DailyMetric>> byType = new EnumMap<>(DailyMetricType.class);
+
+  private DailyMetricSeries(List<DailyMetric> metrics) {
+    for (DailyMetric metric : metrics) {
+      byType.computeIfAbsent(metric.getMetric(), type -> new TreeMap<>()).put(metric.getMetricDate(), metric);
+    }
+  }
+
+  public static DailyMetricSeries of(List<DailyMetric> metrics) {
+    return new DailyMetricSeries(metrics);
+  }
+
+  public long count(DailyMetricType type, LocalDate date) {
+    return sumCount(type, date, date);
+  }
+
+  public BigDecimal amount(DailyMetricType type, LocalDate date) {
+    return sumAmount(type, date, date);
+  }
+
+  /**
+   * [from, to] 구간 건수 합계
+   */
+  public long sumCount(DailyMetricType type, LocalDate from, LocalDate to) {
+    long sum = 0L;
+    for (DailyMetric metric : range(type, from, to).values()) {
+      sum += metric.getEventCount();
+    }
+    return sum;
+  }
+
+  /**
+   * [from, to] 구간 금액 합계
+   */
+  public BigDecimal sumAmount(DailyMetricType type, LocalDate from, LocalDate to) {
+    BigDecimal sum = BigDecimal.ZERO;
+    for (DailyMetric metric : range(type, from, to).values()) {
+      sum = sum.add(metric.getAmount());
+    }
+    return sum;
+  }
+
+  private NavigableMap<LocalDate, DailyMetric> range(DailyMetricType type, LocalDate from, LocalDate to) {
+    NavigableMap<LocalDate, DailyMetric> days = byType.get(type);
+    if (days == null || from.isAfter(to)) {
+      return new TreeMap<>();
+    }
+    return days.subMap(from, true, to, true);
+  }
+}
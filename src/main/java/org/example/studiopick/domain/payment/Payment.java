@@ -10,13 +10,16 @@ import org.example.studiopick.domain.common.BaseEntity;
 import org.example.studiopick.domain.common.enums.PaymentMethod;
 import org.example.studiopick.domain.common.enums.PaymentStatus;
 import org.example.studiopick.domain.reservation.Reservation;
+import org.example.studiopick.infrastructure.metrics.DailyMetricEntityListener;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 
 @Entity
-@Table(name = "\"Payment\"")
+@EntityListeners(DailyMetricEntityListener.class)
+@Table(name = "\"Payment\"",
+       indexes = @Index(name = "idx_payment_status_created_at", columnList = "status, created_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment extends BaseEntity {
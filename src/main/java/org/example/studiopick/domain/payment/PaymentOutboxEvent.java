@@ -0,0 +1,92 @@
+package org.example.studiopick.domain.payment;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.studiopick.domain.common.BaseEntity;
+import org.example.studiopick.domain.common.enums.PaymentOutboxEventType;
+import org.example.studiopick.domain.common.enums.PaymentOutboxStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 아웃박스 이벤트
+ * - 결제 상태 변경과 같은 트랜잭션에서 저장되고, PaymentOutboxRelay 가 후속 처리(예약 확정, 정산 생성)를 마친 뒤 DONE
+ * - 실패하면 지수 백오프로 next_attempt_at 을 미루고, 최대 시도 횟수를 넘기면 FAILED (운영자 확인 대상)
+ * - (event_type, payment_id) 유니크 - 같은 결제에 같은 이벤트는 한 번만 적재
+ */
+@Entity
+@Table(name = "payment_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_outbox_event_payment",
+                columnNames = {"event_type", "payment_id"}),
+        indexes = @Index(name = "idx_payment_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentOutboxEvent extends BaseEntity {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private PaymentOutboxEventType eventType;
+
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PaymentOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private PaymentOutboxEvent(PaymentOutboxEventType eventType, Long paymentId) {
+        this.eventType = eventType;
+        this.paymentId = paymentId;
+        this.status = PaymentOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static PaymentOutboxEvent paymentConfirmed(Long paymentId) {
+        return new PaymentOutboxEvent(PaymentOutboxEventType.PAYMENT_CONFIRMED, paymentId);
+    }
+
+    public void markDone() {
+        this.status = PaymentOutboxStatus.DONE;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * 처리 실패 기록 - 10초부터 두 배씩 (최대 1시간) 뒤로 미루고, maxAttempts 회 실패하면 FAILED
+     */
+    public void recordFailure(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = PaymentOutboxStatus.FAILED;
+            return;
+        }
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff);
+    }
+
+    public boolean isFailed() {
+        return this.status == PaymentOutboxStatus.FAILED;
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.studiopick.domain.payment;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.studiopick.domain.common.BaseEntity;
+import org.example.studiopick.domain.common.enums.PaymentWebhookStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 결제사 웹훅 수신 기록
+ * - dedup_key(본문 SHA-256) 유니크 - 결제사의 재전송은 같은 본문이므로 한 번만 적재
+ * - 주문당 처리 대기(RECEIVED) 웹훅은 하나만 적재 (처리 시 주문 상태를 새로 조회하므로 한 건이면 충분)
+ * - 본문은 신뢰하지 않고 처리 시 결제사 API 로 주문 상태를 다시 조회해 반영
+ * - 처리 실패 시 30초 × 시도 횟수만큼 미뤄 재시도, 최대 횟수를 넘기면 FAILED (대사 작업이 보정)
+ */
+@Entity
+@Table(name = "payment_webhook_event",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_webhook_event_dedup", columnNames = "dedup_key"),
+        indexes = {
+                @Index(name = "idx_payment_webhook_event_status_next_attempt", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_payment_webhook_event_order_status", columnList = "order_id, status")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentWebhookEvent extends BaseEntity {
+
+    private static final Duration RETRY_STEP = Duration.ofSeconds(30);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Column(name = "dedup_key", nullable = false, length = 64)
+    private String dedupKey;
+
+    @Column(name = "event_type", length = 50)
+    private String eventType;
+
+    @Column(name = "order_id", nullable = false)
+    private String orderId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PaymentWebhookStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public PaymentWebhookEvent(String dedupKey, String eventType, String orderId, String payload) {
+        this.dedupKey = dedupKey;
+        this.eventType = eventType;
+        this.orderId = orderId;
+        this.payload = payload;
+        this.status = PaymentWebhookStatus.RECEIVED;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void markProcessed() {
+        this.status = PaymentWebhookStatus.PROCESSED;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    public void recordFailure(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = PaymentWebhookStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(RETRY_STEP.multipliedBy(attempts));
+    }
+
+    public boolean isFailed() {
+        return this.status == PaymentWebhookStatus.FAILED;
+    }
+}
@@ -14,7 +14,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "\"Settlement\"")
+@Table(name = "\"Settlement\"", indexes = {
+    @Index(name = "idx_settlement_created_at", columnList = "created_at"),
+    @Index(name = "idx_settlement_status_created_at", columnList = "settlement_status, created_at"),
+    @Index(name = "idx_settlement_studio_created_at", columnList = "studio_id, created_at"),
+    @Index(name = "idx_settlement_workshop_created_at", columnList = "workshop_id, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Settlement extends BaseEntity {
@@ -9,11 +9,14 @@ import org.example.studiopick.domain.common.BaseEntity;
 import org.example.studiopick.domain.common.enums.ReportStatus;
 import org.example.studiopick.domain.common.enums.ReportType;
 import org.example.studiopick.domain.user.User;
+import org.example.studiopick.infrastructure.metrics.DailyMetricEntityListener;
+import org.example.studiopick.infrastructure.report.ReporterStatsEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "\"Report\"")
+@EntityListeners({DailyMetricEntityListener.class, ReporterStatsEntityListener.class})
+@Table(name = "\"Report\"", indexes = @Index(name = "idx_report_user_id", columnList = "user_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Report extends BaseEntity {
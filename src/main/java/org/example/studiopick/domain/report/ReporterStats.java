@@ -0,0 +1,51 @@
+package org.example.studiopick.domain.report;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.studiopick.domain.user.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신고자별 신고 통계 (사용자당 1행)
+ * - 신고 생성/처리 후 ReporterStatsRefreshJob 이 해당 신고자 행을 원본 신고로부터 다시 계산한다
+ * - 악성 신고자 목록은 (approval_rate, user_id) 인덱스로 필터/정렬/키셋 페이징
+ */
+@Entity
+@Table(name = "reporter_stats", indexes = {
+    @Index(name = "idx_reporter_stats_rate_user", columnList = "approval_rate, user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReporterStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(name = "total_reports", nullable = false)
+    private long totalReports;
+
+    @Column(name = "approved_reports", nullable = false)
+    private long approvedReports;
+
+    @Column(name = "rejected_reports", nullable = false)
+    private long rejectedReports;
+
+    // 승인(REVIEWED) 비율 (%)
+    @Column(name = "approval_rate", nullable = false)
+    private double approvalRate;
+
+    @Column(name = "last_report_at")
+    private LocalDateTime lastReportAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
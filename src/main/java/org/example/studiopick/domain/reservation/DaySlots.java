@@ -0,0 +1,123 @@
+package org.example.studiopick.domain.reservation;
+
+import org.example.studiopick.domain.common.enums.ReservationStatus;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스튜디오 하루 예약 점유 현황 (30분 슬롯 48개를 long 비트마스크로 표현)
+ * - pending: PENDING 예약이 점유한 슬롯
+ * - confirmed: CONFIRMED 예약이 점유한 슬롯
+ * - exact: 모든 예약이 30분 경계에 맞춰져 있어 비트마스크만으로 판정 가능한지 여부
+ */
+public record DaySlots(long pending, long confirmed, boolean exact) {
+
+  public static final int SLOT_MINUTES = 30;
+  public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+  public static final DaySlots EMPTY = new DaySlots(0L, 0L, true);
+
+  private static final long SLOT_NANOS = SLOT_MINUTES * 60L * 1_000_000_000L;
+
+  /**
+   * 예약 하나를 반영한 새 스냅샷 반환 (PENDING/CONFIRMED 외 상태는 점유로 보지 않음)
+   */
+  public DaySlots with(ReservationStatus status, LocalTime startTime, LocalTime endTime) {
+    if (!isTracked(status) || startTime == null || endTime == null || !startTime.isBefore(endTime)) {
+      return this;
+    }
+    long mask = mask(startTime, endTime);
+    boolean aligned = exact && isAligned(startTime) && isAligned(endTime);
+    return status == ReservationStatus.PENDING
+        ? new DaySlots(pending | mask, confirmed, aligned)
+        : new DaySlots(pending, confirmed | mask, aligned);
+  }
+
+  /**
+   * 같은 날 두 스냅샷 합치기
+   */
+  public DaySlots merge(DaySlots other) {
+    return new DaySlots(pending | other.pending, confirmed | other.confirmed, exact && other.exact);
+  }
+
+  /**
+   * 비트마스크만으로 겹침 여부를 판정할 수 있는지
+   */
+  public boolean canAnswer(ReservationStatus status, LocalTime startTime, LocalTime endTime) {
+    return exact && isTracked(status) && isAligned(startTime) && isAligned(endTime)
+        && startTime.isBefore(endTime);
+  }
+
+  /**
+   * 해당 상태의 예약과 [startTime, endTime) 구간이 겹치는지 (canAnswer 가 true 인 경우에만 호출)
+   */
+  public boolean overlaps(ReservationStatus status, LocalTime startTime, LocalTime endTime) {
+    long occupied = status == ReservationStatus.PENDING ? pending : confirmed;
+    return (occupied & mask(startTime, endTime)) != 0L;
+  }
+
+  /**
+   * 운영 시간 [openTime, closeTime) 중 활성(PENDING/CONFIRMED) 예약이 없는 연속 구간 (슬롯 경계 안쪽으로 맞춤)
+   * - 결제 대기 중인 PENDING 예약도 새 예약을 막으므로 빈 구간에서 제외
+   * - exact 가 아닌 날은 예약 구간이 바깥쪽으로 확장되어 있으므로 실제보다 보수적으로 계산된다
+   */
+  public List<TimeWindow> freeWindows(LocalTime openTime, LocalTime closeTime) {
+    int from = (int) ((openTime.toNanoOfDay() + SLOT_NANOS - 1) / SLOT_NANOS);
+    int to = (int) (closeTime.toNanoOfDay() / SLOT_NANOS);
+
+    long occupied = pending | confirmed;
+    List<TimeWindow> windows = new ArrayList<>();
+    int runStart = -1;
+    for (int slot = from; slot <= to; slot++) {
+      boolean free = slot < to && (occupied & (1L << slot)) == 0L;
+      if (free && runStart < 0) {
+        runStart = slot;
+      } else if (!free && runStart >= 0) {
+        windows.add(new TimeWindow(slotStart(runStart), slotStart(slot)));
+        runStart = -1;
+      }
+    }
+    return windows;
+  }
+
+  public static boolean isTracked(ReservationStatus status) {
+    return status == ReservationStatus.PENDING || status == ReservationStatus.CONFIRMED;
+  }
+
+  public static boolean isAligned(LocalTime time) {
+    return time != null && time.getSecond() == 0 && time.getNano() == 0
+        && time.getMinute() % SLOT_MINUTES == 0;
+  }
+
+  /**
+   * 시각이 속한 슬롯의 시작 (10:40 → 10:30)
+   */
+  public static LocalTime floorToSlot(LocalTime time) {
+    return slotStart((int) (time.toNanoOfDay() / SLOT_NANOS));
+  }
+
+  /**
+   * 시각 이후 첫 슬롯 경계 (10:40 → 11:00), 자정을 넘으면 null
+   */
+  public static LocalTime ceilToSlot(LocalTime time) {
+    int slot = (int) ((time.toNanoOfDay() + SLOT_NANOS - 1) / SLOT_NANOS);
+    return slot < SLOTS_PER_DAY ? slotStart(slot) : null;
+  }
+
+  private static LocalTime slotStart(int slot) {
+    return LocalTime.ofNanoOfDay(slot * SLOT_NANOS);
+  }
+
+  /**
+   * [startTime, endTime) 구간이 걸치는 슬롯 비트 (경계가 맞지 않으면 바깥쪽으로 확장)
+   */
+  static long mask(LocalTime startTime, LocalTime endTime) {
+    int from = (int) (startTime.toNanoOfDay() / SLOT_NANOS);
+    int to = (int) Math.min((endTime.toNanoOfDay() + SLOT_NANOS - 1) / SLOT_NANOS, SLOTS_PER_DAY);
+    if (from >= to) {
+      return 0L;
+    }
+    return ((1L << to) - 1) & -(1L << from);
+  }
+}
@@ -10,12 +10,14 @@ import org.example.studiopick.domain.common.enums.ReservationStatus;
 import org.example.studiopick.domain.studio.Studio;
 import org.example.studiopick.domain.user.User;
 import org.example.studiopick.domain.workshop.WorkShop;
+import org.example.studiopick.infrastructure.metrics.DailyMetricEntityListener;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
+@EntityListeners(DailyMetricEntityListener.class)
 @Table(name = "\"Reservation\"")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -2,8 +2,8 @@ package org.example.studiopick.domain.reservation;
 
 import lombok.RequiredArgsConstructor;
 import org.example.studiopick.common.util.SystemSettingUtils;
-import org.example.studiopick.domain.common.enums.ReservationStatus;
 import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
+import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -17,14 +17,19 @@ public class ReservationDomainService {
 
   private final SystemSettingUtils settingUtils;
   private final JpaReservationRepository reservationRepository;
+  private final JpaStudioRepository studioRepository;
 
   /**
-   * 예약 시간 중복 검증
+   * 예약 시간 중복 검증 (예약 생성 트랜잭션 안에서 호출)
+   * - 슬롯 인덱스는 노드별 스냅샷이라 다른 노드의 예약을 늦게 볼 수 있으므로 판정은 항상 DB 에서 함
+   * - 스튜디오 행을 잠근 뒤 활성(PENDING/CONFIRMED) 예약과의 겹침을 조회 → 같은 스튜디오 예약 생성은 커밋까지 직렬화
+   * - DB 의 배타 제약(ex_reservation_studio_time_overlap, db/reservation-constraints.sql)이 최후 방어선
    */
-  public void validateOverlapping(Long studioId, LocalDate reservationDate,
-                                  ReservationStatus status, LocalTime startTime, LocalTime endTime) {
-    boolean hasOverlapping = reservationRepository.existsOverlappingReservation(
-            studioId, reservationDate, status, startTime, endTime);
+  public void validateOverlapping(Long studioId, LocalDate reservationDate, LocalTime startTime, LocalTime endTime) {
+    studioRepository.findByIdForUpdate(studioId)
+            .orElseThrow(() -> new IllegalArgumentException("해당 Studio id를 찾을 수 없습니다."));
+    boolean hasOverlapping = reservationRepository.existsActiveOverlap(
+            studioId, reservationDate, startTime, endTime);
 
     if (hasOverlapping) {
       throw new IllegalArgumentException("해당 시간대에 이미 예약이 존재합니다.");
@@ -0,0 +1,186 @@
+package org.example.studiopick.domain.reservation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.common.util.TransactionUtils;
+import org.example.studiopick.domain.common.enums.ReservationStatus;
+import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (스튜디오, 날짜) 단위 예약 슬롯 점유 인덱스
+ * - 최초 조회 시 DB에서 하루치 예약 시간대를 한 번 읽어 비트마스크로 보관
+ * - 예약 생성/확정/취소/환불 커밋 후 갱신 또는 무효화
+ * - 노드 로컬 캐시이므로 크기와 보관 시간을 제한 (다른 노드의 변경은 TTL 안에 반영)
+ * - 조회(가용 시간/가용 구간) 전용 - 예약 생성 시 겹침 판정은 ReservationDomainService 가 DB 에서 수행
+ */
+@Slf4j
+@Component
+public class ReservationSlotIndex {
+
+  private static final int DATE_BITS = 20;
+  private static final long DATE_MASK = (1L << DATE_BITS) - 1;
+
+  private final JpaReservationRepository reservationRepository;
+
+  private final Cache<Long, DaySlots> slots;
+
+  // 무효화가 발생할 때마다 증가 - 그 사이에 적재된 스냅샷은 캐시하지 않는다
+  private final AtomicLong epoch = new AtomicLong();
+
+  public ReservationSlotIndex(JpaReservationRepository reservationRepository,
+                              @Value("${reservation.slot-index.max-size:200000}") long maxSize,
+                              @Value("${reservation.slot-index.ttl-seconds:60}") long ttlSeconds,
+                              MeterRegistry meterRegistry) {
+    this.reservationRepository = reservationRepository;
+    this.slots = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, slots, "reservation.slots");
+  }
+
+  /**
+   * 스튜디오 하루 점유 현황 조회 (캐시 미스 시 DB 1회 조회)
+   */
+  public DaySlots get(Long studioId, LocalDate date) {
+    long key = key(studioId, date);
+    DaySlots cached = slots.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    long seen = epoch.get();
+    DaySlots loaded = load(studioId, date);
+    cache(key, loaded, seen);
+    return loaded;
+  }
+
+  /**
+   * 여러 스튜디오 × 기간 점유 현황 일괄 조회
+   * - 캐시에 없는 스튜디오만 모아 기간 전체를 DB 1회로 적재
+   */
+  public Map<Long, Map<LocalDate, DaySlots>> getAll(Collection<Long> studioIds, LocalDate from, LocalDate to) {
+    Map<Long, Map<LocalDate, DaySlots>> result = new HashMap<>();
+    Set<Long> missing = new HashSet<>();
+    for (Long studioId : studioIds) {
+      Map<LocalDate, DaySlots> days = new TreeMap<>();
+      for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+        DaySlots cached = slots.getIfPresent(key(studioId, date));
+        if (cached == null) {
+          missing.add(studioId);
+          break;
+        }
+        days.put(date, cached);
+      }
+      result.put(studioId, days);
+    }
+    if (missing.isEmpty()) {
+      return result;
+    }
+
+    long seen = epoch.get();
+    Map<Long, Map<LocalDate, DaySlots>> loaded = new HashMap<>();
+    for (Object[] row : reservationRepository.findActiveTimeSlotsIn(missing, from, to)) {
+      loaded.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+          .merge((LocalDate) row[1],
+              DaySlots.EMPTY.with((ReservationStatus) row[4], (LocalTime) row[2], (LocalTime) row[3]),
+              DaySlots::merge);
+    }
+    for (Long studioId : missing) {
+      Map<LocalDate, DaySlots> loadedDays = loaded.getOrDefault(studioId, Map.of());
+      Map<LocalDate, DaySlots> days = result.get(studioId);
+      for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+        DaySlots daySlots = loadedDays.getOrDefault(date, DaySlots.EMPTY);
+        cache(key(studioId, date), daySlots, seen);
+        days.put(date, daySlots);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 새 예약 반영 - 커밋 후 기존 스냅샷에 비트를 더한다
+   */
+  public void reserved(Reservation reservation) {
+    if (reservation.getStudio() == null) {
+      return;
+    }
+    long key = key(reservation.getStudio().getId(), reservation.getReservationDate());
+    ReservationStatus status = reservation.getStatus();
+    LocalTime startTime = reservation.getStartTime();
+    LocalTime endTime = reservation.getEndTime();
+
+    TransactionUtils.afterCommit(() -> {
+      epoch.incrementAndGet();
+      slots.asMap().computeIfPresent(key, (k, daySlots) -> daySlots.with(status, startTime, endTime));
+    });
+  }
+
+  /**
+   * 예약 상태 변경 반영 - 커밋 후 해당 날짜 스냅샷을 버리고 다음 조회 때 다시 적재
+   */
+  public void changed(Reservation reservation) {
+    if (reservation.getStudio() == null) {
+      return;
+    }
+    long key = key(reservation.getStudio().getId(), reservation.getReservationDate());
+
+    TransactionUtils.afterCommit(() -> {
+      epoch.incrementAndGet();
+      slots.invalidate(key);
+    });
+  }
+
+  /**
+   * 지난 날짜 스냅샷 정리 (매일 00:10)
+   */
+  @Scheduled(cron = "0 10 0 * * *", zone = "Asia/Seoul")
+  public void evictPastDates() {
+    long today = LocalDate.now().toEpochDay();
+    long before = slots.estimatedSize();
+    slots.asMap().keySet().removeIf(key -> (key & DATE_MASK) < today);
+    log.info("예약 슬롯 인덱스 정리 완료: {} -> {}", before, slots.estimatedSize());
+  }
+
+  private DaySlots load(Long studioId, LocalDate date) {
+    List<Object[]> rows = reservationRepository.findActiveTimeSlots(studioId, date);
+    DaySlots daySlots = DaySlots.EMPTY;
+    for (Object[] row : rows) {
+      daySlots = daySlots.with((ReservationStatus) row[2], (LocalTime) row[0], (LocalTime) row[1]);
+    }
+    return daySlots;
+  }
+
+  private void cache(long key, DaySlots daySlots, long seen) {
+    if (epoch.get() != seen) {
+      return;
+    }
+    slots.asMap().putIfAbsent(key, daySlots);
+    if (epoch.get() != seen) {
+      slots.asMap().remove(key, daySlots);
+    }
+  }
+
+  private static long key(Long studioId, LocalDate date) {
+    return (studioId << DATE_BITS) | (date.toEpochDay() & DATE_MASK);
+  }
+}
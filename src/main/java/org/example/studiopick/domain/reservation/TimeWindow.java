@@ -0,0 +1,9 @@
+package org.example.studiopick.domain.reservation;
+
+import java.time.LocalTime;
+
+/**
+ * [startTime, endTime) 시간 구간
+ */
+public record TimeWindow(LocalTime startTime, LocalTime endTime) {
+}
@@ -0,0 +1,49 @@
+package org.example.studiopick.domain.review;
+
+/**
+ * 평점 집계 증감분 (리뷰 추가/제거/평점 변경 시 RatingSummary 에 더할 값)
+ */
+public record RatingDelta(long sum, long count, long rating1, long rating2, long rating3, long rating4, long rating5) {
+
+  public static final RatingDelta NONE = new RatingDelta(0, 0, 0, 0, 0, 0, 0);
+
+  /**
+   * 공개 리뷰 한 건 추가
+   */
+  public static RatingDelta added(Short rating) {
+    return of(rating, 1);
+  }
+
+  /**
+   * 공개 리뷰 한 건 제거 (숨김/삭제)
+   */
+  public static RatingDelta removed(Short rating) {
+    return of(rating, -1);
+  }
+
+  /**
+   * 공개 리뷰의 평점 변경
+   */
+  public static RatingDelta changed(Short before, Short after) {
+    return removed(before).plus(added(after));
+  }
+
+  public RatingDelta plus(RatingDelta other) {
+    return new RatingDelta(sum + other.sum, count + other.count,
+        rating1 + other.rating1, rating2 + other.rating2, rating3 + other.rating3,
+        rating4 + other.rating4, rating5 + other.rating5);
+  }
+
+  public boolean isEmpty() {
+    return equals(NONE);
+  }
+
+  private static RatingDelta of(Short rating, int sign) {
+    if (rating == null || rating < 1 || rating > 5) {
+      return NONE;
+    }
+    return new RatingDelta(sign * rating, sign,
+        rating == 1 ? sign : 0, rating == 2 ? sign : 0, rating == 3 ? sign : 0,
+        rating == 4 ? sign : 0, rating == 5 ? sign : 0);
+  }
+}
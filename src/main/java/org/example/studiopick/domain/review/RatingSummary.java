@@ -0,0 +1,51 @@
+package org.example.studiopick.domain.review;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 공개(VISIBLE) 리뷰 평점 집계 - 합계/개수/평균과 1~5점 분포
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RatingSummary {
+
+  public static final RatingSummary EMPTY = new RatingSummary();
+
+  @Column(name = "rating_sum", nullable = false)
+  private long ratingSum;
+
+  @Column(name = "review_count", nullable = false)
+  private long reviewCount;
+
+  @Column(name = "rating_average", nullable = false)
+  private double ratingAverage;
+
+  @Column(name = "rating1", nullable = false)
+  private long rating1;
+
+  @Column(name = "rating2", nullable = false)
+  private long rating2;
+
+  @Column(name = "rating3", nullable = false)
+  private long rating3;
+
+  @Column(name = "rating4", nullable = false)
+  private long rating4;
+
+  @Column(name = "rating5", nullable = false)
+  private long rating5;
+
+  /**
+   * 1점부터 5점까지 리뷰 개수
+   */
+  public List<Long> histogram() {
+    return List.of(rating1, rating2, rating3, rating4, rating5);
+  }
+}
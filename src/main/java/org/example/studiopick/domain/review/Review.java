@@ -15,7 +15,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+    @Index(name = "idx_review_studio_status_id", columnList = "studio_id, status, id"),
+    @Index(name = "idx_review_workshop_status_id", columnList = "workshop_id, status, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Review extends BaseEntity {
@@ -7,13 +7,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "review_image")
+@Table(name = "review_image", indexes = @Index(name = "idx_review_image_review_id", columnList = "review_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReviewImage {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_image_seq")
+  @SequenceGenerator(name = "review_image_seq", sequenceName = "review_image_seq", allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
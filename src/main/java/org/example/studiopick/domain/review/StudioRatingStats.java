@@ -0,0 +1,38 @@
+package org.example.studiopick.domain.review;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.studiopick.domain.studio.Studio;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스튜디오별 리뷰 평점 집계 (스튜디오당 1행)
+ * - 리뷰 작성/수정/삭제/신고 숨김 시 같은 트랜잭션에서 증감분을 원자적으로 반영
+ * - 평점순 정렬은 rating_average 인덱스 사용
+ */
+@Entity
+@Table(name = "studio_rating_stats", indexes = {
+    @Index(name = "idx_studio_rating_stats_average", columnList = "rating_average, studio_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudioRatingStats {
+
+  @Id
+  @Column(name = "studio_id")
+  private Long studioId;
+
+  @MapsId
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "studio_id")
+  private Studio studio;
+
+  @Embedded
+  private RatingSummary summary;
+
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,37 @@
+package org.example.studiopick.domain.review;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.studiopick.domain.workshop.WorkShop;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공방별 리뷰 평점 집계 (공방당 1행)
+ * - 리뷰 작성/수정/삭제/신고 숨김 시 같은 트랜잭션에서 증감분을 원자적으로 반영
+ */
+@Entity
+@Table(name = "workshop_rating_stats", indexes = {
+    @Index(name = "idx_workshop_rating_stats_average", columnList = "rating_average, workshop_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WorkShopRatingStats {
+
+  @Id
+  @Column(name = "workshop_id")
+  private Long workshopId;
+
+  @MapsId
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "workshop_id")
+  private WorkShop workShop;
+
+  @Embedded
+  private RatingSummary summary;
+
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+}
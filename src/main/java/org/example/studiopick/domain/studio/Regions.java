@@ -0,0 +1,67 @@
+package org.example.studiopick.domain.studio;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주소 → 시/도 약칭 (서울, 경기, 충북 ...)
+ * - 주소 앞부분의 시/도 표기(서울특별시, 서울시, 서울 등)를 모두 같은 약칭으로 정규화
+ * - 스튜디오 region 컬럼 저장과 검색 조건 정규화에 같은 규칙 사용
+ */
+public final class Regions {
+
+    private static final Map<String, String> ALIASES = new LinkedHashMap<>();
+
+    static {
+        alias("서울", "서울특별시", "서울시");
+        alias("부산", "부산광역시", "부산시");
+        alias("대구", "대구광역시", "대구시");
+        alias("인천", "인천광역시", "인천시");
+        alias("광주", "광주광역시", "광주시");
+        alias("대전", "대전광역시", "대전시");
+        alias("울산", "울산광역시", "울산시");
+        alias("세종", "세종특별자치시", "세종시");
+        alias("경기", "경기도");
+        alias("강원", "강원특별자치도", "강원도");
+        alias("충북", "충청북도");
+        alias("충남", "충청남도");
+        alias("전북", "전북특별자치도", "전라북도");
+        alias("전남", "전라남도");
+        alias("경북", "경상북도");
+        alias("경남", "경상남도");
+        alias("제주", "제주특별자치도", "제주도");
+    }
+
+    // 긴 표기부터 비교 ("광주광역시" 가 "광주" 보다 먼저)
+    private static final List<Map.Entry<String, String>> BY_LENGTH = ALIASES.entrySet().stream()
+            .sorted(Comparator.comparingInt((Map.Entry<String, String> entry) -> entry.getKey().length()).reversed())
+            .toList();
+
+    private Regions() {
+    }
+
+    /**
+     * 주소(또는 지역 검색어)의 시/도 약칭 - 알 수 없으면 null
+     */
+    public static String of(String location) {
+        if (location == null) {
+            return null;
+        }
+        String trimmed = location.strip();
+        for (Map.Entry<String, String> entry : BY_LENGTH) {
+            if (trimmed.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static void alias(String region, String... names) {
+        ALIASES.put(region, region);
+        for (String name : names) {
+            ALIASES.put(name, region);
+        }
+    }
+}
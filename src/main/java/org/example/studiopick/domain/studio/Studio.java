@@ -15,7 +15,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "\"Studio\"")
+@Table(name = "\"Studio\"", indexes = {
+    @Index(name = "idx_studio_status_region", columnList = "status, region"),
+    @Index(name = "idx_studio_status_hourly_rate", columnList = "status, hourly_base_rate")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Studio extends BaseEntity {
@@ -36,6 +39,17 @@ public class Studio extends BaseEntity {
     @Column(name = "location", length = 255)
     private String location;
 
+    // location 의 시/도 약칭 (Regions.of) - 지역 검색용, 저장 시 자동 갱신
+    @Column(name = "region", length = 10)
+    private String region;
+
+    // 위경도 (WGS84) - 주변 스튜디오/지도 검색용, 둘 다 있거나 둘 다 없음
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "hourly_base_rate", nullable = false)
     private Long hourlyBaseRate = 30000L;  // 기본값
 
@@ -151,6 +165,12 @@ public class Studio extends BaseEntity {
         this.location = location;
     }
 
+    @PrePersist
+    @PreUpdate
+    public void refreshRegion() {
+        this.region = Regions.of(location);
+    }
+
   public void changeStatus(StudioStatus status) {
         this.status = status;
     }
@@ -199,6 +219,17 @@ public class Studio extends BaseEntity {
         }
     }
 
+    public void updateCoordinates(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("위도와 경도는 함께 입력해야 합니다.");
+        }
+        if (latitude != null && (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)) {
+            throw new IllegalArgumentException("올바르지 않은 좌표입니다.");
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public void updateHourlyBaseRate(Long hourlyBaseRate) {
         if (hourlyBaseRate != null && hourlyBaseRate >= 0) {
             this.hourlyBaseRate = hourlyBaseRate;
@@ -0,0 +1,15 @@
+package org.example.studiopick.domain.studio;
+
+/**
+ * 지도/주변 검색용 스튜디오 좌표 스냅샷 (StudioGeoIndex 보관 단위)
+ */
+public record StudioGeoPoint(
+    Long id,
+    String name,
+    String location,
+    Long hourlyBaseRate,
+    String thumbnailImage,
+    double latitude,
+    double longitude
+) {
+}
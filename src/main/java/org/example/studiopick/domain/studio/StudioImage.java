@@ -12,8 +12,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StudioImage {
 
+  // 한 요청에서 여러 장을 저장하므로 시퀀스(pooled)로 배치 INSERT
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "studio_image_seq")
+  @SequenceGenerator(name = "studio_image_seq", sequenceName = "studio_image_seq", allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -5,7 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.example.studiopick.domain.common.BaseEntity;
+import org.example.studiopick.domain.common.BaseTimeEntity;
 import org.example.studiopick.domain.common.enums.Weekday;
 
 import java.time.LocalTime;
@@ -14,7 +14,14 @@ import java.time.LocalTime;
 @Table(name = "\"Studio_Operating_Hours\"")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class StudioOperatingHours extends BaseEntity {
+public class StudioOperatingHours extends BaseTimeEntity {
+
+    // 스튜디오 생성/수정 시 요일별로 한 번에 여러 행이 들어가므로 시퀀스(pooled)로 배치 INSERT
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "studio_operating_hours_seq")
+    @SequenceGenerator(name = "studio_operating_hours_seq", sequenceName = "studio_operating_hours_seq", allocationSize = 50)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "studio_id", nullable = false)
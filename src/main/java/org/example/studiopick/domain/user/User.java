@@ -5,12 +5,14 @@ import lombok.*;
 import org.example.studiopick.domain.common.BaseEntity;
 import org.example.studiopick.domain.common.enums.UserRole;
 import org.example.studiopick.domain.common.enums.UserStatus;
+import org.example.studiopick.infrastructure.metrics.DailyMetricEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(DailyMetricEntityListener.class)
 @Table(name = "\"User\"")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 public class WorkShopImage {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workshop_image_seq")
+  @SequenceGenerator(name = "workshop_image_seq", sequenceName = "workshop_image_seq", allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
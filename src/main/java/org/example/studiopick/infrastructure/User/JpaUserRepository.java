@@ -7,8 +7,11 @@ import org.example.studiopick.domain.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaUserRepository extends JpaRepository<User, Long> {
@@ -51,4 +54,12 @@ public interface JpaUserRepository extends JpaRepository<User, Long> {
 
   long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
+  /**
+   * 일별 가입자 수 (일별 지표 집계용) - [start, end)
+   */
+  @Query("SELECT CAST(u.createdAt AS LocalDate), COUNT(u) FROM User u " +
+         "WHERE u.createdAt >= :start AND u.createdAt < :end " +
+         "GROUP BY CAST(u.createdAt AS LocalDate)")
+  List<Object[]> countDailySignups(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
 }
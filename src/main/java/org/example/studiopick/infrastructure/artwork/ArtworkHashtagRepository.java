@@ -0,0 +1,24 @@
+package org.example.studiopick.infrastructure.artwork;
+
+import org.example.studiopick.domain.artwork.ArtworkHashtag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ArtworkHashtagRepository extends JpaRepository<ArtworkHashtag, Long> {
+
+    @Modifying
+    @Query("DELETE FROM ArtworkHashtag h WHERE h.artwork.id = :artworkId")
+    int deleteByArtworkId(@Param("artworkId") Long artworkId);
+
+    // 기간 내 등록된 공개 작품의 태그별 사용 수 - [태그, 작품 수]
+    @Query("SELECT h.tag, COUNT(h) FROM ArtworkHashtag h JOIN h.artwork a " +
+           "WHERE h.createdAt >= :since AND a.isPublic = true " +
+           "GROUP BY h.tag ORDER BY COUNT(h) DESC, h.tag ASC")
+    List<Object[]> countTrending(@Param("since") LocalDateTime since, Pageable pageable);
+}
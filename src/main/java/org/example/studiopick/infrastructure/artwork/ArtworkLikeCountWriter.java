@@ -0,0 +1,56 @@
+package org.example.studiopick.infrastructure.artwork;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 작품 좋아요 수 DB 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArtworkLikeCountWriter {
+
+  private static final String APPLY_DELTA_SQL =
+      "UPDATE artwork SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 작품별 증감분을 한 트랜잭션의 JDBC 배치 UPDATE 로 반영
+   * - 작품 ID 순으로 갱신해 여러 노드가 동시에 반영해도 행 잠금 순서가 같다
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void apply(Map<Long, Long> deltas) {
+    List<Object[]> args = new ArrayList<>(deltas.size());
+    new TreeMap<>(deltas).forEach((artworkId, delta) -> args.add(new Object[]{delta, artworkId}));
+    jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, args);
+  }
+
+  /**
+   * 좋아요 원본 수와 다른 작품만 실제 개수로 보정
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public int reconcile() {
+    return jdbcTemplate.update("""
+        UPDATE artwork a
+        SET like_count = c.cnt
+        FROM (
+            SELECT a2.id, COUNT(l.id) AS cnt
+            FROM artwork a2
+            LEFT JOIN artwork_like l ON l.artwork_id = a2.id
+            GROUP BY a2.id
+        ) c
+        WHERE a.id = c.id AND a.like_count <> c.cnt
+        """);
+  }
+}
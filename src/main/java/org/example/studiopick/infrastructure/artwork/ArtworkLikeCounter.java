@@ -0,0 +1,108 @@
+package org.example.studiopick.infrastructure.artwork;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.common.util.TransactionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작품 좋아요 수 write-behind 카운터
+ * - 좋아요/취소 커밋 후 노드 메모리의 작품별 LongAdder 에 증감만 누적 (Artwork 행 잠금 X, 인기 작품에 몰려도 셀 단위로 분산)
+ * - 5초마다 누적분을 모아 ArtworkLikeCountWriter 가 배치 UPDATE 로 like_count 에 반영
+ * - 반영 전 값은 pendingDelta() 로 조회해 상세 화면에 더해 보여준다 (다른 노드 누적분은 반영 주기만큼 늦게 보임)
+ * - 매일 새벽 좋아요 원본 개수로 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArtworkLikeCounter {
+
+  private final ArtworkLikeCountWriter writer;
+
+  private volatile ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+  // 직전 주기에 교체된 맵 - 교체 직전에 참조를 얻은 스레드가 늦게 더한 값을 다음 주기에 한 번 더 회수
+  private volatile ConcurrentHashMap<Long, LongAdder> retired = new ConcurrentHashMap<>();
+
+  /**
+   * 좋아요 수 증감 (현재 트랜잭션 커밋 후 반영)
+   */
+  public void increment(Long artworkId, long delta) {
+    TransactionUtils.afterCommit(() -> add(artworkId, delta));
+  }
+
+  /**
+   * 아직 DB에 반영되지 않은 이 노드의 증감분
+   */
+  public long pendingDelta(Long artworkId) {
+    long delta = 0;
+    LongAdder current = pending.get(artworkId);
+    if (current != null) {
+      delta += current.sum();
+    }
+    LongAdder previous = retired.get(artworkId);
+    if (previous != null) {
+      delta += previous.sum();
+    }
+    return delta;
+  }
+
+  @Scheduled(initialDelay = 5_000, fixedDelay = 5_000)
+  public synchronized void flush() {
+    ConcurrentHashMap<Long, LongAdder> stale = retired;
+    retired = pending;
+    pending = new ConcurrentHashMap<>();
+
+    Map<Long, Long> deltas = new HashMap<>();
+    collect(stale, deltas);
+    collect(retired, deltas);
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    try {
+      writer.apply(deltas);
+      log.debug("작품 좋아요 수 반영: {}개 작품", deltas.size());
+    } catch (Exception e) {
+      log.error("작품 좋아요 수 반영 실패 - 다음 주기에 다시 시도합니다: {}개 작품, error={}", deltas.size(), e.getMessage());
+      deltas.forEach(this::add);
+    }
+  }
+
+  @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+  public void reconcile() {
+    flush();
+    try {
+      int corrected = writer.reconcile();
+      log.info("작품 좋아요 수 보정 완료: {}개 작품", corrected);
+    } catch (Exception e) {
+      log.error("작품 좋아요 수 보정 실패: error={}", e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+    flush();
+  }
+
+  private void add(Long artworkId, long delta) {
+    pending.computeIfAbsent(artworkId, id -> new LongAdder()).add(delta);
+  }
+
+  private static void collect(Map<Long, LongAdder> counters, Map<Long, Long> deltas) {
+    counters.forEach((artworkId, counter) -> {
+      long delta = counter.sumThenReset();
+      if (delta != 0) {
+        deltas.merge(artworkId, delta, Long::sum);
+      }
+    });
+  }
+}
@@ -4,6 +4,9 @@ import org.example.studiopick.domain.artwork.Artwork;
 import org.example.studiopick.domain.artwork.ArtworkLike;
 import org.example.studiopick.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ArtworkLikeRepository extends JpaRepository<ArtworkLike, Long> {
     boolean existsByArtworkAndUser(Artwork artwork, User user);
@@ -14,4 +17,9 @@ public interface ArtworkLikeRepository extends JpaRepository<ArtworkLike, Long>
 
     void deleteByArtworkIdAndUserId(Long artworkId, Long userId);
 
+    // 좋아요 취소 - 실제로 지운 행 수 반환 (동시 취소 시 중복 차감 방지)
+    @Modifying
+    @Query("DELETE FROM ArtworkLike l WHERE l.artwork.id = :artworkId AND l.user.id = :userId")
+    int deleteLike(@Param("artworkId") Long artworkId, @Param("userId") Long userId);
+
 }
@@ -25,5 +25,7 @@ public interface ArtworkRepository extends JpaRepository<Artwork, Long> {
     @Query("SELECT COALESCE(AVG(a.likeCount), 0) FROM Artwork a")
     Optional<BigDecimal> calculateAverageLikeCount();
 
+    // 해시태그 인덱스 백필용 ID 순 배치 조회
+    List<Artwork> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
 }
@@ -0,0 +1,82 @@
+package org.example.studiopick.infrastructure.artwork;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.common.dto.artwork.ArtworkFeedDto;
+import org.example.studiopick.infrastructure.artwork.mybatis.ArtworkMapper;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 인기 작품 랭킹 (노드 로컬 스냅샷)
+ * - 1분마다 최근 30일 공개 작품(좋아요 1개 이상)을 시간 감쇠 점수로 정렬해 상위 1,000개를 통째로 교체
+ * - 인기 피드(해시태그 없음)는 이 스냅샷에서 바로 잘라 응답 (DB 조회 X)
+ * - 커서는 (스냅샷 버전, 위치) - 직전 스냅샷까지 보관해 교체 직후 다음 페이지도 이어서 응답
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularArtworkRanking {
+
+  public static final int MAX_SIZE = 1_000;
+
+  private static final int WINDOW_DAYS = 30;
+  private static final double GRAVITY = 1.5;
+
+  private final ArtworkMapper artworkMapper;
+
+  private volatile Snapshot current = Snapshot.EMPTY;
+  private volatile Snapshot previous = Snapshot.EMPTY;
+
+  /**
+   * 랭킹 스냅샷 (version 은 교체될 때마다 증가)
+   */
+  public record Snapshot(long version, List<ArtworkFeedDto> artworks, List<Long> ids) {
+
+    static final Snapshot EMPTY = new Snapshot(0L, List.of(), List.of());
+
+    public int size() {
+      return artworks.size();
+    }
+
+    public List<ArtworkFeedDto> slice(int offset, int limit) {
+      if (offset >= artworks.size()) {
+        return List.of();
+      }
+      return artworks.subList(offset, Math.min(offset + limit, artworks.size()));
+    }
+  }
+
+  /**
+   * 커서가 가리키는 스냅샷 (현재/직전 버전이 아니면 현재 스냅샷)
+   */
+  public Snapshot snapshot(Long version) {
+    Snapshot snapshot = current;
+    if (version == null || version == snapshot.version()) {
+      return snapshot;
+    }
+    Snapshot older = previous;
+    return version == older.version() ? older : snapshot;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(initialDelay = 60_000, fixedDelay = 60_000)
+  public synchronized void refresh() {
+    try {
+      List<ArtworkFeedDto> artworks = artworkMapper.findTrending(
+          LocalDateTime.now().minusDays(WINDOW_DAYS), GRAVITY, MAX_SIZE);
+      Snapshot next = new Snapshot(current.version() + 1, List.copyOf(artworks),
+          artworks.stream().map(ArtworkFeedDto::getId).toList());
+      previous = current;
+      current = next;
+      log.debug("인기 작품 랭킹 갱신: version={}, {}개", next.version(), artworks.size());
+    } catch (Exception e) {
+      log.error("인기 작품 랭킹 갱신 실패 - 기존 스냅샷 유지: error={}", e.getMessage());
+    }
+  }
+}
@@ -5,6 +5,8 @@ import org.apache.ibatis.annotations.Param;
 import org.example.studiopick.common.dto.artwork.ArtworkFeedDto;
 import org.example.studiopick.domain.artwork.Artwork;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -12,5 +14,23 @@ public interface ArtworkMapper {
     List<ArtworkFeedDto> findAllSorted(@Param("sort") String sort,
                                        @Param("offset") int offset,
                                        @Param("limit") int limit,
-                                       @Param("hashtags") String hashtags);
+                                       @Param("tags") List<String> tags,
+                                       @Param("matchAll") boolean matchAll);
+
+    List<ArtworkFeedDto> findLatestAfter(@Param("lastId") Long lastId,
+                                         @Param("limit") int limit,
+                                         @Param("tags") List<String> tags,
+                                         @Param("matchAll") boolean matchAll);
+
+    List<ArtworkFeedDto> findPopularAfter(@Param("lastLikeCount") Long lastLikeCount,
+                                          @Param("lastId") Long lastId,
+                                          @Param("excludeIds") Collection<Long> excludeIds,
+                                          @Param("offset") int offset,
+                                          @Param("limit") int limit,
+                                          @Param("tags") List<String> tags,
+                                          @Param("matchAll") boolean matchAll);
+
+    List<ArtworkFeedDto> findTrending(@Param("since") LocalDateTime since,
+                                      @Param("gravity") double gravity,
+                                      @Param("limit") int limit);
 }
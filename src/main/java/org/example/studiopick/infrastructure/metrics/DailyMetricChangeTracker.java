@@ -0,0 +1,49 @@
+package org.example.studiopick.infrastructure.metrics;
+
+import org.example.studiopick.common.util.TransactionUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일별 지표 재계산이 필요한 날짜 목록
+ * - 집계 대상 엔티티가 변경되면 커밋 후 해당 날짜를 표시하고, 롤업 작업이 주기적으로 가져간다
+ */
+@Component
+public class DailyMetricChangeTracker {
+
+  private final Set<LocalDate> dirtyDates = ConcurrentHashMap.newKeySet();
+
+  public void touch(LocalDateTime at) {
+    if (at == null) {
+      return;
+    }
+    LocalDate date = at.toLocalDate();
+    TransactionUtils.afterCommit(() -> dirtyDates.add(date));
+  }
+
+  /**
+   * 재계산 실패한 기간을 다시 표시
+   */
+  public void retry(LocalDate from, LocalDate to) {
+    for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+      dirtyDates.add(date);
+    }
+  }
+
+  /**
+   * 표시된 날짜를 꺼내고 비움 (오름차순)
+   */
+  public List<LocalDate> drain() {
+    List<LocalDate> dates = new ArrayList<>(dirtyDates);
+    dates.forEach(dirtyDates::remove);
+    Collections.sort(dates);
+    return dates;
+  }
+}
@@ -0,0 +1,43 @@
+package org.example.studiopick.infrastructure.metrics;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.studiopick.domain.payment.Payment;
+import org.example.studiopick.domain.report.Report;
+import org.example.studiopick.domain.reservation.Reservation;
+import org.example.studiopick.domain.user.User;
+
+/**
+ * 일별 지표 집계 대상 엔티티 변경 감지
+ * - 생성/삭제: 생성일(결제는 결제일) 지표 재계산
+ * - 수정: 상태에 따라 값이 달라지는 결제(완료/환불)와 신고 처리만 재계산
+ */
+@RequiredArgsConstructor
+public class DailyMetricEntityListener {
+
+  private final DailyMetricChangeTracker changeTracker;
+
+  @PostPersist
+  @PostRemove
+  public void onCreateOrRemove(Object entity) {
+    if (entity instanceof User user) {
+      changeTracker.touch(user.getCreatedAt());
+    } else if (entity instanceof Reservation reservation) {
+      changeTracker.touch(reservation.getCreatedAt());
+    } else {
+      onUpdate(entity);
+    }
+  }
+
+  @PostUpdate
+  public void onUpdate(Object entity) {
+    if (entity instanceof Payment payment) {
+      changeTracker.touch(payment.getPaidAt());
+    } else if (entity instanceof Report report) {
+      changeTracker.touch(report.getCreatedAt());
+      changeTracker.touch(report.getProcessedAt());
+    }
+  }
+}
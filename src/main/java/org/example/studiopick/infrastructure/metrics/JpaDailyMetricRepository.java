@@ -0,0 +1,34 @@
+package org.example.studiopick.infrastructure.metrics;
+
+import org.example.studiopick.domain.metrics.DailyMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JpaDailyMetricRepository extends JpaRepository<DailyMetric, Long> {
+
+  /**
+   * 기간 내 모든 지표 (기간 길이와 무관하게 1회 조회)
+   */
+  List<DailyMetric> findByMetricDateBetween(LocalDate startDate, LocalDate endDate);
+
+  /**
+   * 날짜 × 지표 집계값 저장 (있으면 덮어씀)
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO daily_metric (metric_date, metric, event_count, amount, created_at, updated_at)
+      VALUES (:metricDate, :metric, :eventCount, :amount, now(), now())
+      ON CONFLICT (metric_date, metric)
+      DO UPDATE SET event_count = EXCLUDED.event_count, amount = EXCLUDED.amount, updated_at = now()
+      """, nativeQuery = true)
+  int upsert(@Param("metricDate") LocalDate metricDate,
+             @Param("metric") String metric,
+             @Param("eventCount") long eventCount,
+             @Param("amount") BigDecimal amount);
+}
@@ -0,0 +1,108 @@
+package org.example.studiopick.infrastructure.payment;
+
+import java.time.Duration;
+
+/**
+ * 결제사 호출용 서킷 브레이커 (최근 N회 호출 기준)
+ * - CLOSED: 최근 windowSize 회 중 minimumCalls 이상 호출됐고 실패율이 failureRateThreshold 이상이면 OPEN
+ * - OPEN: openDuration 동안 호출 차단
+ * - HALF_OPEN: 시험 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+class GatewayCircuitBreaker {
+
+  enum State { CLOSED, HALF_OPEN, OPEN }
+
+  private final int windowSize;
+  private final int minimumCalls;
+  private final double failureRateThreshold;
+  private final long openNanos;
+
+  private final boolean[] outcomes;
+  private int position;
+  private int calls;
+  private int failures;
+
+  private State state = State.CLOSED;
+  private long openUntil;
+  private boolean probeInFlight;
+
+  GatewayCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+    this.windowSize = windowSize;
+    this.minimumCalls = minimumCalls;
+    this.failureRateThreshold = failureRateThreshold;
+    this.openNanos = openDuration.toNanos();
+    this.outcomes = new boolean[windowSize];
+  }
+
+  /**
+   * 호출 허용 여부 (허용되면 결과를 onSuccess/onFailure 로 반드시 알려야 함, 4xx 처럼 결제사 장애가 아닌 실패는 onSuccess)
+   */
+  synchronized boolean tryAcquire() {
+    if (state == State.OPEN) {
+      if (System.nanoTime() - openUntil < 0) {
+        return false;
+      }
+      state = State.HALF_OPEN;
+      probeInFlight = false;
+    }
+    if (state == State.HALF_OPEN) {
+      if (probeInFlight) {
+        return false;
+      }
+      probeInFlight = true;
+    }
+    return true;
+  }
+
+  synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      close();
+      return;
+    }
+    record(false);
+  }
+
+  synchronized void onFailure() {
+    if (state == State.HALF_OPEN) {
+      open();
+      return;
+    }
+    record(true);
+    if (calls >= minimumCalls && (double) failures / calls >= failureRateThreshold) {
+      open();
+    }
+  }
+
+  synchronized State state() {
+    return state;
+  }
+
+  private void record(boolean failed) {
+    if (calls == windowSize) {
+      if (outcomes[position]) {
+        failures--;
+      }
+    } else {
+      calls++;
+    }
+    outcomes[position] = failed;
+    if (failed) {
+      failures++;
+    }
+    position = (position + 1) % windowSize;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openUntil = System.nanoTime() + openNanos;
+    probeInFlight = false;
+  }
+
+  private void close() {
+    state = State.CLOSED;
+    probeInFlight = false;
+    calls = 0;
+    failures = 0;
+    position = 0;
+  }
+}
@@ -0,0 +1,30 @@
+package org.example.studiopick.infrastructure.payment;
+
+import org.example.studiopick.domain.common.enums.PaymentOutboxEventType;
+import org.example.studiopick.domain.payment.PaymentOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface JpaPaymentOutboxRepository extends JpaRepository<PaymentOutboxEvent, Long> {
+
+    boolean existsByEventTypeAndPaymentId(PaymentOutboxEventType eventType, Long paymentId);
+
+    /**
+     * 처리할 차례가 된 이벤트 ID (오래된 순)
+     */
+    @Query(value = "SELECT id FROM payment_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 대기 중인 이벤트 행 잠금 - 다른 노드가 이미 잠근 행은 기다리지 않고 건너뜀
+     */
+    @Query(value = "SELECT * FROM payment_outbox WHERE id = :id AND status = 'PENDING' FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<PaymentOutboxEvent> lockPending(@Param("id") Long id);
+}
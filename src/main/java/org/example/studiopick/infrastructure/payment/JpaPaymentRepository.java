@@ -5,9 +5,11 @@ import org.example.studiopick.application.admin.dto.sales.AdminStudioSalesData;
 import org.example.studiopick.domain.common.enums.PaymentMethod;
 import org.example.studiopick.domain.common.enums.PaymentStatus;
 import org.example.studiopick.domain.payment.Payment;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -33,6 +35,25 @@ public interface JpaPaymentRepository extends JpaRepository<Payment, Long>{
    */
   Optional<Payment> findByOrderId(String orderId);
 
+  boolean existsByOrderId(String orderId);
+
+  /**
+   * 주문 ID로 결제 정보 조회 (행 잠금 - 결제 승인/웹훅/대사 작업 간 상태 변경 직렬화)
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT p FROM Payment p WHERE p.orderId = :orderId")
+  Optional<Payment> findByOrderIdForUpdate(@Param("orderId") String orderId);
+
+  /**
+   * 오래 대기 중인 결제 (대사 대상, id 순 키셋 페이지)
+   */
+  @Query("SELECT p FROM Payment p WHERE p.status IN :statuses AND p.createdAt < :cutoff AND p.id > :lastId " +
+         "ORDER BY p.id")
+  List<Payment> findStale(@Param("statuses") List<PaymentStatus> statuses,
+                          @Param("cutoff") LocalDateTime cutoff,
+                          @Param("lastId") Long lastId,
+                          Pageable pageable);
+
   // ===== 매출 통계 관련 메서드들 =====
 
   /**
@@ -51,6 +72,17 @@ public interface JpaPaymentRepository extends JpaRepository<Payment, Long>{
       @Param("endDate") LocalDateTime endDate,
       @Param("status") PaymentStatus status);
 
+  /**
+   * 결제일 기준 일별 건수/금액 (일별 지표 집계용) - [start, end)
+   */
+  @Query("SELECT CAST(p.paidAt AS LocalDate), COUNT(p), COALESCE(SUM(p.amount), 0) FROM Payment p " +
+         "WHERE p.paidAt >= :start AND p.paidAt < :end AND p.status = :status " +
+         "GROUP BY CAST(p.paidAt AS LocalDate)")
+  List<Object[]> sumDailyByStatus(
+      @Param("start") LocalDateTime start,
+      @Param("end") LocalDateTime end,
+      @Param("status") PaymentStatus status);
+
   /**
    * 특정 상태의 결제 건수 조회
    */
@@ -0,0 +1,24 @@
+package org.example.studiopick.infrastructure.payment;
+
+import org.example.studiopick.domain.common.enums.PaymentWebhookStatus;
+import org.example.studiopick.domain.payment.PaymentWebhookEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JpaPaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEvent, Long> {
+
+    boolean existsByDedupKey(String dedupKey);
+
+    boolean existsByOrderIdAndStatus(String orderId, PaymentWebhookStatus status);
+
+    /**
+     * 처리할 차례가 된 웹훅 (수신 순)
+     */
+    @Query(value = "SELECT * FROM payment_webhook_event WHERE status = 'RECEIVED' AND next_attempt_at <= :now " +
+                   "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<PaymentWebhookEvent> findDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -23,6 +23,51 @@ public interface JpaSettlementRepository extends JpaRepository<Settlement, Long>
      * 워크샵 ID로 정산 내역 조회
      */
     List<Settlement> findByWorkshopId(Long workshopId);
+
+    /**
+     * 스튜디오 정산 내역 조회 (페이징)
+     * - 파생 쿼리는 studio 를 LEFT JOIN 한 뒤 조인 쪽 id 로 거르므로 (studio_id, created_at) 인덱스를 타도록 FK 컬럼으로 직접 비교
+     */
+    @Query("SELECT s FROM Settlement s WHERE s.studio.id = :studioId")
+    Page<Settlement> findByStudioId(@Param("studioId") Long studioId, Pageable pageable);
+
+    /**
+     * 스튜디오 정산 내역 상태별 조회 (페이징)
+     */
+    @Query("SELECT s FROM Settlement s WHERE s.studio.id = :studioId AND s.settlementStatus = :status")
+    Page<Settlement> findByStudioIdAndSettlementStatus(@Param("studioId") Long studioId,
+                                                       @Param("status") SettlementStatus status,
+                                                       Pageable pageable);
+
+    /**
+     * 워크샵 정산 내역 조회 (페이징, FK 컬럼으로 직접 비교)
+     */
+    @Query("SELECT s FROM Settlement s WHERE s.workshop.id = :workshopId")
+    Page<Settlement> findByWorkshopId(@Param("workshopId") Long workshopId, Pageable pageable);
+
+    /**
+     * 워크샵 정산 내역 상태별 조회 (페이징)
+     */
+    @Query("SELECT s FROM Settlement s WHERE s.workshop.id = :workshopId AND s.settlementStatus = :status")
+    Page<Settlement> findByWorkshopIdAndSettlementStatus(@Param("workshopId") Long workshopId,
+                                                         @Param("status") SettlementStatus status,
+                                                         Pageable pageable);
+
+    /**
+     * 상태별 정산 건수/지급액 합계 - [상태, 건수, 지급액]
+     */
+    @Query("SELECT s.settlementStatus, COUNT(s), COALESCE(SUM(s.payoutAmount), 0) FROM Settlement s " +
+           "GROUP BY s.settlementStatus")
+    List<Object[]> summarizeByStatus();
+
+    /**
+     * 기간 내 상태별 정산 건수/지급액 합계 - [상태, 건수, 지급액] (생성일 [startDate, endDate))
+     */
+    @Query("SELECT s.settlementStatus, COUNT(s), COALESCE(SUM(s.payoutAmount), 0) FROM Settlement s " +
+           "WHERE s.createdAt >= :startDate AND s.createdAt < :endDate " +
+           "GROUP BY s.settlementStatus")
+    List<Object[]> summarizeByStatusBetween(@Param("startDate") LocalDateTime startDate,
+                                            @Param("endDate") LocalDateTime endDate);
     
     /**
      * 상태별 정산 내역 조회 (페이징)
@@ -0,0 +1,52 @@
+package org.example.studiopick.infrastructure.payment;
+
+import lombok.Getter;
+
+/**
+ * 결제사 API 호출 실패
+ * - status: HTTP 상태 코드 (응답을 받지 못한 경우 0)
+ * - rejected: 서킷 브레이커/벌크헤드에 막혀 호출하지 않은 경우
+ */
+@Getter
+public class PaymentGatewayException extends RuntimeException {
+
+  private final int status;
+  private final String body;
+  private final boolean rejected;
+
+  public PaymentGatewayException(String message, int status, String body) {
+    super(message);
+    this.status = status;
+    this.body = body;
+    this.rejected = false;
+  }
+
+  public PaymentGatewayException(String message, Throwable cause) {
+    super(message, cause);
+    this.status = 0;
+    this.body = null;
+    this.rejected = false;
+  }
+
+  private PaymentGatewayException(String message) {
+    super(message);
+    this.status = 0;
+    this.body = null;
+    this.rejected = true;
+  }
+
+  public static PaymentGatewayException rejected(String message) {
+    return new PaymentGatewayException(message);
+  }
+
+  public boolean isClientError() {
+    return status >= 400 && status < 500 && status != 429;
+  }
+
+  /**
+   * 결제사 쪽 장애로 볼 수 있는 실패 (5xx, 429, 타임아웃/연결 실패)
+   */
+  public boolean isGatewayFailure() {
+    return !rejected && !isClientError();
+  }
+}
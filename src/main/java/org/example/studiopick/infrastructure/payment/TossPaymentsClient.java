@@ -0,0 +1,253 @@
+package org.example.studiopick.infrastructure.payment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.codec.CodecException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 토스페이먼츠 HTTP 클라이언트 (애플리케이션 전체에서 하나의 커넥션 풀 공유)
+ * - 연결/응답 타임아웃 + 호출 전체 기한, 요청 스레드가 결제사 지연에 무기한 묶이지 않음
+ * - 재시도: GET 과 Idempotency-Key 를 붙인 POST 만, 결제사 장애(5xx/429/타임아웃/연결 실패)일 때만
+ * - 벌크헤드: 동시 호출 수 제한 (초과 시 대기 후 거절)
+ * - 서킷 브레이커: 결제사 장애가 이어지면 일정 시간 즉시 실패 (응답 본문 변환 실패는 결제사 장애로 세지 않음)
+ * - 지표: toss.payments.requests (operation, outcome 별 지연), toss.payments.retries, toss.payments.circuit.state
+ * - base-url 만 바꾸면 로컬 목 서버로 테스트 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TossPaymentsClient {
+
+  private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+  private final WebClient.Builder webClientBuilder;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${toss.payments.test-secret-key}")
+  private String secretKey;
+
+  @Value("${toss.payments.base-url:https://api.tosspayments.com}")
+  private String baseUrl;
+
+  @Value("${toss.payments.client.max-connections:50}")
+  private int maxConnections;
+
+  @Value("${toss.payments.client.connect-timeout-ms:2000}")
+  private int connectTimeoutMs;
+
+  @Value("${toss.payments.client.read-timeout-ms:10000}")
+  private long readTimeoutMs;
+
+  @Value("${toss.payments.client.call-timeout-ms:25000}")
+  private long callTimeoutMs;
+
+  @Value("${toss.payments.client.max-retries:2}")
+  private int maxRetries;
+
+  @Value("${toss.payments.client.max-concurrent-calls:30}")
+  private int maxConcurrentCalls;
+
+  @Value("${toss.payments.client.bulkhead-wait-ms:500}")
+  private long bulkheadWaitMs;
+
+  private ConnectionProvider connectionProvider;
+  private WebClient webClient;
+  private Semaphore bulkhead;
+  private GatewayCircuitBreaker circuitBreaker;
+
+  @PostConstruct
+  public void init() {
+    connectionProvider = ConnectionProvider.builder("toss-payments")
+        .maxConnections(maxConnections)
+        .pendingAcquireTimeout(Duration.ofMillis(connectTimeoutMs))
+        .maxIdleTime(Duration.ofSeconds(30))
+        .evictInBackground(Duration.ofSeconds(60))
+        .build();
+
+    HttpClient httpClient = HttpClient.create(connectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+        .responseTimeout(Duration.ofMillis(readTimeoutMs))
+        .doOnConnected(connection -> connection
+            .addHandlerLast(new ReadTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS))
+            .addHandlerLast(new WriteTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS)));
+
+    String credentials = Base64.getEncoder()
+        .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+
+    webClient = webClientBuilder.clone()
+        .baseUrl(baseUrl)
+        .clientConnector(new ReactorClientHttpConnector(httpClient))
+        .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
+        .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .build();
+
+    bulkhead = new Semaphore(maxConcurrentCalls);
+    circuitBreaker = new GatewayCircuitBreaker(20, 10, 0.5, Duration.ofSeconds(30));
+
+    Gauge.builder("toss.payments.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+        .description("0=CLOSED, 1=HALF_OPEN, 2=OPEN")
+        .register(meterRegistry);
+    Gauge.builder("toss.payments.bulkhead.available", bulkhead, Semaphore::availablePermits)
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void close() {
+    connectionProvider.dispose();
+  }
+
+  /**
+   * GET (항상 재시도 가능)
+   */
+  public <T> T get(String operation, Class<T> responseType, String uri, Object... uriVariables) {
+    return execute(operation, true, client -> client.get()
+        .uri(uri, uriVariables)
+        .retrieve()
+        .onStatus(HttpStatusCode::isError, response -> response.bodyToMono(String.class)
+            .defaultIfEmpty("")
+            .map(body -> error(operation, response.statusCode().value(), body)))
+        .bodyToMono(responseType));
+  }
+
+  /**
+   * POST - idempotencyKey 가 있으면 결제사가 중복 처리를 막아 주므로 재시도, 없으면 1회만 호출
+   */
+  public <T> T post(String operation, Class<T> responseType, Object body, String idempotencyKey,
+                    String uri, Object... uriVariables) {
+    boolean idempotent = idempotencyKey != null && !idempotencyKey.isBlank();
+    return execute(operation, idempotent, client -> client.post()
+        .uri(uri, uriVariables)
+        .headers(headers -> {
+          if (idempotent) {
+            headers.set(IDEMPOTENCY_KEY, idempotencyKey);
+          }
+        })
+        .bodyValue(body)
+        .retrieve()
+        .onStatus(HttpStatusCode::isError, response -> response.bodyToMono(String.class)
+            .defaultIfEmpty("")
+            .map(responseBody -> error(operation, response.statusCode().value(), responseBody)))
+        .bodyToMono(responseType));
+  }
+
+  private <T> T execute(String operation, boolean retryable, Function<WebClient, Mono<T>> call) {
+    boolean acquired;
+    try {
+      acquired = bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    if (!acquired) {
+      record(operation, "bulkhead_full", 0L);
+      throw PaymentGatewayException.rejected("결제사 동시 호출 한도를 초과했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    long start = System.nanoTime();
+    try {
+      if (!circuitBreaker.tryAcquire()) {
+        record(operation, "circuit_open", 0L);
+        throw PaymentGatewayException.rejected("결제사 응답 장애로 호출이 일시 중단되었습니다. 잠시 후 다시 시도해 주세요.");
+      }
+
+      Mono<T> mono = call.apply(webClient);
+      if (retryable && maxRetries > 0) {
+        mono = mono.retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(200))
+            .maxBackoff(Duration.ofSeconds(2))
+            .filter(TossPaymentsClient::isTransient)
+            .doBeforeRetry(signal -> {
+              Counter.builder("toss.payments.retries").tag("operation", operation)
+                  .register(meterRegistry).increment();
+              log.warn("토스페이먼츠 재시도: operation={}, attempt={}, error={}",
+                  operation, signal.totalRetries() + 1, signal.failure().getMessage());
+            })
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+      }
+
+      T result = mono.timeout(Duration.ofMillis(callTimeoutMs)).block();
+      circuitBreaker.onSuccess();
+      record(operation, "success", System.nanoTime() - start);
+      return result;
+    } catch (PaymentGatewayException e) {
+      if (e.isRejected()) {
+        throw e;
+      }
+      return fail(operation, e, start);
+    } catch (RuntimeException e) {
+      Throwable cause = Exceptions.unwrap(e);
+      if (cause instanceof CodecException) {
+        // 결제사는 응답했고 우리 쪽 DTO 와 맞지 않는 것 - 브레이커를 열면 정상 응답 중인 결제사 호출까지 막힘
+        circuitBreaker.onSuccess();
+        record(operation, "decode_error", System.nanoTime() - start);
+        throw new PaymentGatewayException("토스페이먼츠 " + operation + " 응답 변환 실패: " + cause.getMessage(), cause);
+      }
+      PaymentGatewayException translated = cause instanceof PaymentGatewayException gatewayException
+          ? gatewayException
+          : new PaymentGatewayException("토스페이먼츠 호출 실패: " + cause.getMessage(), cause);
+      return fail(operation, translated, start);
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+  private <T> T fail(String operation, PaymentGatewayException e, long start) {
+    if (e.isGatewayFailure()) {
+      circuitBreaker.onFailure();
+    } else {
+      circuitBreaker.onSuccess();
+    }
+    String outcome = e.getStatus() == 0 ? "io_error" : e.isClientError() ? "client_error" : "server_error";
+    record(operation, outcome, System.nanoTime() - start);
+    throw e;
+  }
+
+  private void record(String operation, String outcome, long nanos) {
+    Timer.builder("toss.payments.requests")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  private static PaymentGatewayException error(String operation, int status, String body) {
+    return new PaymentGatewayException(
+        String.format("토스페이먼츠 %s 실패: %d - %s", operation, status, body), status, body);
+  }
+
+  static boolean isTransient(Throwable error) {
+    if (error instanceof PaymentGatewayException gatewayException) {
+      return gatewayException.isGatewayFailure();
+    }
+    return error instanceof WebClientRequestException || error instanceof TimeoutException;
+  }
+}
@@ -65,6 +65,18 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
 
     long countByProcessedAtBetween(LocalDateTime start, LocalDateTime end);
 
+    // 일별 지표 집계용: 일별 신고 접수 수 - [start, end)
+    @Query("SELECT CAST(r.createdAt AS LocalDate), COUNT(r) FROM Report r " +
+           "WHERE r.createdAt >= :start AND r.createdAt < :end " +
+           "GROUP BY CAST(r.createdAt AS LocalDate)")
+    List<Object[]> countDailyCreated(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 일별 지표 집계용: 일별 신고 처리 수 - [start, end)
+    @Query("SELECT CAST(r.processedAt AS LocalDate), COUNT(r) FROM Report r " +
+           "WHERE r.processedAt >= :start AND r.processedAt < :end " +
+           "GROUP BY CAST(r.processedAt AS LocalDate)")
+    List<Object[]> countDailyProcessed(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
     List<Report> findTop5ByReportedTypeAndReportedIdOrderByCreatedAtDesc(ReportType type, Long reportedId);
 
     // 사용자의 신고 내역 페이징 조회
@@ -0,0 +1,43 @@
+package org.example.studiopick.infrastructure.report;
+
+import org.example.studiopick.common.util.TransactionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 신고자 통계 재계산이 필요한 사용자 목록
+ * - 신고가 생성/변경되면 커밋 후 신고자 ID를 표시하고, ReporterStatsRefreshJob 이 주기적으로 가져간다
+ */
+@Component
+public class ReporterStatsChangeTracker {
+
+  private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+
+  public void touch(Long userId) {
+    if (userId == null) {
+      return;
+    }
+    TransactionUtils.afterCommit(() -> dirtyUserIds.add(userId));
+  }
+
+  /**
+   * 재계산 실패한 사용자를 다시 표시
+   */
+  public void retry(Collection<Long> userIds) {
+    dirtyUserIds.addAll(userIds);
+  }
+
+  /**
+   * 표시된 사용자 ID를 꺼내고 비움
+   */
+  public List<Long> drain() {
+    List<Long> userIds = new ArrayList<>(dirtyUserIds);
+    userIds.forEach(dirtyUserIds::remove);
+    return userIds;
+  }
+}
@@ -0,0 +1,25 @@
+package org.example.studiopick.infrastructure.report;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.studiopick.domain.report.Report;
+
+/**
+ * 신고 생성/처리/삭제 시 신고자 통계 재계산 표시
+ */
+@RequiredArgsConstructor
+public class ReporterStatsEntityListener {
+
+  private final ReporterStatsChangeTracker changeTracker;
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void onChange(Report report) {
+    if (report.getUser() != null) {
+      changeTracker.touch(report.getUser().getId());
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package org.example.studiopick.infrastructure.report;
+
+import org.example.studiopick.domain.report.ReporterStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReporterStatsRepository extends JpaRepository<ReporterStats, Long> {
+
+    // 악성 신고자 첫 페이지 (승인율 낮은 순, 동률은 사용자 ID 순)
+    @Query("SELECT rs FROM ReporterStats rs JOIN FETCH rs.user " +
+           "WHERE rs.totalReports >= :minReports AND rs.approvalRate < :maxApprovalRate " +
+           "ORDER BY rs.approvalRate ASC, rs.userId ASC")
+    List<ReporterStats> findMalicious(@Param("minReports") long minReports,
+                                      @Param("maxApprovalRate") double maxApprovalRate,
+                                      Pageable pageable);
+
+    // 악성 신고자 다음 페이지 (키셋: 마지막 행의 승인율/사용자 ID 이후)
+    @Query("SELECT rs FROM ReporterStats rs JOIN FETCH rs.user " +
+           "WHERE rs.totalReports >= :minReports AND rs.approvalRate < :maxApprovalRate " +
+           "AND (rs.approvalRate > :lastApprovalRate " +
+           "     OR (rs.approvalRate = :lastApprovalRate AND rs.userId > :lastUserId)) " +
+           "ORDER BY rs.approvalRate ASC, rs.userId ASC")
+    List<ReporterStats> findMaliciousAfter(@Param("minReports") long minReports,
+                                           @Param("maxApprovalRate") double maxApprovalRate,
+                                           @Param("lastApprovalRate") double lastApprovalRate,
+                                           @Param("lastUserId") Long lastUserId,
+                                           Pageable pageable);
+
+    @Query("SELECT COUNT(rs) FROM ReporterStats rs " +
+           "WHERE rs.totalReports >= :minReports AND rs.approvalRate < :maxApprovalRate")
+    long countMalicious(@Param("minReports") long minReports,
+                        @Param("maxApprovalRate") double maxApprovalRate);
+
+    // 지정 신고자 통계 삭제 (재계산 전 단계 - 신고가 모두 사라진 사용자 정리)
+    @Modifying
+    @Query(value = "DELETE FROM reporter_stats WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 지정 신고자 통계를 신고 원본에서 GROUP BY 한 번으로 다시 계산
+    @Modifying
+    @Query(value = """
+        INSERT INTO reporter_stats
+            (user_id, total_reports, approved_reports, rejected_reports, approval_rate, last_report_at, updated_at)
+        SELECT r.user_id,
+               COUNT(*),
+               COUNT(*) FILTER (WHERE r.status = 'REVIEWED'),
+               COUNT(*) FILTER (WHERE r.status = 'RESTORED'),
+               CAST(COUNT(*) FILTER (WHERE r.status = 'REVIEWED') * 100.0 / COUNT(*) AS double precision),
+               MAX(r.created_at),
+               now()
+        FROM report r
+        WHERE r.user_id IN (:userIds)
+        GROUP BY r.user_id
+        """, nativeQuery = true)
+    int insertFromReports(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM reporter_stats", nativeQuery = true)
+    int deleteAllStats();
+
+    // 전체 신고자 통계 재계산
+    @Modifying
+    @Query(value = """
+        INSERT INTO reporter_stats
+            (user_id, total_reports, approved_reports, rejected_reports, approval_rate, last_report_at, updated_at)
+        SELECT r.user_id,
+               COUNT(*),
+               COUNT(*) FILTER (WHERE r.status = 'REVIEWED'),
+               COUNT(*) FILTER (WHERE r.status = 'RESTORED'),
+               CAST(COUNT(*) FILTER (WHERE r.status = 'REVIEWED') * 100.0 / COUNT(*) AS double precision),
+               MAX(r.created_at),
+               now()
+        FROM report r
+        WHERE r.user_id IS NOT NULL
+        GROUP BY r.user_id
+        """, nativeQuery = true)
+    int insertAllFromReports();
+}
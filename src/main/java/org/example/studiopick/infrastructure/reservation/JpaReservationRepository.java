@@ -1,7 +1,9 @@
 package org.example.studiopick.infrastructure.reservation;
 
+import org.example.studiopick.domain.common.enums.PaymentStatus;
 import org.example.studiopick.domain.common.enums.ReservationStatus;
 import org.example.studiopick.domain.reservation.Reservation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface JpaReservationRepository extends JpaRepository<Reservation, Long> {
@@ -32,6 +35,24 @@ public interface JpaReservationRepository extends JpaRepository<Reservation, Lon
         @Param("end") LocalTime end
     );
 
+    /**
+     * 활성(PENDING/CONFIRMED) 예약과 시간 겹침 여부 - 예약 생성 시 최종 판정
+     */
+    @Query("""
+        SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END
+        FROM Reservation r
+        WHERE r.studio.id = :studioId
+          AND r.reservationDate = :date
+          AND r.status IN ('PENDING', 'CONFIRMED')
+          AND (r.startTime < :end AND r.endTime > :start)
+    """)
+    boolean existsActiveOverlap(
+        @Param("studioId") Long studioId,
+        @Param("date") LocalDate date,
+        @Param("start") LocalTime start,
+        @Param("end") LocalTime end
+    );
+
     // 시간 겹침 체크 (스튜디오)
     @Query("SELECT r FROM Reservation r WHERE r.studio.id = :studioId " +
            "AND r.reservationDate = :date " +
@@ -58,9 +79,50 @@ public interface JpaReservationRepository extends JpaRepository<Reservation, Lon
 
     /**
      * 스튜디오의 특정 날짜 예약 조회 - 가용 시간 계산용
+     * - 파생 쿼리는 studio 를 LEFT JOIN 해 조인 쪽 id 로 거르므로 (studio_id, reservation_date) 인덱스를 타도록 FK 컬럼으로 직접 비교
      */
+    @Query("""
+        SELECT r
+        FROM Reservation r
+        WHERE r.studio.id = :studioId
+          AND r.reservationDate = :date
+          AND r.status = :status
+    """)
     List<Reservation> findByStudioIdAndReservationDateAndStatus(
-        Long studioId, LocalDate date, ReservationStatus status);
+        @Param("studioId") Long studioId,
+        @Param("date") LocalDate date,
+        @Param("status") ReservationStatus status
+    );
+
+    /**
+     * 스튜디오의 특정 날짜 활성 예약 시간대 - 슬롯 인덱스 적재용
+     * [startTime, endTime, status]
+     */
+    @Query("""
+        SELECT r.startTime, r.endTime, r.status
+        FROM Reservation r
+        WHERE r.studio.id = :studioId
+          AND r.reservationDate = :date
+          AND r.status IN ('PENDING', 'CONFIRMED')
+    """)
+    List<Object[]> findActiveTimeSlots(@Param("studioId") Long studioId, @Param("date") LocalDate date);
+
+    /**
+     * 여러 스튜디오의 기간 내 활성 예약 시간대 - 슬롯 인덱스 일괄 적재용
+     * [studioId, reservationDate, startTime, endTime, status]
+     */
+    @Query("""
+        SELECT r.studio.id, r.reservationDate, r.startTime, r.endTime, r.status
+        FROM Reservation r
+        WHERE r.studio.id IN :studioIds
+          AND r.reservationDate BETWEEN :from AND :to
+          AND r.status IN ('PENDING', 'CONFIRMED')
+    """)
+    List<Object[]> findActiveTimeSlotsIn(
+        @Param("studioIds") Collection<Long> studioIds,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
 
     // 특정 기간 내 예약 통계
     @Query("SELECT COUNT(r) FROM Reservation r WHERE r.createdAt BETWEEN :startDate AND :endDate")
@@ -78,6 +140,14 @@ public interface JpaReservationRepository extends JpaRepository<Reservation, Lon
 
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
+    /**
+     * 일별 예약 생성 수 (일별 지표 집계용) - [start, end)
+     */
+    @Query("SELECT CAST(r.createdAt AS LocalDate), COUNT(r) FROM Reservation r " +
+           "WHERE r.createdAt >= :start AND r.createdAt < :end " +
+           "GROUP BY CAST(r.createdAt AS LocalDate)")
+    List<Object[]> countDailyCreated(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
     /**
      * 주어진 워크샵 ID 리스트에 대해,
      * 취소되지 않은(reservation.status NOT IN ('CANCELLED','REFUNDED')) 예약 수를
@@ -93,5 +163,25 @@ public interface JpaReservationRepository extends JpaRepository<Reservation, Lon
   """)
     List<Object[]> countByWorkshopIds(@Param("ids") List<Long> workshopIds);
 
-
+    /**
+     * 결제 없이 방치된 대기 예약 (진행 중이거나 완료된 결제가 없는 PENDING 예약, id 순 키셋 페이지)
+     */
+    @Query("""
+        SELECT r.id
+        FROM Reservation r
+        WHERE r.status = 'PENDING'
+          AND r.createdAt < :cutoff
+          AND r.id > :lastId
+          AND NOT EXISTS (
+            SELECT 1 FROM Payment p
+            WHERE p.reservation = r AND p.status IN :liveStatuses
+          )
+        ORDER BY r.id
+    """)
+    List<Long> findAbandonedPendingIds(
+        @Param("cutoff") LocalDateTime cutoff,
+        @Param("lastId") Long lastId,
+        @Param("liveStatuses") Collection<PaymentStatus> liveStatuses,
+        Pageable pageable
+    );
 }
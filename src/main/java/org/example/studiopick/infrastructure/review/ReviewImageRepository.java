@@ -2,10 +2,18 @@ package org.example.studiopick.infrastructure.review;
 
 import org.example.studiopick.domain.review.ReviewImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long> {
 
+  // 리뷰 여러 건의 이미지를 한 번에 조회 - [리뷰 ID, 이미지 URL]
+  @Query("SELECT i.review.id, i.imageUrl FROM ReviewImage i WHERE i.review.id IN :reviewIds ORDER BY i.id")
+  List<Object[]> findImageUrlsByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
 }
 
@@ -1,6 +1,7 @@
 package org.example.studiopick.infrastructure.review;
 
 import org.example.studiopick.domain.review.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -15,6 +16,22 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
   @Query("SELECT r FROM Review r WHERE (r.studio.id = :contentId OR r.workShop.id = :contentId) AND r.status <> 'DELETED'")
   List<Review> findByStudioIdOrWorkshopId(Long contentId);
 
+  // 스튜디오 공개 리뷰 (최신순, 작성자 함께 조회)
+  @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.studio.id = :studioId AND r.status = 'VISIBLE' ORDER BY r.id DESC")
+  List<Review> findVisibleByStudioId(@Param("studioId") Long studioId, Pageable pageable);
+
+  // 스튜디오 공개 리뷰 키셋 (cursor 리뷰 ID 이전)
+  @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.studio.id = :studioId AND r.status = 'VISIBLE' AND r.id < :cursor ORDER BY r.id DESC")
+  List<Review> findVisibleByStudioIdBefore(@Param("studioId") Long studioId, @Param("cursor") Long cursor, Pageable pageable);
+
+  // 공방 공개 리뷰 (최신순, 작성자 함께 조회)
+  @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.workShop.id = :workshopId AND r.status = 'VISIBLE' ORDER BY r.id DESC")
+  List<Review> findVisibleByWorkshopId(@Param("workshopId") Long workshopId, Pageable pageable);
+
+  // 공방 공개 리뷰 키셋 (cursor 리뷰 ID 이전)
+  @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.workShop.id = :workshopId AND r.status = 'VISIBLE' AND r.id < :cursor ORDER BY r.id DESC")
+  List<Review> findVisibleByWorkshopIdBefore(@Param("workshopId") Long workshopId, @Param("cursor") Long cursor, Pageable pageable);
+
   // 평점 평균 구하는 쿼리 추가
   @Query("SELECT AVG(r.rating) FROM Review r WHERE r.workShop.id = :workshopId AND r.status = 'VISIBLE'")
   Double getAverageRatingByWorkshopId(@Param("workshopId") Long workshopId);
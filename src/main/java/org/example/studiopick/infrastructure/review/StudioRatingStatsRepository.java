@@ -0,0 +1,66 @@
+package org.example.studiopick.infrastructure.review;
+
+import org.example.studiopick.domain.review.StudioRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StudioRatingStatsRepository extends JpaRepository<StudioRatingStats, Long> {
+
+  // 스튜디오 평점 집계에 증감분 반영 (행이 없으면 생성)
+  @Modifying
+  @Query(value = """
+      INSERT INTO studio_rating_stats
+          (studio_id, rating_sum, review_count, rating_average, rating1, rating2, rating3, rating4, rating5, updated_at)
+      VALUES (:studioId, :sum, :count,
+              CASE WHEN :count > 0 THEN CAST(:sum AS double precision) / :count ELSE 0 END,
+              :rating1, :rating2, :rating3, :rating4, :rating5, now())
+      ON CONFLICT (studio_id) DO UPDATE SET
+          rating_sum = studio_rating_stats.rating_sum + EXCLUDED.rating_sum,
+          review_count = studio_rating_stats.review_count + EXCLUDED.review_count,
+          rating_average = CASE WHEN studio_rating_stats.review_count + EXCLUDED.review_count > 0
+              THEN CAST(studio_rating_stats.rating_sum + EXCLUDED.rating_sum AS double precision)
+                   / (studio_rating_stats.review_count + EXCLUDED.review_count)
+              ELSE 0 END,
+          rating1 = studio_rating_stats.rating1 + EXCLUDED.rating1,
+          rating2 = studio_rating_stats.rating2 + EXCLUDED.rating2,
+          rating3 = studio_rating_stats.rating3 + EXCLUDED.rating3,
+          rating4 = studio_rating_stats.rating4 + EXCLUDED.rating4,
+          rating5 = studio_rating_stats.rating5 + EXCLUDED.rating5,
+          updated_at = now()
+      """, nativeQuery = true)
+  int applyDelta(@Param("studioId") Long studioId,
+                 @Param("sum") long sum,
+                 @Param("count") long count,
+                 @Param("rating1") long rating1,
+                 @Param("rating2") long rating2,
+                 @Param("rating3") long rating3,
+                 @Param("rating4") long rating4,
+                 @Param("rating5") long rating5);
+
+  @Modifying
+  @Query(value = "DELETE FROM studio_rating_stats", nativeQuery = true)
+  int deleteAllStats();
+
+  // 공개 리뷰 원본에서 전체 스튜디오 평점 집계 재계산
+  @Modifying
+  @Query(value = """
+      INSERT INTO studio_rating_stats
+          (studio_id, rating_sum, review_count, rating_average, rating1, rating2, rating3, rating4, rating5, updated_at)
+      SELECT r.studio_id,
+             SUM(r.rating),
+             COUNT(*),
+             CAST(AVG(r.rating) AS double precision),
+             COUNT(*) FILTER (WHERE r.rating = 1),
+             COUNT(*) FILTER (WHERE r.rating = 2),
+             COUNT(*) FILTER (WHERE r.rating = 3),
+             COUNT(*) FILTER (WHERE r.rating = 4),
+             COUNT(*) FILTER (WHERE r.rating = 5),
+             now()
+      FROM review r
+      WHERE r.studio_id IS NOT NULL AND r.status = 'VISIBLE' AND r.rating BETWEEN 1 AND 5
+      GROUP BY r.studio_id
+      """, nativeQuery = true)
+  int insertAllFromReviews();
+}
@@ -0,0 +1,45 @@
+package org.example.studiopick.infrastructure.s3;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+/**
+ * DB 에서 참조 중인 이미지 URL 조회 (고아 객체 정리용)
+ * - 이미지 URL 컬럼이 추가되면 여기에도 추가해야 함 (빠지면 해당 이미지가 고아로 삭제됨)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImageReferenceRepository {
+
+  private static final String REFERENCED_URLS_SQL = """
+      SELECT profile_image_url FROM "user" WHERE profile_image_url IS NOT NULL
+      UNION ALL SELECT thumbnail_image FROM studio WHERE thumbnail_image IS NOT NULL
+      UNION ALL SELECT image_url FROM studio_image
+      UNION ALL SELECT thumbnail_url FROM workshop WHERE thumbnail_url IS NOT NULL
+      UNION ALL SELECT image_url FROM workshop_image
+      UNION ALL SELECT image_url FROM review_image
+      UNION ALL SELECT image_url FROM artwork
+      """;
+
+  private static final int FETCH_SIZE = 5_000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 참조 중인 이미지 URL 을 한 행씩 전달 (트랜잭션 안에서 fetch size 단위로 읽어 전체 결과를 메모리에 올리지 않음)
+   */
+  @Transactional(readOnly = true)
+  public void forEachReferencedUrl(Consumer<String> consumer) {
+    jdbcTemplate.query(connection -> {
+      var statement = connection.prepareStatement(REFERENCED_URLS_SQL);
+      statement.setFetchSize(FETCH_SIZE);
+      return statement;
+    }, resultSet -> {
+      consumer.accept(resultSet.getString(1));
+    });
+  }
+}
@@ -0,0 +1,120 @@
+package org.example.studiopick.infrastructure.s3;
+
+import org.example.studiopick.common.util.ImageVariant;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 이미지 파생본 생성 (JDK ImageIO)
+ * - 가장 큰 파생본에 필요한 만큼만 서브샘플링해서 디코딩 (원본 해상도 전체를 메모리에 올리지 않음)
+ * - 결과는 JPEG (품질 0.8), 투명 배경은 흰색으로 채움
+ */
+final class ImageResizer {
+
+  private static final long MAX_PIXELS = 50_000_000L;
+  private static final float JPEG_QUALITY = 0.8f;
+
+  private ImageResizer() {
+  }
+
+  /**
+   * 원본 스트림 → 파생본별 JPEG 바이트 (디코딩할 수 없는 형식이면 빈 맵)
+   */
+  static Map<ImageVariant, byte[]> render(InputStream original) throws IOException {
+    Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+    BufferedImage decoded = decode(original, largest());
+    if (decoded == null) {
+      return variants;
+    }
+    for (ImageVariant variant : ImageVariant.values()) {
+      variants.put(variant, encodeJpeg(scale(decoded, variant.maxSize())));
+    }
+    return variants;
+  }
+
+  private static int largest() {
+    int max = 0;
+    for (ImageVariant variant : ImageVariant.values()) {
+      max = Math.max(max, variant.maxSize());
+    }
+    return max;
+  }
+
+  private static BufferedImage decode(InputStream original, int targetSize) throws IOException {
+    try (ImageInputStream input = ImageIO.createImageInputStream(original)) {
+      if (input == null) {
+        return null;
+      }
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      if (!readers.hasNext()) {
+        return null;
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > MAX_PIXELS) {
+          throw new IOException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+        }
+        ImageReadParam param = reader.getDefaultReadParam();
+        int subsampling = Math.max(1, Math.max(width, height) / (targetSize * 2));
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  private static BufferedImage scale(BufferedImage source, int maxSize) {
+    double ratio = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+    int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+    int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+    BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = target.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, width, height);
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return target;
+  }
+
+  private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(JPEG_QUALITY);
+      writer.setOutput(output);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,112 @@
+package org.example.studiopick.infrastructure.s3;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.common.util.ImageVariant;
+import org.example.studiopick.common.util.ImageVariantUrls;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 파생본 생성이 끝난 이미지(콘텐츠 해시) 목록
+ * - 모든 파생본이 S3 에 올라간 뒤에만 등록 → 큐 포화로 건너뛰었거나 디코딩할 수 없는 이미지는 원본 URL 로 응답
+ * - Redis Set(image:variants) 이 기준, 노드 로컬에는 등록된 해시만 캐시 (미등록은 매번 Redis 확인)
+ * - 기존 파생본은 S3OrphanReconciler 가 객체 목록을 훑으면서 등록
+ * - Redis 장애 시 원본 URL 로 대체
+ */
+@Slf4j
+@Component
+public class ImageVariantRegistry {
+
+  private static final String KEY = "image:variants";
+  private static final int WRITE_BATCH = 1_000;
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Cache<String, Boolean> generated;
+
+  public ImageVariantRegistry(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.generated = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterWrite(Duration.ofMinutes(10))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, generated, "image.variants");
+  }
+
+  /**
+   * 이미지 URL 목록 → 파생본 URL 해석기 (한 번의 Redis 왕복으로 조회)
+   */
+  public ImageVariantUrls lookup(Collection<String> urls) {
+    Set<String> hashes = new HashSet<>();
+    List<String> unknown = urls.stream()
+        .filter(ImageVariant::isContentAddressed)
+        .map(ImageVariant::contentHash)
+        .filter(Objects::nonNull)
+        .distinct()
+        .filter(hash -> {
+          if (generated.getIfPresent(hash) != null) {
+            hashes.add(hash);
+            return false;
+          }
+          return true;
+        })
+        .toList();
+    if (unknown.isEmpty()) {
+      return new ImageVariantUrls(hashes);
+    }
+
+    try {
+      Map<Object, Boolean> members = redisTemplate.opsForSet().isMember(KEY, unknown.toArray());
+      if (members != null) {
+        members.forEach((hash, member) -> {
+          if (Boolean.TRUE.equals(member)) {
+            hashes.add((String) hash);
+            generated.put((String) hash, Boolean.TRUE);
+          }
+        });
+      }
+    } catch (Exception e) {
+      log.warn("이미지 파생본 목록 조회 실패, 원본 URL 로 대체: error={}", e.getMessage());
+    }
+    return new ImageVariantUrls(hashes);
+  }
+
+  public ImageVariantUrls lookup(String url) {
+    return lookup(url == null ? List.of() : List.of(url));
+  }
+
+  /**
+   * 파생본 생성 완료 등록 (고아 정리 작업은 디렉터리 전체를 넘기므로 나눠서 저장)
+   */
+  void markGenerated(Collection<String> hashes) {
+    List<String> values = List.copyOf(hashes);
+    for (int from = 0; from < values.size(); from += WRITE_BATCH) {
+      List<String> batch = values.subList(from, Math.min(from + WRITE_BATCH, values.size()));
+      redisTemplate.opsForSet().add(KEY, batch.toArray(String[]::new));
+    }
+    values.forEach(hash -> generated.put(hash, Boolean.TRUE));
+  }
+
+  /**
+   * 파생본 삭제 시 등록 해제 (다른 노드의 로컬 캐시는 TTL 로 만료)
+   */
+  void forget(Collection<String> hashes) {
+    if (hashes.isEmpty()) {
+      return;
+    }
+    redisTemplate.opsForSet().remove(KEY, hashes.toArray());
+    generated.invalidateAll(hashes);
+  }
+}
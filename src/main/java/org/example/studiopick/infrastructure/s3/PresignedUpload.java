@@ -0,0 +1,18 @@
+package org.example.studiopick.infrastructure.s3;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 직접 업로드용 presigned PUT 정보
+ * - exists 가 true 면 같은 내용의 객체가 이미 있어 업로드 없이 바로 finalize 가능 (url/headers 는 null)
+ * - headers 는 서명에 포함된 헤더 - 클라이언트는 PUT 요청에 그대로 실어야 함
+ */
+public record PresignedUpload(
+    String key,
+    String url,
+    Map<String, String> headers,
+    Instant expiresAt,
+    boolean exists
+) {
+}
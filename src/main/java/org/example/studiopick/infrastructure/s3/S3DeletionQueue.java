@@ -0,0 +1,114 @@
+package org.example.studiopick.infrastructure.s3;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.common.util.ImageVariant;
+import org.example.studiopick.common.util.TransactionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * S3 객체 삭제 큐
+ * - 요청 트랜잭션 안에서는 키만 모아 두고, 커밋된 뒤에만 큐에 넣음 (롤백되면 삭제하지 않음)
+ * - 5초마다 DeleteObjects(요청당 최대 1,000개)로 일괄 삭제
+ * - 요청 실패/키별 실패분은 큐에 다시 넣어 다음 주기에 재시도, 5회 실패하면 버리고 S3OrphanReconciler 에 맡김
+ * - 레거시 키(UUID 등) 전용 - 콘텐츠 해시 키는 큐에 넣지 않고 S3OrphanReconciler 가 참조 비교 + 유예 시간으로 정리
+ *   (다른 엔티티가 같은 객체를 참조하거나, 다른 요청이 방금 재사용해 아직 참조가 커밋되지 않았을 수 있어 여기서 참조를 확인해도 안전하지 않음)
+ * - 삭제 경로 정리: db/configuration-guide.md 의 "S3 이미지 삭제 경로"
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3DeletionQueue {
+
+  private static final int MAX_BATCH = 1_000;
+  static final int MAX_ATTEMPTS = 5;
+
+  private final S3Uploader s3Uploader;
+
+  private final ConcurrentLinkedQueue<PendingKey> pending = new ConcurrentLinkedQueue<>();
+
+  /**
+   * 이미지 URL 삭제 예약 (커밋 후 큐에 적재, 콘텐츠 해시 키는 건너뜀)
+   */
+  public void enqueue(Collection<String> urls) {
+    List<PendingKey> keys = urls.stream()
+        .map(s3Uploader::keyOf)
+        .filter(Objects::nonNull)
+        .filter(key -> !ImageVariant.isContentAddressed(key))
+        .map(key -> new PendingKey(key, 0))
+        .toList();
+    if (keys.isEmpty()) {
+      return;
+    }
+    TransactionUtils.afterCommit(() -> pending.addAll(keys));
+  }
+
+  public void enqueue(String url) {
+    enqueue(List.of(url));
+  }
+
+  /**
+   * 이번 주기에 큐에 있던 키만 처리 (재시도로 다시 넣은 키는 다음 주기에)
+   */
+  @Scheduled(fixedDelay = 5_000)
+  public void flush() {
+    int remaining = pending.size();
+    while (remaining > 0) {
+      List<PendingKey> batch = new ArrayList<>(Math.min(remaining, MAX_BATCH));
+      PendingKey next;
+      while (batch.size() < MAX_BATCH && remaining > 0 && (next = pending.poll()) != null) {
+        batch.add(next);
+        remaining--;
+      }
+      if (batch.isEmpty()) {
+        return;
+      }
+
+      List<String> keys = batch.stream().map(PendingKey::key).toList();
+      try {
+        Set<String> failed = new HashSet<>(s3Uploader.deleteKeys(keys));
+        log.debug("S3 객체 일괄 삭제: {}건", keys.size() - failed.size());
+        if (!failed.isEmpty()) {
+          log.warn("S3 객체 일부 삭제 실패 - 다음 주기에 재시도: count={}", failed.size());
+          retry(batch.stream().filter(entry -> failed.contains(entry.key())).toList());
+        }
+      } catch (Exception e) {
+        log.warn("S3 객체 일괄 삭제 실패 - 다음 주기에 재시도: count={}, error={}", batch.size(), e.getMessage());
+        retry(batch);
+        return;
+      }
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private void retry(List<PendingKey> failed) {
+    int dropped = 0;
+    for (PendingKey entry : failed) {
+      if (entry.attempts() + 1 >= MAX_ATTEMPTS) {
+        dropped++;
+      } else {
+        pending.add(new PendingKey(entry.key(), entry.attempts() + 1));
+      }
+    }
+    if (dropped > 0) {
+      log.warn("S3 객체 삭제 재시도 한도 초과 - 고아 정리 작업에서 다시 삭제: count={}", dropped);
+    }
+  }
+
+  private record PendingKey(String key, int attempts) {
+  }
+}
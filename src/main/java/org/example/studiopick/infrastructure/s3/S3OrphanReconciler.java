@@ -0,0 +1,121 @@
+package org.example.studiopick.infrastructure.s3;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.common.util.ImageVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * S3 고아 객체 정리 (매일 04:30)
+ * - 이미지 디렉터리 객체 목록과 DB 가 참조하는 이미지 URL 을 비교해, 참조되지 않고 유예 시간이 지난 객체 삭제
+ * - 유예 시간: presigned 업로드 후 엔티티에 첨부되기 전, 또는 중복 업로드로 재사용(LastModified 갱신)된 직후 객체 보호
+ * - 원본이 남지 않은 파생본(썸네일 등)도 함께 삭제하고 ImageVariantRegistry 에서 해제
+ * - 살아 있는 원본의 파생본이 모두 있으면 ImageVariantRegistry 에 등록 (등록 전에 만들어진 파생본 포함)
+ * - 참조 URL 이 하나도 조회되지 않으면 (DB 오류 등) 아무것도 지우지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3OrphanReconciler {
+
+  private final S3Uploader s3Uploader;
+  private final ImageReferenceRepository imageReferenceRepository;
+  private final ImageVariantRegistry imageVariantRegistry;
+
+  // studio/ 는 아직 DB 에 저장되지 않는 사업자등록증도 올라가는 디렉터리라 기본 대상에서 제외
+  @Value("${cloud.aws.s3.orphan.prefixes:studio-images/,classes/,reviews/,artworks/,profile/}")
+  private List<String> prefixes;
+
+  @Value("${cloud.aws.s3.orphan.grace-hours:24}")
+  private long graceHours;
+
+  @Value("${cloud.aws.s3.orphan.max-deletes:10000}")
+  private int maxDeletes;
+
+  @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+  public void reconcile() {
+    try {
+      Set<String> referenced = new HashSet<>();
+      imageReferenceRepository.forEachReferencedUrl(url -> {
+        String key = s3Uploader.keyOf(url);
+        if (key != null) {
+          referenced.add(key);
+        }
+      });
+      if (referenced.isEmpty()) {
+        log.warn("참조 중인 이미지가 조회되지 않아 S3 고아 객체 정리를 건너뜁니다.");
+        return;
+      }
+
+      Instant cutoff = Instant.now().minus(Duration.ofHours(graceHours));
+      int deleted = 0;
+      for (String prefix : prefixes) {
+        if (deleted >= maxDeletes) {
+          break;
+        }
+        deleted += reconcilePrefix(prefix, referenced, cutoff, maxDeletes - deleted);
+      }
+      log.info("S3 고아 객체 정리 완료: 참조 {}건, 삭제 {}건", referenced.size(), deleted);
+    } catch (Exception e) {
+      log.error("S3 고아 객체 정리 실패: error={}", e.getMessage());
+    }
+  }
+
+  private int reconcilePrefix(String prefix, Set<String> referenced, Instant cutoff, int limit) {
+    List<String> orphans = new ArrayList<>();
+    Set<String> liveHashes = new HashSet<>();
+    Map<String, List<String>> staleVariants = new HashMap<>();
+    Map<String, Integer> variantCounts = new HashMap<>();
+
+    s3Uploader.listObjects(prefix, page -> {
+      for (S3Object object : page) {
+        String key = object.key();
+        boolean stale = object.lastModified().isBefore(cutoff);
+        if (ImageVariant.isVariant(key)) {
+          variantCounts.merge(ImageVariant.contentHash(key), 1, Integer::sum);
+          if (stale) {
+            staleVariants.computeIfAbsent(ImageVariant.contentHash(key), hash -> new ArrayList<>()).add(key);
+          }
+        } else if (!stale || referenced.contains(key)) {
+          liveHashes.add(ImageVariant.contentHash(key));
+        } else {
+          orphans.add(key);
+        }
+      }
+    });
+
+    // 살아 있는 원본이 없는 파생본 (고아 원본의 파생본 포함)
+    Set<String> orphanHashes = new HashSet<>();
+    staleVariants.forEach((hash, keys) -> {
+      if (!liveHashes.contains(hash)) {
+        orphans.addAll(keys);
+        orphanHashes.add(hash);
+      }
+    });
+    imageVariantRegistry.forget(orphanHashes);
+    imageVariantRegistry.markGenerated(liveHashes.stream()
+        .filter(Objects::nonNull)
+        .filter(hash -> variantCounts.getOrDefault(hash, 0) >= ImageVariant.values().length)
+        .toList());
+
+    List<String> targets = orphans.stream().filter(Objects::nonNull).limit(limit).toList();
+    if (!targets.isEmpty()) {
+      List<String> failed = s3Uploader.deleteKeys(targets);
+      log.info("S3 고아 객체 삭제: prefix={}, {}건 (실패 {}건은 다음 실행에서 다시 시도)", prefix, targets.size() - failed.size(), failed.size());
+    }
+    return targets.size();
+  }
+}
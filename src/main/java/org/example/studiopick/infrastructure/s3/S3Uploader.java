@@ -1,27 +1,97 @@
 package org.example.studiopick.infrastructure.s3;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.common.util.ImageVariant;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
+/**
+ * S3 업로더 (비동기 클라이언트)
+ * - 여러 파일을 동시에 업로드하고 요청 스레드는 전체 완료만 기다림 (업로드 시간 합 → 최댓값)
+ * - multipartThreshold 이상 파일은 멀티파트 업로드, 본문은 MultipartFile 스트림에서 바로 읽음 (전체 버퍼링 X)
+ * - 키는 콘텐츠 해시(dir/{sha256}.{ext}) - 같은 파일은 다시 올리지 않고 기존 객체 재사용
+ * - 이미지는 업로드 후 작업 스레드에서 파생본(ImageVariant) 생성, 모두 올라가면 ImageVariantRegistry 에 등록
+ * - 한 파일이라도 실패하면 이번 배치가 PUT 으로 새로 만든 객체만 삭제하고 예외 (HEAD 로 찾아 재사용한 객체는 다른 곳이 참조하므로 유지)
+ * - 단건 삭제(delete/deleteFiles)는 두지 않음 - 해시 키 객체는 여러 엔티티가 공유할 수 있어 URL 하나로 지우면 안 됨
+ *   레거시 키는 S3DeletionQueue(커밋 후 일괄 삭제), 해시 키와 파생본은 S3OrphanReconciler(참조 비교 + 유예 시간)가 정리
+ * - presignUpload/finalizeUpload: 클라이언트가 presigned PUT 으로 직접 올리고 API 는 존재/크기/형식만 확인
+ * - endpoint 를 지정하면 path-style 로 로컬 S3 호환 서버(MinIO, LocalStack 등)에 연결
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class S3Uploader {
 
+    private static final int MAX_DELETE_BATCH = 1_000;
+    private static final int VARIANT_QUEUE_CAPACITY = 500;
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,5}");
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final Duration PRESIGN_TTL = Duration.ofMinutes(10);
+    // 직접 업로드 허용 형식 - SVG 등은 스크립트를 담을 수 있어 버킷 도메인에서 그대로 열리면 XSS
+    private static final Set<String> DIRECT_UPLOAD_TYPES = Set.of("image/jpeg", "image/png", "image/webp", "image/gif");
+
     @Value("${cloud.aws.credentials.access-key}")
     private String accessKey;
 
@@ -34,62 +104,417 @@ public class S3Uploader {
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
-    private S3Client s3Client;
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.upload.max-concurrency:32}")
+    private int maxConcurrency;
+
+    @Value("${cloud.aws.s3.upload.multipart-threshold:8388608}")
+    private long multipartThreshold;
+
+    @Value("${cloud.aws.s3.upload.part-size:8388608}")
+    private long partSize;
+
+    @Value("${cloud.aws.s3.variant.workers:2}")
+    private int variantWorkers;
+
+    private final ImageVariantRegistry imageVariantRegistry;
+
+    private S3AsyncClient s3Client;
+
+    private S3Presigner presigner;
+
+    // MultipartFile 스트림을 읽어 SDK 로 넘기는 스레드 (요청 스레드와 분리)
+    private ExecutorService streamExecutor;
+
+    // 이미지 파생본 생성 스레드 (큐가 차면 버림 - 다음에 같은 이미지가 올라올 때 다시 생성)
+    private ExecutorService variantExecutor;
+
+    /**
+     * 업로드 결과 (created: 이번 요청에서 PUT 으로 새로 만든 객체인지)
+     */
+    private record Stored(String key, boolean created) {
+    }
 
     @PostConstruct
     public void init() {
-        this.s3Client = S3Client.builder()
+        this.streamExecutor = Executors.newFixedThreadPool(maxConcurrency, daemonThreads("s3-upload-"));
+        this.variantExecutor = new ThreadPoolExecutor(variantWorkers, variantWorkers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(VARIANT_QUEUE_CAPACITY), daemonThreads("image-variant-"),
+                (task, executor) -> log.warn("이미지 파생본 작업 큐가 가득 차 작업을 건너뜁니다."));
+
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
                 .region(Region.of(region))
                 .credentialsProvider(
                         StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey))
                 )
-                .build();
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency)
+                        .connectionAcquisitionTimeout(Duration.ofSeconds(30)))
+                .multipartEnabled(true)
+                .multipartConfiguration(config -> config
+                        .thresholdInBytes(multipartThreshold)
+                        .minimumPartSizeInBytes(partSize));
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey))
+                );
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+            presignerBuilder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        this.s3Client = builder.build();
+        this.presigner = presignerBuilder.build();
+    }
+
+    @PreDestroy
+    public void close() {
+        variantExecutor.shutdown();
+        streamExecutor.shutdown();
+        s3Client.close();
+        presigner.close();
     }
 
     public String upload(MultipartFile file, String dirName) {
-        String fileName = dirName + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
+        return uploadFiles(List.of(file), dirName).get(0);
+    }
+
+    /**
+     * 여러 파일 동시 업로드 (입력 순서대로 URL 반환, 실패 시 이번 배치에서 새로 올린 파일 롤백)
+     */
+    public List<String> uploadFiles(List<MultipartFile> files, String dirName) {
+        List<CompletableFuture<Stored>> uploads = files.stream()
+                .map(file -> store(file, dirName))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            rollback(uploads);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException("S3 업로드 실패: " + cause.getMessage(), cause);
+        }
+
+        List<String> urls = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            String key = uploads.get(i).join().key();
+            if (isImage(files.get(i))) {
+                scheduleVariants(key);
+            }
+            urls.add(getFileUrl(key));
+        }
+        return urls;
+    }
+
+    /**
+     * 해시 계산 → 같은 키가 이미 있으면 재사용, 없으면 업로드
+     */
+    private CompletableFuture<Stored> store(MultipartFile file, String dirName) {
+        return CompletableFuture.supplyAsync(() -> contentKey(file, dirName), streamExecutor)
+                .thenCompose(key -> exists(key).thenCompose(exists -> exists
+                        ? touch(key, file.getContentType()).thenApply(response -> new Stored(key, false))
+                        : putObject(key, file).thenApply(response -> new Stored(key, true))));
+    }
+
+    private String contentKey(MultipartFile file, String dirName) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+        return dirName + "/" + HexFormat.of().formatHex(digest.digest()) + extension(file.getOriginalFilename());
+    }
+
+    private static String extension(String fileName) {
+        if (fileName == null || fileName.lastIndexOf('.') < 0) {
+            return "";
+        }
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(extension).matches() ? "." + extension : "";
+    }
+
+    private CompletableFuture<Boolean> exists(String key) {
+        return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build())
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return true;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof S3Exception s3Exception && s3Exception.statusCode() == 404) {
+                        return false;
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    /**
+     * 기존 객체 재사용 시 LastModified 갱신 (자기 자신으로 복사) - 첨부 전에 고아 정리 대상이 되지 않도록
+     */
+    private CompletableFuture<?> touch(String key, String contentType) {
+        return s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(key)
+                .destinationBucket(bucket)
+                .destinationKey(key)
+                .metadataDirective(MetadataDirective.REPLACE)
+                .contentType(contentType)
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                .build());
+    }
+
+    /**
+     * 접두사 아래 객체 목록을 페이지(최대 1,000개) 단위로 전달
+     */
+    public void listObjects(String prefix, Consumer<List<S3Object>> pageConsumer) {
+        String continuationToken = null;
+        do {
+            ListObjectsV2Response page = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .prefix(prefix)
+                    .continuationToken(continuationToken)
+                    .build()).join();
+            pageConsumer.accept(page.contents());
+            continuationToken = Boolean.TRUE.equals(page.isTruncated()) ? page.nextContinuationToken() : null;
+        } while (continuationToken != null);
+    }
 
+    private CompletableFuture<?> putObject(String key, MultipartFile file) {
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucket)
-                .key(fileName)
+                .key(key)
                 .contentType(file.getContentType())
+                .contentLength(file.getSize())
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
                 .build();
 
+        InputStream inputStream;
         try {
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            inputStream = file.getInputStream();
         } catch (IOException e) {
-            throw new RuntimeException("S3 업로드 실패: " + e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return s3Client.putObject(putObjectRequest,
+                        AsyncRequestBody.fromInputStream(inputStream, file.getSize(), streamExecutor))
+                .whenComplete((response, error) -> closeQuietly(inputStream));
+    }
+
+    /**
+     * 직접 업로드용 presigned PUT 발급
+     * - 키는 클라이언트가 계산한 SHA-256 기준 (서명된 x-amz-checksum-sha256 으로 S3 가 내용 일치 검증)
+     * - Content-Type/Content-Length 도 서명에 포함되어 선언한 것과 다른 파일은 올릴 수 없음
+     */
+    public PresignedUpload presignUpload(String dirName, String fileName, String contentType,
+                                         long contentLength, String sha256Hex) {
+        String hash = sha256Hex == null ? "" : sha256Hex.toLowerCase(Locale.ROOT);
+        if (!SHA256_HEX.matcher(hash).matches()) {
+            throw new IllegalArgumentException("SHA-256 해시 형식이 올바르지 않습니다.");
         }
+        String key = dirName + "/" + hash + extension(fileName);
+        if (exists(key).join()) {
+            touch(key, contentType).join();
+            return new PresignedUpload(key, null, null, null, true);
+        }
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(hash)))
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                .build();
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(PRESIGN_TTL)
+                .putObjectRequest(putObjectRequest)
+                .build());
 
-        return getFileUrl(fileName);
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUpload(key, presigned.url().toString(), headers, presigned.expiration(), false);
     }
 
-    private String getFileUrl(String key) {
-        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, key);
+    /**
+     * 직접 업로드 완료 확인 - 객체 존재, 크기, 형식 검증 후 URL 반환
+     */
+    public String finalizeUpload(String dirName, String key, long maxContentLength) {
+        if (key == null || !key.startsWith(dirName + "/") || !ImageVariant.isContentAddressed(key)
+                || key.indexOf('/', dirName.length() + 1) >= 0) {
+            throw new IllegalArgumentException("잘못된 업로드 키입니다: " + key);
+        }
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build()).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof S3Exception s3Exception && s3Exception.statusCode() == 404) {
+                throw new IllegalArgumentException("업로드된 파일을 찾을 수 없습니다: " + key);
+            }
+            throw new IllegalStateException("S3 조회 실패: " + e.getMessage(), e);
+        }
+        if (head.contentLength() == null || head.contentLength() > maxContentLength) {
+            throw new IllegalArgumentException("파일 용량이 허용 범위를 넘었습니다.");
+        }
+        if (!isDirectUploadType(head.contentType())) {
+            throw new IllegalArgumentException("JPEG, PNG, WebP, GIF 이미지만 업로드할 수 있습니다.");
+        }
+        scheduleVariants(key);
+        return getFileUrl(key);
     }
 
-    public void delete(String fileUrl) {
-        String key = extractKeyFromUrl(fileUrl); // S3 key 추출
-        s3Client.deleteObject(DeleteObjectRequest.builder()
-            .bucket(bucket)
-            .key(key)
-            .build());
+    /**
+     * 직접 업로드 허용 형식 여부 (파라미터/대소문자 무시, 예: "image/PNG; charset=binary")
+     */
+    public static boolean isDirectUploadType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int parameters = contentType.indexOf(';');
+        String mediaType = (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim();
+        return DIRECT_UPLOAD_TYPES.contains(mediaType.toLowerCase(Locale.ROOT));
     }
 
-    private String extractKeyFromUrl(String url) {
-        int startIndex = url.indexOf(".amazonaws.com/") + ".amazonaws.com/".length();
-        return url.substring(startIndex);
+    private static boolean isImage(MultipartFile file) {
+        return file.getContentType() != null && file.getContentType().startsWith("image/");
     }
 
-    public List<String> uploadFiles(List<MultipartFile> files, String dirName) {
-        return files.stream()
-                .map(file -> upload(file, dirName))
-                .collect(Collectors.toList());
+    /**
+     * 파생본 생성 예약 - 파생본이 이미 모두 있으면 등록만 함 (중복 업로드된 이미지)
+     * - 큐가 차서 건너뛰거나 디코딩할 수 없는 형식이면 등록되지 않아 응답은 원본 URL 로 대체됨
+     */
+    private void scheduleVariants(String key) {
+        variantExecutor.execute(() -> {
+            try {
+                List<String> hash = List.of(ImageVariant.contentHash(key));
+                if (allVariantsExist(key)) {
+                    imageVariantRegistry.markGenerated(hash);
+                    return;
+                }
+                Map<ImageVariant, byte[]> variants;
+                try (ResponseInputStream<GetObjectResponse> original = s3Client.getObject(
+                        GetObjectRequest.builder().bucket(bucket).key(key).build(),
+                        AsyncResponseTransformer.toBlockingInputStream()).join()) {
+                    variants = ImageResizer.render(original);
+                }
+                if (variants.size() < ImageVariant.values().length) {
+                    log.info("파생본을 만들 수 없는 이미지 형식 - 원본 URL 로 제공: key={}", key);
+                    return;
+                }
+                variants.forEach((variant, bytes) -> s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(variant.of(key))
+                                .contentType("image/jpeg")
+                                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                                .build(),
+                        AsyncRequestBody.fromBytes(bytes)).join());
+                imageVariantRegistry.markGenerated(hash);
+            } catch (Exception e) {
+                log.warn("이미지 파생본 생성 실패: key={}, error={}", key, e.getMessage());
+            }
+        });
     }
 
-    public void deleteFiles(List<String> urls) {
-        urls.forEach(this::delete);
+    private boolean allVariantsExist(String key) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!exists(variant.of(key)).join()) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * 실패한 배치에서 PUT 으로 새로 올린 파일만 삭제 (allOf 가 끝난 뒤라 나머지 업로드는 모두 완료됨, 재사용한 기존 객체는 유지)
+     */
+    private void rollback(List<CompletableFuture<Stored>> uploads) {
+        Set<String> created = new LinkedHashSet<>();
+        for (CompletableFuture<Stored> upload : uploads) {
+            if (!upload.isCompletedExceptionally() && upload.join().created()) {
+                created.add(upload.join().key());
+            }
+        }
+        if (created.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> failed = deleteKeys(new ArrayList<>(created));
+            log.warn("S3 업로드 실패로 업로드된 파일 {}건 롤백", created.size() - failed.size());
+            if (!failed.isEmpty()) {
+                log.error("S3 업로드 롤백 일부 실패 - 고아 정리에 맡김: keys={}", failed);
+            }
+        } catch (Exception e) {
+            log.error("S3 업로드 롤백 실패 - 고아 정리에 맡김: keys={}, error={}", created, e.getMessage());
+        }
+    }
 
+    private String getFileUrl(String key) {
+        if (!endpoint.isBlank()) {
+            return String.format("%s/%s/%s", endpoint.replaceAll("/+$", ""), bucket, key);
+        }
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, key);
+    }
+
+    /**
+     * 이미지 URL → S3 키 (이 버킷 URL 이 아니면 null)
+     */
+    public String keyOf(String url) {
+        if (url == null) {
+            return null;
+        }
+        if (!endpoint.isBlank() && url.startsWith(endpoint)) {
+            String path = url.substring(endpoint.replaceAll("/+$", "").length() + 1);
+            return path.substring(path.indexOf('/') + 1);
+        }
+        int startIndex = url.indexOf(".amazonaws.com/");
+        return startIndex < 0 ? null : url.substring(startIndex + ".amazonaws.com/".length());
+    }
+
+    // 키 형식과 참조를 확인하지 않고 지움 - 호출은 S3DeletionQueue(레거시 키), S3OrphanReconciler(참조 없는 객체), 업로드 롤백만
+    // DeleteObjects 는 요청당 최대 1,000개, 요청은 성공해도 키별로 실패할 수 있어 실패한 키를 반환
+    List<String> deleteKeys(List<String> keys) {
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_BATCH) {
+            List<ObjectIdentifier> objects = keys.subList(from, Math.min(from + MAX_DELETE_BATCH, keys.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build()).join()
+                    .errors().stream()
+                    .map(S3Error::key)
+                    .forEach(failed::add);
+        }
+        return failed;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
+            // 업로드 결과와 무관
+        }
+    }
 }
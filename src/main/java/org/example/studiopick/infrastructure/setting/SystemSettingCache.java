@@ -0,0 +1,249 @@
+package org.example.studiopick.infrastructure.setting;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.common.util.TransactionUtils;
+import org.example.studiopick.domain.setting.SystemSetting;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시스템 설정 2단계 캐시
+ * - L1: 노드 로컬 스냅샷 (기동 시 전체 적재, 값은 타입별로 미리 파싱)
+ * - L2: Redis (L1 미스 시 조회, 없으면 DB 조회 후 채움)
+ * - 설정 변경 시 커밋 후 L2 삭제 + Redis pub/sub 으로 모든 노드의 L1 무효화
+ * - 조회와 무효화가 겹치면 읽은 값을 버림 (L1 은 노드 로컬 세대, L2 는 Redis 세대 카운터로 판정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SystemSettingCache implements MessageListener {
+
+  public static final String INVALIDATION_CHANNEL = "system-settings:invalidate";
+
+  private static final String L2_KEY_PREFIX = "system-setting:";
+  private static final String L2_GENERATION_KEY = "system-settings:generation";
+  private static final String ALL_KEYS = "*";
+  private static final Duration L2_TTL = Duration.ofMinutes(10);
+
+  private final JpaSystemSettingRepository settingRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private volatile ConcurrentHashMap<String, SettingValue> local = new ConcurrentHashMap<>();
+
+  // 무효화가 발생할 때마다 증가 - 그 사이에 읽은 값은 L1에 넣지 않는다
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * 타입별로 미리 파싱해 둔 설정값 (파싱 실패한 타입은 null)
+   */
+  public record SettingValue(String raw, Integer integerValue, BigDecimal decimalValue, Boolean booleanValue) {
+
+    public static final SettingValue ABSENT = new SettingValue(null, null, null, null);
+
+    public static SettingValue of(String raw) {
+      if (raw == null) {
+        return ABSENT;
+      }
+      String trimmed = raw.trim();
+      return new SettingValue(raw, parseInteger(trimmed), parseDecimal(trimmed),
+          "true".equalsIgnoreCase(trimmed) || "1".equals(trimmed));
+    }
+
+    public boolean isPresent() {
+      return raw != null;
+    }
+
+    private static Integer parseInteger(String value) {
+      try {
+        return Integer.parseInt(value);
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+      try {
+        return new BigDecimal(value);
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+  }
+
+  @PostConstruct
+  void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+  }
+
+  /**
+   * 설정값 조회 (L1 → L2 → DB)
+   */
+  public SettingValue get(String settingKey) {
+    ConcurrentHashMap<String, SettingValue> snapshot = local;
+    SettingValue cached = snapshot.get(settingKey);
+    if (cached != null) {
+      return cached;
+    }
+
+    long seen = generation.get();
+    SettingValue loaded = load(settingKey);
+    if (generation.get() != seen) {
+      return loaded;
+    }
+    snapshot.putIfAbsent(settingKey, loaded);
+    if (generation.get() != seen) {
+      snapshot.remove(settingKey, loaded);
+    }
+    return loaded;
+  }
+
+  /**
+   * 기동 완료 시 전체 설정을 L1에 적재
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void preload() {
+    long seen = generation.get();
+    ConcurrentHashMap<String, SettingValue> snapshot = new ConcurrentHashMap<>();
+    for (SystemSetting setting : settingRepository.findAll()) {
+      snapshot.put(setting.getSettingKey(), SettingValue.of(setting.getValueOrDefault()));
+    }
+
+    if (generation.get() != seen) {
+      log.info("시스템 설정 적재 중 변경 발생 - 다음 주기에 다시 적재합니다.");
+      return;
+    }
+    local = snapshot;
+    log.info("시스템 설정 로컬 캐시 적재 완료: {}건", snapshot.size());
+  }
+
+  /**
+   * pub/sub 메시지 유실 대비 주기적 전체 재적재 (10분)
+   */
+  @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+  public void refresh() {
+    preload();
+  }
+
+  /**
+   * 설정 변경 알림 - 커밋 후 L2 삭제 및 전체 노드에 무효화 전파
+   */
+  public void invalidate(String settingKey) {
+    TransactionUtils.afterCommit(() -> {
+      evictLocal(settingKey);
+      try {
+        redisTemplate.opsForValue().increment(L2_GENERATION_KEY);
+        redisTemplate.delete(L2_KEY_PREFIX + settingKey);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, settingKey);
+      } catch (Exception e) {
+        log.warn("시스템 설정 캐시 무효화 전파 실패: key={}, error={}", settingKey, e.getMessage());
+      }
+    });
+  }
+
+  /**
+   * 전체 설정 무효화
+   */
+  public void invalidateAll() {
+    TransactionUtils.afterCommit(() -> {
+      List<String> l2Keys = new ArrayList<>();
+      local.keySet().forEach(key -> l2Keys.add(L2_KEY_PREFIX + key));
+      generation.incrementAndGet();
+      try {
+        redisTemplate.opsForValue().increment(L2_GENERATION_KEY);
+        redisTemplate.delete(l2Keys);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, ALL_KEYS);
+      } catch (Exception e) {
+        log.warn("시스템 설정 전체 캐시 무효화 전파 실패: error={}", e.getMessage());
+      }
+      preload();
+    });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String settingKey = new String(message.getBody(), StandardCharsets.UTF_8);
+    if (ALL_KEYS.equals(settingKey)) {
+      generation.incrementAndGet();
+      preload();
+      return;
+    }
+    evictLocal(settingKey);
+    log.debug("시스템 설정 L1 무효화 수신: {}", settingKey);
+  }
+
+  private void evictLocal(String settingKey) {
+    generation.incrementAndGet();
+    local.remove(settingKey);
+  }
+
+  private SettingValue load(String settingKey) {
+    String l2Key = L2_KEY_PREFIX + settingKey;
+    try {
+      String cached = redisTemplate.opsForValue().get(l2Key);
+      if (cached != null) {
+        return SettingValue.of(cached);
+      }
+    } catch (Exception e) {
+      log.warn("시스템 설정 L2 조회 실패, DB 조회로 대체: key={}, error={}", settingKey, e.getMessage());
+    }
+
+    Long seen = l2Generation();
+    SettingValue value = settingRepository.findBySettingKey(settingKey)
+        .map(SystemSetting::getValueOrDefault)
+        .map(SettingValue::of)
+        .orElse(SettingValue.ABSENT);
+
+    if (value.isPresent() && seen != null) {
+      refillL2(settingKey, value, seen);
+    }
+    return value;
+  }
+
+  /**
+   * DB 에서 읽은 값으로 L2 채우기
+   * - 변경 측은 세대 증가 → L2 삭제 순서이므로, 저장 후 세대가 그대로면 그 뒤의 삭제가 옛 값을 지운다
+   * - 세대가 바뀌었으면 방금 저장한 값이 변경 전 값일 수 있으므로 삭제
+   */
+  private void refillL2(String settingKey, SettingValue value, long seen) {
+    String l2Key = L2_KEY_PREFIX + settingKey;
+    try {
+      redisTemplate.opsForValue().set(l2Key, value.raw(), L2_TTL);
+      if (!Long.valueOf(seen).equals(l2Generation())) {
+        redisTemplate.delete(l2Key);
+      }
+    } catch (Exception e) {
+      log.warn("시스템 설정 L2 저장 실패: key={}, error={}", settingKey, e.getMessage());
+    }
+  }
+
+  /**
+   * Redis 세대 카운터 (조회 실패 시 null - L2 를 채우지 않음)
+   */
+  private Long l2Generation() {
+    try {
+      String value = redisTemplate.opsForValue().get(L2_GENERATION_KEY);
+      return value == null ? 0L : Long.parseLong(value);
+    } catch (Exception e) {
+      log.warn("시스템 설정 L2 세대 조회 실패: error={}", e.getMessage());
+      return null;
+    }
+  }
+}
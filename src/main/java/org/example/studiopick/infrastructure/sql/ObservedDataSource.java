@@ -0,0 +1,183 @@
+package org.example.studiopick.infrastructure.sql;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 실행 문장 수/시간을 SqlStatsRecorder 에 기록하는 DataSource 래퍼
+ * - Connection/Statement 를 JDK 동적 프록시로 감싸 execute* 호출만 계측 (결과 순회 시간은 제외)
+ * - PreparedStatement 바인딩은 느린 쿼리 샘플용으로 앞쪽 일부만 보관 (표시 형식은 SqlStatsRecorder 가 결정)
+ * - 배치 실행은 한 번의 왕복이므로 문장 1건으로 기록
+ */
+class ObservedDataSource extends DelegatingDataSource {
+
+  private static final int MAX_BINDS = 30;
+
+  // DataSource 는 다른 빈보다 먼저 만들어지므로 기록기는 첫 실행 시점에 가져옴
+  private final ObjectProvider<SqlStatsRecorder> recorderProvider;
+  private volatile SqlStatsRecorder recorder;
+
+  ObservedDataSource(DataSource target, ObjectProvider<SqlStatsRecorder> recorderProvider) {
+    super(target);
+    this.recorderProvider = recorderProvider;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrap(obtainTargetDataSource().getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrap(obtainTargetDataSource().getConnection(username, password));
+  }
+
+  private void record(String sql, long elapsedNanos, Supplier<List<Object>> binds, int batchSize) {
+    SqlStatsRecorder target = recorder;
+    if (target == null) {
+      target = recorderProvider.getIfAvailable();
+      if (target == null) {
+        return;
+      }
+      recorder = target;
+    }
+    target.record(sql, elapsedNanos, binds, batchSize);
+  }
+
+  private Connection wrap(Connection connection) {
+    return (Connection) Proxy.newProxyInstance(
+        ObservedDataSource.class.getClassLoader(),
+        new Class<?>[]{Connection.class},
+        new ConnectionHandler(connection));
+  }
+
+  // 커넥션 풀/Hibernate 가 Statement 를 해시 컬렉션에 보관하므로 프록시 자체의 동일성으로 비교
+  private static boolean isIdentityMethod(Method method) {
+    return method.getDeclaringClass() == Object.class
+        && (method.getName().equals("equals") || method.getName().equals("hashCode"));
+  }
+
+  private static Object identity(Object proxy, Method method, Object[] args) {
+    return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+  }
+
+  private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+  private final class ConnectionHandler implements InvocationHandler {
+
+    private final Connection target;
+
+    ConnectionHandler(Connection target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (isIdentityMethod(method)) {
+        return identity(proxy, method, args);
+      }
+      Object result = invokeTarget(target, method, args);
+      if (!(result instanceof Statement statement)) {
+        return result;
+      }
+
+      // prepareStatement/prepareCall 은 첫 인자가 SQL, createStatement 는 실행 시점에 SQL 을 받음
+      String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+      Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+          : statement instanceof PreparedStatement ? PreparedStatement.class
+          : Statement.class;
+      return Proxy.newProxyInstance(
+          ObservedDataSource.class.getClassLoader(),
+          new Class<?>[]{type},
+          new StatementHandler(statement, sql));
+    }
+  }
+
+  private final class StatementHandler implements InvocationHandler {
+
+    private final Statement target;
+    private final String preparedSql;
+    private final List<Object> binds = new ArrayList<>();
+    private String lastBatchSql;
+    private int batchSize;
+
+    StatementHandler(Statement target, String preparedSql) {
+      this.target = target;
+      this.preparedSql = preparedSql;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (isIdentityMethod(method)) {
+        return identity(proxy, method, args);
+      }
+      String name = method.getName();
+      if (name.startsWith("execute")) {
+        return execute(method, args, name.equals("executeBatch") || name.equals("executeLargeBatch"));
+      }
+
+      switch (name) {
+        case "addBatch" -> {
+          batchSize++;
+          if (args != null && args.length == 1 && args[0] instanceof String sql) {
+            lastBatchSql = sql;
+          }
+        }
+        case "clearBatch" -> batchSize = 0;
+        case "clearParameters" -> binds.clear();
+        default -> {
+          if (preparedSql != null && name.startsWith("set") && args != null && args.length >= 2
+              && args[0] instanceof Integer index) {
+            bind(index, name.equals("setNull") ? null : args[1]);
+          }
+        }
+      }
+      return invokeTarget(target, method, args);
+    }
+
+    private Object execute(Method method, Object[] args, boolean batch) throws Throwable {
+      String sql = preparedSql != null ? preparedSql
+          : args != null && args.length > 0 && args[0] instanceof String text ? text
+          : lastBatchSql;
+      long start = System.nanoTime();
+      try {
+        return invokeTarget(target, method, args);
+      } finally {
+        record(sql, System.nanoTime() - start, () -> new ArrayList<>(binds), batch ? batchSize : 0);
+        if (batch) {
+          batchSize = 0;
+        }
+      }
+    }
+
+    private void bind(int index, Object value) {
+      if (index < 1 || index > MAX_BINDS) {
+        return;
+      }
+      while (binds.size() < index) {
+        binds.add(null);
+      }
+      binds.set(index - 1, value);
+    }
+  }
+}
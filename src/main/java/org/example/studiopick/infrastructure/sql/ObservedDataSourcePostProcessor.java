@@ -0,0 +1,33 @@
+package org.example.studiopick.infrastructure.sql;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource 를 ObservedDataSource 로 감쌈 (JPA/MyBatis 모두 같은 빈을 사용)
+ * - sql.observability.enabled=false 면 감싸지 않음
+ */
+@Component
+public class ObservedDataSourcePostProcessor implements BeanPostProcessor {
+
+  private final ObjectProvider<SqlStatsRecorder> recorderProvider;
+  private final boolean enabled;
+
+  public ObservedDataSourcePostProcessor(ObjectProvider<SqlStatsRecorder> recorderProvider,
+                                         @Value("${sql.observability.enabled:true}") boolean enabled) {
+    this.recorderProvider = recorderProvider;
+    this.enabled = enabled;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (enabled && bean instanceof DataSource dataSource && !(bean instanceof ObservedDataSource)) {
+      return new ObservedDataSource(dataSource, recorderProvider);
+    }
+    return bean;
+  }
+}
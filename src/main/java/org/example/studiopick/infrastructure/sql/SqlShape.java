@@ -0,0 +1,48 @@
+package org.example.studiopick.infrastructure.sql;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 형태 정규화 - 리터럴과 IN 목록 길이만 다른 쿼리를 같은 형태로 묶음 (N+1 판정/집계 키)
+ * - Hibernate/MyBatis 쿼리는 대부분 이미 ? 바인딩이라 정규화 결과를 캐시해서 재사용
+ */
+final class SqlShape {
+
+  private static final int MAX_CACHED = 2_000;
+  private static final int MAX_LENGTH = 500;
+
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+  private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private static final ConcurrentHashMap<String, String> CACHE = new ConcurrentHashMap<>();
+
+  private SqlShape() {
+  }
+
+  static String of(String sql) {
+    if (sql == null) {
+      return "(unknown)";
+    }
+    String cached = CACHE.get(sql);
+    if (cached != null) {
+      return cached;
+    }
+
+    String shape = normalize(sql);
+    if (CACHE.size() < MAX_CACHED) {
+      CACHE.put(sql, shape);
+    }
+    return shape;
+  }
+
+  private static String normalize(String sql) {
+    String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+    shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+    shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    return shape.length() > MAX_LENGTH ? shape.substring(0, MAX_LENGTH) + "..." : shape;
+  }
+}
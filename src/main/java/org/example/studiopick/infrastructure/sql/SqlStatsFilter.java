@@ -0,0 +1,38 @@
+package org.example.studiopick.infrastructure.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 경계 표시 - 보안 필터보다 먼저 시작해서 인증 과정의 쿼리까지 요청에 포함
+ * - 엔드포인트 키는 매핑된 URL 패턴 (경로 변수 값별로 나뉘지 않음), 매핑 전에 끝난 요청은 UNMAPPED
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+  private final SqlStatsRecorder recorder;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    recorder.begin(request.getMethod() + " " + request.getRequestURI());
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      recorder.finish(request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED"));
+    }
+  }
+}
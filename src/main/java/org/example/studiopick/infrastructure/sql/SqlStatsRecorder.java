@@ -0,0 +1,278 @@
+package org.example.studiopick.infrastructure.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.infrastructure.sql.SqlStatsSnapshot.EndpointStats;
+import org.example.studiopick.infrastructure.sql.SqlStatsSnapshot.RepeatedStatement;
+import org.example.studiopick.infrastructure.sql.SqlStatsSnapshot.SlowStatement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 SQL 실행 통계
+ * - ObservedDataSource 가 문장마다 record 를 호출하고, SqlStatsFilter 가 요청 시작/종료를 알림
+ * - 요청이 끝나면 엔드포인트(메서드 + URL 패턴)별로 누적하고 http.server.sql.statements / http.server.sql.time 메트릭에 기록
+ * - 한 요청에서 같은 형태(SqlShape)의 문장이 임계값 이상 반복되면 N+1 의심으로 경고 로그 + 샘플 보관
+ * - 임계 시간을 넘긴 문장은 바인딩과 함께 최근 샘플로 보관 (요청 밖 스케줄러/비동기 작업 포함)
+ *   바인딩은 개인정보/토큰이 관리자 API 로 노출되지 않도록 타입과 길이만 남기고, log-bind-values=true 일 때만 값을 보관
+ * - 통계는 노드 로컬 메모리 값이며 재기동 또는 reset 시 초기화
+ */
+@Slf4j
+@Component
+public class SqlStatsRecorder {
+
+  private static final String BACKGROUND = "(background)";
+  private static final int MAX_BIND_LENGTH = 100;
+
+  private final ThreadLocal<RequestStats> current = new ThreadLocal<>();
+  private final ConcurrentHashMap<String, EndpointAccumulator> endpoints = new ConcurrentHashMap<>();
+  private final RecentSamples<SlowStatement> slowSamples;
+  private final RecentSamples<RepeatedStatement> repeatedSamples;
+  private final LongAdder totalStatements = new LongAdder();
+  private final LongAdder slowStatements = new LongAdder();
+  private final Counter slowCounter;
+  private final MeterRegistry meterRegistry;
+  private final long slowThresholdNanos;
+  private final int nPlusOneThreshold;
+  private final boolean logBindValues;
+  private volatile LocalDateTime since = LocalDateTime.now();
+
+  public SqlStatsRecorder(@Value("${sql.observability.slow-threshold-ms:200}") long slowThresholdMillis,
+                          @Value("${sql.observability.n-plus-one-threshold:10}") int nPlusOneThreshold,
+                          @Value("${sql.observability.sample-size:100}") int sampleSize,
+                          @Value("${sql.observability.log-bind-values:false}") boolean logBindValues,
+                          MeterRegistry meterRegistry) {
+    this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    this.nPlusOneThreshold = nPlusOneThreshold;
+    this.logBindValues = logBindValues;
+    this.slowSamples = new RecentSamples<>(sampleSize);
+    this.repeatedSamples = new RecentSamples<>(sampleSize);
+    this.meterRegistry = meterRegistry;
+    this.slowCounter = Counter.builder("sql.statements.slow").register(meterRegistry);
+  }
+
+  /**
+   * 요청 시작 - 이 스레드에서 실행되는 문장을 요청에 귀속
+   */
+  public void begin(String request) {
+    current.set(new RequestStats(request));
+  }
+
+  /**
+   * 요청 종료 - 엔드포인트별 누적 및 N+1 판정
+   */
+  public void finish(String endpoint) {
+    RequestStats stats = current.get();
+    current.remove();
+    if (stats == null) {
+      return;
+    }
+
+    List<Map.Entry<String, Integer>> repeated = stats.repeatedShapes(nPlusOneThreshold);
+    endpoints.computeIfAbsent(endpoint, key -> new EndpointAccumulator(key, meterRegistry))
+        .add(stats, !repeated.isEmpty());
+
+    for (Map.Entry<String, Integer> entry : repeated) {
+      repeatedSamples.add(new RepeatedStatement(LocalDateTime.now(), endpoint, entry.getKey(), entry.getValue()));
+      log.warn("N+1 의심: {} - 같은 형태의 쿼리 {}회 실행: {}", endpoint, entry.getValue(), entry.getKey());
+    }
+  }
+
+  void record(String sql, long elapsedNanos, Supplier<List<Object>> binds, int batchSize) {
+    String shape = SqlShape.of(sql);
+    totalStatements.increment();
+
+    RequestStats stats = current.get();
+    if (stats != null) {
+      stats.add(shape, elapsedNanos);
+    }
+
+    if (elapsedNanos >= slowThresholdNanos) {
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+      String request = stats != null ? stats.request : BACKGROUND;
+      slowStatements.increment();
+      slowCounter.increment();
+      slowSamples.add(new SlowStatement(LocalDateTime.now(), request, elapsedMillis, shape, describe(binds.get()), batchSize));
+      log.warn("느린 쿼리 {}ms [{}]: {}", elapsedMillis, request, shape);
+    }
+  }
+
+  /**
+   * 바인딩 표시 - 기본은 타입(문자열/바이트는 길이 포함)만, 디버그 설정 시 값 (길면 잘림)
+   */
+  List<String> describe(List<Object> binds) {
+    List<String> values = new ArrayList<>(binds.size());
+    for (Object value : binds) {
+      values.add(logBindValues ? truncate(String.valueOf(value)) : typeOf(value));
+    }
+    return values;
+  }
+
+  private static String truncate(String text) {
+    return text.length() > MAX_BIND_LENGTH ? text.substring(0, MAX_BIND_LENGTH) + "..." : text;
+  }
+
+  private static String typeOf(Object value) {
+    if (value == null) {
+      return "null";
+    }
+    if (value instanceof CharSequence text) {
+      return "String(" + text.length() + ")";
+    }
+    if (value instanceof byte[] bytes) {
+      return "byte[" + bytes.length + "]";
+    }
+    return value.getClass().getSimpleName();
+  }
+
+  /**
+   * 관리자 조회용 스냅샷 (엔드포인트는 총 문장 수 내림차순)
+   */
+  public SqlStatsSnapshot snapshot() {
+    List<EndpointStats> endpointStats = endpoints.values().stream()
+        .map(EndpointAccumulator::toStats)
+        .sorted(Comparator.comparingLong(EndpointStats::statements).reversed())
+        .toList();
+    return new SqlStatsSnapshot(
+        since,
+        totalStatements.sum(),
+        slowStatements.sum(),
+        endpointStats,
+        slowSamples.list(),
+        repeatedSamples.list()
+    );
+  }
+
+  public void reset() {
+    endpoints.clear();
+    slowSamples.clear();
+    repeatedSamples.clear();
+    totalStatements.reset();
+    slowStatements.reset();
+    since = LocalDateTime.now();
+  }
+
+  /**
+   * 요청 하나의 문장 수/시간과 형태별 실행 횟수 (요청 스레드에서만 접근)
+   */
+  private static final class RequestStats {
+
+    private final String request;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statements;
+    private long elapsedNanos;
+
+    RequestStats(String request) {
+      this.request = request;
+    }
+
+    void add(String shape, long nanos) {
+      statements++;
+      elapsedNanos += nanos;
+      shapes.merge(shape, 1, Integer::sum);
+    }
+
+    List<Map.Entry<String, Integer>> repeatedShapes(int threshold) {
+      return shapes.entrySet().stream()
+          .filter(entry -> entry.getValue() >= threshold)
+          .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+          .toList();
+    }
+  }
+
+  private static final class EndpointAccumulator {
+
+    private final String endpoint;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+    private final LongAdder nPlusOneRequests = new LongAdder();
+    private final AtomicLong maxStatements = new AtomicLong();
+    private final DistributionSummary statementSummary;
+    private final DistributionSummary timeSummary;
+
+    EndpointAccumulator(String endpoint, MeterRegistry meterRegistry) {
+      this.endpoint = endpoint;
+      this.statementSummary = DistributionSummary.builder("http.server.sql.statements")
+          .tag("endpoint", endpoint)
+          .register(meterRegistry);
+      this.timeSummary = DistributionSummary.builder("http.server.sql.time")
+          .baseUnit("milliseconds")
+          .tag("endpoint", endpoint)
+          .register(meterRegistry);
+    }
+
+    void add(RequestStats stats, boolean nPlusOne) {
+      requests.increment();
+      statements.add(stats.statements);
+      elapsedNanos.add(stats.elapsedNanos);
+      maxStatements.accumulateAndGet(stats.statements, Math::max);
+      if (nPlusOne) {
+        nPlusOneRequests.increment();
+      }
+      statementSummary.record(stats.statements);
+      timeSummary.record(stats.elapsedNanos / 1_000_000.0);
+    }
+
+    EndpointStats toStats() {
+      long requestCount = requests.sum();
+      long statementCount = statements.sum();
+      double divisor = Math.max(requestCount, 1);
+      return new EndpointStats(
+          endpoint,
+          requestCount,
+          statementCount,
+          statementCount / divisor,
+          maxStatements.get(),
+          elapsedNanos.sum() / 1_000_000.0 / divisor,
+          nPlusOneRequests.sum()
+      );
+    }
+  }
+
+  /**
+   * 최근 N건만 보관하는 샘플 버퍼 (오래된 것부터 버림)
+   */
+  private static final class RecentSamples<T> {
+
+    private final int capacity;
+    private final ArrayDeque<T> samples = new ArrayDeque<>();
+
+    RecentSamples(int capacity) {
+      this.capacity = Math.max(capacity, 1);
+    }
+
+    synchronized void add(T sample) {
+      if (samples.size() >= capacity) {
+        samples.pollFirst();
+      }
+      samples.addLast(sample);
+    }
+
+    synchronized List<T> list() {
+      List<T> newestFirst = new ArrayList<>(samples);
+      Collections.reverse(newestFirst);
+      return newestFirst;
+    }
+
+    synchronized void clear() {
+      samples.clear();
+    }
+  }
+}
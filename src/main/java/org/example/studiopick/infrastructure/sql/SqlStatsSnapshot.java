@@ -0,0 +1,52 @@
+package org.example.studiopick.infrastructure.sql;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SQL 실행 통계 스냅샷 (관리자 조회용, 노드별 값)
+ */
+public record SqlStatsSnapshot(
+    LocalDateTime since,
+    long totalStatements,
+    long slowStatements,
+    List<EndpointStats> endpoints,
+    List<SlowStatement> slowSamples,
+    List<RepeatedStatement> nPlusOneSamples
+) {
+
+  /**
+   * 엔드포인트(HTTP 메서드 + URL 패턴)별 요청당 문장 수/시간
+   */
+  public record EndpointStats(
+      String endpoint,
+      long requests,
+      long statements,
+      double avgStatements,
+      long maxStatements,
+      double avgSqlMillis,
+      long nPlusOneRequests
+  ) {}
+
+  /**
+   * 느린 문장 샘플 (바인딩은 앞쪽 일부의 타입/길이, log-bind-values=true 일 때만 값 - 길면 잘림)
+   */
+  public record SlowStatement(
+      LocalDateTime at,
+      String request,
+      long elapsedMillis,
+      String sql,
+      List<String> binds,
+      int batchSize
+  ) {}
+
+  /**
+   * 한 요청에서 같은 형태로 반복 실행된 문장 (N+1 의심)
+   */
+  public record RepeatedStatement(
+      LocalDateTime at,
+      String endpoint,
+      String shape,
+      int count
+  ) {}
+}
@@ -5,11 +5,13 @@ import org.example.studiopick.domain.studio.StudioOperatingHours;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface JpaStudioOperatingHoursRepository extends JpaRepository<StudioOperatingHours, Long> {
   List<StudioOperatingHours> findByStudioId(Long studioId);
+  List<StudioOperatingHours> findByStudioIdIn(Collection<Long> studioIds);
   void deleteByStudioId(Long studioId);
   List<StudioOperatingHours> findByWeekday(Weekday weekday);
 }
\ No newline at end of file
@@ -2,32 +2,34 @@ package org.example.studiopick.infrastructure.studio;
 
 import org.example.studiopick.domain.common.enums.StudioStatus;
 import org.example.studiopick.domain.studio.Studio;
+import org.example.studiopick.domain.studio.StudioGeoPoint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.Pageable;
 
+import jakarta.persistence.LockModeType;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JpaStudioRepository extends JpaRepository<Studio, Long>, JpaSpecificationExecutor<Studio> {
-  Page<Studio> findAll(Pageable pageable);
 
-  @Query("SELECT s FROM Studio s WHERE s.status = 'ACTIVE' AND (:region IS NULL OR (s.location IS NOT NULL AND SUBSTRING(s.location, 1, 2) = :region)) AND (:keyword IS NULL OR s.name LIKE :keyword OR s.description LIKE :keyword)")
-  Page<Studio> searchStudios(
-      @Param("region") String region,
-      @Param("keyword") String keyword,
-      Pageable pageable
-  );
-
-  // 활성화된 스튜디오만 조회
-  @Query("SELECT s FROM Studio s WHERE s.status = 'ACTIVE'")
-  Page<Studio> findActiveStudios(Pageable pageable);
+  /**
+   * 스튜디오 행 잠금 - 같은 스튜디오의 예약 생성(겹침 확인 → 저장)을 커밋까지 직렬화
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM Studio s WHERE s.id = :id")
+  Optional<Studio> findByIdForUpdate(@Param("id") Long id);
 
+  Page<Studio> findAll(Pageable pageable);
 
   //관리자용
   Page<Studio> findAllByOrderByCreatedAtDesc(Pageable pageable);
@@ -41,7 +43,23 @@ public interface JpaStudioRepository extends JpaRepository<Studio, Long>, JpaSpe
 
   List<Studio> findAllByStatus(StudioStatus status);
 
+  @Query("SELECT s.id FROM Studio s WHERE s.status = 'ACTIVE' AND s.id IN :ids")
+  List<Long> findActiveIdsIn(@Param("ids") Collection<Long> ids);
+
   @Query("SELECT s FROM Studio s WHERE s.owner.id = :ownerUserId")
   List<Studio> findByOwnerId(@Param("ownerUserId") Long userId);
 
+  // 지도 노출 대상 (운영 중 + 공개 + 좌표 있음)
+  @Query("SELECT new org.example.studiopick.domain.studio.StudioGeoPoint(" +
+      "s.id, s.name, s.location, s.hourlyBaseRate, s.thumbnailImage, s.latitude, s.longitude) " +
+      "FROM Studio s WHERE s.status = 'ACTIVE' AND s.hideStatus = 'OPEN' " +
+      "AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL")
+  List<StudioGeoPoint> findVisibleGeoPoints();
+
+  @Query("SELECT new org.example.studiopick.domain.studio.StudioGeoPoint(" +
+      "s.id, s.name, s.location, s.hourlyBaseRate, s.thumbnailImage, s.latitude, s.longitude) " +
+      "FROM Studio s WHERE s.id = :id AND s.status = 'ACTIVE' AND s.hideStatus = 'OPEN' " +
+      "AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL")
+  Optional<StudioGeoPoint> findVisibleGeoPoint(@Param("id") Long id);
+
 }
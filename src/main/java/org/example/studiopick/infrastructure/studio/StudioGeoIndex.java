@@ -0,0 +1,293 @@
+package org.example.studiopick.infrastructure.studio;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.common.util.TransactionUtils;
+import org.example.studiopick.domain.studio.StudioGeoPoint;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 지도/주변 스튜디오 검색용 인메모리 격자 인덱스
+ * - 노출 대상(운영 중 + 공개 + 좌표 있음) 스튜디오를 위경도 0.02°(약 2km) 격자 셀별로 보관, 조회는 DB 를 거치지 않음
+ * - 스튜디오 생성/수정/상태 변경 커밋 후 해당 스튜디오만 다시 읽어 갱신하고, Redis pub/sub 으로 다른 노드에도 전파
+ * - 기동 시 전체 적재, 메시지 유실 대비 10분마다 전체 재적재
+ * - 국내 서비스 기준이라 날짜변경선을 넘는 범위는 고려하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudioGeoIndex implements MessageListener {
+
+  public static final String CHANGE_CHANNEL = "studio-geo:changed";
+
+  private static final double CELL_DEGREES = 0.02;
+  private static final long LNG_CELLS = (long) Math.ceil(360 / CELL_DEGREES) + 1;
+  private static final double METERS_PER_DEGREE = 111_320;
+  private static final double EARTH_RADIUS_METERS = 6_371_000;
+  private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+  private final JpaStudioRepository studioRepository;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private volatile Grid grid = new Grid();
+
+  // 개별 갱신이 일어날 때마다 증가 - 전체 적재 도중 갱신이 있었으면 그 스냅샷은 버리고 다시 적재
+  private final AtomicLong generation = new AtomicLong();
+
+  public record Hit(StudioGeoPoint studio, double distanceMeters) {
+  }
+
+  @PostConstruct
+  void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+  }
+
+  /**
+   * 중심 좌표 반경 내 스튜디오 (가까운 순, 최대 limit 건)
+   */
+  public List<Hit> within(double latitude, double longitude, double radiusMeters, int limit) {
+    double latDelta = radiusMeters / METERS_PER_DEGREE;
+    double lngDelta = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+    TopN<Hit> hits = new TopN<>(limit, Comparator.comparingDouble(Hit::distanceMeters));
+    grid.forEachIn(latitude - latDelta, longitude - lngDelta, latitude + latDelta, longitude + lngDelta, point -> {
+      double distance = distanceMeters(latitude, longitude, point.latitude(), point.longitude());
+      if (distance <= radiusMeters) {
+        hits.offer(new Hit(point, distance));
+      }
+    });
+    return hits.sorted();
+  }
+
+  /**
+   * 사각 영역 내 스튜디오 (ID 순, 최대 limit 건)
+   */
+  public List<StudioGeoPoint> inBounds(double south, double west, double north, double east, int limit) {
+    TopN<StudioGeoPoint> points = new TopN<>(limit, Comparator.comparing(StudioGeoPoint::id));
+    grid.forEachIn(south, west, north, east, points::offer);
+    return points.sorted();
+  }
+
+  /**
+   * 스튜디오 변경 알림 - 커밋 후 이 노드를 갱신하고 전체 노드에 전파
+   */
+  public void changed(Long studioId) {
+    TransactionUtils.afterCommit(() -> {
+      reload(studioId);
+      try {
+        redisTemplate.convertAndSend(CHANGE_CHANNEL, String.valueOf(studioId));
+      } catch (Exception e) {
+        log.warn("스튜디오 위치 인덱스 변경 전파 실패: studioId={}, error={}", studioId, e.getMessage());
+      }
+    });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      reload(Long.valueOf(body));
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 스튜디오 위치 인덱스 변경 메시지: {}", body);
+    }
+  }
+
+  /**
+   * 기동 완료 시 전체 적재
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    try {
+      for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+        long seen = generation.get();
+        Grid loaded = new Grid();
+        studioRepository.findVisibleGeoPoints().forEach(loaded::put);
+
+        synchronized (this) {
+          if (generation.get() == seen) {
+            grid = loaded;
+            log.info("스튜디오 위치 인덱스 적재 완료: {}건", loaded.size());
+            return;
+          }
+        }
+      }
+      log.info("스튜디오 위치 인덱스 적재 중 변경이 계속 발생 - 다음 주기에 다시 적재합니다.");
+    } catch (Exception e) {
+      log.error("스튜디오 위치 인덱스 적재 실패: error={}", e.getMessage());
+    }
+  }
+
+  /**
+   * pub/sub 메시지 유실 대비 주기적 전체 재적재 (10분)
+   */
+  @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+  public void refresh() {
+    rebuild();
+  }
+
+  private void reload(Long studioId) {
+    Optional<StudioGeoPoint> point;
+    try {
+      point = studioRepository.findVisibleGeoPoint(studioId);
+    } catch (Exception e) {
+      log.warn("스튜디오 위치 조회 실패 - 다음 전체 적재 때 반영: studioId={}, error={}", studioId, e.getMessage());
+      return;
+    }
+
+    synchronized (this) {
+      generation.incrementAndGet();
+      if (point.isPresent()) {
+        grid.put(point.get());
+      } else {
+        grid.remove(studioId);
+      }
+    }
+  }
+
+  static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLng = Math.toRadians(lng2 - lng1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  /**
+   * 앞쪽 limit 건만 유지 (최대 힙) - 전국 지도처럼 영역 안 스튜디오가 많아도 전체를 정렬하지 않음
+   */
+  private static final class TopN<T> {
+
+    private final int limit;
+    private final Comparator<T> order;
+    private final PriorityQueue<T> heap;
+
+    TopN(int limit, Comparator<T> order) {
+      this.limit = Math.max(limit, 0);
+      this.order = order;
+      this.heap = new PriorityQueue<>(Math.min(this.limit, 1_024) + 1, order.reversed());
+    }
+
+    void offer(T item) {
+      if (heap.size() < limit) {
+        heap.add(item);
+      } else if (limit > 0 && order.compare(item, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(item);
+      }
+    }
+
+    List<T> sorted() {
+      List<T> items = new ArrayList<>(heap);
+      items.sort(order);
+      return items;
+    }
+  }
+
+  /**
+   * 셀 → (스튜디오 ID → 좌표), 쓰기는 StudioGeoIndex 모니터 안에서만, 읽기는 잠금 없음
+   */
+  static final class Grid {
+
+    private final Map<Long, StudioGeoPoint> byId = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, StudioGeoPoint>> cells = new ConcurrentHashMap<>();
+
+    int size() {
+      return byId.size();
+    }
+
+    void put(StudioGeoPoint point) {
+      remove(point.id());
+      byId.put(point.id(), point);
+      cells.computeIfAbsent(cellOf(point.latitude(), point.longitude()), cell -> new ConcurrentHashMap<>())
+          .put(point.id(), point);
+    }
+
+    void remove(Long studioId) {
+      StudioGeoPoint previous = byId.remove(studioId);
+      if (previous == null) {
+        return;
+      }
+      long cell = cellOf(previous.latitude(), previous.longitude());
+      Map<Long, StudioGeoPoint> members = cells.get(cell);
+      if (members != null) {
+        members.remove(studioId);
+        if (members.isEmpty()) {
+          cells.remove(cell);
+        }
+      }
+    }
+
+    void forEachIn(double south, double west, double north, double east, Consumer<StudioGeoPoint> action) {
+      long minLat = latCell(south);
+      long maxLat = latCell(north);
+      long minLng = lngCell(west);
+      long maxLng = lngCell(east);
+      if (minLat > maxLat || minLng > maxLng) {
+        return;
+      }
+
+      // 넓은 영역(전국 지도 등)은 셀을 하나씩 찾는 것보다 전체를 훑는 편이 빠름
+      long cellCount = (maxLat - minLat + 1) * (maxLng - minLng + 1);
+      if (cellCount > byId.size()) {
+        for (StudioGeoPoint point : byId.values()) {
+          if (contains(point, south, west, north, east)) {
+            action.accept(point);
+          }
+        }
+        return;
+      }
+
+      for (long lat = minLat; lat <= maxLat; lat++) {
+        for (long lng = minLng; lng <= maxLng; lng++) {
+          Map<Long, StudioGeoPoint> members = cells.get(lat * LNG_CELLS + lng);
+          if (members == null) {
+            continue;
+          }
+          for (StudioGeoPoint point : members.values()) {
+            if (contains(point, south, west, north, east)) {
+              action.accept(point);
+            }
+          }
+        }
+      }
+    }
+
+    private static boolean contains(StudioGeoPoint point, double south, double west, double north, double east) {
+      return point.latitude() >= south && point.latitude() <= north
+          && point.longitude() >= west && point.longitude() <= east;
+    }
+
+    static long cellOf(double latitude, double longitude) {
+      return latCell(latitude) * LNG_CELLS + lngCell(longitude);
+    }
+
+    static long latCell(double latitude) {
+      return (long) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / CELL_DEGREES);
+    }
+
+    static long lngCell(double longitude) {
+      return (long) Math.floor((Math.max(-180, Math.min(180, longitude)) + 180) / CELL_DEGREES);
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package org.example.studiopick.infrastructure.studio.mybatis;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.example.studiopick.application.studio.dto.StudioSearchCondition;
+import org.example.studiopick.common.dto.studio.StudioSearchRow;
+
+import java.util.List;
+
+@Mapper
+public interface StudioSearchMapper {
+
+    List<StudioSearchRow> search(@Param("c") StudioSearchCondition condition,
+                                 @Param("offset") long offset,
+                                 @Param("limit") int limit);
+
+    long count(@Param("c") StudioSearchCondition condition);
+
+    List<Long> findIdsWithoutRegion(@Param("lastId") Long lastId, @Param("limit") int limit);
+}
@@ -0,0 +1,75 @@
+package org.example.studiopick.infrastructure.token;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 다이제스트 전용 블룸 필터
+ * - 입력이 이미 SHA-256 다이제스트이므로 앞 16바이트를 두 개의 64비트 해시로 나눠 이중 해싱
+ * - 비트 설정은 AtomicLongArray 로 처리해 별도 락 없이 동시 추가/조회 가능
+ */
+final class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bitSize;
+  private final int hashCount;
+
+  private BloomFilter(long bitSize, int hashCount) {
+    this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    this.bitSize = (long) words.length() * 64;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * 예상 원소 수와 목표 오탐률로 크기 결정 (m = -n·ln p / (ln 2)², k = m/n · ln 2)
+   */
+  static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1L, expectedInsertions);
+    long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    if (bits > (long) Integer.MAX_VALUE * 64) {
+      throw new IllegalArgumentException("블룸 필터 크기가 너무 큽니다: " + bits + " bits");
+    }
+    int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+    return new BloomFilter(Math.max(64L, bits), hashes);
+  }
+
+  void put(byte[] digest) {
+    long h1 = readLong(digest, 0);
+    long h2 = readLong(digest, 8);
+    for (int i = 0; i < hashCount; i++) {
+      long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+      long mask = 1L << bit;
+      int index = (int) (bit >>> 6);
+      if ((words.get(index) & mask) == 0L) {
+        words.getAndAccumulate(index, mask, (current, m) -> current | m);
+      }
+    }
+  }
+
+  boolean mightContain(byte[] digest) {
+    long h1 = readLong(digest, 0);
+    long h2 = readLong(digest, 8);
+    for (int i = 0; i < hashCount; i++) {
+      long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0L) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  long bitSize() {
+    return bitSize;
+  }
+
+  int hashCount() {
+    return hashCount;
+  }
+
+  private static long readLong(byte[] bytes, int offset) {
+    long value = 0L;
+    for (int i = 0; i < 8; i++) {
+      value = (value << 8) | (bytes[offset + i] & 0xFFL);
+    }
+    return value;
+  }
+}
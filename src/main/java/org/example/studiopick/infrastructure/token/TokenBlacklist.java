@@ -0,0 +1,201 @@
+package org.example.studiopick.infrastructure.token;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃 토큰 블랙리스트
+ * - Redis 에는 원본 JWT 대신 SHA-256 다이제스트를 키로 저장 (token-blacklist:{hex}, TTL = 토큰 잔여 유효시간)
+ * - 노드마다 로컬 블룸 필터를 두고, 필터에 걸린 토큰만 Redis 로 최종 확인
+ * - 등록은 pub/sub 으로 모든 노드 필터에 전파, 만료 항목 정리와 메시지 유실 대비로 주기적 재구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklist implements MessageListener {
+
+  public static final String CHANNEL = "token-blacklist:added";
+
+  private static final String KEY_PREFIX = "token-blacklist:";
+  private static final String LEGACY_KEY_PATTERN = "eyJ*";
+  private static final String BLACKLIST_VALUE = "logout";
+  private static final int SCAN_COUNT = 1000;
+  private static final HexFormat HEX = HexFormat.of();
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  @Value("${token.blacklist.expected-insertions:1000000}")
+  private long expectedInsertions;
+
+  @Value("${token.blacklist.false-positive-rate:0.001}")
+  private double falsePositiveRate;
+
+  // 재구성 전까지는 null - 모든 조회를 Redis 로 확인
+  private volatile BloomFilter filter;
+
+  // 재구성 중에만 설정 - 그 사이 수신한 등록을 새 필터에도 반영
+  private volatile BloomFilter building;
+
+  @PostConstruct
+  void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /**
+   * 토큰 블랙리스트 등록 (잔여 유효시간이 없으면 등록하지 않음)
+   */
+  public void add(String token, long ttlMillis) {
+    if (ttlMillis <= 0) {
+      return;
+    }
+    byte[] digest = digest(token);
+    String hex = HEX.formatHex(digest);
+    redisTemplate.opsForValue().set(KEY_PREFIX + hex, BLACKLIST_VALUE, Duration.ofMillis(ttlMillis));
+    remember(digest);
+    try {
+      redisTemplate.convertAndSend(CHANNEL, hex);
+    } catch (Exception e) {
+      log.warn("토큰 블랙리스트 전파 실패 - 다음 재구성 때 반영됩니다: error={}", e.getMessage());
+    }
+  }
+
+  /**
+   * 블랙리스트 여부 - 로컬 필터에 없으면 Redis 를 거치지 않고 false
+   */
+  public boolean contains(String token) {
+    byte[] digest = digest(token);
+    BloomFilter current = filter;
+    if (current != null && !current.mightContain(digest)) {
+      return false;
+    }
+    return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + HEX.formatHex(digest)));
+  }
+
+  /**
+   * 기동 완료 시 기존 원본 토큰 키를 다이제스트 키로 옮기고 필터 구성
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    try {
+      migrateLegacyKeys();
+    } catch (Exception e) {
+      log.warn("기존 토큰 블랙리스트 키 이전 실패: error={}", e.getMessage());
+    }
+    rebuild();
+  }
+
+  /**
+   * Redis 전체 스캔으로 필터 재구성 (10분) - 만료된 항목이 빠지고 유실된 전파가 복구된다
+   */
+  @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+  public void rebuild() {
+    BloomFilter next = BloomFilter.create(expectedInsertions, falsePositiveRate);
+    building = next;
+    try {
+      List<String> keys = scan(KEY_PREFIX + "*");
+      for (String key : keys) {
+        next.put(HEX.parseHex(key.substring(KEY_PREFIX.length())));
+      }
+      // 교체 후 building 해제 - 수신 쪽은 building 을 먼저 읽으므로 어느 시점이든 새 필터에 반영된다
+      filter = next;
+      log.info("토큰 블랙리스트 필터 재구성 완료: {}건 (bits={}, hashes={})",
+          keys.size(), next.bitSize(), next.hashCount());
+      if (keys.size() > expectedInsertions) {
+        log.warn("토큰 블랙리스트 항목 수가 예상치를 넘었습니다 - 오탐률이 높아집니다: {} > {}",
+            keys.size(), expectedInsertions);
+      }
+    } catch (Exception e) {
+      log.warn("토큰 블랙리스트 필터 재구성 실패 - 기존 필터 유지: error={}", e.getMessage());
+    } finally {
+      building = null;
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String hex = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      remember(HEX.parseHex(hex));
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 토큰 블랙리스트 메시지 무시: {}", hex);
+    }
+  }
+
+  private void remember(byte[] digest) {
+    BloomFilter pending = building;
+    if (pending != null) {
+      pending.put(digest);
+    }
+    BloomFilter current = filter;
+    if (current != null) {
+      current.put(digest);
+    }
+  }
+
+  /**
+   * 원본 JWT 를 키로 쓰던 항목을 남은 TTL 그대로 다이제스트 키로 이전
+   */
+  private void migrateLegacyKeys() {
+    List<String> legacyKeys = scan(LEGACY_KEY_PATTERN);
+    int migrated = 0;
+    for (String legacyKey : legacyKeys) {
+      if (!BLACKLIST_VALUE.equals(redisTemplate.opsForValue().get(legacyKey))) {
+        continue;
+      }
+      Long ttl = redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+      if (ttl != null && ttl > 0) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + HEX.formatHex(digest(legacyKey)),
+            BLACKLIST_VALUE, Duration.ofMillis(ttl));
+      }
+      redisTemplate.delete(legacyKey);
+      migrated++;
+    }
+    if (migrated > 0) {
+      log.info("기존 토큰 블랙리스트 키 이전 완료: {}건", migrated);
+    }
+  }
+
+  private List<String> scan(String pattern) {
+    ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+    List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+      List<String> found = new ArrayList<>();
+      try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+        cursor.forEachRemaining(key -> found.add(new String(key, StandardCharsets.UTF_8)));
+      }
+      return found;
+    });
+    return keys != null ? keys : List.of();
+  }
+
+  private static byte[] digest(String token) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+    }
+  }
+}
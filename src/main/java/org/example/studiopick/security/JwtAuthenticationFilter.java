@@ -42,14 +42,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // 유효성 검사 및 인증 처리
-            if (jwtProvider.validateToken(token)) { // isAccessToken 체크 생략 가능
+            // 유효성 검사 및 인증 처리 (서명 검증 + 클레임 추출 한 번)
+            VerifiedToken verified = jwtProvider.tryVerify(token).orElse(null);
+            if (verified != null) { // isAccessToken 체크 생략 가능
 
-                String email = jwtProvider.getEmailFromToken(token);
-                Long userId = jwtProvider.getUserIdFromToken(token);
-                UserRole role = jwtProvider.getRoleFromToken(token);
-
-                UserPrincipal userPrincipal = UserPrincipal.createFromToken(userId, email, role);
+                UserRole role = verified.role();
+                UserPrincipal userPrincipal = UserPrincipal.createFromToken(verified.userId(), verified.email(), role);
 
                 UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
@@ -2,25 +2,33 @@ package org.example.studiopick.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.example.studiopick.domain.common.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
+@RequiredArgsConstructor
 public class JwtProvider {
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
     @Value("${jwt.secret}")
     private String secretKeyPlain;
 
     private SecretKey secretKey;
 
+    private JwtParser parser;
+
     @Value("${jwt.access-token-expiration}")
     private long accessTokenExpiration;
 
@@ -30,6 +38,7 @@ public class JwtProvider {
     @PostConstruct
     protected void init() {
         this.secretKey = Keys.hmacShaKeyFor(secretKeyPlain.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
     }
 
     public String createAccessToken(String email, Long userId, UserRole role) {
@@ -55,75 +64,82 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * 토큰 검증 + 클레임 추출 (서명 검증은 캐시 미스일 때 한 번만)
+     * @throws JwtException 서명/형식 오류 또는 만료
+     * @throws IllegalArgumentException 필수 클레임 누락
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken verified = verifiedTokenCache.get(token, this::parse);
+        if (verified.isExpired()) {
+            // 캐시 만료 처리 전 짧은 틈에 조회된 경우 - 파서와 동일하게 만료로 판정
+            throw new JwtException("만료된 토큰입니다");
+        }
+        return verified;
+    }
+
+    /**
+     * 검증 실패 시 empty
+     */
+    public Optional<VerifiedToken> tryVerify(String token) {
+        try {
+            return Optional.of(verify(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public String getEmailFromToken(String token) {
-        return getClaims(token).getSubject();
+        return verify(token).email();
     }
 
     public Long getUserIdFromToken(String token) {
-        return getClaims(token).get("userId", Long.class);
+        return verify(token).userId();
     }
 
     public String getTokenTypeFromToken(String token) {
-        return getClaims(token).get("tokenType", String.class);
+        return verify(token).tokenType();
     }
 
     public UserRole getRoleFromToken(String token) {
-        String role = getClaimsFromToken(token).get("role", String.class);
-        if (role == null) throw new IllegalArgumentException("권한 정보가 없습니다");
-        return UserRole.valueOf(role);
+        return verify(token).role();
     }
 
-
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(secretKey)   // ✅ SecretKey 직접 전달
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
-    }
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return tryVerify(token).isPresent();
     }
 
     public boolean isRefreshToken(String token) {
-        try {
-            return "REFRESH".equals(getTokenTypeFromToken(token));
-        } catch (Exception e) {
-            return false;
-        }
+        return tryVerify(token).map(VerifiedToken::isRefreshToken).orElse(false);
     }
 
     public boolean isAccessToken(String token) {
-        try {
-            return "ACCESS".equals(getTokenTypeFromToken(token));
-        } catch (Exception e) {
-            return false;
-        }
+        return tryVerify(token).map(VerifiedToken::isAccessToken).orElse(false);
     }
 
     public Date getExpirationDate(String token) {
-        return getClaims(token).getExpiration();
+        return verify(token).expiration();
     }
 
     public boolean isTokenExpired(String token) {
-        try {
-            Date expiration = getExpirationDate(token);
-            return expiration.before(new Date());
-        } catch (Exception e) {
-            return true;
-        }
+        return tryVerify(token).isEmpty();
+    }
+
+    private VerifiedToken parse(String token) {
+        Claims claims = getClaimsFromToken(token);
+        String role = claims.get("role", String.class);
+        if (role == null) throw new IllegalArgumentException("권한 정보가 없습니다");
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                UserRole.valueOf(role),
+                claims.get("tokenType", String.class),
+                claims.getExpiration()
+        );
     }
 }
@@ -0,0 +1,36 @@
+package org.example.studiopick.security;
+
+import org.example.studiopick.domain.common.enums.UserRole;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 (요청당 한 번만 파싱)
+ */
+public record VerifiedToken(
+    String email,
+    Long userId,
+    UserRole role,
+    String tokenType,
+    Date expiration
+) {
+
+  public boolean isAccessToken() {
+    return "ACCESS".equals(tokenType);
+  }
+
+  public boolean isRefreshToken() {
+    return "REFRESH".equals(tokenType);
+  }
+
+  public boolean isExpired() {
+    return expiration != null && expiration.before(new Date());
+  }
+
+  /**
+   * 만료까지 남은 시간 (ms)
+   */
+  public long remainingMillis() {
+    return expiration != null ? Math.max(0, expiration.getTime() - System.currentTimeMillis()) : 0;
+  }
+}
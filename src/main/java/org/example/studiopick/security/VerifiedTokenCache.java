@@ -0,0 +1,55 @@
+package org.example.studiopick.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 최근 검증된 토큰 캐시
+ * - 크기 제한 + 토큰 만료 시각에 맞춰 항목 만료
+ * - 히트/미스는 jwt.verified-tokens 캐시 메트릭으로 노출
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final Cache<String, VerifiedToken> cache;
+
+  public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+                            MeterRegistry meterRegistry) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new Expiry<String, VerifiedToken>() {
+          @Override
+          public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(verified.remainingMillis());
+          }
+
+          @Override
+          public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return TimeUnit.MILLISECONDS.toNanos(verified.remainingMillis());
+          }
+
+          @Override
+          public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+  }
+
+  /**
+   * 캐시에 있으면 반환, 없으면 verifier 로 검증 후 저장 (검증 실패 예외는 그대로 전파되고 저장하지 않음)
+   */
+  public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+    return cache.get(token, verifier);
+  }
+}
@@ -56,4 +56,14 @@ public class AdminDashboardController {
         return ResponseEntity.ok(new ApiResponse<>(true, response, "KPI 요약 데이터를 조회했습니다."));
     }
 
+    @PostMapping("/metrics/backfill")
+    @Operation(summary = "일별 지표 백필", description = "지정된 기간의 일별 지표 집계를 원본 데이터로부터 다시 계산합니다.")
+    public ResponseEntity<ApiResponse<Void>> backfillDailyMetrics(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        adminDashboardService.backfillDailyMetrics(startDate, endDate);
+        return ResponseEntity.ok(new ApiResponse<>(true, null, "일별 지표를 다시 계산했습니다."));
+    }
+
 }
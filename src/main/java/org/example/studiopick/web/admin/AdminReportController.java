@@ -113,11 +113,13 @@ public class AdminReportController {
     }
 
     @GetMapping("/malicious")
-    @Operation(summary = "악성 신고자 목록 조회")
+    @Operation(summary = "악성 신고자 목록 조회",
+        description = "page 는 0부터 시작합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달하며, cursor 가 있으면 page 는 무시합니다.")
     public ResponseEntity<ApiResponse<AdminMaliciousReporterListResponse>> getMaliciousReporters(
-        @RequestParam int page,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "0") int page,
         @RequestParam int size) {
-        AdminMaliciousReporterListResponse response = adminReportService.getMaliciousReporters(page, size);
+        AdminMaliciousReporterListResponse response = adminReportService.getMaliciousReporters(cursor, page, size);
         return ResponseEntity.ok(new ApiResponse<>(true, response, "악성 신고자 목록을 조회했습니다."));
     }
 
@@ -0,0 +1,36 @@
+package org.example.studiopick.web.admin;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.studiopick.common.dto.ApiResponse;
+import org.example.studiopick.infrastructure.sql.SqlStatsRecorder;
+import org.example.studiopick.infrastructure.sql.SqlStatsSnapshot;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "관리자 - SQL 통계", description = "요청별 SQL 실행 통계 API (관리자 전용, 노드별 값)")
+@SecurityRequirement(name = "Bearer Authentication")
+@RestController
+@RequestMapping("/api/admin/sql-stats")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminSqlStatsController {
+
+  private final SqlStatsRecorder sqlStatsRecorder;
+
+  @Operation(summary = "SQL 실행 통계 조회", description = "엔드포인트별 요청당 쿼리 수/시간, 느린 쿼리 샘플, N+1 의심 쿼리를 조회합니다")
+  @GetMapping
+  public ResponseEntity<ApiResponse<SqlStatsSnapshot>> getSqlStats() {
+    return ResponseEntity.ok(new ApiResponse<>(true, sqlStatsRecorder.snapshot(), "SQL 실행 통계를 조회했습니다."));
+  }
+
+  @Operation(summary = "SQL 실행 통계 초기화", description = "이 노드의 누적 통계와 샘플을 초기화합니다")
+  @DeleteMapping
+  public ResponseEntity<ApiResponse<Void>> resetSqlStats() {
+    sqlStatsRecorder.reset();
+    return ResponseEntity.ok(new ApiResponse<>(true, null, "SQL 실행 통계를 초기화했습니다."));
+  }
+}
@@ -4,8 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.example.studiopick.application.user.service.UserService;
 import org.example.studiopick.common.dto.ApiResponse;
 import org.example.studiopick.common.dto.artwork.ArtworkDetailResponseDto;
-import org.example.studiopick.common.dto.artwork.ArtworkFeedDto;
+import org.example.studiopick.common.dto.artwork.ArtworkFeedPageDto;
+import org.example.studiopick.common.dto.artwork.HashtagCountDto;
 import org.example.studiopick.common.dto.artwork.ArtworkUploadRequestDto;
+import org.example.studiopick.application.artwork.ArtworkHashtagService;
 import org.example.studiopick.application.artwork.ArtworkService;
 import org.example.studiopick.security.UserPrincipal;
 import org.springframework.http.MediaType;
@@ -14,7 +16,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,23 +28,35 @@ public class ArtWorkController {
 
     private final ArtworkService artworkService;
     private final UserService userService;
+    private final ArtworkHashtagService hashtagService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> getArtworks(
             @RequestParam(defaultValue = "popular") String sort,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "12") int limit,
-            @RequestParam(required = false) String hashtags
+            @RequestParam(required = false) String hashtags,
+            @RequestParam(defaultValue = "any") String match,
+            @RequestParam(required = false) String cursor
     ) {
-        int offset = (page - 1) * limit;
-        List<ArtworkFeedDto> artworks = artworkService.getArtworks(sort, offset, limit, hashtags);
+        ArtworkFeedPageDto feed = artworkService.getArtworks(sort, cursor, page, limit, hashtags, match);
 
         Map<String, Object> result = new HashMap<>();
-        result.put("artworks", artworks);
+        result.put("artworks", feed.getArtworks());
+        result.put("nextCursor", feed.getNextCursor());
 
         return ResponseEntity.ok(new ApiResponse<>(true, result, null));
     }
 
+    // 인기 해시태그 (최근 days 일 등록 작품 기준)
+    @GetMapping("/hashtags/trending")
+    public ResponseEntity<ApiResponse<List<HashtagCountDto>>> getTrendingHashtags(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(new ApiResponse<>(true, hashtagService.trending(days, limit), null));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ArtworkDetailResponseDto>> getArtworkById(
             @PathVariable Long id,
@@ -65,12 +79,10 @@ public class ArtWorkController {
             throw new IllegalArgumentException("최대 10장의 이미지만 업로드 가능합니다.");
         }
 
-        List<String> uploadedUrls = new ArrayList<>();
         for (MultipartFile file : images) {
-            validateImageFile(file); // 용량/확장자 검사
-            String url = artworkService.uploadToS3(file); // 내부에서 S3Uploader 호출
-            uploadedUrls.add(url);
+            validateImageFile(file); // 용량/확장자 검사 (업로드 전에 전부 확인)
         }
+        List<String> uploadedUrls = artworkService.uploadToS3(Arrays.asList(images)); // 동시 업로드
 
         Map<String, Object> result = new HashMap<>();
         result.put("imageUrls", uploadedUrls);
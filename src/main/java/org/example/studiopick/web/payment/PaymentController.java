@@ -2,6 +2,7 @@ package org.example.studiopick.web.payment;
 
 import lombok.RequiredArgsConstructor;
 import org.example.studiopick.application.payment.PaymentService;
+import org.example.studiopick.application.payment.PaymentWebhookService;
 import org.example.studiopick.application.payment.dto.*;
 import org.example.studiopick.common.dto.ApiResponse;
 import org.example.studiopick.security.UserPrincipal;
@@ -19,6 +20,7 @@ import java.time.LocalDate;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentWebhookService paymentWebhookService;
 
     /**
      * 결제 요청 (예약과 함께 결제 정보 생성)
@@ -49,6 +51,16 @@ public class PaymentController {
         return new ApiResponse<>(true, response, "결제가 승인되었습니다.");
     }
 
+    /**
+     * 토스페이먼츠 웹훅 수신 (결제 상태 변경, 가상계좌 입금)
+     * - 적재만 하고 바로 200 응답, 반영은 결제사 재조회 후 비동기로 처리
+     */
+    @PostMapping("/webhook")
+    public ResponseEntity<Void> receiveWebhook(@RequestBody String payload) {
+        paymentWebhookService.receive(payload);
+        return ResponseEntity.ok().build();
+    }
+
     /**
      * 결제 취소 (예약 취소시 호출)
      */
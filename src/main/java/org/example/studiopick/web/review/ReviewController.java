@@ -93,31 +93,27 @@ public class ReviewController {
     return ResponseEntity.ok(new ApiResponse<>(true, response, "리뷰 상세 정보입니다."));
   }
 
-  // 스튜디오 리뷰 목록 조회
+  // 스튜디오 리뷰 목록 조회 (무한 스크롤은 마지막 리뷰 ID를 cursor 로 전달)
   @GetMapping("/studio/{studioId}")
   public ResponseEntity<ApiResponse<List<ReviewSummaryDto>>> getReviewsByStudio(
       @PathVariable Long studioId,
-      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(defaultValue = "1") int page,
       @RequestParam(defaultValue = "10") int size
   ) {
-    System.out.println("=== 스튜디오 리뷰 조회 요청 ===");
-    System.out.println("studioId: " + studioId);
-    System.out.println("page: " + page);
-    System.out.println("size: " + size);
-    System.out.println("=============================");
-    
-    List<ReviewSummaryDto> reviews = reviewService.getReviewsByStudio(studioId, page, size);
+    List<ReviewSummaryDto> reviews = reviewService.getReviewsByStudio(studioId, cursor, page, size);
     return ResponseEntity.ok(new ApiResponse<>(true, reviews, "스튜디오 리뷰 목록입니다."));
   }
 
-  // 공방 리뷰 목록 조회
+  // 공방 리뷰 목록 조회 (무한 스크롤은 마지막 리뷰 ID를 cursor 로 전달)
   @GetMapping("/workshop/{workshopId}")
   public ResponseEntity<ApiResponse<List<ReviewSummaryDto>>> getReviewsByWorkshop(
       @PathVariable Long workshopId,
-      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(defaultValue = "1") int page,
       @RequestParam(defaultValue = "10") int size
   ) {
-    List<ReviewSummaryDto> reviews = reviewService.getReviewsByWorkshop(workshopId, page, size);
+    List<ReviewSummaryDto> reviews = reviewService.getReviewsByWorkshop(workshopId, cursor, page, size);
     return ResponseEntity.ok(new ApiResponse<>(true, reviews, "공방 리뷰 목록입니다."));
   }
 
@@ -1,7 +1,10 @@
 package org.example.studiopick.web.studio;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.studiopick.application.studio.StudioAvailabilityService;
+import org.example.studiopick.application.studio.StudioSearchService;
 import org.example.studiopick.application.studio.StudioService;
 import org.example.studiopick.application.studio.dto.*;
 import org.example.studiopick.common.dto.ApiResponse;
@@ -12,13 +15,19 @@ import org.example.studiopick.security.UserPrincipal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/studios")
@@ -27,7 +36,10 @@ import java.util.List;
 public class StudioController {
 
   private final StudioService studioService;
+  private final StudioSearchService studioSearchService;
   private final CustomUserDetailsService userDetailsService;
+  private final StudioAvailabilityService studioAvailabilityService;
+  private final ObjectMapper objectMapper;
 
   // 1. 전체 스튜디오 조회
   @GetMapping
@@ -35,9 +47,12 @@ public class StudioController {
       @RequestParam(defaultValue = "1") int page,
       @RequestParam(defaultValue = "10") int limit,
       @RequestParam(required = false) String location,
-      @RequestParam(defaultValue = "popular") String sort
+      @RequestParam(required = false) Long minPrice,
+      @RequestParam(required = false) Long maxPrice,
+      @RequestParam(defaultValue = "latest") String sort
   ) {
-    StudioListResponse response = studioService.searchStudios(location, sort, page, limit);
+    StudioSearchCondition condition = StudioSearchCondition.of(location, null, minPrice, maxPrice, sort);
+    StudioListResponse response = studioSearchService.list(condition, page, limit);
     return ResponseEntity.ok(new ApiSuccessResponse<>(response));
   }
 
@@ -46,10 +61,38 @@ public class StudioController {
   public ResponseEntity<ApiSuccessResponse<Page<StudioSearchResponse>>> searchStudios(
       @RequestParam(required = false) String region,
       @RequestParam(required = false) String keyword,
-      @RequestParam(required = false, defaultValue = "popular") String sort,
+      @RequestParam(required = false) Long minPrice,
+      @RequestParam(required = false) Long maxPrice,
+      @RequestParam(required = false) String sort,
       @PageableDefault(size = 20) Pageable pageable
   ) {
-    Page<StudioSearchResponse> result = studioService.activeStudios(region, keyword, sort, pageable);
+    StudioSearchCondition condition = StudioSearchCondition.of(region, keyword, minPrice, maxPrice, sort);
+    Page<StudioSearchResponse> result = studioSearchService.search(condition, pageable);
+    return ResponseEntity.ok(new ApiSuccessResponse<>(result));
+  }
+
+  // 주변 스튜디오 (반경 m, 가까운 순)
+  @GetMapping("/nearby")
+  public ResponseEntity<ApiSuccessResponse<List<StudioGeoResponse>>> getNearbyStudios(
+      @RequestParam double lat,
+      @RequestParam double lng,
+      @RequestParam(defaultValue = "3000") int radius,
+      @RequestParam(defaultValue = "50") int limit
+  ) {
+    List<StudioGeoResponse> result = studioSearchService.nearby(lat, lng, radius, limit);
+    return ResponseEntity.ok(new ApiSuccessResponse<>(result));
+  }
+
+  // 지도 화면 영역 내 스튜디오
+  @GetMapping("/map")
+  public ResponseEntity<ApiSuccessResponse<StudioMapResponse>> getStudiosInBounds(
+      @RequestParam double south,
+      @RequestParam double west,
+      @RequestParam double north,
+      @RequestParam double east,
+      @RequestParam(defaultValue = "300") int limit
+  ) {
+    StudioMapResponse result = studioSearchService.inBounds(south, west, north, east, limit);
     return ResponseEntity.ok(new ApiSuccessResponse<>(result));
   }
 
@@ -82,6 +125,30 @@ public class StudioController {
     return ResponseEntity.ok(new ApiSuccessResponse<>(response));
   }
 
+  // 7. 여러 스튜디오 × 기간 예약 가능 구간 일괄 조회 (스튜디오·날짜별 한 줄씩 NDJSON 스트리밍)
+  @GetMapping(value = "/availability", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> getAvailability(
+      @RequestParam Set<Long> studioIds,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+  ) {
+    Stream<StudioAvailabilityDto> availability =
+        studioAvailabilityService.findAvailability(studioIds, from, to != null ? to : from);
+
+    StreamingResponseBody body = out -> {
+      try (availability) {
+        Iterator<StudioAvailabilityDto> iterator = availability.iterator();
+        while (iterator.hasNext()) {
+          out.write(objectMapper.writeValueAsBytes(iterator.next()));
+          out.write('\n');
+        }
+      }
+    };
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+
   // 스튜디오 개설
   @PostMapping
   public ResponseEntity<ApiResponse<StudioDetailDto>> createStudio(
@@ -0,0 +1,40 @@
+package org.example.studiopick.web.upload;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.studiopick.application.upload.UploadService;
+import org.example.studiopick.application.upload.dto.FinalizeUploadRequest;
+import org.example.studiopick.application.upload.dto.PresignUploadRequest;
+import org.example.studiopick.application.upload.dto.PresignUploadResponse;
+import org.example.studiopick.common.dto.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Tag(name = "Upload", description = "이미지 직접 업로드 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/uploads")
+public class UploadController {
+
+  private final UploadService uploadService;
+
+  @PostMapping("/presign")
+  @Operation(summary = "업로드 URL 발급", description = "S3 presigned PUT URL 을 발급합니다 (10분 유효)")
+  public ResponseEntity<ApiResponse<PresignUploadResponse>> presign(@Valid @RequestBody PresignUploadRequest request) {
+    return ResponseEntity.ok(new ApiResponse<>(true, uploadService.presign(request), null));
+  }
+
+  @PostMapping("/finalize")
+  @Operation(summary = "업로드 완료 확인", description = "업로드된 파일을 확인하고 이미지 URL 을 반환합니다")
+  public ResponseEntity<ApiResponse<Map<String, String>>> finalizeUpload(@Valid @RequestBody FinalizeUploadRequest request) {
+    String imageUrl = uploadService.finalizeUpload(request.purpose(), request.key());
+    return ResponseEntity.ok(new ApiResponse<>(true, Map.of("imageUrl", imageUrl), null));
+  }
+}
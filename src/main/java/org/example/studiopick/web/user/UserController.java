@@ -113,6 +113,16 @@ public class UserController {
         }
     }
 
+    @Operation(summary = "프로필 이미지 직접 업로드 적용", description = "/api/uploads/presign 으로 업로드한 이미지를 프로필 이미지로 적용합니다")
+    @PostMapping("/profile/image/finalize")
+    public ResponseEntity<ApiResponse<Map<String, String>>> attachProfileImage(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestBody ProfileImageFinalizeRequestDto request
+    ) {
+        String imageUrl = userService.attachProfileImage(userPrincipal.getUserId(), request.getKey());
+        return ResponseEntity.ok(new ApiResponse<>(true, Map.of("imageUrl", imageUrl), "프로필 이미지가 업로드되었습니다"));
+    }
+
     @Operation(summary = "계정 비활성화", description = "사용자 계정을 비활성화합니다")
     @PatchMapping("/deactivate")
     public ResponseEntity<Map<String, Object>> deactivateAccount(
@@ -0,0 +1,19 @@
+-- =========================================
+-- Studio-Pick 자식 행 배치 INSERT 용 시퀀스
+-- =========================================
+-- 이미지/운영시간 엔티티의 ID 생성을 IDENTITY 에서 시퀀스(allocationSize = 50, pooled)로 변경
+-- 배포 전에 실행해야 함 - ddl-auto 가 시퀀스를 먼저 만들면 1부터 시작해 기존 ID 와 충돌
+-- 여러 번 실행해도 안전 (시퀀스는 앞으로만 이동)
+
+-- 1. 시퀀스 생성 (증가 단위는 @SequenceGenerator allocationSize 와 같아야 함)
+CREATE SEQUENCE IF NOT EXISTS studio_image_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS studio_operating_hours_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS review_image_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS workshop_image_seq INCREMENT BY 50;
+
+-- 2. 기존 IDENTITY 로 발급된 ID 이후로 시퀀스 이동
+-- pooled 최적화기는 nextval 값 v 를 받아 (v - 49) ~ v 를 사용하므로, 현재 값을 최대 ID 로 맞추면 다음 블록은 최대 ID + 1 부터 시작
+SELECT setval('studio_image_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM studio_image), (SELECT last_value FROM studio_image_seq)));
+SELECT setval('studio_operating_hours_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM studio_operating_hours), (SELECT last_value FROM studio_operating_hours_seq)));
+SELECT setval('review_image_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM review_image), (SELECT last_value FROM review_image_seq)));
+SELECT setval('workshop_image_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM workshop_image), (SELECT last_value FROM workshop_image_seq)));
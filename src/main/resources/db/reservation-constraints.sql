@@ -17,6 +17,26 @@ BEGIN
     END IF;
 END $$;
 
+-- 1-1. 겹치는 활성 예약 방지 (유니크 제약은 완전히 같은 시간대만 막음)
+-- 애플리케이션은 스튜디오 행을 잠그고 겹침을 확인하지만, 잠금을 거치지 않는 경로까지 DB 에서 막는다
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_constraint
+        WHERE conname = 'ex_reservation_studio_time_overlap'
+    ) THEN
+        ALTER TABLE "reservation"
+        ADD CONSTRAINT ex_reservation_studio_time_overlap
+        EXCLUDE USING gist (
+            studio_id WITH =,
+            tsrange(reservation_date + start_time, reservation_date + end_time) WITH &&
+        )
+        WHERE (studio_id IS NOT NULL AND status IN ('PENDING', 'CONFIRMED'));
+    END IF;
+END $$;
+
 -- 2. 예약 시간 유효성 체크 제약조건
 DO $$
 BEGIN
@@ -0,0 +1,23 @@
+-- =========================================
+-- Studio-Pick 스튜디오 검색 인덱스
+-- =========================================
+
+-- 1. 부분 일치(ILIKE '%검색어%') 및 유사도 정렬용 trigram 확장
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 2. 이름/소개/시설 trigram 인덱스
+-- StudioSearchMapper.xml 의 searchText 식과 동일해야 인덱스를 사용함
+-- (3글자 미만 검색어는 trigram 을 만들 수 없어 인덱스 대신 필터로 처리됨)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_studio_search_text_trgm
+ON "studio" USING gin (
+    (COALESCE(name, '') || ' ' || COALESCE(description, '') || ' ' || COALESCE(facilities, '')) gin_trgm_ops
+);
+
+-- 3. 지역/가격 필터 인덱스 (JPA 엔티티에도 선언되어 있어 ddl-auto 환경에서는 이미 존재할 수 있음)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_studio_status_region
+ON "studio" (status, region);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_studio_status_hourly_rate
+ON "studio" (status, hourly_base_rate);
+
+ANALYZE "studio";
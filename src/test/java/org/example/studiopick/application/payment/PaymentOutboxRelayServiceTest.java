@@ -0,0 +1,125 @@
+package org.example.studiopick.application.payment;
+
+import org.example.studiopick.application.reservation.ReservationService;
+import org.example.studiopick.domain.common.enums.PaymentOutboxStatus;
+import org.example.studiopick.domain.common.enums.ReservationStatus;
+import org.example.studiopick.domain.payment.Payment;
+import org.example.studiopick.domain.payment.PaymentOutboxEvent;
+import org.example.studiopick.domain.payment.Settlement;
+import org.example.studiopick.domain.reservation.Reservation;
+import org.example.studiopick.infrastructure.payment.JpaPaymentOutboxRepository;
+import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
+import org.example.studiopick.infrastructure.payment.JpaSettlementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PaymentOutboxRelayServiceTest {
+
+    private static final long EVENT_ID = 1L;
+    private static final long PAYMENT_ID = 10L;
+    private static final long RESERVATION_ID = 20L;
+
+    private JpaPaymentOutboxRepository outboxRepository;
+    private JpaPaymentRepository paymentRepository;
+    private JpaSettlementRepository settlementRepository;
+    private ReservationService reservationService;
+    private SettlementService settlementService;
+    private PaymentOutboxRelayService relayService;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(JpaPaymentOutboxRepository.class);
+        paymentRepository = mock(JpaPaymentRepository.class);
+        settlementRepository = mock(JpaSettlementRepository.class);
+        reservationService = mock(ReservationService.class);
+        settlementService = mock(SettlementService.class);
+        relayService = new PaymentOutboxRelayService(outboxRepository, paymentRepository, settlementRepository,
+                reservationService, settlementService);
+    }
+
+    @Test
+    void confirmsPendingReservationAndCreatesSettlement() {
+        PaymentOutboxEvent event = pendingEvent();
+        Payment payment = payment(ReservationStatus.PENDING);
+        when(settlementRepository.findByPaymentId(PAYMENT_ID)).thenReturn(Optional.empty());
+
+        assertThat(relayService.process(EVENT_ID)).isTrue();
+
+        verify(reservationService).confirmReservationPayment(RESERVATION_ID);
+        verify(settlementService).createSettlement(payment);
+        assertThat(event.getStatus()).isEqualTo(PaymentOutboxStatus.DONE);
+    }
+
+    @Test
+    void replayAfterPartialSuccessSkipsCompletedSteps() {
+        PaymentOutboxEvent event = pendingEvent();
+        payment(ReservationStatus.CONFIRMED);
+        when(settlementRepository.findByPaymentId(PAYMENT_ID)).thenReturn(Optional.of(mock(Settlement.class)));
+
+        assertThat(relayService.process(EVENT_ID)).isTrue();
+
+        verify(reservationService, never()).confirmReservationPayment(anyLong());
+        verify(settlementService, never()).createSettlement(any());
+        assertThat(event.getStatus()).isEqualTo(PaymentOutboxStatus.DONE);
+    }
+
+    @Test
+    void skipsEventLockedOrFinishedElsewhere() {
+        when(outboxRepository.lockPending(EVENT_ID)).thenReturn(Optional.empty());
+
+        assertThat(relayService.process(EVENT_ID)).isFalse();
+
+        verifyNoInteractions(paymentRepository, reservationService, settlementService);
+    }
+
+    @Test
+    void rejectsCancelledReservation() {
+        PaymentOutboxEvent event = pendingEvent();
+        payment(ReservationStatus.CANCELLED);
+
+        assertThatThrownBy(() -> relayService.process(EVENT_ID)).isInstanceOf(IllegalStateException.class);
+
+        verifyNoInteractions(settlementService);
+        assertThat(event.getStatus()).isEqualTo(PaymentOutboxStatus.PENDING);
+    }
+
+    @Test
+    void markFailedBacksOffThenFails() {
+        PaymentOutboxEvent event = pendingEvent();
+
+        for (int i = 0; i < PaymentOutboxRelayService.MAX_ATTEMPTS; i++) {
+            relayService.markFailed(EVENT_ID, "timeout");
+        }
+
+        assertThat(event.getAttempts()).isEqualTo(PaymentOutboxRelayService.MAX_ATTEMPTS);
+        assertThat(event.isFailed()).isTrue();
+    }
+
+    private PaymentOutboxEvent pendingEvent() {
+        PaymentOutboxEvent event = PaymentOutboxEvent.paymentConfirmed(PAYMENT_ID);
+        when(outboxRepository.lockPending(EVENT_ID)).thenReturn(Optional.of(event));
+        return event;
+    }
+
+    private Payment payment(ReservationStatus reservationStatus) {
+        Reservation reservation = mock(Reservation.class);
+        when(reservation.getId()).thenReturn(RESERVATION_ID);
+        when(reservation.getStatus()).thenReturn(reservationStatus);
+        Payment payment = mock(Payment.class);
+        when(payment.getReservation()).thenReturn(reservation);
+        when(paymentRepository.findById(PAYMENT_ID)).thenReturn(Optional.of(payment));
+        return payment;
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.studiopick.application.payment;
+
+import org.example.studiopick.application.payment.dto.TossPaymentResponse;
+import org.example.studiopick.domain.common.enums.PaymentOutboxEventType;
+import org.example.studiopick.domain.common.enums.PaymentStatus;
+import org.example.studiopick.domain.common.enums.ReservationStatus;
+import org.example.studiopick.domain.payment.Payment;
+import org.example.studiopick.domain.reservation.Reservation;
+import org.example.studiopick.domain.reservation.ReservationSlotIndex;
+import org.example.studiopick.infrastructure.payment.JpaPaymentOutboxRepository;
+import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
+import org.example.studiopick.infrastructure.payment.JpaSettlementRepository;
+import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentStateSyncServiceTest {
+
+    private static final String ORDER_ID = "order-1";
+
+    private JpaPaymentRepository paymentRepository;
+    private JpaSettlementRepository settlementRepository;
+    private JpaPaymentOutboxRepository outboxRepository;
+    private PaymentOutboxRelay outboxRelay;
+    private ReservationSlotIndex slotIndex;
+    private PaymentStateSyncService syncService;
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = mock(JpaPaymentRepository.class);
+        settlementRepository = mock(JpaSettlementRepository.class);
+        outboxRepository = mock(JpaPaymentOutboxRepository.class);
+        outboxRelay = mock(PaymentOutboxRelay.class);
+        slotIndex = mock(ReservationSlotIndex.class);
+        syncService = new PaymentStateSyncService(paymentRepository, mock(JpaReservationRepository.class),
+                settlementRepository, outboxRepository, outboxRelay, slotIndex);
+        reservation = mock(Reservation.class);
+        when(reservation.getStatus()).thenReturn(ReservationStatus.PENDING);
+    }
+
+    @Test
+    void doneMarksPaidAndQueuesOutboxEvent() {
+        Payment payment = payment(PaymentStatus.READY);
+
+        syncService.apply(ORDER_ID, gateway("DONE", 10_000L));
+
+        assertThat(payment.isPaid()).isTrue();
+        assertThat(payment.getPaymentKey()).isEqualTo("pk-1");
+        verify(outboxRepository).save(any());
+        verify(outboxRelay).wakeUp();
+    }
+
+    @Test
+    void repeatedDoneIsNoOp() {
+        payment(PaymentStatus.PAID);
+
+        syncService.apply(ORDER_ID, gateway("DONE", 10_000L));
+
+        verify(outboxRepository, never()).save(any());
+        verify(outboxRelay, never()).wakeUp();
+    }
+
+    @Test
+    void doneDoesNotDuplicateExistingOutboxEvent() {
+        payment(PaymentStatus.IN_PROGRESS);
+        when(outboxRepository.existsByEventTypeAndPaymentId(PaymentOutboxEventType.PAYMENT_CONFIRMED, null))
+                .thenReturn(true);
+
+        syncService.apply(ORDER_ID, gateway("DONE", 10_000L));
+
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void doneWithDifferentAmountIsNotApplied() {
+        Payment payment = payment(PaymentStatus.READY);
+
+        syncService.apply(ORDER_ID, gateway("DONE", 9_000L));
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.READY);
+        assertThat(payment.getFailureCode()).isEqualTo("AMOUNT_MISMATCH");
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void doneAfterLocalCancelIsLeftForManualCheck() {
+        Payment payment = payment(PaymentStatus.CANCELLED);
+
+        syncService.apply(ORDER_ID, gateway("DONE", 10_000L));
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void expiredReleasesPendingReservation() {
+        Payment payment = payment(PaymentStatus.READY);
+
+        syncService.apply(ORDER_ID, gateway("EXPIRED", 10_000L));
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.EXPIRED);
+        verify(reservation).changeStatus(ReservationStatus.CANCELLED);
+        verify(slotIndex).changed(reservation);
+    }
+
+    @Test
+    void expiredDoesNotTouchPaidPayment() {
+        Payment payment = payment(PaymentStatus.PAID);
+
+        syncService.apply(ORDER_ID, gateway("EXPIRED", 10_000L));
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
+        verify(reservation, never()).changeStatus(any());
+    }
+
+    @Test
+    void canceledCancelsPaidPaymentAndReleasesReservation() {
+        Payment payment = payment(PaymentStatus.PAID);
+        when(reservation.getStatus()).thenReturn(ReservationStatus.CONFIRMED);
+        when(settlementRepository.findByPaymentId(any())).thenReturn(Optional.empty());
+
+        syncService.apply(ORDER_ID, gateway("CANCELED", 10_000L));
+
+        assertThat(payment.isCancelled()).isTrue();
+        verify(reservation).changeStatus(ReservationStatus.CANCELLED);
+    }
+
+    @Test
+    void waitingForDepositOnlyMovesForward() {
+        Payment payment = payment(PaymentStatus.PAID);
+
+        syncService.apply(ORDER_ID, gateway("WAITING_FOR_DEPOSIT", 10_000L));
+
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PAID);
+    }
+
+    @Test
+    void rejectsGatewayResponseForAnotherOrder() {
+        TossPaymentResponse response = gateway("DONE", 10_000L);
+        when(response.orderId()).thenReturn("order-2");
+
+        assertThatThrownBy(() -> syncService.apply(ORDER_ID, response)).isInstanceOf(IllegalStateException.class);
+        verify(paymentRepository, never()).findByOrderIdForUpdate(any());
+    }
+
+    private Payment payment(PaymentStatus status) {
+        Payment payment = Payment.builder()
+                .reservation(reservation)
+                .amount(BigDecimal.valueOf(10_000))
+                .status(status)
+                .build();
+        payment.updateOrderId(ORDER_ID);
+        when(paymentRepository.findByOrderIdForUpdate(ORDER_ID)).thenReturn(Optional.of(payment));
+        return payment;
+    }
+
+    private static TossPaymentResponse gateway(String status, Long totalAmount) {
+        TossPaymentResponse response = mock(TossPaymentResponse.class);
+        when(response.orderId()).thenReturn(ORDER_ID);
+        when(response.status()).thenReturn(status);
+        when(response.totalAmount()).thenReturn(totalAmount);
+        when(response.paymentKey()).thenReturn("pk-1");
+        return response;
+    }
+}
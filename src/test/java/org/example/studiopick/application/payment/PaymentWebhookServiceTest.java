@@ -0,0 +1,130 @@
+package org.example.studiopick.application.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.studiopick.domain.common.enums.PaymentWebhookStatus;
+import org.example.studiopick.domain.payment.PaymentWebhookEvent;
+import org.example.studiopick.infrastructure.payment.JpaPaymentRepository;
+import org.example.studiopick.infrastructure.payment.JpaPaymentWebhookEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentWebhookServiceTest {
+
+    private static final String ORDER_ID = "order-1";
+    private static final String PAYLOAD =
+            "{\"eventType\":\"PAYMENT_STATUS_CHANGED\",\"data\":{\"orderId\":\"order-1\",\"status\":\"DONE\"}}";
+
+    private JpaPaymentWebhookEventRepository webhookEventRepository;
+    private JpaPaymentRepository paymentRepository;
+    private PaymentWebhookService webhookService;
+
+    @BeforeEach
+    void setUp() {
+        webhookEventRepository = mock(JpaPaymentWebhookEventRepository.class);
+        paymentRepository = mock(JpaPaymentRepository.class);
+        webhookService = new PaymentWebhookService(webhookEventRepository, paymentRepository, new ObjectMapper());
+        when(paymentRepository.existsByOrderId(ORDER_ID)).thenReturn(true);
+    }
+
+    @Test
+    void storesWebhookForKnownOrder() {
+        webhookService.receive(PAYLOAD);
+
+        ArgumentCaptor<PaymentWebhookEvent> saved = ArgumentCaptor.forClass(PaymentWebhookEvent.class);
+        verify(webhookEventRepository).save(saved.capture());
+        assertThat(saved.getValue().getOrderId()).isEqualTo(ORDER_ID);
+        assertThat(saved.getValue().getEventType()).isEqualTo("PAYMENT_STATUS_CHANGED");
+        assertThat(saved.getValue().getDedupKey()).hasSize(64);
+        assertThat(saved.getValue().getStatus()).isEqualTo(PaymentWebhookStatus.RECEIVED);
+    }
+
+    @Test
+    void redeliveryWithSameBodyIsIgnored() {
+        ArgumentCaptor<PaymentWebhookEvent> saved = ArgumentCaptor.forClass(PaymentWebhookEvent.class);
+        webhookService.receive(PAYLOAD);
+        verify(webhookEventRepository).save(saved.capture());
+        when(webhookEventRepository.existsByDedupKey(saved.getValue().getDedupKey())).thenReturn(true);
+
+        webhookService.receive(PAYLOAD);
+
+        verify(webhookEventRepository).save(any());
+    }
+
+    @Test
+    void unknownOrderIsDropped() {
+        when(paymentRepository.existsByOrderId(ORDER_ID)).thenReturn(false);
+
+        webhookService.receive(PAYLOAD);
+
+        verify(webhookEventRepository, never()).existsByDedupKey(anyString());
+        verify(webhookEventRepository, never()).save(any());
+    }
+
+    @Test
+    void coalescesIntoPendingWebhookOfSameOrder() {
+        when(webhookEventRepository.existsByOrderIdAndStatus(ORDER_ID, PaymentWebhookStatus.RECEIVED)).thenReturn(true);
+
+        webhookService.receive(PAYLOAD.replace("DONE", "CANCELED"));
+
+        verify(webhookEventRepository, never()).save(any());
+    }
+
+    @Test
+    void concurrentDuplicateInsertIsSwallowed() {
+        when(webhookEventRepository.save(any())).thenThrow(new DataIntegrityViolationException("uk_payment_webhook_event_dedup"));
+
+        assertThatCode(() -> webhookService.receive(PAYLOAD)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void webhookWithoutOrderIdIsIgnored() {
+        webhookService.receive("{\"eventType\":\"PAYMENT_STATUS_CHANGED\",\"data\":{}}");
+
+        verify(paymentRepository, never()).existsByOrderId(anyString());
+        verify(webhookEventRepository, never()).save(any());
+    }
+
+    @Test
+    void malformedBodyIsRejected() {
+        assertThatThrownBy(() -> webhookService.receive("not json")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void failedWebhookGivesUpAfterMaxAttempts() {
+        PaymentWebhookEvent event = new PaymentWebhookEvent("a".repeat(64), "PAYMENT_STATUS_CHANGED", ORDER_ID, PAYLOAD);
+        when(webhookEventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        for (int i = 0; i < PaymentWebhookService.MAX_ATTEMPTS - 1; i++) {
+            webhookService.markFailed(1L, "gateway timeout");
+        }
+        assertThat(event.getStatus()).isEqualTo(PaymentWebhookStatus.RECEIVED);
+
+        webhookService.markFailed(1L, "gateway timeout");
+        assertThat(event.getStatus()).isEqualTo(PaymentWebhookStatus.FAILED);
+    }
+
+    @Test
+    void processedWebhookLeavesPendingState() {
+        PaymentWebhookEvent event = new PaymentWebhookEvent("a".repeat(64), "PAYMENT_STATUS_CHANGED", ORDER_ID, PAYLOAD);
+        when(webhookEventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        webhookService.markProcessed(1L);
+
+        assertThat(event.getStatus()).isEqualTo(PaymentWebhookStatus.PROCESSED);
+        assertThat(event.getProcessedAt()).isNotNull();
+    }
+}
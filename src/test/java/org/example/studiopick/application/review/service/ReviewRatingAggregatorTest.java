@@ -0,0 +1,72 @@
+package org.example.studiopick.application.review.service;
+
+import org.example.studiopick.domain.review.RatingDelta;
+import org.example.studiopick.domain.review.Review;
+import org.example.studiopick.domain.studio.Studio;
+import org.example.studiopick.domain.workshop.WorkShop;
+import org.example.studiopick.infrastructure.review.StudioRatingStatsRepository;
+import org.example.studiopick.infrastructure.review.WorkShopRatingStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ReviewRatingAggregatorTest {
+
+  private StudioRatingStatsRepository studioRepository;
+  private WorkShopRatingStatsRepository workshopRepository;
+  private ReviewRatingAggregator aggregator;
+
+  @BeforeEach
+  void setUp() {
+    studioRepository = mock(StudioRatingStatsRepository.class);
+    workshopRepository = mock(WorkShopRatingStatsRepository.class);
+    aggregator = new ReviewRatingAggregator(studioRepository, workshopRepository);
+  }
+
+  @Test
+  void appliesDeltaToStudioStats() {
+    Review review = studioReview(7L);
+
+    aggregator.apply(review, RatingDelta.changed((short) 2, (short) 5));
+
+    verify(studioRepository).applyDelta(7L, 3, 0, 0, -1, 0, 0, 1);
+    verifyNoInteractions(workshopRepository);
+  }
+
+  @Test
+  void appliesDeltaToWorkshopStats() {
+    WorkShop workShop = mock(WorkShop.class);
+    when(workShop.getId()).thenReturn(11L);
+    Review review = mock(Review.class);
+    when(review.getWorkShop()).thenReturn(workShop);
+
+    aggregator.apply(review, RatingDelta.removed((short) 1));
+
+    verify(workshopRepository).applyDelta(11L, -1, -1, -1, 0, 0, 0, 0);
+    verifyNoInteractions(studioRepository);
+  }
+
+  @Test
+  void skipsEmptyDelta() {
+    Review review = studioReview(7L);
+
+    aggregator.apply(review, RatingDelta.changed((short) 4, (short) 4));
+
+    verify(studioRepository, never()).applyDelta(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+        anyLong(), anyLong());
+  }
+
+  private static Review studioReview(long studioId) {
+    Studio studio = mock(Studio.class);
+    when(studio.getId()).thenReturn(studioId);
+    Review review = mock(Review.class);
+    when(review.getStudio()).thenReturn(studio);
+    return review;
+  }
+}
@@ -0,0 +1,93 @@
+package org.example.studiopick.application.review.service;
+
+import org.example.studiopick.application.review.dto.ReviewUpdateRequest;
+import org.example.studiopick.application.studio.FileUploader;
+import org.example.studiopick.domain.common.enums.ReviewStatus;
+import org.example.studiopick.domain.review.RatingDelta;
+import org.example.studiopick.domain.review.Review;
+import org.example.studiopick.domain.studio.Studio;
+import org.example.studiopick.domain.user.User;
+import org.example.studiopick.infrastructure.User.JpaUserRepository;
+import org.example.studiopick.infrastructure.review.ReviewImageRepository;
+import org.example.studiopick.infrastructure.review.ReviewRepository;
+import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
+import org.example.studiopick.infrastructure.workshop.JpaWorkShopRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReviewServiceImplTest {
+
+  private static final long USER_ID = 3L;
+  private static final long REVIEW_ID = 100L;
+
+  private ReviewRepository reviewRepository;
+  private ReviewRatingAggregator ratingAggregator;
+  private ReviewServiceImpl reviewService;
+
+  @BeforeEach
+  void setUp() {
+    reviewRepository = mock(ReviewRepository.class);
+    ratingAggregator = mock(ReviewRatingAggregator.class);
+    reviewService = new ReviewServiceImpl(reviewRepository, mock(ReviewImageRepository.class),
+        mock(JpaUserRepository.class), mock(JpaWorkShopRepository.class), mock(JpaStudioRepository.class),
+        mock(FileUploader.class), ratingAggregator);
+  }
+
+  @Test
+  void updatingVisibleReviewMovesRatingBetweenBuckets() {
+    Review review = review(ReviewStatus.VISIBLE, (short) 2);
+
+    reviewService.updateReview(REVIEW_ID, USER_ID, new ReviewUpdateRequest((short) 5, "좋아요", null));
+
+    verify(ratingAggregator).apply(review, RatingDelta.changed((short) 2, (short) 5));
+  }
+
+  @Test
+  void updatingHiddenReviewLeavesStatsUntouched() {
+    review(ReviewStatus.HIDDEN, (short) 2);
+
+    reviewService.updateReview(REVIEW_ID, USER_ID, new ReviewUpdateRequest((short) 5, "좋아요", null));
+
+    verify(ratingAggregator, never()).apply(any(), any());
+  }
+
+  @Test
+  void deletingVisibleReviewRemovesItsRating() {
+    Review review = review(ReviewStatus.VISIBLE, (short) 4);
+
+    reviewService.deleteReview(REVIEW_ID, USER_ID);
+
+    verify(ratingAggregator).apply(review, RatingDelta.removed((short) 4));
+  }
+
+  @Test
+  void deletingReportedReviewLeavesStatsUntouched() {
+    review(ReviewStatus.REPORTED, (short) 4);
+
+    reviewService.deleteReview(REVIEW_ID, USER_ID);
+
+    verify(ratingAggregator, never()).apply(any(), any());
+  }
+
+  private Review review(ReviewStatus status, short rating) {
+    User user = mock(User.class);
+    when(user.getId()).thenReturn(USER_ID);
+    Review review = Review.builder()
+        .user(user)
+        .studio(mock(Studio.class))
+        .rating(rating)
+        .comment("리뷰")
+        .status(status)
+        .build();
+    when(reviewRepository.findById(REVIEW_ID)).thenReturn(Optional.of(review));
+    return review;
+  }
+}
@@ -0,0 +1,179 @@
+package org.example.studiopick.application.studio;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.studiopick.application.studio.dto.GalleryDto;
+import org.example.studiopick.application.studio.dto.StudioDetailSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudioDetailCacheTest {
+
+  private static final long STUDIO_ID = 7L;
+  private static final String VERSION_KEY = "studio:detail:ver:" + STUDIO_ID;
+
+  private final Map<String, String> redis = new ConcurrentHashMap<>();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final Function<Long, StudioDetailSnapshot> loader = id -> snapshot("db-" + loads.incrementAndGet());
+
+  private RedisTemplate<String, String> redisTemplate;
+  private ValueOperations<String, String> values;
+  private StudioDetailCache cache;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = mock(RedisTemplate.class);
+    values = mock(ValueOperations.class);
+    when(redisTemplate.opsForValue()).thenReturn(values);
+    when(values.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+    when(values.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+    doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+        .when(values).set(anyString(), anyString(), any(Duration.class));
+    when(values.increment(anyString())).thenAnswer(invocation ->
+        Long.valueOf(redis.merge(invocation.<String>getArgument(0), "1",
+            (current, one) -> String.valueOf(Long.parseLong(current) + 1))));
+    cache = new StudioDetailCache(100, 60, redisTemplate, mock(RedisMessageListenerContainer.class),
+        new ObjectMapper(), new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void get_servesL1ThenL2WithoutReloading() {
+    assertThat(label(cache.get(STUDIO_ID, loader))).isEqualTo("db-1");
+    assertThat(label(cache.get(STUDIO_ID, loader))).isEqualTo("db-1");
+    assertThat(redis).containsKey("studio:detail:7:0");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void invalidate_inTransaction_waitsForCommit() {
+    cache.get(STUDIO_ID, loader);
+    TransactionSynchronizationManager.initSynchronization();
+
+    cache.invalidate(STUDIO_ID);
+
+    verify(values, never()).increment(anyString());
+    assertThat(label(cache.get(STUDIO_ID, loader))).isEqualTo("db-1");
+
+    commit();
+
+    assertThat(label(cache.get(STUDIO_ID, loader))).isEqualTo("db-2");
+  }
+
+  @Test
+  void invalidate_rolledBack_keepsCache() {
+    cache.get(STUDIO_ID, loader);
+    TransactionSynchronizationManager.initSynchronization();
+
+    cache.invalidate(STUDIO_ID);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    TransactionSynchronizationManager.clearSynchronization();
+
+    verify(values, never()).increment(anyString());
+    verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    assertThat(label(cache.get(STUDIO_ID, loader))).isEqualTo("db-1");
+  }
+
+  @Test
+  void invalidate_bumpsVersionBeforeDroppingL1AndPublishing() {
+    cache.invalidate(STUDIO_ID);
+
+    InOrder order = inOrder(values, redisTemplate);
+    order.verify(values).increment(VERSION_KEY);
+    order.verify(redisTemplate).convertAndSend(StudioDetailCache.INVALIDATION_CHANNEL, String.valueOf(STUDIO_ID));
+  }
+
+  @Test
+  void invalidate_readDuringInvalidation_doesNotRefillL1WithPreviousVersion() {
+    cache.get(STUDIO_ID, loader);
+    doAnswer(invocation -> {
+      // 무효화 도중 같은 노드의 다른 요청이 조회
+      cache.get(STUDIO_ID, loader);
+      return Long.valueOf(redis.merge(VERSION_KEY, "1", (current, one) -> String.valueOf(Long.parseLong(current) + 1)));
+    }).when(values).increment(VERSION_KEY);
+
+    cache.invalidate(STUDIO_ID);
+
+    assertThat(label(cache.get(STUDIO_ID, loader))).isEqualTo("db-2");
+    assertThat(redis).containsKey("studio:detail:7:1");
+  }
+
+  @Test
+  void invalidate_redisDown_stillDropsL1() {
+    cache.get(STUDIO_ID, loader);
+    doThrow(new RedisConnectionFailureException("down")).when(values).increment(VERSION_KEY);
+
+    cache.invalidate(STUDIO_ID);
+
+    assertThat(label(cache.get(STUDIO_ID, loader))).isEqualTo("db-1");
+    assertThat(loads).hasValue(1);
+
+    doThrow(new RedisConnectionFailureException("down")).when(values).get(anyString());
+    cache.onMessage(new DefaultMessage(new byte[0], String.valueOf(STUDIO_ID).getBytes(StandardCharsets.UTF_8)), null);
+
+    assertThat(label(cache.get(STUDIO_ID, loader))).isEqualTo("db-2");
+  }
+
+  @Test
+  void onMessage_dropsL1SoNextReadUsesCurrentVersion() {
+    cache.get(STUDIO_ID, loader);
+    redis.put(VERSION_KEY, "1");
+    redis.put("studio:detail:7:1", "{\"detail\":null,\"gallery\":[{\"id\":1,\"imageUrl\":\"other-node\"}],\"pricing\":null}");
+
+    cache.onMessage(new DefaultMessage(new byte[0], String.valueOf(STUDIO_ID).getBytes(StandardCharsets.UTF_8)), null);
+
+    assertThat(label(cache.get(STUDIO_ID, loader))).isEqualTo("other-node");
+    assertThat(loads).hasValue(1);
+  }
+
+  private static void commit() {
+    List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+  }
+
+  private static StudioDetailSnapshot snapshot(String label) {
+    return new StudioDetailSnapshot(null, List.of(new GalleryDto(1L, label)), null);
+  }
+
+  private static String label(StudioDetailSnapshot snapshot) {
+    return snapshot.gallery().get(0).imageUrl();
+  }
+}
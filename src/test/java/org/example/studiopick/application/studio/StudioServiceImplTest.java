@@ -0,0 +1,95 @@
+package org.example.studiopick.application.studio;
+
+import org.example.studiopick.application.review.service.ReviewRatingAggregator;
+import org.example.studiopick.domain.common.enums.ReservationStatus;
+import org.example.studiopick.domain.reservation.DaySlots;
+import org.example.studiopick.domain.reservation.ReservationSlotIndex;
+import org.example.studiopick.infrastructure.User.JpaUserRepository;
+import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
+import org.example.studiopick.infrastructure.s3.S3Uploader;
+import org.example.studiopick.infrastructure.studio.JpaStudioImageRepository;
+import org.example.studiopick.infrastructure.studio.JpaStudioOperatingHoursRepository;
+import org.example.studiopick.infrastructure.studio.JpaStudioRepository;
+import org.example.studiopick.infrastructure.studio.StudioGeoIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudioServiceImplTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+  private JpaReservationRepository reservationRepository;
+  private ReservationSlotIndex slotIndex;
+  private StudioServiceImpl studioService;
+
+  @BeforeEach
+  void setUp() {
+    reservationRepository = mock(JpaReservationRepository.class);
+    slotIndex = mock(ReservationSlotIndex.class);
+    studioService = new StudioServiceImpl(mock(JpaStudioRepository.class), mock(JpaStudioOperatingHoursRepository.class),
+        reservationRepository, mock(JpaStudioImageRepository.class), mock(ReviewRatingAggregator.class),
+        mock(FileUploader.class), mock(JpaUserRepository.class), mock(S3Uploader.class), slotIndex,
+        mock(StudioGeoIndex.class), mock(StudioDetailCache.class));
+  }
+
+  @Test
+  void occupied_alignedDay_answeredFromSlots() {
+    slots(Map.of(
+        1L, DaySlots.EMPTY.with(ReservationStatus.CONFIRMED, t("10:30"), t("11:30")),
+        2L, DaySlots.EMPTY.with(ReservationStatus.CONFIRMED, t("10:00"), t("10:30")),
+        3L, DaySlots.EMPTY.with(ReservationStatus.PENDING, t("11:00"), t("12:00"))));
+
+    assertThat(studioService.occupiedStudioIds(List.of(1L, 2L, 3L), TODAY, t("10:40"), t("11:10")))
+        .containsExactlyInAnyOrder(1L, 3L);
+    verify(reservationRepository, never()).findActiveTimeSlotsIn(anyCollection(), any(), any());
+  }
+
+  @Test
+  void occupied_reservationEndedEarlierInSlot_checkedAgainstActualTimes() {
+    slots(Map.of(
+        1L, DaySlots.EMPTY.with(ReservationStatus.CONFIRMED, t("09:00"), t("10:35")),
+        2L, DaySlots.EMPTY.with(ReservationStatus.PENDING, t("10:50"), t("11:20"))));
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(new Object[]{1L, TODAY, t("09:00"), t("10:35"), ReservationStatus.CONFIRMED});
+    rows.add(new Object[]{2L, TODAY, t("10:50"), t("11:20"), ReservationStatus.PENDING});
+    when(reservationRepository.findActiveTimeSlotsIn(anyCollection(), eq(TODAY), eq(TODAY))).thenReturn(rows);
+
+    assertThat(studioService.occupiedStudioIds(List.of(1L, 2L), TODAY, t("10:40"), t("11:10")))
+        .containsExactly(2L);
+  }
+
+  @Test
+  void occupied_windowPastMidnight_fallsBackToQuery() {
+    slots(Map.of(1L, DaySlots.EMPTY));
+    when(reservationRepository.findActiveTimeSlotsIn(anyCollection(), eq(TODAY), eq(TODAY))).thenReturn(List.of());
+
+    assertThat(studioService.occupiedStudioIds(List.of(1L), TODAY, t("23:45"), LocalTime.MAX)).isEmpty();
+    verify(reservationRepository).findActiveTimeSlotsIn(List.of(1L), TODAY, TODAY);
+  }
+
+  private void slots(Map<Long, DaySlots> byStudio) {
+    Map<Long, Map<LocalDate, DaySlots>> result = new HashMap<>();
+    byStudio.forEach((id, day) -> result.put(id, Map.of(TODAY, day)));
+    when(slotIndex.getAll(anyCollection(), eq(TODAY), eq(TODAY))).thenReturn(result);
+  }
+
+  private static LocalTime t(String time) {
+    return LocalTime.parse(time);
+  }
+}
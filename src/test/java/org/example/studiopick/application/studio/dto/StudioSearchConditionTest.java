@@ -0,0 +1,70 @@
+package org.example.studiopick.application.studio.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StudioSearchConditionTest {
+
+  @Test
+  void normalizesRegionAndKeyword() {
+    StudioSearchCondition condition = StudioSearchCondition.of("서울특별시", "  사진 스튜디오 ", null, null, null);
+
+    assertThat(condition.getRegion()).isEqualTo("서울");
+    assertThat(condition.getKeyword()).isEqualTo("사진 스튜디오");
+    assertThat(condition.getKeywordPattern()).isEqualTo("%사진 스튜디오%");
+  }
+
+  @Test
+  void blankInputsMeanNoFilter() {
+    StudioSearchCondition condition = StudioSearchCondition.of(" ", "  ", null, null, null);
+
+    assertThat(condition.getRegion()).isNull();
+    assertThat(condition.getKeyword()).isNull();
+    assertThat(condition.getKeywordPattern()).isNull();
+    assertThat(condition.getSort()).isEqualTo("latest");
+  }
+
+  @Test
+  void escapesLikeWildcardsInKeyword() {
+    StudioSearchCondition condition = StudioSearchCondition.of(null, "100%_a\\b", null, null, null);
+
+    assertThat(condition.getKeywordPattern()).isEqualTo("%100\\%\\_a\\\\b%");
+  }
+
+  @Test
+  void defaultSortDependsOnKeyword() {
+    assertThat(StudioSearchCondition.of(null, "조명", null, null, null).getSort()).isEqualTo("relevance");
+    assertThat(StudioSearchCondition.of(null, null, null, null, null).getSort()).isEqualTo("latest");
+  }
+
+  @Test
+  void unknownSortFallsBackAndRelevanceNeedsKeyword() {
+    assertThat(StudioSearchCondition.of(null, "조명", null, null, "name; DROP").getSort()).isEqualTo("relevance");
+    assertThat(StudioSearchCondition.of(null, null, null, null, "relevance").getSort()).isEqualTo("latest");
+    assertThat(StudioSearchCondition.of(null, "조명", null, null, "priceLow").getSort()).isEqualTo("priceLow");
+  }
+
+  @Test
+  void rejectsUnknownRegion() {
+    assertThatThrownBy(() -> StudioSearchCondition.of("Seoul", null, null, null, null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void rejectsTooLongKeyword() {
+    assertThat(StudioSearchCondition.of(null, "가".repeat(50), null, null, null).getKeyword()).hasSize(50);
+    assertThatThrownBy(() -> StudioSearchCondition.of(null, "가".repeat(51), null, null, null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void validatesPriceRange() {
+    assertThat(StudioSearchCondition.of(null, null, 10_000L, 10_000L, null).getMinPrice()).isEqualTo(10_000L);
+    assertThatThrownBy(() -> StudioSearchCondition.of(null, null, -1L, null, null))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> StudioSearchCondition.of(null, null, 20_000L, 10_000L, null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,72 @@
+package org.example.studiopick.application.upload;
+
+import org.example.studiopick.application.upload.dto.PresignUploadRequest;
+import org.example.studiopick.application.upload.dto.PresignUploadResponse;
+import org.example.studiopick.infrastructure.s3.PresignedUpload;
+import org.example.studiopick.infrastructure.s3.S3Uploader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UploadServiceImplTest {
+
+  private static final String SHA256 = "a".repeat(64);
+
+  private S3Uploader s3Uploader;
+  private UploadServiceImpl uploadService;
+
+  @BeforeEach
+  void setUp() {
+    s3Uploader = mock(S3Uploader.class);
+    uploadService = new UploadServiceImpl(s3Uploader);
+  }
+
+  @Test
+  void presignsAllowedImageTypes() {
+    when(s3Uploader.presignUpload(eq("artworks"), anyString(), anyString(), anyLong(), anyString()))
+        .thenReturn(new PresignedUpload("artworks/" + SHA256 + ".png", "https://upload", null, null, false));
+
+    for (String contentType : new String[]{"image/jpeg", "image/png", "image/webp", "image/gif", "image/PNG; charset=binary"}) {
+      PresignUploadResponse response = uploadService.presign(request(contentType));
+      assertThat(response.key()).isEqualTo("artworks/" + SHA256 + ".png");
+    }
+  }
+
+  @Test
+  void rejectsSvgAndOtherImageTypes() {
+    for (String contentType : new String[]{"image/svg+xml", "image/x-icon", "image/bmp", "text/html", "image/"}) {
+      assertThatThrownBy(() -> uploadService.presign(request(contentType)))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+    verifyNoInteractions(s3Uploader);
+  }
+
+  @Test
+  void rejectsOversizedFile() {
+    PresignUploadRequest request = new PresignUploadRequest(
+        UploadPurpose.ARTWORK, "a.png", "image/png", UploadPurpose.ARTWORK.maxSize() + 1, SHA256);
+
+    assertThatThrownBy(() -> uploadService.presign(request)).isInstanceOf(IllegalArgumentException.class);
+    verifyNoInteractions(s3Uploader);
+  }
+
+  @Test
+  void directUploadTypeIgnoresParametersAndCase() {
+    assertThat(S3Uploader.isDirectUploadType("image/WebP ; q=1")).isTrue();
+    assertThat(S3Uploader.isDirectUploadType(null)).isFalse();
+    assertThat(S3Uploader.isDirectUploadType("image/svg+xml;charset=utf-8")).isFalse();
+  }
+
+  private static PresignUploadRequest request(String contentType) {
+    return new PresignUploadRequest(UploadPurpose.ARTWORK, "a.png", contentType, 1_024, SHA256);
+  }
+}
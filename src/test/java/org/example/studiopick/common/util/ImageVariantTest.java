@@ -0,0 +1,56 @@
+package org.example.studiopick.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantTest {
+
+  private static final String HASH = "0123456789abcdef".repeat(4);
+  private static final String ORIGINAL = "https://cdn.example.com/artworks/" + HASH + ".png";
+  private static final String LEGACY = "https://cdn.example.com/artworks/2f1c-photo.png";
+
+  @Test
+  void variantKeyKeepsDirectoryAndSwitchesToJpeg() {
+    assertThat(ImageVariant.SMALL.of(ORIGINAL)).isEqualTo("https://cdn.example.com/artworks/" + HASH + "_s.jpg");
+    assertThat(ImageVariant.MEDIUM.of("artworks/" + HASH)).isEqualTo("artworks/" + HASH + "_m.jpg");
+  }
+
+  @Test
+  void legacyKeyHasNoVariant() {
+    assertThat(ImageVariant.SMALL.of(LEGACY)).isEqualTo(LEGACY);
+    assertThat(ImageVariant.SMALL.of(null)).isNull();
+    assertThat(ImageVariant.isContentAddressed(LEGACY)).isFalse();
+  }
+
+  @Test
+  void variantKeyIsNotContentAddressedOriginal() {
+    String variant = ImageVariant.SMALL.of(ORIGINAL);
+
+    assertThat(ImageVariant.isVariant(variant)).isTrue();
+    assertThat(ImageVariant.isContentAddressed(variant)).isFalse();
+    assertThat(ImageVariant.isVariant(ORIGINAL)).isFalse();
+  }
+
+  @Test
+  void contentHashFromOriginalAndVariant() {
+    assertThat(ImageVariant.contentHash(ORIGINAL)).isEqualTo(HASH);
+    assertThat(ImageVariant.contentHash(ImageVariant.MEDIUM.of(ORIGINAL))).isEqualTo(HASH);
+    assertThat(ImageVariant.contentHash(LEGACY)).isNull();
+    assertThat(ImageVariant.contentHash(null)).isNull();
+  }
+
+  @Test
+  void urlsUseVariantOnlyForGeneratedHashes() {
+    ImageVariantUrls urls = new ImageVariantUrls(Set.of(HASH));
+    String other = "https://cdn.example.com/artworks/" + "f".repeat(64) + ".jpg";
+
+    assertThat(urls.of(ImageVariant.SMALL, ORIGINAL)).isEqualTo(ImageVariant.SMALL.of(ORIGINAL));
+    assertThat(urls.of(ImageVariant.SMALL, other)).isEqualTo(other);
+    assertThat(urls.of(ImageVariant.SMALL, LEGACY)).isEqualTo(LEGACY);
+    assertThat(urls.of(ImageVariant.SMALL, null)).isNull();
+    assertThat(ImageVariantUrls.NONE.of(ImageVariant.MEDIUM, ORIGINAL)).isEqualTo(ORIGINAL);
+  }
+}
@@ -0,0 +1,84 @@
+package org.example.studiopick.domain.payment;
+
+import org.example.studiopick.domain.common.enums.PaymentOutboxStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static java.time.temporal.ChronoUnit.SECONDS;
+
+class PaymentOutboxEventTest {
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    @Test
+    void newEventIsDueImmediately() {
+        PaymentOutboxEvent event = PaymentOutboxEvent.paymentConfirmed(1L);
+
+        assertThat(event.getStatus()).isEqualTo(PaymentOutboxStatus.PENDING);
+        assertThat(event.getAttempts()).isZero();
+        assertThat(event.getNextAttemptAt()).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    void backoffDoublesFromTenSeconds() {
+        PaymentOutboxEvent event = PaymentOutboxEvent.paymentConfirmed(1L);
+
+        for (long expectedSeconds : new long[]{10, 20, 40, 80, 160}) {
+            event.recordFailure("timeout", MAX_ATTEMPTS);
+            assertThat(event.getNextAttemptAt())
+                    .isCloseTo(LocalDateTime.now().plusSeconds(expectedSeconds), within(2, SECONDS));
+        }
+        assertThat(event.getStatus()).isEqualTo(PaymentOutboxStatus.PENDING);
+    }
+
+    @Test
+    void backoffIsCappedAtOneHour() {
+        PaymentOutboxEvent event = PaymentOutboxEvent.paymentConfirmed(1L);
+
+        for (int i = 0; i < 40; i++) {
+            event.recordFailure("timeout", 100);
+        }
+
+        assertThat(event.getNextAttemptAt())
+                .isCloseTo(LocalDateTime.now().plus(Duration.ofHours(1)), within(2, SECONDS));
+    }
+
+    @Test
+    void failsAfterMaxAttempts() {
+        PaymentOutboxEvent event = PaymentOutboxEvent.paymentConfirmed(1L);
+
+        for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+            event.recordFailure("timeout", MAX_ATTEMPTS);
+        }
+        assertThat(event.isFailed()).isFalse();
+
+        event.recordFailure("timeout", MAX_ATTEMPTS);
+        assertThat(event.isFailed()).isTrue();
+        assertThat(event.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void longErrorIsTruncated() {
+        PaymentOutboxEvent event = PaymentOutboxEvent.paymentConfirmed(1L);
+
+        event.recordFailure("x".repeat(5_000), MAX_ATTEMPTS);
+
+        assertThat(event.getLastError()).hasSize(1000);
+    }
+
+    @Test
+    void markDoneClearsLastError() {
+        PaymentOutboxEvent event = PaymentOutboxEvent.paymentConfirmed(1L);
+        event.recordFailure("timeout", MAX_ATTEMPTS);
+
+        event.markDone();
+
+        assertThat(event.getStatus()).isEqualTo(PaymentOutboxStatus.DONE);
+        assertThat(event.getProcessedAt()).isNotNull();
+        assertThat(event.getLastError()).isNull();
+    }
+}
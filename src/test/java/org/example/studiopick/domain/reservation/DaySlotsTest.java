@@ -0,0 +1,157 @@
+package org.example.studiopick.domain.reservation;
+
+import org.example.studiopick.domain.common.enums.ReservationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DaySlotsTest {
+
+  private static LocalTime t(String time) {
+    return LocalTime.parse(time);
+  }
+
+  @Test
+  void mask_slotBoundaries_coverHalfOpenRange() {
+    // 09:00 = 18번 슬롯, 10:00 = 20번 슬롯 → 18, 19 두 칸
+    assertThat(DaySlots.mask(t("09:00"), t("10:00"))).isEqualTo(0b11L << 18);
+    assertThat(DaySlots.mask(t("00:00"), t("00:30"))).isEqualTo(1L);
+  }
+
+  @Test
+  void mask_misalignedTimes_roundOutward() {
+    // 09:10 ~ 09:40 → 09:00 ~ 10:00 슬롯으로 확장
+    assertThat(DaySlots.mask(t("09:10"), t("09:40"))).isEqualTo(0b11L << 18);
+    // 09:00 ~ 09:00:01 → 09:00 슬롯 하나
+    assertThat(DaySlots.mask(t("09:00"), t("09:00:01"))).isEqualTo(1L << 18);
+  }
+
+  @Test
+  void mask_endOfDay_clampedToLastSlot() {
+    long mask = DaySlots.mask(t("23:30"), LocalTime.MAX);
+    assertThat(mask).isEqualTo(1L << (DaySlots.SLOTS_PER_DAY - 1));
+    assertThat(Long.numberOfLeadingZeros(DaySlots.mask(t("00:00"), LocalTime.MAX)))
+        .isEqualTo(Long.SIZE - DaySlots.SLOTS_PER_DAY);
+  }
+
+  @Test
+  void mask_emptyRange_isZero() {
+    assertThat(DaySlots.mask(t("10:00"), t("10:00"))).isZero();
+  }
+
+  @Test
+  void with_tracksPendingAndConfirmedSeparately() {
+    DaySlots slots = DaySlots.EMPTY
+        .with(ReservationStatus.PENDING, t("09:00"), t("10:00"))
+        .with(ReservationStatus.CONFIRMED, t("13:00"), t("14:00"));
+
+    assertThat(slots.pending()).isEqualTo(DaySlots.mask(t("09:00"), t("10:00")));
+    assertThat(slots.confirmed()).isEqualTo(DaySlots.mask(t("13:00"), t("14:00")));
+    assertThat(slots.exact()).isTrue();
+  }
+
+  @Test
+  void with_untrackedStatusOrInvalidRange_isIgnored() {
+    assertThat(DaySlots.EMPTY.with(ReservationStatus.CANCELLED, t("09:00"), t("10:00"))).isSameAs(DaySlots.EMPTY);
+    assertThat(DaySlots.EMPTY.with(ReservationStatus.REFUNDED, t("09:00"), t("10:00"))).isSameAs(DaySlots.EMPTY);
+    assertThat(DaySlots.EMPTY.with(ReservationStatus.CONFIRMED, t("10:00"), t("09:00"))).isSameAs(DaySlots.EMPTY);
+    assertThat(DaySlots.EMPTY.with(ReservationStatus.CONFIRMED, null, t("09:00"))).isSameAs(DaySlots.EMPTY);
+  }
+
+  @Test
+  void with_misalignedReservation_clearsExact() {
+    DaySlots slots = DaySlots.EMPTY.with(ReservationStatus.CONFIRMED, t("09:15"), t("10:00"));
+
+    assertThat(slots.exact()).isFalse();
+    assertThat(slots.canAnswer(ReservationStatus.CONFIRMED, t("11:00"), t("12:00"))).isFalse();
+  }
+
+  @Test
+  void canAnswer_requiresAlignedQueryAndTrackedStatus() {
+    DaySlots slots = DaySlots.EMPTY.with(ReservationStatus.CONFIRMED, t("09:00"), t("10:00"));
+
+    assertThat(slots.canAnswer(ReservationStatus.CONFIRMED, t("09:00"), t("10:00"))).isTrue();
+    assertThat(slots.canAnswer(ReservationStatus.CONFIRMED, t("09:10"), t("10:00"))).isFalse();
+    assertThat(slots.canAnswer(ReservationStatus.CONFIRMED, t("10:00"), t("10:00"))).isFalse();
+    assertThat(slots.canAnswer(ReservationStatus.CANCELLED, t("09:00"), t("10:00"))).isFalse();
+  }
+
+  @Test
+  void overlaps_adjacentRanges_doNotOverlap() {
+    DaySlots slots = DaySlots.EMPTY.with(ReservationStatus.CONFIRMED, t("10:00"), t("12:00"));
+
+    assertThat(slots.overlaps(ReservationStatus.CONFIRMED, t("09:00"), t("10:00"))).isFalse();
+    assertThat(slots.overlaps(ReservationStatus.CONFIRMED, t("12:00"), t("13:00"))).isFalse();
+    assertThat(slots.overlaps(ReservationStatus.CONFIRMED, t("11:30"), t("12:30"))).isTrue();
+    assertThat(slots.overlaps(ReservationStatus.CONFIRMED, t("09:00"), t("13:00"))).isTrue();
+    assertThat(slots.overlaps(ReservationStatus.PENDING, t("10:00"), t("12:00"))).isFalse();
+  }
+
+  @Test
+  void overlaps_misalignedReservation_isConservative() {
+    // 10:00 ~ 10:10 예약은 10:00 ~ 10:30 슬롯 전체를 점유한 것으로 본다
+    DaySlots slots = DaySlots.EMPTY.with(ReservationStatus.CONFIRMED, t("10:00"), t("10:10"));
+
+    assertThat(slots.overlaps(ReservationStatus.CONFIRMED, t("10:20"), t("10:30"))).isTrue();
+    assertThat(slots.overlaps(ReservationStatus.CONFIRMED, t("10:30"), t("11:00"))).isFalse();
+  }
+
+  @Test
+  void merge_combinesMasksAndExact() {
+    DaySlots aligned = DaySlots.EMPTY.with(ReservationStatus.PENDING, t("09:00"), t("10:00"));
+    DaySlots misaligned = DaySlots.EMPTY.with(ReservationStatus.CONFIRMED, t("13:10"), t("14:00"));
+
+    DaySlots merged = aligned.merge(misaligned);
+
+    assertThat(merged.pending()).isEqualTo(aligned.pending());
+    assertThat(merged.confirmed()).isEqualTo(misaligned.confirmed());
+    assertThat(merged.exact()).isFalse();
+  }
+
+  @Test
+  void freeWindows_splitsAroundReservations() {
+    DaySlots slots = DaySlots.EMPTY
+        .with(ReservationStatus.CONFIRMED, t("10:00"), t("11:00"))
+        .with(ReservationStatus.CONFIRMED, t("14:00"), t("18:00"));
+
+    assertThat(slots.freeWindows(t("09:00"), t("18:00"))).containsExactly(
+        new TimeWindow(t("09:00"), t("10:00")),
+        new TimeWindow(t("11:00"), t("14:00")));
+  }
+
+  @Test
+  void freeWindows_pendingReservations_areNotFree() {
+    DaySlots slots = DaySlots.EMPTY
+        .with(ReservationStatus.PENDING, t("10:00"), t("11:00"))
+        .with(ReservationStatus.CONFIRMED, t("14:00"), t("15:00"));
+
+    assertThat(slots.freeWindows(t("09:00"), t("18:00"))).containsExactly(
+        new TimeWindow(t("09:00"), t("10:00")),
+        new TimeWindow(t("11:00"), t("14:00")),
+        new TimeWindow(t("15:00"), t("18:00")));
+  }
+
+  @Test
+  void freeWindows_misalignedOperatingHours_roundInward() {
+    assertThat(DaySlots.EMPTY.freeWindows(t("09:10"), t("17:50"))).containsExactly(
+        new TimeWindow(t("09:30"), t("17:30")));
+  }
+
+  @Test
+  void freeWindows_fullyBooked_isEmpty() {
+    DaySlots slots = DaySlots.EMPTY.with(ReservationStatus.CONFIRMED, t("09:00"), t("18:00"));
+
+    assertThat(slots.freeWindows(t("09:00"), t("18:00"))).isEmpty();
+  }
+
+  @Test
+  void floorAndCeilToSlot() {
+    assertThat(DaySlots.floorToSlot(t("10:40"))).isEqualTo(t("10:30"));
+    assertThat(DaySlots.floorToSlot(t("10:30"))).isEqualTo(t("10:30"));
+    assertThat(DaySlots.ceilToSlot(t("10:40"))).isEqualTo(t("11:00"));
+    assertThat(DaySlots.ceilToSlot(t("11:00"))).isEqualTo(t("11:00"));
+    assertThat(DaySlots.ceilToSlot(t("23:40"))).isNull();
+  }
+}
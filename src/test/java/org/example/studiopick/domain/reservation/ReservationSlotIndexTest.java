@@ -0,0 +1,129 @@
+package org.example.studiopick.domain.reservation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.studiopick.domain.common.enums.ReservationStatus;
+import org.example.studiopick.domain.studio.Studio;
+import org.example.studiopick.infrastructure.reservation.JpaReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReservationSlotIndexTest {
+
+  private static final Long STUDIO_ID = 7L;
+  private static final LocalDate DATE = LocalDate.of(2026, 3, 2);
+
+  private JpaReservationRepository repository;
+  private ReservationSlotIndex index;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(JpaReservationRepository.class);
+    index = new ReservationSlotIndex(repository, 1_000, 60, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void get_loadsOnceAndCaches() {
+    when(repository.findActiveTimeSlots(STUDIO_ID, DATE))
+        .thenReturn(rows(slot("09:00", "10:00", ReservationStatus.CONFIRMED)));
+
+    DaySlots first = index.get(STUDIO_ID, DATE);
+    DaySlots second = index.get(STUDIO_ID, DATE);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(first.overlaps(ReservationStatus.CONFIRMED, t("09:00"), t("09:30"))).isTrue();
+    verify(repository, times(1)).findActiveTimeSlots(STUDIO_ID, DATE);
+  }
+
+  @Test
+  void get_invalidatedWhileLoading_isNotCached() {
+    Reservation reservation = reservation(ReservationStatus.CONFIRMED, "09:00", "10:00");
+    when(repository.findActiveTimeSlots(STUDIO_ID, DATE)).thenAnswer(invocation -> {
+      // 적재 도중 다른 요청이 예약 상태를 바꾼 경우
+      index.changed(reservation);
+      return rows();
+    });
+
+    index.get(STUDIO_ID, DATE);
+    index.get(STUDIO_ID, DATE);
+
+    verify(repository, times(2)).findActiveTimeSlots(STUDIO_ID, DATE);
+  }
+
+  @Test
+  void reserved_addsBitsToCachedSnapshot() {
+    when(repository.findActiveTimeSlots(STUDIO_ID, DATE)).thenReturn(rows());
+    index.get(STUDIO_ID, DATE);
+
+    index.reserved(reservation(ReservationStatus.PENDING, "13:00", "14:00"));
+
+    DaySlots slots = index.get(STUDIO_ID, DATE);
+    assertThat(slots.overlaps(ReservationStatus.PENDING, t("13:00"), t("14:00"))).isTrue();
+    verify(repository, times(1)).findActiveTimeSlots(STUDIO_ID, DATE);
+  }
+
+  @Test
+  void changed_dropsCachedSnapshot() {
+    when(repository.findActiveTimeSlots(STUDIO_ID, DATE)).thenReturn(rows());
+    index.get(STUDIO_ID, DATE);
+
+    index.changed(reservation(ReservationStatus.CANCELLED, "09:00", "10:00"));
+    index.get(STUDIO_ID, DATE);
+
+    verify(repository, times(2)).findActiveTimeSlots(STUDIO_ID, DATE);
+  }
+
+  @Test
+  void getAll_loadsOnlyMissingStudiosInOneQuery() {
+    when(repository.findActiveTimeSlots(anyLong(), any())).thenReturn(rows());
+    index.get(STUDIO_ID, DATE);
+    List<Object[]> loaded = new ArrayList<>();
+    loaded.add(new Object[]{8L, DATE, t("10:00"), t("11:00"), ReservationStatus.CONFIRMED});
+    when(repository.findActiveTimeSlotsIn(eq(Set.of(8L)), eq(DATE), eq(DATE))).thenReturn(loaded);
+
+    Map<Long, Map<LocalDate, DaySlots>> result = index.getAll(List.of(STUDIO_ID, 8L), DATE, DATE);
+
+    assertThat(result.get(STUDIO_ID).get(DATE)).isEqualTo(DaySlots.EMPTY);
+    assertThat(result.get(8L).get(DATE).overlaps(ReservationStatus.CONFIRMED, t("10:00"), t("11:00"))).isTrue();
+    verify(repository, times(1)).findActiveTimeSlotsIn(any(), any(), any());
+  }
+
+  private static LocalTime t(String time) {
+    return LocalTime.parse(time);
+  }
+
+  private static Object[] slot(String start, String end, ReservationStatus status) {
+    return new Object[]{t(start), t(end), status};
+  }
+
+  private static List<Object[]> rows(Object[]... rows) {
+    return new ArrayList<>(List.of(rows));
+  }
+
+  private static Reservation reservation(ReservationStatus status, String start, String end) {
+    Studio studio = mock(Studio.class);
+    when(studio.getId()).thenReturn(STUDIO_ID);
+    Reservation reservation = mock(Reservation.class);
+    when(reservation.getStudio()).thenReturn(studio);
+    when(reservation.getReservationDate()).thenReturn(DATE);
+    when(reservation.getStatus()).thenReturn(status);
+    when(reservation.getStartTime()).thenReturn(t(start));
+    when(reservation.getEndTime()).thenReturn(t(end));
+    return reservation;
+  }
+}
@@ -0,0 +1,45 @@
+package org.example.studiopick.domain.review;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RatingDeltaTest {
+
+  @Test
+  void addedCountsRatingInItsBucket() {
+    assertThat(RatingDelta.added((short) 4)).isEqualTo(new RatingDelta(4, 1, 0, 0, 0, 1, 0));
+  }
+
+  @Test
+  void removedIsNegationOfAdded() {
+    assertThat(RatingDelta.removed((short) 2)).isEqualTo(new RatingDelta(-2, -1, 0, -1, 0, 0, 0));
+    assertThat(RatingDelta.added((short) 2).plus(RatingDelta.removed((short) 2)).isEmpty()).isTrue();
+  }
+
+  @Test
+  void changedMovesBucketWithoutChangingCount() {
+    assertThat(RatingDelta.changed((short) 1, (short) 5)).isEqualTo(new RatingDelta(4, 0, -1, 0, 0, 0, 1));
+  }
+
+  @Test
+  void changedToSameRatingIsEmpty() {
+    assertThat(RatingDelta.changed((short) 3, (short) 3).isEmpty()).isTrue();
+  }
+
+  @Test
+  void outOfRangeOrMissingRatingIsIgnored() {
+    assertThat(RatingDelta.added(null)).isEqualTo(RatingDelta.NONE);
+    assertThat(RatingDelta.added((short) 0)).isEqualTo(RatingDelta.NONE);
+    assertThat(RatingDelta.removed((short) 6)).isEqualTo(RatingDelta.NONE);
+  }
+
+  @Test
+  void deltasAccumulate() {
+    RatingDelta total = RatingDelta.added((short) 5)
+        .plus(RatingDelta.added((short) 3))
+        .plus(RatingDelta.changed((short) 3, (short) 4));
+
+    assertThat(total).isEqualTo(new RatingDelta(9, 2, 0, 0, 0, 1, 1));
+  }
+}
@@ -0,0 +1,45 @@
+package org.example.studiopick.domain.studio;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegionsTest {
+
+    @Test
+    void normalizesOfficialAndShortNames() {
+        assertThat(Regions.of("서울특별시 강남구 테헤란로 1")).isEqualTo("서울");
+        assertThat(Regions.of("서울시 마포구")).isEqualTo("서울");
+        assertThat(Regions.of("서울 종로구")).isEqualTo("서울");
+        assertThat(Regions.of("충청북도 청주시")).isEqualTo("충북");
+        assertThat(Regions.of("충북")).isEqualTo("충북");
+    }
+
+    @Test
+    void handlesRenamedSpecialSelfGoverningProvinces() {
+        assertThat(Regions.of("강원특별자치도 춘천시")).isEqualTo("강원");
+        assertThat(Regions.of("강원도 춘천시")).isEqualTo("강원");
+        assertThat(Regions.of("전북특별자치도 전주시")).isEqualTo("전북");
+        assertThat(Regions.of("전라북도 전주시")).isEqualTo("전북");
+        assertThat(Regions.of("세종특별자치시 한누리대로")).isEqualTo("세종");
+    }
+
+    @Test
+    void cityNamedLikeMetropolitanCityStaysInItsProvince() {
+        assertThat(Regions.of("광주광역시 서구")).isEqualTo("광주");
+        assertThat(Regions.of("경기도 광주시 오포읍")).isEqualTo("경기");
+    }
+
+    @Test
+    void ignoresSurroundingWhitespace() {
+        assertThat(Regions.of("  부산광역시 해운대구  ")).isEqualTo("부산");
+    }
+
+    @Test
+    void unknownOrMissingLocationIsNull() {
+        assertThat(Regions.of(null)).isNull();
+        assertThat(Regions.of("")).isNull();
+        assertThat(Regions.of("Seoul")).isNull();
+        assertThat(Regions.of("강남구 테헤란로")).isNull();
+    }
+}
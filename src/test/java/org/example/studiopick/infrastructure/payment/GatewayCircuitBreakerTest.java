@@ -0,0 +1,118 @@
+package org.example.studiopick.infrastructure.payment;
+
+import org.example.studiopick.infrastructure.payment.GatewayCircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GatewayCircuitBreakerTest {
+
+  @Test
+  void opensOnceFailureRateReachesThresholdAfterMinimumCalls() {
+    GatewayCircuitBreaker breaker = new GatewayCircuitBreaker(10, 4, 0.5, Duration.ofMinutes(1));
+
+    call(breaker, true);
+    call(breaker, true);
+    call(breaker, true);
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+
+    call(breaker, false);
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+
+    call(breaker, true);
+    assertThat(breaker.state()).isEqualTo(State.OPEN);
+    assertThat(breaker.tryAcquire()).isFalse();
+  }
+
+  @Test
+  void staysClosedBelowThreshold() {
+    GatewayCircuitBreaker breaker = new GatewayCircuitBreaker(10, 4, 0.5, Duration.ofMinutes(1));
+
+    for (int i = 0; i < 20; i++) {
+      call(breaker, i % 3 == 2);
+    }
+
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void oldOutcomesLeaveTheWindow() {
+    GatewayCircuitBreaker breaker = new GatewayCircuitBreaker(4, 4, 0.75, Duration.ofMinutes(1));
+
+    call(breaker, true);
+    call(breaker, true);
+    call(breaker, false);
+    call(breaker, false);
+    // 창 [실패, 실패, 성공, 성공] → [성공, 성공, 실패, 실패]: 밀려난 실패만큼 빠져 실패율 50%
+    call(breaker, true);
+    call(breaker, true);
+
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void halfOpen_allowsSingleProbe() {
+    GatewayCircuitBreaker breaker = openBreaker(Duration.ZERO);
+
+    assertThat(breaker.tryAcquire()).isTrue();
+    assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+    assertThat(breaker.tryAcquire()).isFalse();
+  }
+
+  @Test
+  void halfOpen_successfulProbeClosesWithFreshWindow() {
+    GatewayCircuitBreaker breaker = openBreaker(Duration.ZERO);
+
+    assertThat(breaker.tryAcquire()).isTrue();
+    breaker.onSuccess();
+
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+    call(breaker, true);
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void halfOpen_failedProbeReopens() {
+    GatewayCircuitBreaker breaker = openBreaker(Duration.ofMillis(50));
+    assertThat(breaker.tryAcquire()).isFalse();
+
+    sleep(60);
+    assertThat(breaker.tryAcquire()).isTrue();
+    breaker.onFailure();
+
+    assertThat(breaker.state()).isEqualTo(State.OPEN);
+    assertThat(breaker.tryAcquire()).isFalse();
+
+    sleep(60);
+    assertThat(breaker.tryAcquire()).isTrue();
+    breaker.onSuccess();
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+  }
+
+  private static GatewayCircuitBreaker openBreaker(Duration openDuration) {
+    GatewayCircuitBreaker breaker = new GatewayCircuitBreaker(2, 2, 1.0, openDuration);
+    call(breaker, true);
+    call(breaker, true);
+    assertThat(breaker.state()).isEqualTo(State.OPEN);
+    return breaker;
+  }
+
+  private static void call(GatewayCircuitBreaker breaker, boolean failed) {
+    assertThat(breaker.tryAcquire()).isTrue();
+    if (failed) {
+      breaker.onFailure();
+    } else {
+      breaker.onSuccess();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package org.example.studiopick.infrastructure.payment;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class TossPaymentsClientTest {
+
+  private static final String OK = "{\"status\":\"DONE\"}";
+
+  private final Queue<Response> responses = new ConcurrentLinkedQueue<>();
+  private final List<Request> requests = new CopyOnWriteArrayList<>();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private HttpServer server;
+  private TossPaymentsClient client;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", this::handle);
+    server.start();
+
+    client = new TossPaymentsClient(WebClient.builder(), meterRegistry);
+    ReflectionTestUtils.setField(client, "secretKey", "test_sk");
+    ReflectionTestUtils.setField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+    ReflectionTestUtils.setField(client, "maxConnections", 4);
+    ReflectionTestUtils.setField(client, "connectTimeoutMs", 1000);
+    ReflectionTestUtils.setField(client, "readTimeoutMs", 2000L);
+    ReflectionTestUtils.setField(client, "callTimeoutMs", 5000L);
+    ReflectionTestUtils.setField(client, "maxRetries", 2);
+    ReflectionTestUtils.setField(client, "maxConcurrentCalls", 4);
+    ReflectionTestUtils.setField(client, "bulkheadWaitMs", 100L);
+    client.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.close();
+    server.stop(0);
+  }
+
+  @Test
+  void get_retriesGatewayFailures() {
+    respond(503, "{}");
+    respond(429, "{}");
+    respond(200, OK);
+
+    Map<?, ?> result = client.get("lookup", Map.class, "/v1/payments/{key}", "pk_1");
+
+    assertThat(result.get("status")).isEqualTo("DONE");
+    assertThat(requests).extracting(Request::method).containsExactly("GET", "GET", "GET");
+    assertThat(meterRegistry.counter("toss.payments.retries", "operation", "lookup").count()).isEqualTo(2);
+  }
+
+  @Test
+  void post_withoutIdempotencyKey_isCalledOnce() {
+    respond(503, "{}");
+    respond(200, OK);
+
+    assertThatThrownBy(() -> client.post("confirm", Map.class, Map.of(), null, "/v1/payments/confirm"))
+        .isInstanceOfSatisfying(PaymentGatewayException.class, e -> assertThat(e.getStatus()).isEqualTo(503));
+    assertThat(requests).hasSize(1);
+  }
+
+  @Test
+  void post_withIdempotencyKey_retriesWithSameKey() {
+    respond(500, "{}");
+    respond(200, OK);
+
+    client.post("cancel", Map.class, Map.of(), "cancel-42", "/v1/payments/{key}/cancel", "pk_1");
+
+    assertThat(requests).extracting(Request::idempotencyKey).containsExactly("cancel-42", "cancel-42");
+  }
+
+  @Test
+  void clientError_isNotRetriedAndDoesNotCountAgainstBreaker() {
+    for (int i = 0; i < 12; i++) {
+      respond(400, "{\"code\":\"INVALID_REQUEST\"}");
+      assertThatThrownBy(() -> client.get("lookup", Map.class, "/v1/payments/pk_1"))
+          .isInstanceOfSatisfying(PaymentGatewayException.class, e -> assertThat(e.isClientError()).isTrue());
+    }
+
+    assertThat(requests).hasSize(12);
+    assertThat(circuitState()).isEqualTo(GatewayCircuitBreaker.State.CLOSED.ordinal());
+  }
+
+  @Test
+  void decodingError_isNotRetriedAndDoesNotCountAgainstBreaker() {
+    for (int i = 0; i < 12; i++) {
+      respond(200, "<html>maintenance</html>");
+      assertThatThrownBy(() -> client.get("lookup", Map.class, "/v1/payments/pk_1"))
+          .isInstanceOf(PaymentGatewayException.class)
+          .hasCauseInstanceOf(DecodingException.class);
+    }
+
+    assertThat(requests).hasSize(12);
+    assertThat(circuitState()).isEqualTo(GatewayCircuitBreaker.State.CLOSED.ordinal());
+  }
+
+  @Test
+  void repeatedGatewayFailures_openBreakerAndRejectWithoutCalling() {
+    ReflectionTestUtils.setField(client, "maxRetries", 0);
+    for (int i = 0; i < 10; i++) {
+      respond(502, "{}");
+      assertThatThrownBy(() -> client.get("lookup", Map.class, "/v1/payments/pk_1"))
+          .isInstanceOf(PaymentGatewayException.class);
+    }
+
+    assertThatThrownBy(() -> client.get("lookup", Map.class, "/v1/payments/pk_1"))
+        .isInstanceOfSatisfying(PaymentGatewayException.class, e -> assertThat(e.isRejected()).isTrue());
+    assertThat(requests).hasSize(10);
+    assertThat(circuitState()).isEqualTo(GatewayCircuitBreaker.State.OPEN.ordinal());
+  }
+
+  @Test
+  void isTransient_onlyForGatewayFailuresAndIoErrors() {
+    assertThat(TossPaymentsClient.isTransient(new PaymentGatewayException("x", 500, ""))).isTrue();
+    assertThat(TossPaymentsClient.isTransient(new PaymentGatewayException("x", 429, ""))).isTrue();
+    assertThat(TossPaymentsClient.isTransient(new PaymentGatewayException("x", 400, ""))).isFalse();
+    assertThat(TossPaymentsClient.isTransient(new PaymentGatewayException("x", 404, ""))).isFalse();
+    assertThat(TossPaymentsClient.isTransient(PaymentGatewayException.rejected("x"))).isFalse();
+    assertThat(TossPaymentsClient.isTransient(new TimeoutException())).isTrue();
+    assertThat(TossPaymentsClient.isTransient(mock(WebClientRequestException.class))).isTrue();
+    assertThat(TossPaymentsClient.isTransient(new DecodingException("x"))).isFalse();
+    assertThat(TossPaymentsClient.isTransient(new IllegalStateException("x"))).isFalse();
+  }
+
+  private void respond(int status, String body) {
+    responses.add(new Response(status, body));
+  }
+
+  private double circuitState() {
+    return meterRegistry.get("toss.payments.circuit.state").gauge().value();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    exchange.getRequestBody().readAllBytes();
+    requests.add(new Request(exchange.getRequestMethod(), exchange.getRequestURI(),
+        exchange.getRequestHeaders().getFirst("Idempotency-Key")));
+    Response response = responses.poll();
+    if (response == null) {
+      response = new Response(500, "{\"code\":\"NO_STUB\"}");
+    }
+    byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(response.status(), bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private record Request(String method, URI uri, String idempotencyKey) {
+  }
+
+  private record Response(int status, String body) {
+  }
+}
@@ -0,0 +1,41 @@
+package org.example.studiopick.infrastructure.s3;
+
+import org.example.studiopick.common.util.ImageVariant;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResizerTest {
+
+  @Test
+  void rendersEachVariantBoundedByLongSide() throws IOException {
+    Map<ImageVariant, byte[]> variants = ImageResizer.render(new ByteArrayInputStream(png(2_000, 1_000)));
+
+    assertThat(variants).containsOnlyKeys(ImageVariant.values());
+    for (ImageVariant variant : ImageVariant.values()) {
+      BufferedImage image = ImageIO.read(new ByteArrayInputStream(variants.get(variant)));
+      assertThat(Math.max(image.getWidth(), image.getHeight())).isEqualTo(variant.maxSize());
+      assertThat(image.getWidth()).isEqualTo(2 * image.getHeight());
+    }
+  }
+
+  @Test
+  void undecodableInputYieldsNoVariants() throws IOException {
+    byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"/>".getBytes();
+
+    assertThat(ImageResizer.render(new ByteArrayInputStream(svg))).isEmpty();
+  }
+
+  private static byte[] png(int width, int height) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+    return out.toByteArray();
+  }
+}
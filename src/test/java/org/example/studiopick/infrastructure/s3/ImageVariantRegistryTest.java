@@ -0,0 +1,101 @@
+package org.example.studiopick.infrastructure.s3;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.studiopick.common.util.ImageVariant;
+import org.example.studiopick.common.util.ImageVariantUrls;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageVariantRegistryTest {
+
+  private static final String KEY = "image:variants";
+  private static final String GENERATED = "a".repeat(64);
+  private static final String PENDING = "b".repeat(64);
+  private static final String GENERATED_URL = "https://cdn.example.com/artworks/" + GENERATED + ".png";
+  private static final String PENDING_URL = "https://cdn.example.com/artworks/" + PENDING + ".png";
+
+  private SetOperations<String, String> setOperations;
+  private ImageVariantRegistry registry;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    setOperations = mock(SetOperations.class);
+    when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    registry = new ImageVariantRegistry(redisTemplate, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void resolvesOnlyRegisteredHashes() {
+    when(setOperations.isMember(eq(KEY), any(Object[].class)))
+        .thenReturn(Map.of(GENERATED, true, PENDING, false));
+
+    ImageVariantUrls urls = registry.lookup(List.of(GENERATED_URL, PENDING_URL, "https://cdn.example.com/legacy.png"));
+
+    assertThat(urls.of(ImageVariant.SMALL, GENERATED_URL)).isEqualTo(ImageVariant.SMALL.of(GENERATED_URL));
+    assertThat(urls.of(ImageVariant.SMALL, PENDING_URL)).isEqualTo(PENDING_URL);
+  }
+
+  @Test
+  void cachesRegisteredHashesButRechecksPendingOnes() {
+    when(setOperations.isMember(eq(KEY), any(Object[].class)))
+        .thenReturn(Map.of(GENERATED, true, PENDING, false))
+        .thenReturn(Map.of(PENDING, true));
+
+    registry.lookup(List.of(GENERATED_URL, PENDING_URL));
+    ImageVariantUrls second = registry.lookup(List.of(GENERATED_URL, PENDING_URL));
+
+    verify(setOperations).isMember(KEY, new Object[]{PENDING});
+    assertThat(second.of(ImageVariant.MEDIUM, PENDING_URL)).isEqualTo(ImageVariant.MEDIUM.of(PENDING_URL));
+    assertThat(second.of(ImageVariant.MEDIUM, GENERATED_URL)).isEqualTo(ImageVariant.MEDIUM.of(GENERATED_URL));
+  }
+
+  @Test
+  void fallsBackToOriginalWhenRedisFails() {
+    when(setOperations.isMember(eq(KEY), any(Object[].class)))
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    ImageVariantUrls urls = registry.lookup(GENERATED_URL);
+
+    assertThat(urls.of(ImageVariant.SMALL, GENERATED_URL)).isEqualTo(GENERATED_URL);
+  }
+
+  @Test
+  void markedHashesResolveWithoutRedisAndForgetRemovesThem() {
+    registry.markGenerated(List.of(GENERATED));
+
+    assertThat(registry.lookup(GENERATED_URL).of(ImageVariant.SMALL, GENERATED_URL))
+        .isEqualTo(ImageVariant.SMALL.of(GENERATED_URL));
+    verify(setOperations, never()).isMember(eq(KEY), any(Object[].class));
+
+    registry.forget(List.of(GENERATED));
+    registry.lookup(GENERATED_URL);
+
+    verify(setOperations).remove(KEY, (Object) GENERATED);
+    verify(setOperations, times(1)).isMember(eq(KEY), any(Object[].class));
+  }
+
+  @Test
+  void skipsRedisForLegacyUrls() {
+    ImageVariantUrls urls = registry.lookup(List.of("https://cdn.example.com/legacy.png"));
+
+    assertThat(urls.generatedHashes()).isEmpty();
+    verify(setOperations, never()).isMember(eq(KEY), any(Object[].class));
+  }
+}
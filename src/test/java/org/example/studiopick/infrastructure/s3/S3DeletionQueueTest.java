@@ -0,0 +1,86 @@
+package org.example.studiopick.infrastructure.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3DeletionQueueTest {
+
+  private S3Uploader s3Uploader;
+  private S3DeletionQueue queue;
+
+  @BeforeEach
+  void setUp() {
+    s3Uploader = mock(S3Uploader.class);
+    when(s3Uploader.keyOf(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+    queue = new S3DeletionQueue(s3Uploader);
+  }
+
+  @Test
+  void deletesQueuedKeysOnce() {
+    when(s3Uploader.deleteKeys(anyList())).thenReturn(List.of());
+
+    queue.enqueue(List.of("studio-images/a.jpg", "studio-images/b.jpg"));
+    queue.flush();
+    queue.flush();
+
+    verify(s3Uploader, times(1)).deleteKeys(List.of("studio-images/a.jpg", "studio-images/b.jpg"));
+  }
+
+  @Test
+  void skipsContentAddressedKeys() {
+    queue.enqueue("artworks/" + "a".repeat(64) + ".png");
+    queue.flush();
+
+    verify(s3Uploader, never()).deleteKeys(anyList());
+  }
+
+  @Test
+  void retriesFailedBatchOnNextFlush() {
+    when(s3Uploader.deleteKeys(anyList()))
+        .thenThrow(new IllegalStateException("S3 unavailable"))
+        .thenReturn(List.of());
+
+    queue.enqueue(List.of("reviews/a.jpg", "reviews/b.jpg"));
+    queue.flush();
+    queue.flush();
+    queue.flush();
+
+    verify(s3Uploader, times(2)).deleteKeys(List.of("reviews/a.jpg", "reviews/b.jpg"));
+  }
+
+  @Test
+  void retriesOnlyKeysThatFailedIndividually() {
+    when(s3Uploader.deleteKeys(anyList()))
+        .thenReturn(List.of("reviews/b.jpg"))
+        .thenReturn(List.of());
+
+    queue.enqueue(List.of("reviews/a.jpg", "reviews/b.jpg"));
+    queue.flush();
+    queue.flush();
+
+    verify(s3Uploader).deleteKeys(List.of("reviews/a.jpg", "reviews/b.jpg"));
+    verify(s3Uploader).deleteKeys(List.of("reviews/b.jpg"));
+  }
+
+  @Test
+  void dropsKeyAfterMaxAttempts() {
+    when(s3Uploader.deleteKeys(anyList())).thenThrow(new IllegalStateException("S3 unavailable"));
+
+    queue.enqueue("profile/a.jpg");
+    for (int i = 0; i < S3DeletionQueue.MAX_ATTEMPTS + 2; i++) {
+      queue.flush();
+    }
+
+    verify(s3Uploader, times(S3DeletionQueue.MAX_ATTEMPTS)).deleteKeys(List.of("profile/a.jpg"));
+  }
+}
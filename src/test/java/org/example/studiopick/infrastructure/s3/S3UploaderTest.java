@@ -0,0 +1,273 @@
+package org.example.studiopick.infrastructure.s3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class S3UploaderTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final String DIR = "documents";
+
+    private LocalS3 s3;
+    private S3Uploader uploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new LocalS3();
+        uploader = new S3Uploader(mock(ImageVariantRegistry.class));
+        ReflectionTestUtils.setField(uploader, "accessKey", "test");
+        ReflectionTestUtils.setField(uploader, "secretKey", "test");
+        ReflectionTestUtils.setField(uploader, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(uploader, "bucket", BUCKET);
+        ReflectionTestUtils.setField(uploader, "endpoint", s3.endpoint());
+        ReflectionTestUtils.setField(uploader, "maxConcurrency", 4);
+        ReflectionTestUtils.setField(uploader, "multipartThreshold", 8L * 1024 * 1024);
+        ReflectionTestUtils.setField(uploader, "partSize", 8L * 1024 * 1024);
+        ReflectionTestUtils.setField(uploader, "variantWorkers", 1);
+        uploader.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.close();
+        s3.stop();
+    }
+
+    @Test
+    void uploadFiles_storesByContentHashAndReusesExistingObject() {
+        MultipartFile file = file("a.pdf", "same bytes");
+
+        List<String> first = uploader.uploadFiles(List.of(file), DIR);
+        List<String> second = uploader.uploadFiles(List.of(file), DIR);
+
+        assertThat(first).containsExactly(s3.endpoint() + "/" + BUCKET + "/" + key("same bytes"));
+        assertThat(second).isEqualTo(first);
+        assertThat(s3.puts()).containsExactly(key("same bytes"));
+        assertThat(s3.copies()).containsExactly(key("same bytes"));
+    }
+
+    @Test
+    void uploadFiles_failure_deletesOnlyObjectsThisBatchCreated() {
+        s3.objects.put(key("reused"), new byte[0]);
+        s3.failingPuts.add(key("broken"));
+
+        assertThatThrownBy(() -> uploader.uploadFiles(
+                List.of(file("a.pdf", "created"), file("b.pdf", "reused"), file("c.pdf", "broken")), DIR))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(s3.deleted).containsExactly(key("created"));
+        assertThat(s3.objects).containsOnlyKeys(key("reused"));
+    }
+
+    @Test
+    void uploadFiles_failureWithNothingCreated_deletesNothing() {
+        s3.objects.put(key("reused"), new byte[0]);
+        s3.failingPuts.add(key("broken"));
+
+        assertThatThrownBy(() -> uploader.uploadFiles(List.of(file("b.pdf", "reused"), file("c.pdf", "broken")), DIR))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(s3.deleted).isEmpty();
+        assertThat(s3.objects).containsOnlyKeys(key("reused"));
+    }
+
+    private static MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("files", name, "application/pdf", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String key(String content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return DIR + "/" + HexFormat.of().formatHex(hash) + ".pdf";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 로컬 S3 대역 (path-style HEAD/PUT/복사/DeleteObjects 만 지원, 서명은 검증하지 않음)
+     * - JDK HttpServer 는 HEAD 응답을 chunked 로 보내 SDK 가 응답을 기다리며 멈춰서 소켓 위에 HTTP/1.1 을 직접 구현
+     */
+    static class LocalS3 {
+
+        private static final Pattern DELETE_KEY = Pattern.compile("<Key>([^<]+)</Key>");
+
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final Set<String> failingPuts = ConcurrentHashMap.newKeySet();
+        final List<String> deleted = new ArrayList<>();
+        private final List<String> puts = new ArrayList<>();
+        private final List<String> copies = new ArrayList<>();
+        private final ServerSocket server;
+
+        LocalS3() throws IOException {
+            server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread acceptor = new Thread(this::accept, "local-s3");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        String endpoint() {
+            return "http://127.0.0.1:" + server.getLocalPort();
+        }
+
+        synchronized List<String> puts() {
+            return List.copyOf(puts);
+        }
+
+        synchronized List<String> copies() {
+            return List.copyOf(copies);
+        }
+
+        void stop() {
+            try {
+                server.close();
+            } catch (IOException ignored) {
+                // 테스트 종료
+            }
+        }
+
+        private void accept() {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    Thread connection = new Thread(() -> serve(socket), "local-s3-connection");
+                    connection.setDaemon(true);
+                    connection.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        // 연결 하나에서 요청을 차례로 처리 (keep-alive)
+        private void serve(Socket socket) {
+            try (socket;
+                 InputStream in = new BufferedInputStream(socket.getInputStream());
+                 OutputStream out = socket.getOutputStream()) {
+                String requestLine;
+                while ((requestLine = readLine(in)) != null && !requestLine.isEmpty()) {
+                    String[] parts = requestLine.split(" ");
+                    Map<String, String> headers = new HashMap<>();
+                    for (String line = readLine(in); line != null && !line.isEmpty(); line = readLine(in)) {
+                        int colon = line.indexOf(':');
+                        headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+                    }
+                    if ("100-continue".equalsIgnoreCase(headers.get("expect"))) {
+                        out.write("HTTP/1.1 100 Continue\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+                        out.flush();
+                    }
+                    byte[] body = in.readNBytes(Integer.parseInt(headers.getOrDefault("content-length", "0")));
+                    handle(parts[0], URI.create(parts[1]).getPath(), headers, body, out);
+                    out.flush();
+                }
+            } catch (IOException ignored) {
+                // 클라이언트가 연결을 닫음
+            }
+        }
+
+        private void handle(String method, String path, Map<String, String> headers, byte[] body, OutputStream out)
+                throws IOException {
+            String prefix = "/" + BUCKET + "/";
+            String key = path.startsWith(prefix) ? path.substring(prefix.length()) : "";
+            switch (method) {
+                case "HEAD" -> {
+                    byte[] object = objects.get(key);
+                    if (object == null) {
+                        respond(out, 404, null, "", false);
+                    } else {
+                        respond(out, 200, "application/pdf", "", false);
+                    }
+                }
+                case "PUT" -> {
+                    if (headers.containsKey("x-amz-copy-source")) {
+                        synchronized (this) {
+                            copies.add(key);
+                        }
+                        respond(out, 200, "application/xml",
+                                "<CopyObjectResult><ETag>\"etag\"</ETag></CopyObjectResult>", true);
+                    } else if (failingPuts.contains(key)) {
+                        respond(out, 403, "application/xml",
+                                "<Error><Code>AccessDenied</Code><Message>denied</Message></Error>", true);
+                    } else {
+                        synchronized (this) {
+                            puts.add(key);
+                        }
+                        objects.put(key, body);
+                        respond(out, 200, null, "", true);
+                    }
+                }
+                case "POST" -> {
+                    Matcher matcher = DELETE_KEY.matcher(new String(body, StandardCharsets.UTF_8));
+                    while (matcher.find()) {
+                        synchronized (this) {
+                            deleted.add(matcher.group(1));
+                        }
+                        objects.remove(matcher.group(1));
+                    }
+                    respond(out, 200, "application/xml", "<DeleteResult></DeleteResult>", true);
+                }
+                default -> respond(out, 405, null, "", true);
+            }
+        }
+
+        // HEAD 는 본문 없이 헤더만 (Content-Length 는 객체 크기 대신 0)
+        private static void respond(OutputStream out, int status, String contentType, String body, boolean withBody)
+                throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            StringBuilder response = new StringBuilder("HTTP/1.1 ").append(status).append(" X\r\n")
+                    .append("ETag: \"etag\"\r\n")
+                    .append("Content-Length: ").append(bytes.length).append("\r\n");
+            if (contentType != null) {
+                response.append("Content-Type: ").append(contentType).append("\r\n");
+            }
+            out.write(response.append("\r\n").toString().getBytes(StandardCharsets.US_ASCII));
+            if (withBody) {
+                out.write(bytes);
+            }
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int c;
+            while ((c = in.read()) != -1) {
+                if (c == '\n') {
+                    return line.toString();
+                }
+                if (c != '\r') {
+                    line.append((char) c);
+                }
+            }
+            return line.length() == 0 ? null : line.toString();
+        }
+    }
+}
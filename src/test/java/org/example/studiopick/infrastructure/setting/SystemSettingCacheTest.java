@@ -0,0 +1,120 @@
+package org.example.studiopick.infrastructure.setting;
+
+import org.example.studiopick.domain.setting.SystemSetting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SystemSettingCacheTest {
+
+  private static final String KEY = "reservation.cancel.hours";
+  private static final String L2_KEY = "system-setting:" + KEY;
+  private static final String GENERATION_KEY = "system-settings:generation";
+
+  private JpaSystemSettingRepository repository;
+  private RedisTemplate<String, String> redisTemplate;
+  private ValueOperations<String, String> values;
+  private SystemSettingCache cache;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    repository = mock(JpaSystemSettingRepository.class);
+    redisTemplate = mock(RedisTemplate.class);
+    values = mock(ValueOperations.class);
+    when(redisTemplate.opsForValue()).thenReturn(values);
+    cache = new SystemSettingCache(repository, redisTemplate, mock(RedisMessageListenerContainer.class));
+  }
+
+  @Test
+  void get_l2Hit_cachedInL1() {
+    when(values.get(L2_KEY)).thenReturn("24");
+
+    assertThat(cache.get(KEY).integerValue()).isEqualTo(24);
+    assertThat(cache.get(KEY).integerValue()).isEqualTo(24);
+
+    verify(values, times(1)).get(L2_KEY);
+    verify(repository, never()).findBySettingKey(anyString());
+  }
+
+  @Test
+  void get_invalidatedWhileLoading_notCachedInL1() {
+    when(values.get(L2_KEY)).thenAnswer(invocation -> {
+      // 조회 도중 다른 요청이 설정을 변경
+      cache.invalidate(KEY);
+      return "24";
+    }).thenReturn("48");
+
+    assertThat(cache.get(KEY).integerValue()).isEqualTo(24);
+    assertThat(cache.get(KEY).integerValue()).isEqualTo(48);
+  }
+
+  @Test
+  void get_l2Miss_refillsL2FromDb() {
+    when(values.get(GENERATION_KEY)).thenReturn("3");
+    SystemSetting setting = setting("24");
+    when(repository.findBySettingKey(KEY)).thenReturn(Optional.of(setting));
+
+    assertThat(cache.get(KEY).integerValue()).isEqualTo(24);
+
+    verify(values).set(eq(L2_KEY), eq("24"), any(Duration.class));
+    verify(redisTemplate, never()).delete(L2_KEY);
+  }
+
+  @Test
+  void get_changedWhileReadingDb_dropsRefilledL2() {
+    // DB 조회 전 세대 3, L2 저장 후 세대 4 (다른 노드가 변경 후 L2 삭제를 이미 마침)
+    when(values.get(GENERATION_KEY)).thenReturn("3", "4");
+    SystemSetting setting = setting("24");
+    when(repository.findBySettingKey(KEY)).thenReturn(Optional.of(setting));
+
+    cache.get(KEY);
+
+    verify(values).set(eq(L2_KEY), eq("24"), any(Duration.class));
+    verify(redisTemplate).delete(L2_KEY);
+  }
+
+  @Test
+  void get_generationUnavailable_skipsL2Refill() {
+    when(values.get(GENERATION_KEY)).thenThrow(new IllegalStateException("redis down"));
+    SystemSetting setting = setting("24");
+    when(repository.findBySettingKey(KEY)).thenReturn(Optional.of(setting));
+
+    assertThat(cache.get(KEY).integerValue()).isEqualTo(24);
+
+    verify(values, never()).set(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  void invalidate_bumpsGenerationBeforeDeletingL2() {
+    cache.invalidate(KEY);
+
+    InOrder order = inOrder(values, redisTemplate);
+    order.verify(values).increment(GENERATION_KEY);
+    order.verify(redisTemplate).delete(L2_KEY);
+    order.verify(redisTemplate).convertAndSend(SystemSettingCache.INVALIDATION_CHANNEL, KEY);
+  }
+
+  private static SystemSetting setting(String value) {
+    SystemSetting setting = mock(SystemSetting.class);
+    when(setting.getValueOrDefault()).thenReturn(value);
+    return setting;
+  }
+}
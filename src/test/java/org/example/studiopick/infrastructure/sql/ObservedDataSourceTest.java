@@ -0,0 +1,94 @@
+package org.example.studiopick.infrastructure.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ObservedDataSourceTest {
+
+  private SqlStatsRecorder recorder;
+  private Connection target;
+  private Connection connection;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    // 임계 0ms - 모든 문장이 느린 쿼리 샘플로 남음
+    recorder = new SqlStatsRecorder(0, 10, 10, true, new SimpleMeterRegistry());
+    StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("sqlStatsRecorder", recorder));
+    DataSource dataSource = mock(DataSource.class);
+    target = mock(Connection.class);
+    when(dataSource.getConnection()).thenReturn(target);
+    when(target.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+    when(target.createStatement()).thenAnswer(invocation -> mock(Statement.class));
+    connection = new ObservedDataSource(dataSource, beans.getBeanProvider(SqlStatsRecorder.class)).getConnection();
+  }
+
+  @Test
+  void batch_isRecordedOnceWithItsSize() throws Exception {
+    PreparedStatement statement = connection.prepareStatement("insert into studio_image (studio_id, url) values (?, ?)");
+    for (int i = 0; i < 3; i++) {
+      statement.setLong(1, 1L);
+      statement.setString(2, "https://cdn/" + i + ".jpg");
+      statement.addBatch();
+    }
+    statement.executeBatch();
+
+    SqlStatsSnapshot snapshot = recorder.snapshot();
+    assertThat(snapshot.totalStatements()).isEqualTo(1);
+    assertThat(snapshot.slowSamples()).singleElement().satisfies(sample -> {
+      assertThat(sample.batchSize()).isEqualTo(3);
+      assertThat(sample.sql()).isEqualTo("insert into studio_image (studio_id, url) values (?, ?)");
+    });
+
+    statement.executeBatch();
+    assertThat(recorder.snapshot().slowSamples().get(0).batchSize()).isZero();
+  }
+
+  @Test
+  void preparedStatement_capturesBindsByIndex() throws Exception {
+    PreparedStatement statement = connection.prepareStatement("select * from \"user\" where id = ? and email = ? and name = ?");
+    statement.setString(2, "alice@example.com");
+    statement.setLong(1, 7L);
+    statement.setNull(3, java.sql.Types.VARCHAR);
+    statement.executeQuery();
+
+    assertThat(recorder.snapshot().slowSamples().get(0).binds()).containsExactly("7", "alice@example.com", "null");
+    verify(target).prepareStatement("select * from \"user\" where id = ? and email = ? and name = ?");
+  }
+
+  @Test
+  void plainStatement_recordsSqlPassedToExecute() throws Exception {
+    connection.createStatement().execute("delete from studio where id = 3");
+
+    assertThat(recorder.snapshot().slowSamples().get(0).sql()).isEqualTo("delete from studio where id = ?");
+  }
+
+  @Test
+  void proxies_useIdentityEqualsAndHashCode() throws Exception {
+    PreparedStatement first = connection.prepareStatement("select 1");
+    PreparedStatement second = connection.prepareStatement("select 1");
+
+    assertThat(first).isEqualTo(first).isNotEqualTo(second);
+    assertThat(first.hashCode()).isEqualTo(System.identityHashCode(first));
+    assertThat(connection.hashCode()).isEqualTo(System.identityHashCode(connection));
+
+    Set<Statement> open = new HashSet<>(Set.of(first, second));
+    open.remove(first);
+    assertThat(open).containsExactly(second);
+  }
+}
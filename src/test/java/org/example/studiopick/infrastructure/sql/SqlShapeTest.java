@@ -0,0 +1,35 @@
+package org.example.studiopick.infrastructure.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlShapeTest {
+
+  @Test
+  void replacesStringAndNumberLiterals() {
+    assertThat(SqlShape.of("select * from studio where name = 'it''s' and rate > 1.5 and id = 42"))
+        .isEqualTo("select * from studio where name = ? and rate > ? and id = ?");
+  }
+
+  @Test
+  void collapsesInListsOfAnyLength() {
+    String two = SqlShape.of("select * from reservation where studio_id in (?, ?)");
+    String five = SqlShape.of("select * from reservation where studio_id IN (?,?,?,?,?)");
+
+    assertThat(two).isEqualTo("select * from reservation where studio_id in (?)");
+    assertThat(five).isEqualTo(two);
+  }
+
+  @Test
+  void keepsDigitsInsideIdentifiers() {
+    assertThat(SqlShape.of("select s1_0.id from studio s1_0 where s1_0.owner_user_id=?"))
+        .isEqualTo("select s1_0.id from studio s1_0 where s1_0.owner_user_id=?");
+  }
+
+  @Test
+  void collapsesWhitespaceAndHandlesNull() {
+    assertThat(SqlShape.of("select\n  id\tfrom   studio ")).isEqualTo("select id from studio");
+    assertThat(SqlShape.of(null)).isEqualTo("(unknown)");
+  }
+}
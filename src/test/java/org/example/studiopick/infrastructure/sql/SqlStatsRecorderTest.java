@@ -0,0 +1,105 @@
+package org.example.studiopick.infrastructure.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.studiopick.infrastructure.sql.SqlStatsSnapshot.SlowStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatsRecorderTest {
+
+  private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  void finish_flagsShapeRepeatedAtThreshold() {
+    SqlStatsRecorder recorder = recorder(10_000, 3, false);
+
+    recorder.begin("GET /api/studios");
+    for (int id = 1; id <= 3; id++) {
+      recorder.record("select * from studio_image where studio_id = " + id, MILLIS, List::of, 0);
+    }
+    recorder.record("select count(*) from studio", MILLIS, List::of, 0);
+    recorder.finish("GET /api/studios");
+
+    SqlStatsSnapshot snapshot = recorder.snapshot();
+    assertThat(snapshot.nPlusOneSamples()).singleElement().satisfies(sample -> {
+      assertThat(sample.shape()).isEqualTo("select * from studio_image where studio_id = ?");
+      assertThat(sample.count()).isEqualTo(3);
+    });
+    assertThat(snapshot.endpoints()).singleElement().satisfies(endpoint -> {
+      assertThat(endpoint.statements()).isEqualTo(4);
+      assertThat(endpoint.nPlusOneRequests()).isEqualTo(1);
+    });
+  }
+
+  @Test
+  void finish_belowThreshold_isNotFlagged() {
+    SqlStatsRecorder recorder = recorder(10_000, 3, false);
+
+    recorder.begin("GET /api/studios");
+    recorder.record("select * from studio_image where studio_id = ?", MILLIS, List::of, 0);
+    recorder.record("select * from studio_image where studio_id = ?", MILLIS, List::of, 0);
+    recorder.finish("GET /api/studios");
+
+    assertThat(recorder.snapshot().nPlusOneSamples()).isEmpty();
+    assertThat(recorder.snapshot().endpoints().get(0).nPlusOneRequests()).isZero();
+  }
+
+  @Test
+  void record_samplesOnlyStatementsOverThreshold() {
+    SqlStatsRecorder recorder = recorder(100, 10, false);
+
+    recorder.begin("GET /api/reservations");
+    recorder.record("select 1", 99 * MILLIS, List::of, 0);
+    recorder.record("select 2", 100 * MILLIS, List::of, 0);
+    recorder.finish("GET /api/reservations");
+
+    SqlStatsSnapshot snapshot = recorder.snapshot();
+    assertThat(snapshot.totalStatements()).isEqualTo(2);
+    assertThat(snapshot.slowStatements()).isEqualTo(1);
+    assertThat(snapshot.slowSamples()).singleElement().satisfies(sample -> {
+      assertThat(sample.request()).isEqualTo("GET /api/reservations");
+      assertThat(sample.elapsedMillis()).isEqualTo(100);
+      assertThat(sample.sql()).isEqualTo("select ?");
+    });
+  }
+
+  @Test
+  void record_outsideRequest_isLabelledBackground() {
+    SqlStatsRecorder recorder = recorder(0, 10, false);
+
+    recorder.record("delete from payment_outbox where id = ?", MILLIS, () -> List.of(1L), 0);
+
+    assertThat(recorder.snapshot().slowSamples().get(0).request()).isEqualTo("(background)");
+    assertThat(recorder.snapshot().endpoints()).isEmpty();
+  }
+
+  @Test
+  void slowSample_masksBindValuesByDefault() {
+    SqlStatsRecorder recorder = recorder(0, 10, false);
+
+    recorder.record("select * from \"user\" where email = ? and id = ? and deleted_at is ?", MILLIS,
+        () -> Arrays.asList("alice@example.com", 7L, null), 0);
+
+    SlowStatement sample = recorder.snapshot().slowSamples().get(0);
+    assertThat(sample.binds()).containsExactly("String(17)", "Long", "null");
+  }
+
+  @Test
+  void slowSample_keepsTruncatedBindValuesWhenEnabled() {
+    SqlStatsRecorder recorder = recorder(0, 10, true);
+
+    recorder.record("update token set value = ? where id = ?", MILLIS, () -> List.of("x".repeat(150), 7L), 0);
+
+    assertThat(recorder.snapshot().slowSamples().get(0).binds())
+        .containsExactly("x".repeat(100) + "...", "7");
+  }
+
+  private static SqlStatsRecorder recorder(long slowThresholdMillis, int nPlusOneThreshold, boolean logBindValues) {
+    return new SqlStatsRecorder(slowThresholdMillis, nPlusOneThreshold, 10, logBindValues, new SimpleMeterRegistry());
+  }
+}
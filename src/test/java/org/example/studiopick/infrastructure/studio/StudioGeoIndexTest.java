@@ -0,0 +1,183 @@
+package org.example.studiopick.infrastructure.studio;
+
+import org.example.studiopick.domain.studio.StudioGeoPoint;
+import org.example.studiopick.infrastructure.studio.StudioGeoIndex.Grid;
+import org.example.studiopick.infrastructure.studio.StudioGeoIndex.Hit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudioGeoIndexTest {
+
+  // 서울시청
+  private static final double LAT = 37.5665;
+  private static final double LNG = 126.9780;
+
+  private JpaStudioRepository studioRepository;
+  private StudioGeoIndex index;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    studioRepository = mock(JpaStudioRepository.class);
+    index = new StudioGeoIndex(studioRepository, mock(RedisTemplate.class), mock(RedisMessageListenerContainer.class));
+  }
+
+  @Test
+  void cellMath_floorsToTwoHundredthsOfADegree() {
+    assertThat(Grid.latCell(-90)).isZero();
+    assertThat(Grid.lngCell(-180)).isZero();
+    assertThat(Grid.latCell(37.5665)).isEqualTo(6378);
+    assertThat(Grid.latCell(37.5599)).isEqualTo(Grid.latCell(37.5401));
+    assertThat(Grid.latCell(37.5601)).isEqualTo(Grid.latCell(37.5599) + 1);
+    assertThat(Grid.lngCell(126.9801)).isEqualTo(Grid.lngCell(126.9799) + 1);
+    // 범위를 벗어난 좌표는 가장자리 셀로
+    assertThat(Grid.latCell(95)).isEqualTo(Grid.latCell(90));
+    assertThat(Grid.lngCell(-200)).isZero();
+  }
+
+  @Test
+  void cellMath_keysAreUniquePerCell() {
+    assertThat(Grid.cellOf(37.5665, 126.9780)).isNotEqualTo(Grid.cellOf(37.5665, 126.9580));
+    assertThat(Grid.cellOf(37.5665, 126.9780)).isNotEqualTo(Grid.cellOf(37.5865, 126.9780));
+    assertThat(Grid.cellOf(90, 180) - Grid.cellOf(90, -180)).isEqualTo(Grid.lngCell(180));
+  }
+
+  @Test
+  void distanceMeters_matchesKnownDistances() {
+    assertThat(StudioGeoIndex.distanceMeters(LAT, LNG, LAT, LNG)).isZero();
+    assertThat(StudioGeoIndex.distanceMeters(37, LNG, 38, LNG)).isCloseTo(111_195, within(10.0));
+    // 서울시청 - 부산시청 약 325km
+    assertThat(StudioGeoIndex.distanceMeters(LAT, LNG, 35.1796, 129.0756)).isCloseTo(325_000, within(2_000.0));
+    assertThat(StudioGeoIndex.distanceMeters(LAT, LNG, 35.1796, 129.0756))
+        .isEqualTo(StudioGeoIndex.distanceMeters(35.1796, 129.0756, LAT, LNG));
+  }
+
+  @Test
+  void within_filtersByRadiusAndSortsByDistance() {
+    load(
+        point(1, north(1_500), LNG),
+        point(2, north(500), LNG),
+        point(3, north(3_000), LNG),
+        // 반경의 외접 사각형 모서리 - 사각형 안이지만 반경 밖
+        point(4, north(1_900), east(1_900)));
+
+    List<Hit> hits = index.within(LAT, LNG, 2_000, 10);
+
+    assertThat(hits).extracting(hit -> hit.studio().id()).containsExactly(2L, 1L);
+    assertThat(hits.get(0).distanceMeters()).isCloseTo(500, within(1.0));
+    assertThat(index.within(LAT, LNG, 2_000, 1)).extracting(hit -> hit.studio().id()).containsExactly(2L);
+  }
+
+  @Test
+  void within_includesNeighbouringCells() {
+    // 중심 바로 남서쪽 셀 경계 너머
+    double lat = Grid.latCell(LAT) * 0.02 - 90 - 0.0001;
+    double lng = Grid.lngCell(LNG) * 0.02 - 180 - 0.0001;
+    load(point(1, lat, lng));
+
+    assertThat(index.within(LAT, LNG, 3_000, 10)).hasSize(1);
+  }
+
+  @Test
+  void inBounds_sortsByIdAndIncludesEdges() {
+    load(point(3, 37.50, 127.00), point(1, 37.55, 127.05), point(2, 37.60, 127.10), point(4, 37.61, 127.00));
+
+    assertThat(index.inBounds(37.50, 127.00, 37.60, 127.10, 10))
+        .extracting(StudioGeoPoint::id).containsExactly(1L, 2L, 3L);
+    assertThat(index.inBounds(37.50, 127.00, 37.60, 127.10, 2))
+        .extracting(StudioGeoPoint::id).containsExactly(1L, 2L);
+    assertThat(index.inBounds(37.60, 127.00, 37.50, 127.10, 10)).isEmpty();
+  }
+
+  @Test
+  void inBounds_nationwideUsesLinearScanWithSameFilter() {
+    // 셀 수(약 600 x 400)가 스튜디오 수보다 많아 전체 순회 경로
+    load(point(1, LAT, LNG), point(2, 35.1796, 129.0756), point(3, 33.4996, 126.5312), point(4, 43.0621, 141.3544));
+
+    assertThat(index.inBounds(33.0, 124.5, 38.7, 131.9, 100))
+        .extracting(StudioGeoPoint::id).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void grid_matchesBruteForceOnBothPaths() {
+    Random random = new Random(42);
+    List<StudioGeoPoint> points = new ArrayList<>();
+    for (long id = 1; id <= 2_000; id++) {
+      points.add(point(id, 37.0 + random.nextDouble(), 126.5 + random.nextDouble()));
+    }
+    Grid grid = new Grid();
+    points.forEach(grid::put);
+
+    for (int query = 0; query < 200; query++) {
+      // 0.005° ~ 1° - 작은 영역은 셀 경로, 큰 영역은 전체 순회 경로
+      double size = 0.005 * Math.pow(200, random.nextDouble());
+      double south = 37.0 + random.nextDouble() * (1 - size);
+      double west = 126.5 + random.nextDouble() * (1 - size);
+      double north = south + size;
+      double east = west + size;
+
+      List<Long> found = new ArrayList<>();
+      grid.forEachIn(south, west, north, east, point -> found.add(point.id()));
+      List<Long> expected = points.stream()
+          .filter(p -> p.latitude() >= south && p.latitude() <= north && p.longitude() >= west && p.longitude() <= east)
+          .map(StudioGeoPoint::id)
+          .toList();
+
+      assertThat(found).containsExactlyInAnyOrderElementsOf(expected);
+    }
+  }
+
+  @Test
+  void onMessage_movesAndRemovesStudios() {
+    load(point(1, LAT, LNG));
+
+    when(studioRepository.findVisibleGeoPoint(1L)).thenReturn(Optional.of(point(1, 35.1796, 129.0756)));
+    index.onMessage(message("1"), null);
+
+    assertThat(index.within(LAT, LNG, 5_000, 10)).isEmpty();
+    assertThat(index.within(35.1796, 129.0756, 5_000, 10)).hasSize(1);
+
+    when(studioRepository.findVisibleGeoPoint(1L)).thenReturn(Optional.empty());
+    index.onMessage(message("1"), null);
+
+    assertThat(index.within(35.1796, 129.0756, 5_000, 10)).isEmpty();
+    assertThat(index.inBounds(-90, -180, 90, 180, 10)).isEmpty();
+  }
+
+  private void load(StudioGeoPoint... points) {
+    when(studioRepository.findVisibleGeoPoints()).thenReturn(List.of(points));
+    index.rebuild();
+  }
+
+  private static DefaultMessage message(String body) {
+    return new DefaultMessage(StudioGeoIndex.CHANGE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+        body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static double north(double meters) {
+    return LAT + meters / 111_195;
+  }
+
+  private static double east(double meters) {
+    return LNG + meters / (111_195 * Math.cos(Math.toRadians(LAT)));
+  }
+
+  private static StudioGeoPoint point(long id, double latitude, double longitude) {
+    return new StudioGeoPoint(id, "studio-" + id, "서울", 10_000L, null, latitude, longitude);
+  }
+}